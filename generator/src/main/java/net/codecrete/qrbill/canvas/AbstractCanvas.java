@@ -38,12 +38,13 @@ public abstract class AbstractCanvas implements Canvas {
     /**
      * Initializes the font metrics information for the specified font.
      * <p>
-     * The first font in the specified list of fonts is used.
+     * The first font in the specified list of fonts is used. The font metrics
+     * are shared between all canvases using the same list of fonts.
      * </p>
      * @param fontFamilyList list of font families
      */
     protected void setupFontMetrics(String fontFamilyList) {
-        fontMetrics = new FontMetrics(fontFamilyList);
+        fontMetrics = FontMetrics.getInstance(fontFamilyList);
     }
 
     @Override
@@ -78,4 +79,9 @@ public abstract class AbstractCanvas implements Canvas {
     public String[] splitLines(String text, double maxLength, int fontSize) {
         return fontMetrics.splitLines(text, maxLength, fontSize);
     }
+
+    @Override
+    public MeasuredText measureText(String text) {
+        return fontMetrics.measureText(text);
+    }
 }
@@ -95,6 +95,26 @@ public interface Canvas extends Closeable {
      */
     void putTextLines(String[] lines, double x, double y, int fontSize, double leading) throws IOException;
 
+    /**
+     * Adds several lines of text to the graphics.
+     * <p>
+     * The lines are specified as ranges of the measured text, as returned by
+     * {@link MeasuredText#getLineRanges(double, int)}. Otherwise, the result is the same
+     * as for {@link #putTextLines(String[], double, double, int, double)}.
+     * </p>
+     *
+     * @param text       the measured text
+     * @param lineRanges the line ranges (start and end offset for each line)
+     * @param x          x position of the text's start (in mm)
+     * @param y          y position of the text's top (in mm)
+     * @param fontSize   the font size (in pt)
+     * @param leading    additional vertical space between text lines (in mm)
+     * @throws IOException thrown if the graphics cannot be generated
+     */
+    default void putTextLines(MeasuredText text, int[] lineRanges, double x, double y, int fontSize, double leading) throws IOException {
+        putTextLines(text.getLines(lineRanges), x, y, fontSize, leading);
+    }
+
     /**
      * Starts a path that can be filled or stroked
      *
@@ -146,6 +166,23 @@ public interface Canvas extends Closeable {
      */
     void addRectangle(double x, double y, double width, double height) throws IOException;
 
+    /**
+     * Adds multiple rectangles to the path
+     * <p>
+     * The result is the same as calling {@link #addRectangle(double, double, double, double)}
+     * for each rectangle.
+     * </p>
+     *
+     * @param xywh  the rectangles, as a sequence of left position, top position, width and height
+     *              (4 values per rectangle, in mm)
+     * @param count the number of rectangles
+     * @throws IOException thrown if the graphics cannot be generated
+     */
+    default void addRectangles(double[] xywh, int count) throws IOException {
+        for (int i = 0; i < count; i++)
+            addRectangle(xywh[4 * i], xywh[4 * i + 1], xywh[4 * i + 2], xywh[4 * i + 3]);
+    }
+
     /**
      * Closes the current subpath
      *
@@ -222,4 +259,24 @@ public interface Canvas extends Closeable {
      * @return an array of text lines
      */
     String[] splitLines(String text, double maxLength, int fontSize);
+
+    /**
+     * Measures the characters of the specified text for repeated line splitting.
+     * <p>
+     * If a canvas implements this method, splitting the result with
+     * {@link MeasuredText#splitLines(double, int)} must return the same lines as
+     * {@link #splitLines(String, double, int)}. {@link MeasuredText#of(String, int[])} creates the
+     * result from the measured character widths.
+     * </p>
+     * <p>
+     * The default implementation returns {@code null}. The bill layout then splits the text
+     * with {@link #splitLines(String, double, int)} for each font size it tries.
+     * </p>
+     *
+     * @param text the text
+     * @return the measured text, or {@code null} if the canvas does not measure text
+     */
+    default MeasuredText measureText(String text) {
+        return null;
+    }
 }
@@ -1,2871 +0,0 @@
-//
-// Swiss QR Bill Generator
-// Copyright (c) 2018 Manuel Bleichenbacher
-// Licensed under MIT License
-// https://opensource.org/licenses/MIT
-//
-package net.codecrete.qrbill.canvas;
-
-
-/**
- * Character width data for Helvetica, Arial, Frutiger and Liberation Sans.
- * <p>
- * Character widths are given in 1/1000 pt for font size 1. Only the character
- * range allowed for QR bill text is covered.
- * </p>
- */
-@SuppressWarnings("java:S125")
-class CharWidthData {
-
-    private CharWidthData() {
-        // don't instantiate
-    }
-
-    /**
-     * Default character width for Helvetica Normal
-     */
-    static final char HELVETICA_NORMAL_DEFAULT_WIDTH = 556;
-
-    /**
-     * Width of n-dash for Helvetica Normal
-     */
-    static final char HELVETICA_NORMAL_NDASH_WIDTH = 556;
-
-    /**
-     * Width of euro sign for Helvetica Normal
-     */
-    static final char HELVETICA_NORMAL_EURO_WIDTH = 744;
-
-    /**
-     * Character widths for Helvetica Normal (range 0x20 to 0x7e)
-     */
-    static final char[] HELVETICA_NORMAL_20_7E = {
-            278, // 0x20
-            278, // 0x21 !
-            355, // 0x22 "
-            556, // 0x23 #
-            556, // 0x24 $
-            889, // 0x25 %
-            667, // 0x26 &
-            191, // 0x27 '
-            333, // 0x28 (
-            333, // 0x29 )
-            389, // 0x2A *
-            584, // 0x2B +
-            278, // 0x2C ,
-            333, // 0x2D -
-            278, // 0x2E .
-            278, // 0x2F /
-            556, // 0x30 0
-            556, // 0x31 1
-            556, // 0x32 2
-            556, // 0x33 3
-            556, // 0x34 4
-            556, // 0x35 5
-            556, // 0x36 6
-            556, // 0x37 7
-            556, // 0x38 8
-            556, // 0x39 9
-            278, // 0x3A :
-            278, // 0x3B ;
-            584, // 0x3C <
-            584, // 0x3D =
-            584, // 0x3E >
-            556, // 0x3F ?
-            1015, // 0x40 @
-            667, // 0x41 A
-            667, // 0x42 B
-            722, // 0x43 C
-            722, // 0x44 D
-            667, // 0x45 E
-            611, // 0x46 F
-            778, // 0x47 G
-            722, // 0x48 H
-            278, // 0x49 I
-            500, // 0x4A J
-            667, // 0x4B K
-            556, // 0x4C L
-            833, // 0x4D M
-            722, // 0x4E N
-            778, // 0x4F O
-            667, // 0x50 P
-            778, // 0x51 Q
-            722, // 0x52 R
-            667, // 0x53 S
-            611, // 0x54 T
-            722, // 0x55 U
-            667, // 0x56 V
-            944, // 0x57 W
-            667, // 0x58 X
-            667, // 0x59 Y
-            611, // 0x5A Z
-            278, // 0x5B [
-            278, // 0x5C \
-            278, // 0x5D ]
-            469, // 0x5E ^
-            556, // 0x5F _
-            333, // 0x60 `
-            556, // 0x61 a
-            556, // 0x62 b
-            500, // 0x63 c
-            556, // 0x64 d
-            556, // 0x65 e
-            278, // 0x66 f
-            556, // 0x67 g
-            556, // 0x68 h
-            222, // 0x69 i
-            222, // 0x6A j
-            500, // 0x6B k
-            222, // 0x6C l
-            833, // 0x6D m
-            556, // 0x6E n
-            556, // 0x6F o
-            556, // 0x70 p
-            556, // 0x71 q
-            333, // 0x72 r
-            500, // 0x73 s
-            278, // 0x74 t
-            556, // 0x75 u
-            500, // 0x76 v
-            722, // 0x77 w
-            500, // 0x78 x
-            500, // 0x79 y
-            500, // 0x7A z
-            334, // 0x7B {
-            260, // 0x7C |
-            334, // 0x7D }
-            584  // 0x7E ~
-    };
-
-    /**
-     * Character widths for Helvetica Normal (range 0xa0 to 0x17f)
-     */
-    static final char[] HELVETICA_NORMAL_A0_17F = {
-            278, // 0xA0 non-breaking space
-            333, // 0xA1 ¡
-            556, // 0xA2 ¢
-            556, // 0xA3 £
-            556, // 0xA4 ¤
-            556, // 0xA5 ¥
-            260, // 0xA6 ¦
-            556, // 0xA7 §
-            333, // 0xA8 ¨
-            737, // 0xA9 ©
-            370, // 0xAA ª
-            556, // 0xAB «
-            584, // 0xAC ¬
-            333, // 0xAD soft hyphen
-            737, // 0xAE ®
-            333, // 0xAF ¯
-            400, // 0xB0 °
-            549, // 0xB1 ±
-            333, // 0xB2 ²
-            333, // 0xB3 ³
-            333, // 0xB4 ´
-            576, // 0xB5 µ
-            537, // 0xB6 ¶
-            278, // 0xB7 ·
-            333, // 0xB8 ¸
-            333, // 0xB9 ¹
-            365, // 0xBA º
-            556, // 0xBB »
-            834, // 0xBC ¼
-            834, // 0xBD ½
-            834, // 0xBE ¾
-            611, // 0xBF ¿
-            667, // 0xC0 À
-            667, // 0xC1 Á
-            667, // 0xC2 Â
-            667, // 0xC3 Ã
-            667, // 0xC4 Ä
-            667, // 0xC5 Å
-            1000, // 0xC6 Æ
-            722, // 0xC7 Ç
-            667, // 0xC8 È
-            667, // 0xC9 É
-            667, // 0xCA Ê
-            667, // 0xCB Ë
-            278, // 0xCC Ì
-            278, // 0xCD Í
-            278, // 0xCE Î
-            278, // 0xCF Ï
-            722, // 0xD0 Ð
-            722, // 0xD1 Ñ
-            778, // 0xD2 Ò
-            778, // 0xD3 Ó
-            778, // 0xD4 Ô
-            778, // 0xD5 Õ
-            778, // 0xD6 Ö
-            584, // 0xD7 ×
-            778, // 0xD8 Ø
-            722, // 0xD9 Ù
-            722, // 0xDA Ú
-            722, // 0xDB Û
-            722, // 0xDC Ü
-            667, // 0xDD Ý
-            667, // 0xDE Þ
-            611, // 0xDF ß
-            556, // 0xE0 à
-            556, // 0xE1 á
-            556, // 0xE2 â
-            556, // 0xE3 ã
-            556, // 0xE4 ä
-            556, // 0xE5 å
-            889, // 0xE6 æ
-            500, // 0xE7 ç
-            556, // 0xE8 è
-            556, // 0xE9 é
-            556, // 0xEA ê
-            556, // 0xEB ë
-            278, // 0xEC ì
-            278, // 0xED í
-            278, // 0xEE î
-            278, // 0xEF ï
-            556, // 0xF0 ð
-            556, // 0xF1 ñ
-            556, // 0xF2 ò
-            556, // 0xF3 ó
-            556, // 0xF4 ô
-            556, // 0xF5 õ
-            556, // 0xF6 ö
-            549, // 0xF7 ÷
-            611, // 0xF8 ø
-            556, // 0xF9 ù
-            556, // 0xFA ú
-            556, // 0xFB û
-            556, // 0xFC ü
-            500, // 0xFD ý
-            556, // 0xFE þ
-            500, // 0xFF ÿ
-            667, // 0x100 Ā
-            556, // 0x101 ā
-            667, // 0x102 Ă
-            556, // 0x103 ă
-            667, // 0x104 Ą
-            556, // 0x105 ą
-            722, // 0x106 Ć
-            500, // 0x107 ć
-            722, // 0x108 Ĉ
-            500, // 0x109 ĉ
-            722, // 0x10A Ċ
-            500, // 0x10B ċ
-            722, // 0x10C Č
-            500, // 0x10D č
-            722, // 0x10E Ď
-            660, // 0x10F ď
-            722, // 0x110 Đ
-            556, // 0x111 đ
-            667, // 0x112 Ē
-            556, // 0x113 ē
-            667, // 0x114 Ĕ
-            556, // 0x115 ĕ
-            667, // 0x116 Ė
-            556, // 0x117 ė
-            667, // 0x118 Ę
-            556, // 0x119 ę
-            667, // 0x11A Ě
-            556, // 0x11B ě
-            778, // 0x11C Ĝ
-            556, // 0x11D ĝ
-            778, // 0x11E Ğ
-            556, // 0x11F ğ
-            778, // 0x120 Ġ
-            556, // 0x121 ġ
-            778, // 0x122 Ģ
-            556, // 0x123 ģ
-            722, // 0x124 Ĥ
-            556, // 0x125 ĥ
-            722, // 0x126 Ħ
-            556, // 0x127 ħ
-            445, // 0x128 Ĩ
-            430, // 0x129 ĩ
-            400, // 0x12A Ī
-            390, // 0x12B ī
-            278, // 0x12C Ĭ
-            278, // 0x12D ĭ
-            278, // 0x12E Į
-            222, // 0x12F į
-            278, // 0x130 İ
-            278, // 0x131 ı
-            778, // 0x132 Ĳ
-            444, // 0x133 ĳ
-            500, // 0x134 Ĵ
-            222, // 0x135 ĵ
-            667, // 0x136 Ķ
-            500, // 0x137 ķ
-            500, // 0x138 ĸ
-            556, // 0x139 Ĺ
-            265, // 0x13A ĺ
-            556, // 0x13B Ļ
-            222, // 0x13C ļ
-            556, // 0x13D Ľ
-            263, // 0x13E ľ
-            556, // 0x13F Ŀ
-            310, // 0x140 ŀ
-            556, // 0x141 Ł
-            222, // 0x142 ł
-            722, // 0x143 Ń
-            556, // 0x144 ń
-            722, // 0x145 Ņ
-            556, // 0x146 ņ
-            722, // 0x147 Ň
-            556, // 0x148 ň
-            556, // 0x149 ŉ
-            722, // 0x14A Ŋ
-            556, // 0x14B ŋ
-            778, // 0x14C Ō
-            556, // 0x14D ō
-            778, // 0x14E Ŏ
-            556, // 0x14F ŏ
-            778, // 0x150 Ő
-            556, // 0x151 ő
-            1000, // 0x152 Œ
-            944, // 0x153 œ
-            722, // 0x154 Ŕ
-            333, // 0x155 ŕ
-            722, // 0x156 Ŗ
-            333, // 0x157 ŗ
-            722, // 0x158 Ř
-            333, // 0x159 ř
-            667, // 0x15A Ś
-            500, // 0x15B ś
-            667, // 0x15C Ŝ
-            500, // 0x15D ŝ
-            667, // 0x15E Ş
-            500, // 0x15F ş
-            667, // 0x160 Š
-            500, // 0x161 š
-            611, // 0x162 Ţ
-            278, // 0x163 ţ
-            611, // 0x164 Ť
-            360, // 0x165 ť
-            611, // 0x166 Ŧ
-            320, // 0x167 ŧ
-            722, // 0x168 Ũ
-            556, // 0x169 ũ
-            722, // 0x16A Ū
-            556, // 0x16B ū
-            722, // 0x16C Ŭ
-            556, // 0x16D ŭ
-            722, // 0x16E Ů
-            556, // 0x16F ů
-            722, // 0x170 Ű
-            556, // 0x171 ű
-            722, // 0x172 Ų
-            556, // 0x173 ų
-            944, // 0x174 Ŵ
-            722, // 0x175 ŵ
-            667, // 0x176 Ŷ
-            500, // 0x177 ŷ
-            667, // 0x178 Ÿ
-            611, // 0x179 Ź
-            500, // 0x17A ź
-            611, // 0x17B Ż
-            500, // 0x17C ż
-            611, // 0x17D Ž
-            500, // 0x17E ž
-            278  // 0x17F ſ
-    };
-
-    /**
-     * Character widths for Helvetica Normal (range 0x218 to 0x21b)
-     */
-    static final char[] HELVETICA_NORMAL_218_21B = {
-            667, // 0x218 Ș
-            500, // 0x219 ș
-            611, // 0x21A Ț
-            278  // 0x21B ț
-    };
-
-    /**
-     * Default character width for Helvetica Bold
-     */
-    static final char HELVETICA_BOLD_DEFAULT_WIDTH = 611;
-
-    /**
-     * Width of n-dash for Helvetica Bold
-     */
-    static final char HELVETICA_BOLD_NDASH_WIDTH = 556;
-
-    /**
-     * Width of euro sign for Helvetica Bold
-     */
-    static final char HELVETICA_BOLD_EURO_WIDTH = 744;
-
-    /**
-     * Character widths for Helvetica Bold (range 0x20 to 0x7e)
-     */
-    static final char[] HELVETICA_BOLD_20_7E = {
-            278, // 0x20
-            333, // 0x21 !
-            474, // 0x22 "
-            556, // 0x23 #
-            556, // 0x24 $
-            889, // 0x25 %
-            722, // 0x26 &
-            238, // 0x27 '
-            333, // 0x28 (
-            333, // 0x29 )
-            389, // 0x2A *
-            584, // 0x2B +
-            278, // 0x2C ,
-            333, // 0x2D -
-            278, // 0x2E .
-            278, // 0x2F /
-            556, // 0x30 0
-            556, // 0x31 1
-            556, // 0x32 2
-            556, // 0x33 3
-            556, // 0x34 4
-            556, // 0x35 5
-            556, // 0x36 6
-            556, // 0x37 7
-            556, // 0x38 8
-            556, // 0x39 9
-            333, // 0x3A :
-            333, // 0x3B ;
-            584, // 0x3C <
-            584, // 0x3D =
-            584, // 0x3E >
-            611, // 0x3F ?
-            975, // 0x40 @
-            722, // 0x41 A
-            722, // 0x42 B
-            722, // 0x43 C
-            722, // 0x44 D
-            667, // 0x45 E
-            611, // 0x46 F
-            778, // 0x47 G
-            722, // 0x48 H
-            278, // 0x49 I
-            556, // 0x4A J
-            722, // 0x4B K
-            611, // 0x4C L
-            833, // 0x4D M
-            722, // 0x4E N
-            778, // 0x4F O
-            667, // 0x50 P
-            778, // 0x51 Q
-            722, // 0x52 R
-            667, // 0x53 S
-            611, // 0x54 T
-            722, // 0x55 U
-            667, // 0x56 V
-            944, // 0x57 W
-            667, // 0x58 X
-            667, // 0x59 Y
-            611, // 0x5A Z
-            333, // 0x5B [
-            278, // 0x5C \
-            333, // 0x5D ]
-            584, // 0x5E ^
-            556, // 0x5F _
-            333, // 0x60 `
-            556, // 0x61 a
-            611, // 0x62 b
-            556, // 0x63 c
-            611, // 0x64 d
-            556, // 0x65 e
-            333, // 0x66 f
-            611, // 0x67 g
-            611, // 0x68 h
-            278, // 0x69 i
-            278, // 0x6A j
-            556, // 0x6B k
-            278, // 0x6C l
-            889, // 0x6D m
-            611, // 0x6E n
-            611, // 0x6F o
-            611, // 0x70 p
-            611, // 0x71 q
-            389, // 0x72 r
-            556, // 0x73 s
-            333, // 0x74 t
-            611, // 0x75 u
-            556, // 0x76 v
-            778, // 0x77 w
-            556, // 0x78 x
-            556, // 0x79 y
-            500, // 0x7A z
-            389, // 0x7B {
-            280, // 0x7C |
-            389, // 0x7D }
-            584  // 0x7E ~
-    };
-
-    /**
-     * Character widths for Helvetica Bold (range 0xa0 to 0x17f)
-     */
-    static final char[] HELVETICA_BOLD_A0_17F = {
-            278, // 0xA0 non-breaking space
-            333, // 0xA1 ¡
-            556, // 0xA2 ¢
-            556, // 0xA3 £
-            556, // 0xA4 ¤
-            556, // 0xA5 ¥
-            280, // 0xA6 ¦
-            556, // 0xA7 §
-            333, // 0xA8 ¨
-            737, // 0xA9 ©
-            370, // 0xAA ª
-            556, // 0xAB «
-            584, // 0xAC ¬
-            333, // 0xAD soft hyphen
-            737, // 0xAE ®
-            333, // 0xAF ¯
-            400, // 0xB0 °
-            549, // 0xB1 ±
-            333, // 0xB2 ²
-            333, // 0xB3 ³
-            333, // 0xB4 ´
-            576, // 0xB5 µ
-            556, // 0xB6 ¶
-            278, // 0xB7 ·
-            333, // 0xB8 ¸
-            333, // 0xB9 ¹
-            365, // 0xBA º
-            556, // 0xBB »
-            834, // 0xBC ¼
-            834, // 0xBD ½
-            834, // 0xBE ¾
-            611, // 0xBF ¿
-            722, // 0xC0 À
-            722, // 0xC1 Á
-            722, // 0xC2 Â
-            722, // 0xC3 Ã
-            722, // 0xC4 Ä
-            722, // 0xC5 Å
-            1000, // 0xC6 Æ
-            722, // 0xC7 Ç
-            667, // 0xC8 È
-            667, // 0xC9 É
-            667, // 0xCA Ê
-            667, // 0xCB Ë
-            278, // 0xCC Ì
-            278, // 0xCD Í
-            278, // 0xCE Î
-            278, // 0xCF Ï
-            722, // 0xD0 Ð
-            722, // 0xD1 Ñ
-            778, // 0xD2 Ò
-            778, // 0xD3 Ó
-            778, // 0xD4 Ô
-            778, // 0xD5 Õ
-            778, // 0xD6 Ö
-            584, // 0xD7 ×
-            778, // 0xD8 Ø
-            722, // 0xD9 Ù
-            722, // 0xDA Ú
-            722, // 0xDB Û
-            722, // 0xDC Ü
-            667, // 0xDD Ý
-            667, // 0xDE Þ
-            611, // 0xDF ß
-            556, // 0xE0 à
-            556, // 0xE1 á
-            556, // 0xE2 â
-            556, // 0xE3 ã
-            556, // 0xE4 ä
-            556, // 0xE5 å
-            889, // 0xE6 æ
-            556, // 0xE7 ç
-            556, // 0xE8 è
-            556, // 0xE9 é
-            556, // 0xEA ê
-            556, // 0xEB ë
-            278, // 0xEC ì
-            278, // 0xED í
-            278, // 0xEE î
-            278, // 0xEF ï
-            611, // 0xF0 ð
-            611, // 0xF1 ñ
-            611, // 0xF2 ò
-            611, // 0xF3 ó
-            611, // 0xF4 ô
-            611, // 0xF5 õ
-            611, // 0xF6 ö
-            549, // 0xF7 ÷
-            611, // 0xF8 ø
-            611, // 0xF9 ù
-            611, // 0xFA ú
-            611, // 0xFB û
-            611, // 0xFC ü
-            556, // 0xFD ý
-            611, // 0xFE þ
-            556, // 0xFF ÿ
-            722, // 0x100 Ā
-            556, // 0x101 ā
-            722, // 0x102 Ă
-            556, // 0x103 ă
-            722, // 0x104 Ą
-            556, // 0x105 ą
-            722, // 0x106 Ć
-            556, // 0x107 ć
-            722, // 0x108 Ĉ
-            556, // 0x109 ĉ
-            722, // 0x10A Ċ
-            556, // 0x10B ċ
-            722, // 0x10C Č
-            556, // 0x10D č
-            722, // 0x10E Ď
-            750, // 0x10F ď
-            722, // 0x110 Đ
-            611, // 0x111 đ
-            667, // 0x112 Ē
-            556, // 0x113 ē
-            667, // 0x114 Ĕ
-            556, // 0x115 ĕ
-            667, // 0x116 Ė
-            556, // 0x117 ė
-            667, // 0x118 Ę
-            556, // 0x119 ę
-            667, // 0x11A Ě
-            556, // 0x11B ě
-            778, // 0x11C Ĝ
-            611, // 0x11D ĝ
-            778, // 0x11E Ğ
-            611, // 0x11F ğ
-            778, // 0x120 Ġ
-            611, // 0x121 ġ
-            778, // 0x122 Ģ
-            611, // 0x123 ģ
-            722, // 0x124 Ĥ
-            611, // 0x125 ĥ
-            722, // 0x126 Ħ
-            611, // 0x127 ħ
-            420, // 0x128 Ĩ
-            430, // 0x129 ĩ
-            425, // 0x12A Ī
-            420, // 0x12B ī
-            278, // 0x12C Ĭ
-            278, // 0x12D ĭ
-            278, // 0x12E Į
-            278, // 0x12F į
-            278, // 0x130 İ
-            278, // 0x131 ı
-            834, // 0x132 Ĳ
-            556, // 0x133 ĳ
-            556, // 0x134 Ĵ
-            310, // 0x135 ĵ
-            722, // 0x136 Ķ
-            556, // 0x137 ķ
-            556, // 0x138 ĸ
-            611, // 0x139 Ĺ
-            305, // 0x13A ĺ
-            611, // 0x13B Ļ
-            278, // 0x13C ļ
-            611, // 0x13D Ľ
-            417, // 0x13E ľ
-            611, // 0x13F Ŀ
-            395, // 0x140 ŀ
-            611, // 0x141 Ł
-            278, // 0x142 ł
-            722, // 0x143 Ń
-            611, // 0x144 ń
-            722, // 0x145 Ņ
-            611, // 0x146 ņ
-            722, // 0x147 Ň
-            611, // 0x148 ň
-            611, // 0x149 ŉ
-            722, // 0x14A Ŋ
-            611, // 0x14B ŋ
-            778, // 0x14C Ō
-            611, // 0x14D ō
-            778, // 0x14E Ŏ
-            611, // 0x14F ŏ
-            778, // 0x150 Ő
-            611, // 0x151 ő
-            1000, // 0x152 Œ
-            944, // 0x153 œ
-            722, // 0x154 Ŕ
-            389, // 0x155 ŕ
-            722, // 0x156 Ŗ
-            389, // 0x157 ŗ
-            722, // 0x158 Ř
-            389, // 0x159 ř
-            667, // 0x15A Ś
-            556, // 0x15B ś
-            667, // 0x15C Ŝ
-            556, // 0x15D ŝ
-            667, // 0x15E Ş
-            556, // 0x15F ş
-            667, // 0x160 Š
-            556, // 0x161 š
-            611, // 0x162 Ţ
-            333, // 0x163 ţ
-            611, // 0x164 Ť
-            465, // 0x165 ť
-            611, // 0x166 Ŧ
-            333, // 0x167 ŧ
-            722, // 0x168 Ũ
-            611, // 0x169 ũ
-            722, // 0x16A Ū
-            611, // 0x16B ū
-            722, // 0x16C Ŭ
-            611, // 0x16D ŭ
-            722, // 0x16E Ů
-            611, // 0x16F ů
-            722, // 0x170 Ű
-            611, // 0x171 ű
-            722, // 0x172 Ų
-            611, // 0x173 ų
-            944, // 0x174 Ŵ
-            778, // 0x175 ŵ
-            667, // 0x176 Ŷ
-            556, // 0x177 ŷ
-            667, // 0x178 Ÿ
-            611, // 0x179 Ź
-            500, // 0x17A ź
-            611, // 0x17B Ż
-            500, // 0x17C ż
-            611, // 0x17D Ž
-            500, // 0x17E ž
-            333  // 0x17F ſ
-    };
-
-    /**
-     * Character widths for Helvetica Bold (range 0x218 to 0x21b)
-     */
-    static final char[] HELVETICA_BOLD_218_21B = {
-            667, // 0x218 Ș
-            556, // 0x219 ș
-            611, // 0x21A Ț
-            333  // 0x21B ț
-    };
-
-    /**
-     * Default character width for Arial Normal
-     */
-    static final char ARIAL_NORMAL_DEFAULT_WIDTH = 556;
-
-    /**
-     * Width of n-dash for Arial Normal
-     */
-    static final char ARIAL_NORMAL_NDASH_WIDTH = 556;
-
-    /**
-     * Width of euro sign for Arial Normal
-     */
-    static final char ARIAL_NORMAL_EURO_WIDTH = 556;
-
-    /**
-     * Character widths for Arial Normal (range 0x20 to 0x7e)
-     */
-    static final char[] ARIAL_NORMAL_20_7E = {
-            278, // 0x20
-            278, // 0x21 !
-            355, // 0x22 "
-            556, // 0x23 #
-            556, // 0x24 $
-            889, // 0x25 %
-            667, // 0x26 &
-            191, // 0x27 '
-            333, // 0x28 (
-            333, // 0x29 )
-            389, // 0x2A *
-            584, // 0x2B +
-            278, // 0x2C ,
-            333, // 0x2D -
-            278, // 0x2E .
-            278, // 0x2F /
-            556, // 0x30 0
-            556, // 0x31 1
-            556, // 0x32 2
-            556, // 0x33 3
-            556, // 0x34 4
-            556, // 0x35 5
-            556, // 0x36 6
-            556, // 0x37 7
-            556, // 0x38 8
-            556, // 0x39 9
-            278, // 0x3A :
-            278, // 0x3B ;
-            584, // 0x3C <
-            584, // 0x3D =
-            584, // 0x3E >
-            556, // 0x3F ?
-            1015, // 0x40 @
-            667, // 0x41 A
-            667, // 0x42 B
-            722, // 0x43 C
-            722, // 0x44 D
-            667, // 0x45 E
-            611, // 0x46 F
-            778, // 0x47 G
-            722, // 0x48 H
-            278, // 0x49 I
-            500, // 0x4A J
-            667, // 0x4B K
-            556, // 0x4C L
-            833, // 0x4D M
-            722, // 0x4E N
-            778, // 0x4F O
-            667, // 0x50 P
-            778, // 0x51 Q
-            722, // 0x52 R
-            667, // 0x53 S
-            611, // 0x54 T
-            722, // 0x55 U
-            667, // 0x56 V
-            944, // 0x57 W
-            667, // 0x58 X
-            667, // 0x59 Y
-            611, // 0x5A Z
-            278, // 0x5B [
-            278, // 0x5C \
-            278, // 0x5D ]
-            469, // 0x5E ^
-            556, // 0x5F _
-            333, // 0x60 `
-            556, // 0x61 a
-            556, // 0x62 b
-            500, // 0x63 c
-            556, // 0x64 d
-            556, // 0x65 e
-            278, // 0x66 f
-            556, // 0x67 g
-            556, // 0x68 h
-            222, // 0x69 i
-            222, // 0x6A j
-            500, // 0x6B k
-            222, // 0x6C l
-            833, // 0x6D m
-            556, // 0x6E n
-            556, // 0x6F o
-            556, // 0x70 p
-            556, // 0x71 q
-            333, // 0x72 r
-            500, // 0x73 s
-            278, // 0x74 t
-            556, // 0x75 u
-            500, // 0x76 v
-            722, // 0x77 w
-            500, // 0x78 x
-            500, // 0x79 y
-            500, // 0x7A z
-            334, // 0x7B {
-            260, // 0x7C |
-            334, // 0x7D }
-            584  // 0x7E ~
-    };
-
-    /**
-     * Character widths for Arial Normal (range 0xa0 to 0x17f)
-     */
-    static final char[] ARIAL_NORMAL_A0_17F = {
-            278, // 0xA0 non-breaking space
-            333, // 0xA1 ¡
-            556, // 0xA2 ¢
-            556, // 0xA3 £
-            556, // 0xA4 ¤
-            556, // 0xA5 ¥
-            260, // 0xA6 ¦
-            556, // 0xA7 §
-            333, // 0xA8 ¨
-            737, // 0xA9 ©
-            370, // 0xAA ª
-            556, // 0xAB «
-            584, // 0xAC ¬
-            333, // 0xAD soft hyphen
-            737, // 0xAE ®
-            552, // 0xAF ¯
-            400, // 0xB0 °
-            549, // 0xB1 ±
-            333, // 0xB2 ²
-            333, // 0xB3 ³
-            333, // 0xB4 ´
-            576, // 0xB5 µ
-            537, // 0xB6 ¶
-            333, // 0xB7 ·
-            333, // 0xB8 ¸
-            333, // 0xB9 ¹
-            365, // 0xBA º
-            556, // 0xBB »
-            834, // 0xBC ¼
-            834, // 0xBD ½
-            834, // 0xBE ¾
-            611, // 0xBF ¿
-            667, // 0xC0 À
-            667, // 0xC1 Á
-            667, // 0xC2 Â
-            667, // 0xC3 Ã
-            667, // 0xC4 Ä
-            667, // 0xC5 Å
-            1000, // 0xC6 Æ
-            722, // 0xC7 Ç
-            667, // 0xC8 È
-            667, // 0xC9 É
-            667, // 0xCA Ê
-            667, // 0xCB Ë
-            278, // 0xCC Ì
-            278, // 0xCD Í
-            278, // 0xCE Î
-            278, // 0xCF Ï
-            722, // 0xD0 Ð
-            722, // 0xD1 Ñ
-            778, // 0xD2 Ò
-            778, // 0xD3 Ó
-            778, // 0xD4 Ô
-            778, // 0xD5 Õ
-            778, // 0xD6 Ö
-            584, // 0xD7 ×
-            778, // 0xD8 Ø
-            722, // 0xD9 Ù
-            722, // 0xDA Ú
-            722, // 0xDB Û
-            722, // 0xDC Ü
-            667, // 0xDD Ý
-            667, // 0xDE Þ
-            611, // 0xDF ß
-            556, // 0xE0 à
-            556, // 0xE1 á
-            556, // 0xE2 â
-            556, // 0xE3 ã
-            556, // 0xE4 ä
-            556, // 0xE5 å
-            889, // 0xE6 æ
-            500, // 0xE7 ç
-            556, // 0xE8 è
-            556, // 0xE9 é
-            556, // 0xEA ê
-            556, // 0xEB ë
-            278, // 0xEC ì
-            278, // 0xED í
-            278, // 0xEE î
-            278, // 0xEF ï
-            556, // 0xF0 ð
-            556, // 0xF1 ñ
-            556, // 0xF2 ò
-            556, // 0xF3 ó
-            556, // 0xF4 ô
-            556, // 0xF5 õ
-            556, // 0xF6 ö
-            549, // 0xF7 ÷
-            611, // 0xF8 ø
-            556, // 0xF9 ù
-            556, // 0xFA ú
-            556, // 0xFB û
-            556, // 0xFC ü
-            500, // 0xFD ý
-            556, // 0xFE þ
-            500, // 0xFF ÿ
-            667, // 0x100 Ā
-            556, // 0x101 ā
-            667, // 0x102 Ă
-            556, // 0x103 ă
-            667, // 0x104 Ą
-            556, // 0x105 ą
-            722, // 0x106 Ć
-            500, // 0x107 ć
-            722, // 0x108 Ĉ
-            500, // 0x109 ĉ
-            722, // 0x10A Ċ
-            500, // 0x10B ċ
-            722, // 0x10C Č
-            500, // 0x10D č
-            722, // 0x10E Ď
-            615, // 0x10F ď
-            722, // 0x110 Đ
-            556, // 0x111 đ
-            667, // 0x112 Ē
-            556, // 0x113 ē
-            667, // 0x114 Ĕ
-            556, // 0x115 ĕ
-            667, // 0x116 Ė
-            556, // 0x117 ė
-            667, // 0x118 Ę
-            556, // 0x119 ę
-            667, // 0x11A Ě
-            556, // 0x11B ě
-            778, // 0x11C Ĝ
-            556, // 0x11D ĝ
-            778, // 0x11E Ğ
-            556, // 0x11F ğ
-            778, // 0x120 Ġ
-            556, // 0x121 ġ
-            778, // 0x122 Ģ
-            556, // 0x123 ģ
-            722, // 0x124 Ĥ
-            556, // 0x125 ĥ
-            722, // 0x126 Ħ
-            556, // 0x127 ħ
-            278, // 0x128 Ĩ
-            278, // 0x129 ĩ
-            278, // 0x12A Ī
-            278, // 0x12B ī
-            278, // 0x12C Ĭ
-            278, // 0x12D ĭ
-            278, // 0x12E Į
-            222, // 0x12F į
-            278, // 0x130 İ
-            278, // 0x131 ı
-            735, // 0x132 Ĳ
-            444, // 0x133 ĳ
-            500, // 0x134 Ĵ
-            222, // 0x135 ĵ
-            667, // 0x136 Ķ
-            500, // 0x137 ķ
-            500, // 0x138 ĸ
-            556, // 0x139 Ĺ
-            222, // 0x13A ĺ
-            556, // 0x13B Ļ
-            222, // 0x13C ļ
-            556, // 0x13D Ľ
-            292, // 0x13E ľ
-            556, // 0x13F Ŀ
-            334, // 0x140 ŀ
-            556, // 0x141 Ł
-            222, // 0x142 ł
-            722, // 0x143 Ń
-            556, // 0x144 ń
-            722, // 0x145 Ņ
-            556, // 0x146 ņ
-            722, // 0x147 Ň
-            556, // 0x148 ň
-            604, // 0x149 ŉ
-            723, // 0x14A Ŋ
-            556, // 0x14B ŋ
-            778, // 0x14C Ō
-            556, // 0x14D ō
-            778, // 0x14E Ŏ
-            556, // 0x14F ŏ
-            778, // 0x150 Ő
-            556, // 0x151 ő
-            1000, // 0x152 Œ
-            944, // 0x153 œ
-            722, // 0x154 Ŕ
-            333, // 0x155 ŕ
-            722, // 0x156 Ŗ
-            333, // 0x157 ŗ
-            722, // 0x158 Ř
-            333, // 0x159 ř
-            667, // 0x15A Ś
-            500, // 0x15B ś
-            667, // 0x15C Ŝ
-            500, // 0x15D ŝ
-            667, // 0x15E Ş
-            500, // 0x15F ş
-            667, // 0x160 Š
-            500, // 0x161 š
-            611, // 0x162 Ţ
-            278, // 0x163 ţ
-            611, // 0x164 Ť
-            375, // 0x165 ť
-            611, // 0x166 Ŧ
-            278, // 0x167 ŧ
-            722, // 0x168 Ũ
-            556, // 0x169 ũ
-            722, // 0x16A Ū
-            556, // 0x16B ū
-            722, // 0x16C Ŭ
-            556, // 0x16D ŭ
-            722, // 0x16E Ů
-            556, // 0x16F ů
-            722, // 0x170 Ű
-            556, // 0x171 ű
-            722, // 0x172 Ų
-            556, // 0x173 ų
-            944, // 0x174 Ŵ
-            722, // 0x175 ŵ
-            667, // 0x176 Ŷ
-            500, // 0x177 ŷ
-            667, // 0x178 Ÿ
-            611, // 0x179 Ź
-            500, // 0x17A ź
-            611, // 0x17B Ż
-            500, // 0x17C ż
-            611, // 0x17D Ž
-            500, // 0x17E ž
-            222  // 0x17F ſ
-    };
-
-    /**
-     * Character widths for Arial Normal (range 0x218 to 0x21b)
-     */
-    static final char[] ARIAL_NORMAL_218_21B = {
-            667, // 0x218 Ș
-            500, // 0x219 ș
-            611, // 0x21A Ț
-            278  // 0x21B ț
-    };
-
-    /**
-     * Default character width for Arial Bold
-     */
-    static final char ARIAL_BOLD_DEFAULT_WIDTH = 611;
-
-    /**
-     * Width of n-dash for Arial Bold
-     */
-    static final char ARIAL_BOLD_NDASH_WIDTH = 556;
-
-    /**
-     * Width of euro sign for Arial Bold
-     */
-    static final char ARIAL_BOLD_EURO_WIDTH = 556;
-
-    /**
-     * Character widths for Arial Bold (range 0x20 to 0x7e)
-     */
-    static final char[] ARIAL_BOLD_20_7E = {
-            278, // 0x20
-            333, // 0x21 !
-            474, // 0x22 "
-            556, // 0x23 #
-            556, // 0x24 $
-            889, // 0x25 %
-            722, // 0x26 &
-            238, // 0x27 '
-            333, // 0x28 (
-            333, // 0x29 )
-            389, // 0x2A *
-            584, // 0x2B +
-            278, // 0x2C ,
-            333, // 0x2D -
-            278, // 0x2E .
-            278, // 0x2F /
-            556, // 0x30 0
-            556, // 0x31 1
-            556, // 0x32 2
-            556, // 0x33 3
-            556, // 0x34 4
-            556, // 0x35 5
-            556, // 0x36 6
-            556, // 0x37 7
-            556, // 0x38 8
-            556, // 0x39 9
-            333, // 0x3A :
-            333, // 0x3B ;
-            584, // 0x3C <
-            584, // 0x3D =
-            584, // 0x3E >
-            611, // 0x3F ?
-            975, // 0x40 @
-            722, // 0x41 A
-            722, // 0x42 B
-            722, // 0x43 C
-            722, // 0x44 D
-            667, // 0x45 E
-            611, // 0x46 F
-            778, // 0x47 G
-            722, // 0x48 H
-            278, // 0x49 I
-            556, // 0x4A J
-            722, // 0x4B K
-            611, // 0x4C L
-            833, // 0x4D M
-            722, // 0x4E N
-            778, // 0x4F O
-            667, // 0x50 P
-            778, // 0x51 Q
-            722, // 0x52 R
-            667, // 0x53 S
-            611, // 0x54 T
-            722, // 0x55 U
-            667, // 0x56 V
-            944, // 0x57 W
-            667, // 0x58 X
-            667, // 0x59 Y
-            611, // 0x5A Z
-            333, // 0x5B [
-            278, // 0x5C \
-            333, // 0x5D ]
-            584, // 0x5E ^
-            556, // 0x5F _
-            333, // 0x60 `
-            556, // 0x61 a
-            611, // 0x62 b
-            556, // 0x63 c
-            611, // 0x64 d
-            556, // 0x65 e
-            333, // 0x66 f
-            611, // 0x67 g
-            611, // 0x68 h
-            278, // 0x69 i
-            278, // 0x6A j
-            556, // 0x6B k
-            278, // 0x6C l
-            889, // 0x6D m
-            611, // 0x6E n
-            611, // 0x6F o
-            611, // 0x70 p
-            611, // 0x71 q
-            389, // 0x72 r
-            556, // 0x73 s
-            333, // 0x74 t
-            611, // 0x75 u
-            556, // 0x76 v
-            778, // 0x77 w
-            556, // 0x78 x
-            556, // 0x79 y
-            500, // 0x7A z
-            389, // 0x7B {
-            280, // 0x7C |
-            389, // 0x7D }
-            584  // 0x7E ~
-    };
-
-    /**
-     * Character widths for Arial Bold (range 0xa0 to 0x17f)
-     */
-    static final char[] ARIAL_BOLD_A0_17F = {
-            278, // 0xA0 non-breaking space
-            333, // 0xA1 ¡
-            556, // 0xA2 ¢
-            556, // 0xA3 £
-            556, // 0xA4 ¤
-            556, // 0xA5 ¥
-            280, // 0xA6 ¦
-            556, // 0xA7 §
-            333, // 0xA8 ¨
-            737, // 0xA9 ©
-            370, // 0xAA ª
-            556, // 0xAB «
-            584, // 0xAC ¬
-            333, // 0xAD soft hyphen
-            737, // 0xAE ®
-            552, // 0xAF ¯
-            400, // 0xB0 °
-            549, // 0xB1 ±
-            333, // 0xB2 ²
-            333, // 0xB3 ³
-            333, // 0xB4 ´
-            576, // 0xB5 µ
-            556, // 0xB6 ¶
-            333, // 0xB7 ·
-            333, // 0xB8 ¸
-            333, // 0xB9 ¹
-            365, // 0xBA º
-            556, // 0xBB »
-            834, // 0xBC ¼
-            834, // 0xBD ½
-            834, // 0xBE ¾
-            611, // 0xBF ¿
-            722, // 0xC0 À
-            722, // 0xC1 Á
-            722, // 0xC2 Â
-            722, // 0xC3 Ã
-            722, // 0xC4 Ä
-            722, // 0xC5 Å
-            1000, // 0xC6 Æ
-            722, // 0xC7 Ç
-            667, // 0xC8 È
-            667, // 0xC9 É
-            667, // 0xCA Ê
-            667, // 0xCB Ë
-            278, // 0xCC Ì
-            278, // 0xCD Í
-            278, // 0xCE Î
-            278, // 0xCF Ï
-            722, // 0xD0 Ð
-            722, // 0xD1 Ñ
-            778, // 0xD2 Ò
-            778, // 0xD3 Ó
-            778, // 0xD4 Ô
-            778, // 0xD5 Õ
-            778, // 0xD6 Ö
-            584, // 0xD7 ×
-            778, // 0xD8 Ø
-            722, // 0xD9 Ù
-            722, // 0xDA Ú
-            722, // 0xDB Û
-            722, // 0xDC Ü
-            667, // 0xDD Ý
-            667, // 0xDE Þ
-            611, // 0xDF ß
-            556, // 0xE0 à
-            556, // 0xE1 á
-            556, // 0xE2 â
-            556, // 0xE3 ã
-            556, // 0xE4 ä
-            556, // 0xE5 å
-            889, // 0xE6 æ
-            556, // 0xE7 ç
-            556, // 0xE8 è
-            556, // 0xE9 é
-            556, // 0xEA ê
-            556, // 0xEB ë
-            278, // 0xEC ì
-            278, // 0xED í
-            278, // 0xEE î
-            278, // 0xEF ï
-            611, // 0xF0 ð
-            611, // 0xF1 ñ
-            611, // 0xF2 ò
-            611, // 0xF3 ó
-            611, // 0xF4 ô
-            611, // 0xF5 õ
-            611, // 0xF6 ö
-            549, // 0xF7 ÷
-            611, // 0xF8 ø
-            611, // 0xF9 ù
-            611, // 0xFA ú
-            611, // 0xFB û
-            611, // 0xFC ü
-            556, // 0xFD ý
-            611, // 0xFE þ
-            556, // 0xFF ÿ
-            722, // 0x100 Ā
-            556, // 0x101 ā
-            722, // 0x102 Ă
-            556, // 0x103 ă
-            722, // 0x104 Ą
-            556, // 0x105 ą
-            722, // 0x106 Ć
-            556, // 0x107 ć
-            722, // 0x108 Ĉ
-            556, // 0x109 ĉ
-            722, // 0x10A Ċ
-            556, // 0x10B ċ
-            722, // 0x10C Č
-            556, // 0x10D č
-            722, // 0x10E Ď
-            719, // 0x10F ď
-            722, // 0x110 Đ
-            611, // 0x111 đ
-            667, // 0x112 Ē
-            556, // 0x113 ē
-            667, // 0x114 Ĕ
-            556, // 0x115 ĕ
-            667, // 0x116 Ė
-            556, // 0x117 ė
-            667, // 0x118 Ę
-            556, // 0x119 ę
-            667, // 0x11A Ě
-            556, // 0x11B ě
-            778, // 0x11C Ĝ
-            611, // 0x11D ĝ
-            778, // 0x11E Ğ
-            611, // 0x11F ğ
-            778, // 0x120 Ġ
-            611, // 0x121 ġ
-            778, // 0x122 Ģ
-            611, // 0x123 ģ
-            722, // 0x124 Ĥ
-            611, // 0x125 ĥ
-            722, // 0x126 Ħ
-            611, // 0x127 ħ
-            278, // 0x128 Ĩ
-            278, // 0x129 ĩ
-            278, // 0x12A Ī
-            278, // 0x12B ī
-            278, // 0x12C Ĭ
-            278, // 0x12D ĭ
-            278, // 0x12E Į
-            278, // 0x12F į
-            278, // 0x130 İ
-            278, // 0x131 ı
-            785, // 0x132 Ĳ
-            556, // 0x133 ĳ
-            556, // 0x134 Ĵ
-            278, // 0x135 ĵ
-            722, // 0x136 Ķ
-            556, // 0x137 ķ
-            556, // 0x138 ĸ
-            611, // 0x139 Ĺ
-            278, // 0x13A ĺ
-            611, // 0x13B Ļ
-            278, // 0x13C ļ
-            611, // 0x13D Ľ
-            385, // 0x13E ľ
-            611, // 0x13F Ŀ
-            479, // 0x140 ŀ
-            611, // 0x141 Ł
-            278, // 0x142 ł
-            722, // 0x143 Ń
-            611, // 0x144 ń
-            722, // 0x145 Ņ
-            611, // 0x146 ņ
-            722, // 0x147 Ň
-            611, // 0x148 ň
-            708, // 0x149 ŉ
-            723, // 0x14A Ŋ
-            611, // 0x14B ŋ
-            778, // 0x14C Ō
-            611, // 0x14D ō
-            778, // 0x14E Ŏ
-            611, // 0x14F ŏ
-            778, // 0x150 Ő
-            611, // 0x151 ő
-            1000, // 0x152 Œ
-            944, // 0x153 œ
-            722, // 0x154 Ŕ
-            389, // 0x155 ŕ
-            722, // 0x156 Ŗ
-            389, // 0x157 ŗ
-            722, // 0x158 Ř
-            389, // 0x159 ř
-            667, // 0x15A Ś
-            556, // 0x15B ś
-            667, // 0x15C Ŝ
-            556, // 0x15D ŝ
-            667, // 0x15E Ş
-            556, // 0x15F ş
-            667, // 0x160 Š
-            556, // 0x161 š
-            611, // 0x162 Ţ
-            333, // 0x163 ţ
-            611, // 0x164 Ť
-            479, // 0x165 ť
-            611, // 0x166 Ŧ
-            333, // 0x167 ŧ
-            722, // 0x168 Ũ
-            611, // 0x169 ũ
-            722, // 0x16A Ū
-            611, // 0x16B ū
-            722, // 0x16C Ŭ
-            611, // 0x16D ŭ
-            722, // 0x16E Ů
-            611, // 0x16F ů
-            722, // 0x170 Ű
-            611, // 0x171 ű
-            722, // 0x172 Ų
-            611, // 0x173 ų
-            944, // 0x174 Ŵ
-            778, // 0x175 ŵ
-            667, // 0x176 Ŷ
-            556, // 0x177 ŷ
-            667, // 0x178 Ÿ
-            611, // 0x179 Ź
-            500, // 0x17A ź
-            611, // 0x17B Ż
-            500, // 0x17C ż
-            611, // 0x17D Ž
-            500, // 0x17E ž
-            278  // 0x17F ſ
-    };
-
-    /**
-     * Character widths for Arial Bold (range 0x218 to 0x21b)
-     */
-    static final char[] ARIAL_BOLD_218_21B = {
-            667, // 0x218 Ș
-            556, // 0x219 ș
-            611, // 0x21A Ț
-            333  // 0x21B ț
-    };
-
-    /**
-     * Default character width for Liberation Sans Normal
-     */
-    static final char LIBERATION_SANS_NORMAL_DEFAULT_WIDTH = 556;
-
-    /**
-     * Width of n-dash for Liberation Sans Normal
-     */
-    static final char LIBERATION_SANS_NORMAL_NDASH_WIDTH = 556;
-
-    /**
-     * Width of euro sign for Liberation Sans Normal
-     */
-    static final char LIBERATION_SANS_NORMAL_EURO_WIDTH = 556;
-
-    /**
-     * Character widths for Liberation Sans Normal (range 0x20 to 0x7e)
-     */
-    static final char[] LIBERATION_SANS_NORMAL_20_7E = {
-            278, // 0x20
-            278, // 0x21 !
-            355, // 0x22 "
-            556, // 0x23 #
-            556, // 0x24 $
-            889, // 0x25 %
-            667, // 0x26 &
-            191, // 0x27 '
-            333, // 0x28 (
-            333, // 0x29 )
-            389, // 0x2A *
-            584, // 0x2B +
-            278, // 0x2C ,
-            333, // 0x2D -
-            278, // 0x2E .
-            278, // 0x2F /
-            556, // 0x30 0
-            556, // 0x31 1
-            556, // 0x32 2
-            556, // 0x33 3
-            556, // 0x34 4
-            556, // 0x35 5
-            556, // 0x36 6
-            556, // 0x37 7
-            556, // 0x38 8
-            556, // 0x39 9
-            278, // 0x3A :
-            278, // 0x3B ;
-            584, // 0x3C <
-            584, // 0x3D =
-            584, // 0x3E >
-            556, // 0x3F ?
-            1015, // 0x40 @
-            667, // 0x41 A
-            667, // 0x42 B
-            722, // 0x43 C
-            722, // 0x44 D
-            667, // 0x45 E
-            611, // 0x46 F
-            778, // 0x47 G
-            722, // 0x48 H
-            278, // 0x49 I
-            500, // 0x4A J
-            667, // 0x4B K
-            556, // 0x4C L
-            833, // 0x4D M
-            722, // 0x4E N
-            778, // 0x4F O
-            667, // 0x50 P
-            778, // 0x51 Q
-            722, // 0x52 R
-            667, // 0x53 S
-            611, // 0x54 T
-            722, // 0x55 U
-            667, // 0x56 V
-            944, // 0x57 W
-            667, // 0x58 X
-            667, // 0x59 Y
-            611, // 0x5A Z
-            278, // 0x5B [
-            278, // 0x5C \
-            278, // 0x5D ]
-            469, // 0x5E ^
-            556, // 0x5F _
-            333, // 0x60 `
-            556, // 0x61 a
-            556, // 0x62 b
-            500, // 0x63 c
-            556, // 0x64 d
-            556, // 0x65 e
-            278, // 0x66 f
-            556, // 0x67 g
-            556, // 0x68 h
-            222, // 0x69 i
-            222, // 0x6A j
-            500, // 0x6B k
-            222, // 0x6C l
-            833, // 0x6D m
-            556, // 0x6E n
-            556, // 0x6F o
-            556, // 0x70 p
-            556, // 0x71 q
-            333, // 0x72 r
-            500, // 0x73 s
-            278, // 0x74 t
-            556, // 0x75 u
-            500, // 0x76 v
-            722, // 0x77 w
-            500, // 0x78 x
-            500, // 0x79 y
-            500, // 0x7A z
-            334, // 0x7B {
-            260, // 0x7C |
-            334, // 0x7D }
-            584  // 0x7E ~
-    };
-
-    /**
-     * Character widths for Liberation Sans Normal (range 0xa0 to 0x17f)
-     */
-    static final char[] LIBERATION_SANS_NORMAL_A0_17F = {
-            278, // 0xA0 non-breaking space
-            333, // 0xA1 ¡
-            556, // 0xA2 ¢
-            556, // 0xA3 £
-            556, // 0xA4 ¤
-            556, // 0xA5 ¥
-            260, // 0xA6 ¦
-            556, // 0xA7 §
-            333, // 0xA8 ¨
-            737, // 0xA9 ©
-            370, // 0xAA ª
-            556, // 0xAB «
-            584, // 0xAC ¬
-            333, // 0xAD soft hyphen
-            737, // 0xAE ®
-            552, // 0xAF ¯
-            400, // 0xB0 °
-            549, // 0xB1 ±
-            333, // 0xB2 ²
-            333, // 0xB3 ³
-            333, // 0xB4 ´
-            576, // 0xB5 µ
-            537, // 0xB6 ¶
-            333, // 0xB7 ·
-            333, // 0xB8 ¸
-            333, // 0xB9 ¹
-            365, // 0xBA º
-            556, // 0xBB »
-            834, // 0xBC ¼
-            834, // 0xBD ½
-            834, // 0xBE ¾
-            611, // 0xBF ¿
-            667, // 0xC0 À
-            667, // 0xC1 Á
-            667, // 0xC2 Â
-            667, // 0xC3 Ã
-            667, // 0xC4 Ä
-            667, // 0xC5 Å
-            1000, // 0xC6 Æ
-            722, // 0xC7 Ç
-            667, // 0xC8 È
-            667, // 0xC9 É
-            667, // 0xCA Ê
-            667, // 0xCB Ë
-            278, // 0xCC Ì
-            278, // 0xCD Í
-            278, // 0xCE Î
-            278, // 0xCF Ï
-            722, // 0xD0 Ð
-            722, // 0xD1 Ñ
-            778, // 0xD2 Ò
-            778, // 0xD3 Ó
-            778, // 0xD4 Ô
-            778, // 0xD5 Õ
-            778, // 0xD6 Ö
-            584, // 0xD7 ×
-            778, // 0xD8 Ø
-            722, // 0xD9 Ù
-            722, // 0xDA Ú
-            722, // 0xDB Û
-            722, // 0xDC Ü
-            667, // 0xDD Ý
-            667, // 0xDE Þ
-            611, // 0xDF ß
-            556, // 0xE0 à
-            556, // 0xE1 á
-            556, // 0xE2 â
-            556, // 0xE3 ã
-            556, // 0xE4 ä
-            556, // 0xE5 å
-            889, // 0xE6 æ
-            500, // 0xE7 ç
-            556, // 0xE8 è
-            556, // 0xE9 é
-            556, // 0xEA ê
-            556, // 0xEB ë
-            278, // 0xEC ì
-            278, // 0xED í
-            278, // 0xEE î
-            278, // 0xEF ï
-            556, // 0xF0 ð
-            556, // 0xF1 ñ
-            556, // 0xF2 ò
-            556, // 0xF3 ó
-            556, // 0xF4 ô
-            556, // 0xF5 õ
-            556, // 0xF6 ö
-            549, // 0xF7 ÷
-            611, // 0xF8 ø
-            556, // 0xF9 ù
-            556, // 0xFA ú
-            556, // 0xFB û
-            556, // 0xFC ü
-            500, // 0xFD ý
-            556, // 0xFE þ
-            500, // 0xFF ÿ
-            667, // 0x100 Ā
-            556, // 0x101 ā
-            667, // 0x102 Ă
-            556, // 0x103 ă
-            667, // 0x104 Ą
-            556, // 0x105 ą
-            722, // 0x106 Ć
-            500, // 0x107 ć
-            722, // 0x108 Ĉ
-            500, // 0x109 ĉ
-            722, // 0x10A Ċ
-            500, // 0x10B ċ
-            722, // 0x10C Č
-            500, // 0x10D č
-            722, // 0x10E Ď
-            615, // 0x10F ď
-            722, // 0x110 Đ
-            556, // 0x111 đ
-            667, // 0x112 Ē
-            556, // 0x113 ē
-            667, // 0x114 Ĕ
-            556, // 0x115 ĕ
-            667, // 0x116 Ė
-            556, // 0x117 ė
-            667, // 0x118 Ę
-            556, // 0x119 ę
-            667, // 0x11A Ě
-            556, // 0x11B ě
-            778, // 0x11C Ĝ
-            556, // 0x11D ĝ
-            778, // 0x11E Ğ
-            556, // 0x11F ğ
-            778, // 0x120 Ġ
-            556, // 0x121 ġ
-            778, // 0x122 Ģ
-            556, // 0x123 ģ
-            722, // 0x124 Ĥ
-            556, // 0x125 ĥ
-            722, // 0x126 Ħ
-            556, // 0x127 ħ
-            278, // 0x128 Ĩ
-            278, // 0x129 ĩ
-            278, // 0x12A Ī
-            278, // 0x12B ī
-            278, // 0x12C Ĭ
-            278, // 0x12D ĭ
-            278, // 0x12E Į
-            222, // 0x12F į
-            278, // 0x130 İ
-            278, // 0x131 ı
-            735, // 0x132 Ĳ
-            444, // 0x133 ĳ
-            500, // 0x134 Ĵ
-            222, // 0x135 ĵ
-            667, // 0x136 Ķ
-            500, // 0x137 ķ
-            500, // 0x138 ĸ
-            556, // 0x139 Ĺ
-            222, // 0x13A ĺ
-            556, // 0x13B Ļ
-            222, // 0x13C ļ
-            556, // 0x13D Ľ
-            292, // 0x13E ľ
-            556, // 0x13F Ŀ
-            334, // 0x140 ŀ
-            556, // 0x141 Ł
-            222, // 0x142 ł
-            722, // 0x143 Ń
-            556, // 0x144 ń
-            722, // 0x145 Ņ
-            556, // 0x146 ņ
-            722, // 0x147 Ň
-            556, // 0x148 ň
-            604, // 0x149 ŉ
-            723, // 0x14A Ŋ
-            556, // 0x14B ŋ
-            778, // 0x14C Ō
-            556, // 0x14D ō
-            778, // 0x14E Ŏ
-            556, // 0x14F ŏ
-            778, // 0x150 Ő
-            556, // 0x151 ő
-            1000, // 0x152 Œ
-            944, // 0x153 œ
-            722, // 0x154 Ŕ
-            333, // 0x155 ŕ
-            722, // 0x156 Ŗ
-            333, // 0x157 ŗ
-            722, // 0x158 Ř
-            333, // 0x159 ř
-            667, // 0x15A Ś
-            500, // 0x15B ś
-            667, // 0x15C Ŝ
-            500, // 0x15D ŝ
-            667, // 0x15E Ş
-            500, // 0x15F ş
-            667, // 0x160 Š
-            500, // 0x161 š
-            611, // 0x162 Ţ
-            278, // 0x163 ţ
-            611, // 0x164 Ť
-            375, // 0x165 ť
-            611, // 0x166 Ŧ
-            278, // 0x167 ŧ
-            722, // 0x168 Ũ
-            556, // 0x169 ũ
-            722, // 0x16A Ū
-            556, // 0x16B ū
-            722, // 0x16C Ŭ
-            556, // 0x16D ŭ
-            722, // 0x16E Ů
-            556, // 0x16F ů
-            722, // 0x170 Ű
-            556, // 0x171 ű
-            722, // 0x172 Ų
-            556, // 0x173 ų
-            944, // 0x174 Ŵ
-            722, // 0x175 ŵ
-            667, // 0x176 Ŷ
-            500, // 0x177 ŷ
-            667, // 0x178 Ÿ
-            611, // 0x179 Ź
-            500, // 0x17A ź
-            611, // 0x17B Ż
-            500, // 0x17C ż
-            611, // 0x17D Ž
-            500, // 0x17E ž
-            222  // 0x17F ſ
-    };
-
-    /**
-     * Character widths for Liberation Sans Normal (range 0x218 to 0x21b)
-     */
-    static final char[] LIBERATION_SANS_NORMAL_218_21B = {
-            667, // 0x218 Ș
-            500, // 0x219 ș
-            611, // 0x21A Ț
-            278  // 0x21B ț
-    };
-
-    /**
-     * Default character width for Liberation Sans Bold
-     */
-    static final char LIBERATION_SANS_BOLD_DEFAULT_WIDTH = 611;
-
-    /**
-     * Width of n-dash for Liberation Sans Bold
-     */
-    static final char LIBERATION_SANS_BOLD_NDASH_WIDTH = 556;
-
-    /**
-     * Width of euro sign for Liberation Sans Bold
-     */
-    static final char LIBERATION_SANS_BOLD_EURO_WIDTH = 556;
-
-    /**
-     * Character widths for Liberation Sans Bold (range 0x20 to 0x7e)
-     */
-    static final char[] LIBERATION_SANS_BOLD_20_7E = {
-            278, // 0x20
-            333, // 0x21 !
-            474, // 0x22 "
-            556, // 0x23 #
-            556, // 0x24 $
-            889, // 0x25 %
-            722, // 0x26 &
-            238, // 0x27 '
-            333, // 0x28 (
-            333, // 0x29 )
-            389, // 0x2A *
-            584, // 0x2B +
-            278, // 0x2C ,
-            333, // 0x2D -
-            278, // 0x2E .
-            278, // 0x2F /
-            556, // 0x30 0
-            556, // 0x31 1
-            556, // 0x32 2
-            556, // 0x33 3
-            556, // 0x34 4
-            556, // 0x35 5
-            556, // 0x36 6
-            556, // 0x37 7
-            556, // 0x38 8
-            556, // 0x39 9
-            333, // 0x3A :
-            333, // 0x3B ;
-            584, // 0x3C <
-            584, // 0x3D =
-            584, // 0x3E >
-            611, // 0x3F ?
-            975, // 0x40 @
-            722, // 0x41 A
-            722, // 0x42 B
-            722, // 0x43 C
-            722, // 0x44 D
-            667, // 0x45 E
-            611, // 0x46 F
-            778, // 0x47 G
-            722, // 0x48 H
-            278, // 0x49 I
-            556, // 0x4A J
-            722, // 0x4B K
-            611, // 0x4C L
-            833, // 0x4D M
-            722, // 0x4E N
-            778, // 0x4F O
-            667, // 0x50 P
-            778, // 0x51 Q
-            722, // 0x52 R
-            667, // 0x53 S
-            611, // 0x54 T
-            722, // 0x55 U
-            667, // 0x56 V
-            944, // 0x57 W
-            667, // 0x58 X
-            667, // 0x59 Y
-            611, // 0x5A Z
-            333, // 0x5B [
-            278, // 0x5C \
-            333, // 0x5D ]
-            584, // 0x5E ^
-            556, // 0x5F _
-            333, // 0x60 `
-            556, // 0x61 a
-            611, // 0x62 b
-            556, // 0x63 c
-            611, // 0x64 d
-            556, // 0x65 e
-            333, // 0x66 f
-            611, // 0x67 g
-            611, // 0x68 h
-            278, // 0x69 i
-            278, // 0x6A j
-            556, // 0x6B k
-            278, // 0x6C l
-            889, // 0x6D m
-            611, // 0x6E n
-            611, // 0x6F o
-            611, // 0x70 p
-            611, // 0x71 q
-            389, // 0x72 r
-            556, // 0x73 s
-            333, // 0x74 t
-            611, // 0x75 u
-            556, // 0x76 v
-            778, // 0x77 w
-            556, // 0x78 x
-            556, // 0x79 y
-            500, // 0x7A z
-            389, // 0x7B {
-            280, // 0x7C |
-            389, // 0x7D }
-            584  // 0x7E ~
-    };
-
-    /**
-     * Character widths for Liberation Sans Bold (range 0xa0 to 0x17f)
-     */
-    static final char[] LIBERATION_SANS_BOLD_A0_17F = {
-            278, // 0xA0 non-breaking space
-            333, // 0xA1 ¡
-            556, // 0xA2 ¢
-            556, // 0xA3 £
-            556, // 0xA4 ¤
-            556, // 0xA5 ¥
-            280, // 0xA6 ¦
-            556, // 0xA7 §
-            333, // 0xA8 ¨
-            737, // 0xA9 ©
-            370, // 0xAA ª
-            556, // 0xAB «
-            584, // 0xAC ¬
-            333, // 0xAD soft hyphen
-            737, // 0xAE ®
-            552, // 0xAF ¯
-            400, // 0xB0 °
-            549, // 0xB1 ±
-            333, // 0xB2 ²
-            333, // 0xB3 ³
-            333, // 0xB4 ´
-            576, // 0xB5 µ
-            556, // 0xB6 ¶
-            333, // 0xB7 ·
-            333, // 0xB8 ¸
-            333, // 0xB9 ¹
-            365, // 0xBA º
-            556, // 0xBB »
-            834, // 0xBC ¼
-            834, // 0xBD ½
-            834, // 0xBE ¾
-            611, // 0xBF ¿
-            722, // 0xC0 À
-            722, // 0xC1 Á
-            722, // 0xC2 Â
-            722, // 0xC3 Ã
-            722, // 0xC4 Ä
-            722, // 0xC5 Å
-            1000, // 0xC6 Æ
-            722, // 0xC7 Ç
-            667, // 0xC8 È
-            667, // 0xC9 É
-            667, // 0xCA Ê
-            667, // 0xCB Ë
-            278, // 0xCC Ì
-            278, // 0xCD Í
-            278, // 0xCE Î
-            278, // 0xCF Ï
-            722, // 0xD0 Ð
-            722, // 0xD1 Ñ
-            778, // 0xD2 Ò
-            778, // 0xD3 Ó
-            778, // 0xD4 Ô
-            778, // 0xD5 Õ
-            778, // 0xD6 Ö
-            584, // 0xD7 ×
-            778, // 0xD8 Ø
-            722, // 0xD9 Ù
-            722, // 0xDA Ú
-            722, // 0xDB Û
-            722, // 0xDC Ü
-            667, // 0xDD Ý
-            667, // 0xDE Þ
-            611, // 0xDF ß
-            556, // 0xE0 à
-            556, // 0xE1 á
-            556, // 0xE2 â
-            556, // 0xE3 ã
-            556, // 0xE4 ä
-            556, // 0xE5 å
-            889, // 0xE6 æ
-            556, // 0xE7 ç
-            556, // 0xE8 è
-            556, // 0xE9 é
-            556, // 0xEA ê
-            556, // 0xEB ë
-            278, // 0xEC ì
-            278, // 0xED í
-            278, // 0xEE î
-            278, // 0xEF ï
-            611, // 0xF0 ð
-            611, // 0xF1 ñ
-            611, // 0xF2 ò
-            611, // 0xF3 ó
-            611, // 0xF4 ô
-            611, // 0xF5 õ
-            611, // 0xF6 ö
-            549, // 0xF7 ÷
-            611, // 0xF8 ø
-            611, // 0xF9 ù
-            611, // 0xFA ú
-            611, // 0xFB û
-            611, // 0xFC ü
-            556, // 0xFD ý
-            611, // 0xFE þ
-            556, // 0xFF ÿ
-            722, // 0x100 Ā
-            556, // 0x101 ā
-            722, // 0x102 Ă
-            556, // 0x103 ă
-            722, // 0x104 Ą
-            556, // 0x105 ą
-            722, // 0x106 Ć
-            556, // 0x107 ć
-            722, // 0x108 Ĉ
-            556, // 0x109 ĉ
-            722, // 0x10A Ċ
-            556, // 0x10B ċ
-            722, // 0x10C Č
-            556, // 0x10D č
-            722, // 0x10E Ď
-            719, // 0x10F ď
-            722, // 0x110 Đ
-            611, // 0x111 đ
-            667, // 0x112 Ē
-            556, // 0x113 ē
-            667, // 0x114 Ĕ
-            556, // 0x115 ĕ
-            667, // 0x116 Ė
-            556, // 0x117 ė
-            667, // 0x118 Ę
-            556, // 0x119 ę
-            667, // 0x11A Ě
-            556, // 0x11B ě
-            778, // 0x11C Ĝ
-            611, // 0x11D ĝ
-            778, // 0x11E Ğ
-            611, // 0x11F ğ
-            778, // 0x120 Ġ
-            611, // 0x121 ġ
-            778, // 0x122 Ģ
-            611, // 0x123 ģ
-            722, // 0x124 Ĥ
-            611, // 0x125 ĥ
-            722, // 0x126 Ħ
-            611, // 0x127 ħ
-            278, // 0x128 Ĩ
-            278, // 0x129 ĩ
-            278, // 0x12A Ī
-            278, // 0x12B ī
-            278, // 0x12C Ĭ
-            278, // 0x12D ĭ
-            278, // 0x12E Į
-            278, // 0x12F į
-            278, // 0x130 İ
-            278, // 0x131 ı
-            785, // 0x132 Ĳ
-            556, // 0x133 ĳ
-            556, // 0x134 Ĵ
-            278, // 0x135 ĵ
-            722, // 0x136 Ķ
-            556, // 0x137 ķ
-            556, // 0x138 ĸ
-            611, // 0x139 Ĺ
-            278, // 0x13A ĺ
-            611, // 0x13B Ļ
-            278, // 0x13C ļ
-            611, // 0x13D Ľ
-            385, // 0x13E ľ
-            611, // 0x13F Ŀ
-            479, // 0x140 ŀ
-            611, // 0x141 Ł
-            278, // 0x142 ł
-            722, // 0x143 Ń
-            611, // 0x144 ń
-            722, // 0x145 Ņ
-            611, // 0x146 ņ
-            722, // 0x147 Ň
-            611, // 0x148 ň
-            708, // 0x149 ŉ
-            723, // 0x14A Ŋ
-            611, // 0x14B ŋ
-            778, // 0x14C Ō
-            611, // 0x14D ō
-            778, // 0x14E Ŏ
-            611, // 0x14F ŏ
-            778, // 0x150 Ő
-            611, // 0x151 ő
-            1000, // 0x152 Œ
-            944, // 0x153 œ
-            722, // 0x154 Ŕ
-            389, // 0x155 ŕ
-            722, // 0x156 Ŗ
-            389, // 0x157 ŗ
-            722, // 0x158 Ř
-            389, // 0x159 ř
-            667, // 0x15A Ś
-            556, // 0x15B ś
-            667, // 0x15C Ŝ
-            556, // 0x15D ŝ
-            667, // 0x15E Ş
-            556, // 0x15F ş
-            667, // 0x160 Š
-            556, // 0x161 š
-            611, // 0x162 Ţ
-            333, // 0x163 ţ
-            611, // 0x164 Ť
-            479, // 0x165 ť
-            611, // 0x166 Ŧ
-            333, // 0x167 ŧ
-            722, // 0x168 Ũ
-            611, // 0x169 ũ
-            722, // 0x16A Ū
-            611, // 0x16B ū
-            722, // 0x16C Ŭ
-            611, // 0x16D ŭ
-            722, // 0x16E Ů
-            611, // 0x16F ů
-            722, // 0x170 Ű
-            611, // 0x171 ű
-            722, // 0x172 Ų
-            611, // 0x173 ų
-            944, // 0x174 Ŵ
-            778, // 0x175 ŵ
-            667, // 0x176 Ŷ
-            556, // 0x177 ŷ
-            667, // 0x178 Ÿ
-            611, // 0x179 Ź
-            500, // 0x17A ź
-            611, // 0x17B Ż
-            500, // 0x17C ż
-            611, // 0x17D Ž
-            500, // 0x17E ž
-            278  // 0x17F ſ
-    };
-
-    /**
-     * Character widths for Liberation Sans Bold (range 0x218 to 0x21b)
-     */
-    static final char[] LIBERATION_SANS_BOLD_218_21B = {
-            667, // 0x218 Ș
-            556, // 0x219 ș
-            611, // 0x21A Ț
-            333  // 0x21B ț
-    };
-
-    /**
-     * Default character width for Frutiger Normal
-     */
-    static final char FRUTIGER_NORMAL_DEFAULT_WIDTH = 556;
-
-    /**
-     * Width of n-dash for Frutiger Normal
-     */
-    static final char FRUTIGER_NORMAL_NDASH_WIDTH = 500;
-
-    /**
-     * Width of euro sign for Frutiger Normal
-     */
-    static final char FRUTIGER_NORMAL_EURO_WIDTH = 556;
-
-    /**
-     * Character widths for Frutiger Normal (range 0x20 to 0x7e)
-     */
-    static final char[] FRUTIGER_NORMAL_20_7E = {
-            278, // 0x20
-            389, // 0x21 !
-            556, // 0x22 "
-            556, // 0x23 #
-            556, // 0x24 $
-            1000, // 0x25 %
-            667, // 0x26 &
-            278, // 0x27 '
-            278, // 0x28 (
-            278, // 0x29 )
-            556, // 0x2A *
-            600, // 0x2B +
-            278, // 0x2C ,
-            333, // 0x2D -
-            278, // 0x2E .
-            278, // 0x2F /
-            556, // 0x30 0
-            556, // 0x31 1
-            556, // 0x32 2
-            556, // 0x33 3
-            556, // 0x34 4
-            556, // 0x35 5
-            556, // 0x36 6
-            556, // 0x37 7
-            556, // 0x38 8
-            556, // 0x39 9
-            278, // 0x3A :
-            278, // 0x3B ;
-            600, // 0x3C <
-            600, // 0x3D =
-            600, // 0x3E >
-            500, // 0x3F ?
-            800, // 0x40 @
-            667, // 0x41 A
-            556, // 0x42 B
-            667, // 0x43 C
-            667, // 0x44 D
-            500, // 0x45 E
-            444, // 0x46 F
-            722, // 0x47 G
-            667, // 0x48 H
-            222, // 0x49 I
-            333, // 0x4A J
-            611, // 0x4B K
-            444, // 0x4C L
-            889, // 0x4D M
-            667, // 0x4E N
-            722, // 0x4F O
-            500, // 0x50 P
-            722, // 0x51 Q
-            556, // 0x52 R
-            500, // 0x53 S
-            500, // 0x54 T
-            667, // 0x55 U
-            611, // 0x56 V
-            944, // 0x57 W
-            611, // 0x58 X
-            611, // 0x59 Y
-            500, // 0x5A Z
-            278, // 0x5B [
-            278, // 0x5C \
-            278, // 0x5D ]
-            600, // 0x5E ^
-            500, // 0x5F _
-            222, // 0x60 `
-            500, // 0x61 a
-            556, // 0x62 b
-            444, // 0x63 c
-            556, // 0x64 d
-            500, // 0x65 e
-            333, // 0x66 f
-            556, // 0x67 g
-            556, // 0x68 h
-            222, // 0x69 i
-            222, // 0x6A j
-            500, // 0x6B k
-            222, // 0x6C l
-            833, // 0x6D m
-            556, // 0x6E n
-            556, // 0x6F o
-            556, // 0x70 p
-            556, // 0x71 q
-            333, // 0x72 r
-            389, // 0x73 s
-            333, // 0x74 t
-            556, // 0x75 u
-            444, // 0x76 v
-            778, // 0x77 w
-            444, // 0x78 x
-            444, // 0x79 y
-            444, // 0x7A z
-            278, // 0x7B {
-            222, // 0x7C |
-            278, // 0x7D }
-            600  // 0x7E ~
-    };
-
-    /**
-     * Character widths for Frutiger Normal (range 0xa0 to 0x17f)
-     */
-    static final char[] FRUTIGER_NORMAL_A0_17F = {
-            278, // 0xA0 non-breaking space
-            389, // 0xA1 ¡
-            556, // 0xA2 ¢
-            556, // 0xA3 £
-            556, // 0xA4 ¤
-            556, // 0xA5 ¥
-            222, // 0xA6 ¦
-            556, // 0xA7 §
-            222, // 0xA8 ¨
-            800, // 0xA9 ©
-            325, // 0xAA ª
-            556, // 0xAB «
-            600, // 0xAC ¬
-            333, // 0xAD soft hyphen
-            800, // 0xAE ®
-            222, // 0xAF ¯
-            400, // 0xB0 °
-            600, // 0xB1 ±
-            361, // 0xB2 ²
-            361, // 0xB3 ³
-            222, // 0xB4 ´
-            556, // 0xB5 µ
-            600, // 0xB6 ¶
-            278, // 0xB7 ·
-            222, // 0xB8 ¸
-            361, // 0xB9 ¹
-            361, // 0xBA º
-            556, // 0xBB »
-            834, // 0xBC ¼
-            834, // 0xBD ½
-            834, // 0xBE ¾
-            500, // 0xBF ¿
-            667, // 0xC0 À
-            667, // 0xC1 Á
-            667, // 0xC2 Â
-            667, // 0xC3 Ã
-            667, // 0xC4 Ä
-            667, // 0xC5 Å
-            889, // 0xC6 Æ
-            667, // 0xC7 Ç
-            500, // 0xC8 È
-            500, // 0xC9 É
-            500, // 0xCA Ê
-            500, // 0xCB Ë
-            222, // 0xCC Ì
-            222, // 0xCD Í
-            222, // 0xCE Î
-            222, // 0xCF Ï
-            667, // 0xD0 Ð
-            667, // 0xD1 Ñ
-            722, // 0xD2 Ò
-            722, // 0xD3 Ó
-            722, // 0xD4 Ô
-            722, // 0xD5 Õ
-            722, // 0xD6 Ö
-            600, // 0xD7 ×
-            722, // 0xD8 Ø
-            667, // 0xD9 Ù
-            667, // 0xDA Ú
-            667, // 0xDB Û
-            667, // 0xDC Ü
-            611, // 0xDD Ý
-            500, // 0xDE Þ
-            556, // 0xDF ß
-            500, // 0xE0 à
-            500, // 0xE1 á
-            500, // 0xE2 â
-            500, // 0xE3 ã
-            500, // 0xE4 ä
-            500, // 0xE5 å
-            833, // 0xE6 æ
-            444, // 0xE7 ç
-            500, // 0xE8 è
-            500, // 0xE9 é
-            500, // 0xEA ê
-            500, // 0xEB ë
-            222, // 0xEC ì
-            222, // 0xED í
-            222, // 0xEE î
-            222, // 0xEF ï
-            556, // 0xF0 ð
-            556, // 0xF1 ñ
-            556, // 0xF2 ò
-            556, // 0xF3 ó
-            556, // 0xF4 ô
-            556, // 0xF5 õ
-            556, // 0xF6 ö
-            600, // 0xF7 ÷
-            556, // 0xF8 ø
-            556, // 0xF9 ù
-            556, // 0xFA ú
-            556, // 0xFB û
-            556, // 0xFC ü
-            444, // 0xFD ý
-            556, // 0xFE þ
-            444, // 0xFF ÿ
-            667, // 0x100 Ā
-            500, // 0x101 ā
-            667, // 0x102 Ă
-            500, // 0x103 ă
-            667, // 0x104 Ą
-            500, // 0x105 ą
-            667, // 0x106 Ć
-            444, // 0x107 ć
-            667, // 0x108 Ĉ
-            444, // 0x109 ĉ
-            667, // 0x10A Ċ
-            444, // 0x10B ċ
-            667, // 0x10C Č
-            444, // 0x10D č
-            667, // 0x10E Ď
-            604, // 0x10F ď
-            667, // 0x110 Đ
-            564, // 0x111 đ
-            500, // 0x112 Ē
-            500, // 0x113 ē
-            500, // 0x114 Ĕ
-            500, // 0x115 ĕ
-            500, // 0x116 Ė
-            500, // 0x117 ė
-            500, // 0x118 Ę
-            500, // 0x119 ę
-            500, // 0x11A Ě
-            500, // 0x11B ě
-            722, // 0x11C Ĝ
-            556, // 0x11D ĝ
-            722, // 0x11E Ğ
-            556, // 0x11F ğ
-            722, // 0x120 Ġ
-            556, // 0x121 ġ
-            722, // 0x122 Ģ
-            556, // 0x123 ģ
-            667, // 0x124 Ĥ
-            556, // 0x125 ĥ
-            667, // 0x126 Ħ
-            556, // 0x127 ħ
-            222, // 0x128 Ĩ
-            222, // 0x129 ĩ
-            222, // 0x12A Ī
-            222, // 0x12B ī
-            512, // 0x12C Ĭ
-            512, // 0x12D ĭ
-            222, // 0x12E Į
-            222, // 0x12F į
-            222, // 0x130 İ
-            222, // 0x131 ı
-            530, // 0x132 Ĳ
-            433, // 0x133 ĳ
-            333, // 0x134 Ĵ
-            222, // 0x135 ĵ
-            611, // 0x136 Ķ
-            500, // 0x137 ķ
-            512, // 0x138 ĸ
-            444, // 0x139 Ĺ
-            222, // 0x13A ĺ
-            444, // 0x13B Ļ
-            222, // 0x13C ļ
-            444, // 0x13D Ľ
-            270, // 0x13E ľ
-            444, // 0x13F Ŀ
-            342, // 0x140 ŀ
-            444, // 0x141 Ł
-            222, // 0x142 ł
-            667, // 0x143 Ń
-            556, // 0x144 ń
-            667, // 0x145 Ņ
-            556, // 0x146 ņ
-            667, // 0x147 Ň
-            556, // 0x148 ň
-            616, // 0x149 ŉ
-            512, // 0x14A Ŋ
-            512, // 0x14B ŋ
-            722, // 0x14C Ō
-            556, // 0x14D ō
-            722, // 0x14E Ŏ
-            556, // 0x14F ŏ
-            722, // 0x150 Ő
-            556, // 0x151 ő
-            889, // 0x152 Œ
-            889, // 0x153 œ
-            556, // 0x154 Ŕ
-            333, // 0x155 ŕ
-            556, // 0x156 Ŗ
-            333, // 0x157 ŗ
-            556, // 0x158 Ř
-            333, // 0x159 ř
-            500, // 0x15A Ś
-            389, // 0x15B ś
-            500, // 0x15C Ŝ
-            389, // 0x15D ŝ
-            500, // 0x15E Ş
-            389, // 0x15F ş
-            500, // 0x160 Š
-            389, // 0x161 š
-            500, // 0x162 Ţ
-            333, // 0x163 ţ
-            500, // 0x164 Ť
-            339, // 0x165 ť
-            500, // 0x166 Ŧ
-            333, // 0x167 ŧ
-            667, // 0x168 Ũ
-            556, // 0x169 ũ
-            667, // 0x16A Ū
-            556, // 0x16B ū
-            667, // 0x16C Ŭ
-            556, // 0x16D ŭ
-            667, // 0x16E Ů
-            556, // 0x16F ů
-            667, // 0x170 Ű
-            556, // 0x171 ű
-            667, // 0x172 Ų
-            556, // 0x173 ų
-            944, // 0x174 Ŵ
-            778, // 0x175 ŵ
-            611, // 0x176 Ŷ
-            444, // 0x177 ŷ
-            611, // 0x178 Ÿ
-            500, // 0x179 Ź
-            444, // 0x17A ź
-            500, // 0x17B Ż
-            444, // 0x17C ż
-            500, // 0x17D Ž
-            444, // 0x17E ž
-            512  // 0x17F ſ
-    };
-
-    /**
-     * Character widths for Frutiger Normal (range 0x218 to 0x21b)
-     */
-    static final char[] FRUTIGER_NORMAL_218_21B = {
-            500, // 0x218 Ș
-            389, // 0x219 ș
-            500, // 0x21A Ț
-            333  // 0x21B ț
-    };
-
-    /**
-     * Default character width for Frutiger Bold
-     */
-    static final char FRUTIGER_BOLD_DEFAULT_WIDTH = 611;
-
-    /**
-     * Width of n-dash for Frutiger Bold
-     */
-    static final char FRUTIGER_BOLD_NDASH_WIDTH = 500;
-
-    /**
-     * Width of euro sign for Frutiger Bold
-     */
-    static final char FRUTIGER_BOLD_EURO_WIDTH = 556;
-
-    /**
-     * Character widths for Frutiger Bold (range 0x20 to 0x7e)
-     */
-    static final char[] FRUTIGER_BOLD_20_7E = {
-            278, // 0x20
-            389, // 0x21 !
-            481, // 0x22 "
-            556, // 0x23 #
-            556, // 0x24 $
-            1000, // 0x25 %
-            722, // 0x26 &
-            278, // 0x27 '
-            333, // 0x28 (
-            333, // 0x29 )
-            556, // 0x2A *
-            600, // 0x2B +
-            278, // 0x2C ,
-            333, // 0x2D -
-            278, // 0x2E .
-            389, // 0x2F /
-            556, // 0x30 0
-            556, // 0x31 1
-            556, // 0x32 2
-            556, // 0x33 3
-            556, // 0x34 4
-            556, // 0x35 5
-            556, // 0x36 6
-            556, // 0x37 7
-            556, // 0x38 8
-            556, // 0x39 9
-            278, // 0x3A :
-            278, // 0x3B ;
-            600, // 0x3C <
-            600, // 0x3D =
-            600, // 0x3E >
-            500, // 0x3F ?
-            800, // 0x40 @
-            722, // 0x41 A
-            611, // 0x42 B
-            611, // 0x43 C
-            722, // 0x44 D
-            556, // 0x45 E
-            500, // 0x46 F
-            722, // 0x47 G
-            722, // 0x48 H
-            278, // 0x49 I
-            389, // 0x4A J
-            667, // 0x4B K
-            500, // 0x4C L
-            944, // 0x4D M
-            722, // 0x4E N
-            778, // 0x4F O
-            556, // 0x50 P
-            778, // 0x51 Q
-            611, // 0x52 R
-            556, // 0x53 S
-            556, // 0x54 T
-            722, // 0x55 U
-            667, // 0x56 V
-            1000, // 0x57 W
-            667, // 0x58 X
-            667, // 0x59 Y
-            556, // 0x5A Z
-            333, // 0x5B [
-            389, // 0x5C \
-            333, // 0x5D ]
-            600, // 0x5E ^
-            500, // 0x5F _
-            278, // 0x60 `
-            556, // 0x61 a
-            611, // 0x62 b
-            444, // 0x63 c
-            611, // 0x64 d
-            556, // 0x65 e
-            389, // 0x66 f
-            611, // 0x67 g
-            611, // 0x68 h
-            278, // 0x69 i
-            278, // 0x6A j
-            556, // 0x6B k
-            278, // 0x6C l
-            889, // 0x6D m
-            611, // 0x6E n
-            611, // 0x6F o
-            611, // 0x70 p
-            611, // 0x71 q
-            389, // 0x72 r
-            444, // 0x73 s
-            389, // 0x74 t
-            611, // 0x75 u
-            556, // 0x76 v
-            889, // 0x77 w
-            556, // 0x78 x
-            556, // 0x79 y
-            500, // 0x7A z
-            333, // 0x7B {
-            222, // 0x7C |
-            333, // 0x7D }
-            600  // 0x7E ~
-    };
-
-    /**
-     * Character widths for Frutiger Bold (range 0xa0 to 0x17f)
-     */
-    static final char[] FRUTIGER_BOLD_A0_17F = {
-            278, // 0xA0 non-breaking space
-            389, // 0xA1 ¡
-            556, // 0xA2 ¢
-            556, // 0xA3 £
-            556, // 0xA4 ¤
-            556, // 0xA5 ¥
-            222, // 0xA6 ¦
-            556, // 0xA7 §
-            278, // 0xA8 ¨
-            800, // 0xA9 ©
-            361, // 0xAA ª
-            556, // 0xAB «
-            600, // 0xAC ¬
-            333, // 0xAD soft hyphen
-            800, // 0xAE ®
-            278, // 0xAF ¯
-            400, // 0xB0 °
-            600, // 0xB1 ±
-            361, // 0xB2 ²
-            361, // 0xB3 ³
-            278, // 0xB4 ´
-            611, // 0xB5 µ
-            620, // 0xB6 ¶
-            278, // 0xB7 ·
-            278, // 0xB8 ¸
-            361, // 0xB9 ¹
-            397, // 0xBA º
-            556, // 0xBB »
-            834, // 0xBC ¼
-            834, // 0xBD ½
-            834, // 0xBE ¾
-            500, // 0xBF ¿
-            722, // 0xC0 À
-            722, // 0xC1 Á
-            722, // 0xC2 Â
-            722, // 0xC3 Ã
-            722, // 0xC4 Ä
-            722, // 0xC5 Å
-            944, // 0xC6 Æ
-            611, // 0xC7 Ç
-            556, // 0xC8 È
-            556, // 0xC9 É
-            556, // 0xCA Ê
-            556, // 0xCB Ë
-            278, // 0xCC Ì
-            278, // 0xCD Í
-            278, // 0xCE Î
-            278, // 0xCF Ï
-            722, // 0xD0 Ð
-            722, // 0xD1 Ñ
-            778, // 0xD2 Ò
-            778, // 0xD3 Ó
-            778, // 0xD4 Ô
-            778, // 0xD5 Õ
-            778, // 0xD6 Ö
-            600, // 0xD7 ×
-            778, // 0xD8 Ø
-            722, // 0xD9 Ù
-            722, // 0xDA Ú
-            722, // 0xDB Û
-            722, // 0xDC Ü
-            667, // 0xDD Ý
-            556, // 0xDE Þ
-            611, // 0xDF ß
-            556, // 0xE0 à
-            556, // 0xE1 á
-            556, // 0xE2 â
-            556, // 0xE3 ã
-            556, // 0xE4 ä
-            556, // 0xE5 å
-            889, // 0xE6 æ
-            444, // 0xE7 ç
-            556, // 0xE8 è
-            556, // 0xE9 é
-            556, // 0xEA ê
-            556, // 0xEB ë
-            278, // 0xEC ì
-            278, // 0xED í
-            278, // 0xEE î
-            278, // 0xEF ï
-            611, // 0xF0 ð
-            611, // 0xF1 ñ
-            611, // 0xF2 ò
-            611, // 0xF3 ó
-            611, // 0xF4 ô
-            611, // 0xF5 õ
-            611, // 0xF6 ö
-            600, // 0xF7 ÷
-            611, // 0xF8 ø
-            611, // 0xF9 ù
-            611, // 0xFA ú
-            611, // 0xFB û
-            611, // 0xFC ü
-            556, // 0xFD ý
-            611, // 0xFE þ
-            556, // 0xFF ÿ
-            722, // 0x100 Ā
-            556, // 0x101 ā
-            722, // 0x102 Ă
-            556, // 0x103 ă
-            722, // 0x104 Ą
-            556, // 0x105 ą
-            611, // 0x106 Ć
-            444, // 0x107 ć
-            611, // 0x108 Ĉ
-            444, // 0x109 ĉ
-            611, // 0x10A Ċ
-            444, // 0x10B ċ
-            611, // 0x10C Č
-            444, // 0x10D č
-            722, // 0x10E Ď
-            688, // 0x10F ď
-            722, // 0x110 Đ
-            611, // 0x111 đ
-            556, // 0x112 Ē
-            556, // 0x113 ē
-            556, // 0x114 Ĕ
-            556, // 0x115 ĕ
-            556, // 0x116 Ė
-            556, // 0x117 ė
-            556, // 0x118 Ę
-            556, // 0x119 ę
-            556, // 0x11A Ě
-            556, // 0x11B ě
-            722, // 0x11C Ĝ
-            611, // 0x11D ĝ
-            722, // 0x11E Ğ
-            611, // 0x11F ğ
-            722, // 0x120 Ġ
-            611, // 0x121 ġ
-            722, // 0x122 Ģ
-            611, // 0x123 ģ
-            722, // 0x124 Ĥ
-            611, // 0x125 ĥ
-            722, // 0x126 Ħ
-            611, // 0x127 ħ
-            278, // 0x128 Ĩ
-            278, // 0x129 ĩ
-            278, // 0x12A Ī
-            278, // 0x12B ī
-            512, // 0x12C Ĭ
-            512, // 0x12D ĭ
-            278, // 0x12E Į
-            278, // 0x12F į
-            278, // 0x130 İ
-            278, // 0x131 ı
-            641, // 0x132 Ĳ
-            538, // 0x133 ĳ
-            389, // 0x134 Ĵ
-            278, // 0x135 ĵ
-            667, // 0x136 Ķ
-            556, // 0x137 ķ
-            512, // 0x138 ĸ
-            500, // 0x139 Ĺ
-            278, // 0x13A ĺ
-            500, // 0x13B Ļ
-            278, // 0x13C ļ
-            500, // 0x13D Ľ
-            353, // 0x13E ľ
-            500, // 0x13F Ŀ
-            434, // 0x140 ŀ
-            500, // 0x141 Ł
-            278, // 0x142 ł
-            722, // 0x143 Ń
-            611, // 0x144 ń
-            722, // 0x145 Ņ
-            611, // 0x146 ņ
-            722, // 0x147 Ň
-            611, // 0x148 ň
-            731, // 0x149 ŉ
-            512, // 0x14A Ŋ
-            512, // 0x14B ŋ
-            778, // 0x14C Ō
-            611, // 0x14D ō
-            778, // 0x14E Ŏ
-            611, // 0x14F ŏ
-            778, // 0x150 Ő
-            611, // 0x151 ő
-            944, // 0x152 Œ
-            944, // 0x153 œ
-            611, // 0x154 Ŕ
-            389, // 0x155 ŕ
-            611, // 0x156 Ŗ
-            389, // 0x157 ŗ
-            611, // 0x158 Ř
-            389, // 0x159 ř
-            556, // 0x15A Ś
-            444, // 0x15B ś
-            556, // 0x15C Ŝ
-            444, // 0x15D ŝ
-            556, // 0x15E Ş
-            444, // 0x15F ş
-            556, // 0x160 Š
-            444, // 0x161 š
-            556, // 0x162 Ţ
-            389, // 0x163 ţ
-            556, // 0x164 Ť
-            398, // 0x165 ť
-            556, // 0x166 Ŧ
-            389, // 0x167 ŧ
-            722, // 0x168 Ũ
-            611, // 0x169 ũ
-            722, // 0x16A Ū
-            611, // 0x16B ū
-            722, // 0x16C Ŭ
-            611, // 0x16D ŭ
-            722, // 0x16E Ů
-            611, // 0x16F ů
-            722, // 0x170 Ű
-            611, // 0x171 ű
-            722, // 0x172 Ų
-            611, // 0x173 ų
-            1000, // 0x174 Ŵ
-            889, // 0x175 ŵ
-            667, // 0x176 Ŷ
-            556, // 0x177 ŷ
-            667, // 0x178 Ÿ
-            556, // 0x179 Ź
-            500, // 0x17A ź
-            556, // 0x17B Ż
-            500, // 0x17C ż
-            556, // 0x17D Ž
-            500, // 0x17E ž
-            512  // 0x17F ſ
-    };
-
-    /**
-     * Character widths for Frutiger Bold (range 0x218 to 0x21b)
-     */
-    static final char[] FRUTIGER_BOLD_218_21B = {
-            556, // 0x218 Ș
-            444, // 0x219 ș
-            556, // 0x21A Ț
-            389  // 0x21B ț
-    };
-}
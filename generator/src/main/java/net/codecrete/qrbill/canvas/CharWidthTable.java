@@ -0,0 +1,192 @@
+//
+// Swiss QR Bill Generator
+// Copyright (c) 2026 Manuel Bleichenbacher
+// Licensed under MIT License
+// https://opensource.org/licenses/MIT
+//
+package net.codecrete.qrbill.canvas;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Character widths of a single font (family and weight).
+ * <p>
+ * The widths of the characters 0x0000 to 0x021f are stored in a single dense array
+ * so the width of these characters can be looked up with a single array access.
+ * Characters with a different width than the default width beyond this range
+ * (such as the n-dash and the euro sign) are stored in a small overflow map.
+ * Newlines and carriage returns have a width of 0.
+ * </p>
+ * <p>
+ * Character widths are given in 1/1000 pt for font size 1.
+ * </p>
+ * <p>
+ * The widths are stored in a compact binary resource per font family (see {@code /fonts/widths}).
+ * They are only loaded when a font family is used for the first time. The resources are
+ * generated from readable text sources in the test resources.
+ * </p>
+ */
+final class CharWidthTable {
+
+    /** Number of characters in dense array (0x0000 to 0x021f) */
+    static final int DENSE_SIZE = 0x220;
+
+    static final char NDASH = 0x2013;
+    static final char EURO_SIGN = 0x20AC;
+
+    // font families with a character width resource
+    static final String HELVETICA = "helvetica";
+    static final String ARIAL = "arial";
+    static final String LIBERATION_SANS = "liberation-sans";
+    static final String FRUTIGER = "frutiger";
+
+    /** Number of 16-bit values per font weight in the resource */
+    static final int VALUES_PER_WEIGHT = 3 + 95 + 224 + 4;
+
+    /** Loaded font families (regular and bold widths), by family name */
+    private static final ConcurrentHashMap<String, CharWidthTable[]> LOADED_FAMILIES = new ConcurrentHashMap<>();
+
+    /** Widths of the characters 0x0000 to 0x021f */
+    final short[] denseWidths;
+    /** Characters beyond the dense range with a specific width */
+    private final char[] overflowChars;
+    /** Widths of the characters in {@code overflowChars} */
+    private final short[] overflowWidths;
+    /** Width of all other characters */
+    private final short defaultWidth;
+
+    private CharWidthTable(short[] denseWidths, char[] overflowChars, short[] overflowWidths, short defaultWidth) {
+        this.denseWidths = denseWidths;
+        this.overflowChars = overflowChars;
+        this.overflowWidths = overflowWidths;
+        this.defaultWidth = defaultWidth;
+    }
+
+    /**
+     * Gets the character widths of the specified font.
+     * <p>
+     * The widths of a font family are loaded from a resource on first use.
+     * </p>
+     *
+     * @param family font family (one of the family constants of this class)
+     * @param isBold {@code true} for bold weight, {@code false} for regular weight
+     * @return character widths
+     */
+    static CharWidthTable forFont(String family, boolean isBold) {
+        CharWidthTable[] tables = LOADED_FAMILIES.get(family);
+        if (tables == null) {
+            tables = loadFamily(family);
+            CharWidthTable[] existing = LOADED_FAMILIES.putIfAbsent(family, tables);
+            if (existing != null)
+                tables = existing;
+        }
+        return tables[isBold ? 1 : 0];
+    }
+
+    /**
+     * Loads the character widths of both weights of a font family.
+     * <p>
+     * The resource consists of 16-bit big-endian values, first for regular and then for bold weight.
+     * For each weight, it contains the default width, the width of the n-dash, the width of the
+     * euro sign, and the widths of the characters 0x20 to 0x7e, 0xa0 to 0x17f and 0x218 to 0x21b
+     * (0 for default width).
+     * </p>
+     *
+     * @param family font family
+     * @return array with the regular and bold widths
+     */
+    private static CharWidthTable[] loadFamily(String family) {
+        String resourceName = "/fonts/widths/" + family + ".bin";
+        try (InputStream is = CharWidthTable.class.getResourceAsStream(resourceName)) {
+            if (is == null)
+                throw new IllegalStateException("Resource " + resourceName + " is missing");
+
+            byte[] bytes = new byte[2 * 2 * VALUES_PER_WEIGHT];
+            int length = 0;
+            int n;
+            while (length < bytes.length && (n = is.read(bytes, length, bytes.length - length)) > 0)
+                length += n;
+            if (length < bytes.length || is.read() >= 0)
+                throw new IllegalStateException("Resource " + resourceName + " has an invalid length");
+
+            CharBuffer data = ByteBuffer.wrap(bytes).asCharBuffer();
+            return new CharWidthTable[] { read(data), read(data) };
+
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Indicates if the width of the specified character is stored in the binary form.
+     * <p>
+     * The binary form contains the widths of the characters 0x20 to 0x7e, 0xa0 to 0x17f and 0x218 to 0x21b.
+     * </p>
+     *
+     * @param ch the character
+     * @return {@code true} if the width is stored, {@code false} otherwise
+     */
+    static boolean hasStoredWidth(int ch) {
+        return (ch >= 0x20 && ch <= 0x7e) || (ch >= 0xa0 && ch <= 0x017f) || (ch >= 0x0218 && ch <= 0x021b);
+    }
+
+    /**
+     * Reads the character widths of a single font weight.
+     * <p>
+     * The data consists of {@link #VALUES_PER_WEIGHT} values (see {@link #loadFamily(String)}).
+     * </p>
+     *
+     * @param data character width data, positioned at the start of the font weight
+     * @return created table
+     */
+    static CharWidthTable read(CharBuffer data) {
+        char defaultWidth = data.get();
+        char nDashWidth = data.get();
+        char euroWidth = data.get();
+
+        short[] widths = new short[DENSE_SIZE];
+        for (int ch = 0; ch < DENSE_SIZE; ch++) {
+            char width = 0;
+            // ranges are stored in ascending order
+            if (hasStoredWidth(ch))
+                width = data.get();
+
+            if (width == 0 && ch != '\n' && ch != '\r')
+                width = defaultWidth;
+            widths[ch] = (short) width;
+        }
+
+        char[] overflowChars = { NDASH, EURO_SIGN };
+        short[] overflowWidths = { (short) nDashWidth, (short) euroWidth };
+        return new CharWidthTable(widths, overflowChars, overflowWidths, (short) defaultWidth);
+    }
+
+    /**
+     * Gets the width of the specified character.
+     *
+     * @param ch the character
+     * @return the width (in 1/1000 pt for font size 1)
+     */
+    int getWidth(char ch) {
+        return ch < DENSE_SIZE ? denseWidths[ch] : getOverflowWidth(ch);
+    }
+
+    /**
+     * Gets the width of a character beyond the dense range.
+     *
+     * @param ch the character
+     * @return the width (in 1/1000 pt for font size 1)
+     */
+    int getOverflowWidth(char ch) {
+        for (int i = 0; i < overflowChars.length; i++) {
+            if (overflowChars[i] == ch)
+                return overflowWidths[i];
+        }
+        return defaultWidth;
+    }
+}
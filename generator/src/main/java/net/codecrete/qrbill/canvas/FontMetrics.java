@@ -6,8 +6,10 @@
 //
 package net.codecrete.qrbill.canvas;
 
-import java.util.ArrayList;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Simple font metrics class, independent of graphics subsystems and
@@ -15,24 +17,57 @@ import java.util.Locale;
  *
  * <p>
  * It supports Helvetica, Arial, Frutiger, Liberation Sans. Kerning and ligatures are not supported.
+ * Alternatively, the character widths can be taken from TrueType fonts
+ * (see {@link #forTrueTypeFonts(String, Path, Path, Path)}).
+ * </p>
+ * <p>
+ * Instances are immutable and thread-safe. Use {@link #getInstance(String)} to get a shared instance.
  * </p>
  */
 public class FontMetrics {
 
     private static final double PT_TO_MM = 25.4 / 72;
 
+    /** Maximum number of font family lists in the registry of shared instances */
+    private static final int MAX_SHARED_INSTANCES = 64;
+
+    /** Registry of shared instances, by font family list */
+    private static final ConcurrentHashMap<String, FontMetrics> SHARED_INSTANCES = new ConcurrentHashMap<>();
+
     private final String fontFamilyList;
     private final String firstFontFamily;
-    private final char[] charWidthx20x7E;
-    private final char[] charWidthxA0x17F;
-    private final char[] charWidthx218x21B;
-    private final char charDefaultWidth;
-    private final char charNDashWidth;
-    private final char charEuroWidth;
-    private final FontMetrics boldMetrics;
+    private final CharWidthTable regularWidths;
+    private final CharWidthTable boldWidths;
+
+    /**
+     * Gets a shared instance for the first supported font in the specified list.
+     * <p>
+     * The instance is created on first use and then reused for the same font family list.
+     * </p>
+     *
+     * @param fontFamilyList list of font families
+     * @return font metrics
+     */
+    public static FontMetrics getInstance(String fontFamilyList) {
+        FontMetrics metrics = SHARED_INSTANCES.get(fontFamilyList);
+        if (metrics != null)
+            return metrics;
+
+        metrics = new FontMetrics(fontFamilyList);
+        // limit the registry size in case of an unusual number of different font family lists
+        if (SHARED_INSTANCES.size() < MAX_SHARED_INSTANCES) {
+            FontMetrics existing = SHARED_INSTANCES.putIfAbsent(fontFamilyList, metrics);
+            if (existing != null)
+                metrics = existing;
+        }
+        return metrics;
+    }
 
     /**
      * Creates a new instance for the first supported font in the specified list.
+     * <p>
+     * Consider using the shared instance returned by {@link #getInstance(String)} instead.
+     * </p>
      *
      * @param fontFamilyList list of font families
      */
@@ -41,80 +76,46 @@ public class FontMetrics {
         firstFontFamily = getFirstFontFamily(fontFamilyList);
         String family = firstFontFamily.toLowerCase(Locale.US);
 
-        final char[] boldCharWidthx20x7F;
-        final char[] boldCharWidthxA0x17F;
-        final char[] boldCharWidthx218x21B;
-        final char boldCharDefaultWidth;
-        final char boldCharNDashWidth;
-        final char boldCharEuroWidth;
-
-        if (family.contains("arial")) {
-            charWidthx20x7E = CharWidthData.ARIAL_NORMAL_20_7E;
-            charWidthxA0x17F = CharWidthData.ARIAL_NORMAL_A0_17F;
-            charWidthx218x21B = CharWidthData.ARIAL_NORMAL_218_21B;
-            charDefaultWidth = CharWidthData.ARIAL_NORMAL_DEFAULT_WIDTH;
-            charNDashWidth = CharWidthData.ARIAL_NORMAL_NDASH_WIDTH;
-            charEuroWidth = CharWidthData.ARIAL_NORMAL_EURO_WIDTH;
-            boldCharWidthx20x7F = CharWidthData.ARIAL_BOLD_20_7E;
-            boldCharWidthxA0x17F = CharWidthData.ARIAL_BOLD_A0_17F;
-            boldCharWidthx218x21B = CharWidthData.ARIAL_BOLD_218_21B;
-            boldCharDefaultWidth = CharWidthData.ARIAL_BOLD_DEFAULT_WIDTH;
-            boldCharNDashWidth = CharWidthData.ARIAL_BOLD_NDASH_WIDTH;
-            boldCharEuroWidth = CharWidthData.ARIAL_BOLD_EURO_WIDTH;
-        } else if (family.contains("liberation") && family.contains("sans")) {
-            charWidthx20x7E = CharWidthData.LIBERATION_SANS_NORMAL_20_7E;
-            charWidthxA0x17F = CharWidthData.LIBERATION_SANS_NORMAL_A0_17F;
-            charWidthx218x21B = CharWidthData.LIBERATION_SANS_NORMAL_218_21B;
-            charDefaultWidth = CharWidthData.LIBERATION_SANS_NORMAL_DEFAULT_WIDTH;
-            charNDashWidth = CharWidthData.LIBERATION_SANS_NORMAL_NDASH_WIDTH;
-            charEuroWidth = CharWidthData.LIBERATION_SANS_NORMAL_EURO_WIDTH;
-            boldCharWidthx20x7F = CharWidthData.LIBERATION_SANS_BOLD_20_7E;
-            boldCharWidthxA0x17F = CharWidthData.LIBERATION_SANS_BOLD_A0_17F;
-            boldCharWidthx218x21B = CharWidthData.LIBERATION_SANS_BOLD_218_21B;
-            boldCharDefaultWidth = CharWidthData.LIBERATION_SANS_BOLD_DEFAULT_WIDTH;
-            boldCharNDashWidth = CharWidthData.LIBERATION_SANS_BOLD_NDASH_WIDTH;
-            boldCharEuroWidth = CharWidthData.LIBERATION_SANS_BOLD_EURO_WIDTH;
-        } else if (family.contains("frutiger")) {
-            charWidthx20x7E = CharWidthData.FRUTIGER_NORMAL_20_7E;
-            charWidthxA0x17F = CharWidthData.FRUTIGER_NORMAL_A0_17F;
-            charWidthx218x21B = CharWidthData.FRUTIGER_NORMAL_218_21B;
-            charDefaultWidth = CharWidthData.FRUTIGER_NORMAL_DEFAULT_WIDTH;
-            charNDashWidth = CharWidthData.FRUTIGER_NORMAL_NDASH_WIDTH;
-            charEuroWidth = CharWidthData.FRUTIGER_NORMAL_EURO_WIDTH;
-            boldCharWidthx20x7F = CharWidthData.FRUTIGER_BOLD_20_7E;
-            boldCharWidthxA0x17F = CharWidthData.FRUTIGER_BOLD_A0_17F;
-            boldCharWidthx218x21B = CharWidthData.FRUTIGER_BOLD_218_21B;
-            boldCharDefaultWidth = CharWidthData.FRUTIGER_BOLD_DEFAULT_WIDTH;
-            boldCharNDashWidth = CharWidthData.FRUTIGER_BOLD_NDASH_WIDTH;
-            boldCharEuroWidth = CharWidthData.FRUTIGER_BOLD_EURO_WIDTH;
-        } else {
-            charWidthx20x7E = CharWidthData.HELVETICA_NORMAL_20_7E;
-            charWidthxA0x17F = CharWidthData.HELVETICA_NORMAL_A0_17F;
-            charWidthx218x21B = CharWidthData.HELVETICA_NORMAL_218_21B;
-            charDefaultWidth = CharWidthData.HELVETICA_NORMAL_DEFAULT_WIDTH;
-            charNDashWidth = CharWidthData.HELVETICA_NORMAL_NDASH_WIDTH;
-            charEuroWidth = CharWidthData.HELVETICA_NORMAL_EURO_WIDTH;
-            boldCharWidthx20x7F = CharWidthData.HELVETICA_BOLD_20_7E;
-            boldCharWidthxA0x17F = CharWidthData.HELVETICA_BOLD_A0_17F;
-            boldCharWidthx218x21B = CharWidthData.HELVETICA_BOLD_218_21B;
-            boldCharDefaultWidth = CharWidthData.HELVETICA_BOLD_DEFAULT_WIDTH;
-            boldCharNDashWidth = CharWidthData.HELVETICA_BOLD_NDASH_WIDTH;
-            boldCharEuroWidth = CharWidthData.HELVETICA_BOLD_EURO_WIDTH;
-        }
+        String widthFamily;
+        if (family.contains("arial"))
+            widthFamily = CharWidthTable.ARIAL;
+        else if (family.contains("liberation") && family.contains("sans"))
+            widthFamily = CharWidthTable.LIBERATION_SANS;
+        else if (family.contains("frutiger"))
+            widthFamily = CharWidthTable.FRUTIGER;
+        else
+            widthFamily = CharWidthTable.HELVETICA;
+
+        regularWidths = CharWidthTable.forFont(widthFamily, false);
+        boldWidths = CharWidthTable.forFont(widthFamily, true);
+    }
 
-        boldMetrics = new FontMetrics(boldCharWidthx20x7F, boldCharWidthxA0x17F, boldCharWidthx218x21B, boldCharDefaultWidth, boldCharNDashWidth, boldCharEuroWidth);
+    /**
+     * Creates a new instance with the character widths of the specified TrueType fonts.
+     * <p>
+     * The advance widths are extracted from the fonts and cached per font path and content hash.
+     * If a cache directory is specified, the extracted widths are also persisted in it
+     * and reused by later processes.
+     * </p>
+     *
+     * @param fontFamily      font family name
+     * @param regularFontPath path to the regular font face in TrueType format
+     * @param boldFontPath    path to the bold font face in TrueType format
+     * @param cacheDirectory  directory for persisting the extracted widths, or {@code null}
+     * @return font metrics
+     * @throws IOException thrown if a font cannot be read or parsed
+     */
+    public static FontMetrics forTrueTypeFonts(String fontFamily, Path regularFontPath, Path boldFontPath,
+                                               Path cacheDirectory) throws IOException {
+        return new FontMetrics(fontFamily, TrueTypeCharWidths.getTable(regularFontPath, cacheDirectory),
+                TrueTypeCharWidths.getTable(boldFontPath, cacheDirectory));
     }
 
-    private FontMetrics(char[] charWidthx20x7E, char[] charWidthxA0x17F, char[] charWidthx218x21B, char charDefaultWidth, char charNDashWidth, char charEuroWidth) {
-        fontFamilyList = null;
-        firstFontFamily = null;
-        this.charWidthx20x7E = charWidthx20x7E;
-        this.charWidthxA0x17F = charWidthxA0x17F;
-        this.charWidthx218x21B = charWidthx218x21B;
-        this.charDefaultWidth = charDefaultWidth;
-        this.charNDashWidth = charNDashWidth;
-        this.charEuroWidth = charEuroWidth;
-        this.boldMetrics = null;
+    private FontMetrics(String fontFamilyList, CharWidthTable regularWidths, CharWidthTable boldWidths) {
+        this.fontFamilyList = fontFamilyList;
+        firstFontFamily = getFirstFontFamily(fontFamilyList);
+        this.regularWidths = regularWidths;
+        this.boldWidths = boldWidths;
     }
 
     /**
@@ -178,111 +179,31 @@ public class FontMetrics {
      * @param fontSize  the font size (in pt)
      * @return an array of text lines
      */
-    @SuppressWarnings("java:S3776")
     public String[] splitLines(String text, double maxLength, int fontSize) {
-
-        /* Yes, this code has a cognitive complexity of 37. Deal with it. */
-
-        ArrayList<String> lines = new ArrayList<>();
-        int max = (int) (maxLength * 1000 / fontSize);
-
-        int len = text.length(); // length of line
-        int pos = 0; // current position (0 ..< end)
-        int lineStartPos = 0; // start position of current line
-        int lineWidth = 0; // current line width (in AFM metric)
-        boolean addEmptyLine = true; // flag if an empty line should be added as the last line
-
-        // iterate over all characters
-        while (pos < len) {
-
-            // get current character
-            char ch = text.charAt(pos);
-
-            // skip leading white space at start of current line
-            if (ch == ' ' && pos == lineStartPos) {
-                lineStartPos++;
-                pos++;
-                continue;
-            }
-
-            // add width of character
-            lineWidth += getCharWidth(ch);
-            addEmptyLine = false;
-
-            // line break is need if the maximum width has been reached
-            // or if an explicit line break has been encountered
-            if (ch == '\n' || lineWidth > max) {
-
-                // find the position for the line break
-                int breakPos;
-                if (ch == '\n') {
-                    breakPos = pos;
-
-                } else {
-                    // locate the previous space on the line
-                    int spacePos = pos - 1;
-                    while (spacePos > lineStartPos) {
-                        if (text.charAt(spacePos) == ' ')
-                            break;
-                        spacePos--;
-                    }
-
-                    // if space was found, it's the break position
-                    if (spacePos > lineStartPos) {
-                        breakPos = spacePos;
-
-                    } else {
-                        // if no space was found, forcibly break word
-                        if (pos > lineStartPos)
-                            breakPos = pos;
-                        else
-                            breakPos = lineStartPos + 1; // at least one character
-                    }
-                }
-
-                // add line to result
-                addResultLine(lines, text, lineStartPos, breakPos);
-
-                // setup start of new line
-                lineStartPos = breakPos;
-                if (ch == '\n') {
-                    lineStartPos = breakPos + 1;
-                    addEmptyLine = true;
-                }
-                pos = lineStartPos;
-                lineWidth = 0;
-
-            } else {
-                // no line break needed; progress one character
-                pos++;
-            }
-        }
-
-        // complete the last line
-        if (pos > lineStartPos) {
-            addResultLine(lines, text, lineStartPos, pos);
-        } else if (addEmptyLine) {
-            lines.add("");
-        }
-
-        return lines.toArray(new String[0]);
+        return measureText(text).splitLines(maxLength, fontSize);
     }
 
     /**
-     * Add the specified text range to the resulting lines.
+     * Measures the characters of the specified text.
      * <p>
-     * Trim trailing white space
+     * The result can be split into lines for several font sizes and maximum
+     * line lengths without measuring the text again.
      * </p>
      *
-     * @param lines resulting lines array
-     * @param text  text
-     * @param start start of text range (including)
-     * @param end   end of text range (excluding)
+     * @param text the text
+     * @return the measured text
      */
-    private static void addResultLine(ArrayList<String> lines, String text, int start, int end) {
-        while (end > start && text.charAt(end - 1) == ' ')
-            end--;
-        lines.add(text.substring(start, end));
+    public MeasuredText measureText(String text) {
+        short[] denseWidths = regularWidths.denseWidths;
+        int len = text.length();
+        int[] cumulativeWidths = new int[len + 1];
+        int width = 0;
+        for (int i = 0; i < len; i++) {
+            char ch = text.charAt(i);
+            width += ch < CharWidthTable.DENSE_SIZE ? denseWidths[ch] : regularWidths.getOverflowWidth(ch);
+            cumulativeWidths[i + 1] = width;
+        }
+        return new MeasuredText(text, cumulativeWidths);
     }
 
     /**
@@ -294,49 +215,17 @@ public class FontMetrics {
      * @return width (in mm)
      */
     public double getTextWidth(CharSequence text, int fontSize, boolean isBold) {
-        if (isBold)
-            return boldMetrics.getTextWidth(text, fontSize, false);
+        CharWidthTable widths = isBold ? boldWidths : regularWidths;
+        short[] denseWidths = widths.denseWidths;
 
-        double width = 0;
+        // sum up integer widths (in 1/1000 pt for font size 1)
+        int width = 0;
         int len = text.length();
-        for (int i = 0; i < len; i++)
-            width += getCharWidth(text.charAt(i));
-        return width * fontSize / 1000 * PT_TO_MM;
-    }
-
-    /**
-     * Returns the width of the specified character.
-     * <p>
-     * The width is given in 0.0001 pt for a font size of 1 pt. So to get the
-     * effective width in pt (1/72 in), it must be multiplied with the font size and
-     * divided by 1000.
-     * </p>
-     * <p>
-     * The method only supports characters as defined in "Swiss Implementation
-     * Guidelines for Credit Transfer Initiation". For all other characters, a
-     * default width is returned.
-     * </p>
-     *
-     * @param ch the character
-     * @return the width of the character
-     */
-    private char getCharWidth(char ch) {
-        char width = 0;
-        if (ch >= 0x20 && ch <= 0x7e)
-            width = charWidthx20x7E[ch - 0x20];
-        else if (ch >= 0xa0 && ch <= 0x017f) {
-            width = charWidthxA0x17F[ch - 0xa0];
-        } else if (ch >= 0x0218 && ch <= 0x021b) {
-                width = charWidthx218x21B[ch - 0x0218];
-        } else if (ch == 0x2013) {
-            width = charNDashWidth;
-        } else if (ch == 0x20AC) {
-            width = charEuroWidth;
+        for (int i = 0; i < len; i++) {
+            char ch = text.charAt(i);
+            width += ch < CharWidthTable.DENSE_SIZE ? denseWidths[ch] : widths.getOverflowWidth(ch);
         }
-
-        if (width == 0 && ch != '\n' && ch != '\r')
-            width = charDefaultWidth;
-        return width;
+        return (double) width * fontSize / 1000 * PT_TO_MM;
     }
 
     private static String getFirstFontFamily(String fontFamilyList) {
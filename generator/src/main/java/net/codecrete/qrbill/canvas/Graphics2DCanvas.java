@@ -12,6 +12,7 @@ import java.awt.geom.Path2D;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -113,12 +114,25 @@ public class Graphics2DCanvas extends AbstractCanvas {
      * Find the first family that's actually installed.
      * <p>
      * If none of the specified font families is installed, the input parameter is returned unchanged.
+     * The result is cached as the installed fonts are not expected to change while the application is running.
      * </p>
      *
      * @param fontFamilyList list of font families, separated by commas
      * @return the font family name of the first installed font
      */
-    private String findFontFamily(String fontFamilyList) {
+    private static String findFontFamily(String fontFamilyList) {
+        String fontFamily = INSTALLED_FONT_FAMILIES.get(fontFamilyList);
+        if (fontFamily != null)
+            return fontFamily;
+
+        fontFamily = lookupFontFamily(fontFamilyList);
+        // limit the cache size in case of an unusual number of different font family lists
+        if (INSTALLED_FONT_FAMILIES.size() < MAX_CACHED_FONT_FAMILIES)
+            INSTALLED_FONT_FAMILIES.putIfAbsent(fontFamilyList, fontFamily);
+        return fontFamily;
+    }
+
+    private static String lookupFontFamily(String fontFamilyList) {
         for (String family : splitCommaSeparated(fontFamilyList)) {
             Font font = new Font(family, Font.PLAIN, 12);
             if (font.getFamily().toLowerCase(Locale.US).contains(family.toLowerCase(Locale.US)))
@@ -127,6 +141,12 @@ public class Graphics2DCanvas extends AbstractCanvas {
         return fontFamilyList;
     }
 
+    /** Maximum number of font family lists in the cache of installed font families */
+    private static final int MAX_CACHED_FONT_FAMILIES = 64;
+
+    /** First installed font family, by font family list */
+    private static final ConcurrentHashMap<String, String> INSTALLED_FONT_FAMILIES = new ConcurrentHashMap<>();
+
     private static final Pattern QUOTED_SPLITTER = Pattern.compile("(?:^|,)(\"[^\"]+\"|[^,]*)");
 
     /**
@@ -169,12 +189,76 @@ public class Graphics2DCanvas extends AbstractCanvas {
     public void putText(String text, double x, double y, int fontSize, boolean isBold) {
         x *= coordinateScale;
         y *= -coordinateScale;
-        graphics.setColor(new Color(0));
-        Font font = new Font(fontMetrics.getFirstFontFamily(), isBold ? Font.BOLD : Font.PLAIN, (int) (fontSize * fontScale + 0.5));
+        graphics.setColor(BLACK);
+        Font font = getFont(fontMetrics.getFirstFontFamily(), isBold, (int) (fontSize * fontScale + 0.5));
         graphics.setFont(font);
         graphics.drawString(text, (float) x, (float) y);
     }
 
+    /**
+     * Gets the font for the specified family, weight and size.
+     * <p>
+     * The fonts are cached and shared between all canvases as {@link Font} instances are immutable.
+     * </p>
+     *
+     * @param fontFamily font family
+     * @param isBold     {@code true} for bold weight, {@code false} for regular weight
+     * @param size       font size (in the drawing surface coordinate system)
+     * @return font
+     */
+    static Font getFont(String fontFamily, boolean isBold, int size) {
+        FontKey key = new FontKey(fontFamily, isBold, size);
+        Font font = FONTS.get(key);
+        if (font != null)
+            return font;
+
+        font = new Font(fontFamily, isBold ? Font.BOLD : Font.PLAIN, size);
+        // limit the cache size in case of an unusual number of different fonts
+        if (FONTS.size() < MAX_CACHED_FONTS)
+            FONTS.putIfAbsent(key, font);
+        return font;
+    }
+
+    private static Color getColor(int color) {
+        return color == 0 ? BLACK : new Color(color);
+    }
+
+    /** Maximum number of fonts in the font cache */
+    private static final int MAX_CACHED_FONTS = 64;
+
+    private static final Color BLACK = new Color(0);
+
+    /** Fonts, by family, weight and size */
+    private static final ConcurrentHashMap<FontKey, Font> FONTS = new ConcurrentHashMap<>();
+
+    /**
+     * Key of the font cache (font family, weight and size).
+     */
+    private static final class FontKey {
+        private final String fontFamily;
+        private final boolean isBold;
+        private final int size;
+
+        FontKey(String fontFamily, boolean isBold, int size) {
+            this.fontFamily = fontFamily;
+            this.isBold = isBold;
+            this.size = size;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            FontKey that = (FontKey) o;
+            return isBold == that.isBold && size == that.size && fontFamily.equals(that.fontFamily);
+        }
+
+        @Override
+        public int hashCode() {
+            return (fontFamily.hashCode() * 31 + size) * 2 + (isBold ? 1 : 0);
+        }
+    }
+
     @Override
     public void startPath() {
         currentPath = new Path2D.Double(Path2D.WIND_NON_ZERO);
@@ -207,6 +291,16 @@ public class Graphics2DCanvas extends AbstractCanvas {
 
     @Override
     public void addRectangle(double x, double y, double width, double height) {
+        appendRectangle(x, y, width, height);
+    }
+
+    @Override
+    public void addRectangles(double[] xywh, int count) {
+        for (int i = 0; i < count * 4; i += 4)
+            appendRectangle(xywh[i], xywh[i + 1], xywh[i + 2], xywh[i + 3]);
+    }
+
+    private void appendRectangle(double x, double y, double width, double height) {
         x *= coordinateScale;
         y *= -coordinateScale;
         width *= coordinateScale;
@@ -229,7 +323,7 @@ public class Graphics2DCanvas extends AbstractCanvas {
             graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_OFF);
             graphics.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_NORMALIZE);
         }
-        graphics.setColor(new Color(color));
+        graphics.setColor(getColor(color));
         graphics.fill(currentPath);
         if (!smoothing) {
             graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
@@ -239,7 +333,7 @@ public class Graphics2DCanvas extends AbstractCanvas {
 
     @Override
     public void strokePath(double strokeWidth, int color, LineStyle lineStyle, boolean smoothing) {
-        graphics.setColor(new Color(color));
+        graphics.setColor(getColor(color));
         BasicStroke stroke;
         switch (lineStyle) {
             case Dashed:
@@ -0,0 +1,241 @@
+//
+// Swiss QR Bill Generator
+// Copyright (c) 2026 Manuel Bleichenbacher
+// Licensed under MIT License
+// https://opensource.org/licenses/MIT
+//
+package net.codecrete.qrbill.canvas;
+
+/**
+ * Text with precomputed character widths.
+ * <p>
+ * The characters are measured once when the instance is created, and the cumulative widths
+ * are stored. Thereafter, the text can be split into lines for different font sizes and
+ * maximum line lengths without measuring it again. The line breaks are found by binary search
+ * in the cumulative widths, and the lines are returned as offsets into the text. Counting the lines
+ * does not allocate any memory at all.
+ * </p>
+ * <p>
+ * Instances are created with {@link FontMetrics#measureText(String)} or, by canvases measuring
+ * the text themselves, with {@link #of(String, int[])}.
+ * </p>
+ */
+public class MeasuredText {
+
+    private final String text;
+    /** Cumulative character widths: element <i>i</i> is the width of the first <i>i</i> characters
+     * (for a font size of 1 pt, in 0.001 pt) */
+    private final int[] cumulativeWidths;
+
+    MeasuredText(String text, int[] cumulativeWidths) {
+        this.text = text;
+        this.cumulativeWidths = cumulativeWidths;
+    }
+
+    /**
+     * Creates a measured text from the cumulative widths of its characters.
+     * <p>
+     * Element <i>i</i> of the cumulative widths is the width of the first <i>i</i> characters
+     * of the text, for a font size of 1 pt and in units of 0.001 pt. So the first element
+     * is 0, and the array has one element more than the text has characters.
+     * Line breaks and carriage returns should have a width of 0.
+     * </p>
+     *
+     * @param text             the text
+     * @param cumulativeWidths the cumulative character widths (array is not copied)
+     * @return the measured text
+     * @throws IllegalArgumentException if the array length does not match the text length
+     */
+    public static MeasuredText of(String text, int[] cumulativeWidths) {
+        if (cumulativeWidths.length != text.length() + 1)
+            throw new IllegalArgumentException("cumulativeWidths must have text.length() + 1 elements");
+        return new MeasuredText(text, cumulativeWidths);
+    }
+
+    /**
+     * Gets the text.
+     *
+     * @return the text
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Splits the text into lines.
+     * <p>
+     * If a line would exceed the specified maximum length, line breaks are
+     * inserted. Newlines are treated as fixed line breaks.
+     * </p>
+     *
+     * @param maxLength the maximum line length (in pt)
+     * @param fontSize  the font size (in pt)
+     * @return an array of text lines
+     */
+    public String[] splitLines(double maxLength, int fontSize) {
+        return getLines(getLineRanges(maxLength, fontSize));
+    }
+
+    /**
+     * Splits the text into lines and returns them as ranges of the text.
+     * <p>
+     * The result contains two elements per line: the start offset (inclusive) and the
+     * end offset (exclusive). Trailing white space is not included.
+     * The lines are the same as the ones returned by {@link #splitLines(double, int)}.
+     * </p>
+     *
+     * @param maxLength the maximum line length (in pt)
+     * @param fontSize  the font size (in pt)
+     * @return array of line ranges
+     */
+    public int[] getLineRanges(double maxLength, int fontSize) {
+        int[] lineRanges = new int[2 * countLines(maxLength, fontSize)];
+        breakLines(maxLength, fontSize, lineRanges);
+        return lineRanges;
+    }
+
+    /**
+     * Counts the lines resulting from splitting the text.
+     * <p>
+     * The result is the same as the length of the array returned by {@link #splitLines(double, int)}.
+     * </p>
+     *
+     * @param maxLength the maximum line length (in pt)
+     * @param fontSize  the font size (in pt)
+     * @return the number of lines
+     */
+    public int countLines(double maxLength, int fontSize) {
+        return breakLines(maxLength, fontSize, null);
+    }
+
+    /**
+     * Gets the lines of the specified line ranges as strings.
+     *
+     * @param lineRanges line ranges, as returned by {@link #getLineRanges(double, int)}
+     * @return array of text lines
+     */
+    public String[] getLines(int[] lineRanges) {
+        String[] lines = new String[lineRanges.length / 2];
+        for (int i = 0; i < lines.length; i++)
+            lines[i] = text.substring(lineRanges[2 * i], lineRanges[2 * i + 1]);
+        return lines;
+    }
+
+    /**
+     * Breaks the text into lines.
+     * <p>
+     * A line ends at the first newline, or before the first character exceeding
+     * the maximum length. In the latter case, the line is broken at the last space
+     * if there is one; otherwise the word is broken.
+     * </p>
+     *
+     * @param maxLength  the maximum line length (in pt)
+     * @param fontSize   the font size (in pt)
+     * @param lineRanges array the line ranges are stored in, or {@code null} if only the lines should be counted
+     * @return the number of lines
+     */
+    private int breakLines(double maxLength, int fontSize, int[] lineRanges) {
+
+        int max = (int) (maxLength * 1000 / fontSize);
+        int len = text.length();
+        int numLines = 0;
+        int lineStartPos = 0; // start position of current line
+        boolean addEmptyLine = true; // flag if an empty line should be added as the last line
+
+        while (true) {
+            // skip leading white space at start of current line
+            while (lineStartPos < len && text.charAt(lineStartPos) == ' ')
+                lineStartPos++;
+            if (lineStartPos == len)
+                break;
+            addEmptyLine = false;
+
+            int newlinePos = text.indexOf('\n', lineStartPos);
+            if (newlinePos < 0)
+                newlinePos = len;
+            int overflowPos = findOverflowPosition(lineStartPos, newlinePos, max);
+
+            if (overflowPos < newlinePos) {
+                // line is too long: locate the previous space on the line
+                int spacePos = overflowPos - 1;
+                while (spacePos > lineStartPos && text.charAt(spacePos) != ' ')
+                    spacePos--;
+
+                int breakPos;
+                if (spacePos > lineStartPos)
+                    breakPos = spacePos;
+                else if (overflowPos > lineStartPos)
+                    breakPos = overflowPos; // no space found, forcibly break word
+                else
+                    breakPos = lineStartPos + 1; // at least one character
+
+                numLines = addLine(lineRanges, numLines, lineStartPos, breakPos);
+                lineStartPos = breakPos;
+
+            } else if (newlinePos < len) {
+                // explicit line break
+                numLines = addLine(lineRanges, numLines, lineStartPos, newlinePos);
+                lineStartPos = newlinePos + 1;
+                addEmptyLine = true;
+
+            } else {
+                // last line
+                numLines = addLine(lineRanges, numLines, lineStartPos, len);
+                break;
+            }
+        }
+
+        if (addEmptyLine)
+            numLines = addLine(lineRanges, numLines, len, len);
+
+        return numLines;
+    }
+
+    /**
+     * Finds the first character that no longer fits on the line.
+     *
+     * @param start start of line
+     * @param end   end of range to search
+     * @param max   maximum line width
+     * @return position of the first character exceeding the maximum width, or {@code end} if all characters fit
+     */
+    private int findOverflowPosition(int start, int end, int max) {
+        // smallest index in (start, end] with cumulative width exceeding the limit
+        long limit = (long) cumulativeWidths[start] + max;
+        if (cumulativeWidths[end] <= limit)
+            return end;
+
+        int low = start + 1;
+        int high = end;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cumulativeWidths[mid] > limit)
+                high = mid;
+            else
+                low = mid + 1;
+        }
+        return low - 1;
+    }
+
+    /**
+     * Adds the specified text range to the line ranges (if not {@code null}).
+     * <p>
+     * Trailing white space is trimmed.
+     * </p>
+     *
+     * @param lineRanges line ranges array, or {@code null}
+     * @param numLines   number of lines already added
+     * @param start      start of text range (including)
+     * @param end        end of text range (excluding)
+     * @return the new number of lines
+     */
+    private int addLine(int[] lineRanges, int numLines, int start, int end) {
+        if (lineRanges != null) {
+            while (end > start && text.charAt(end - 1) == ' ')
+                end--;
+            lineRanges[2 * numLines] = start;
+            lineRanges[2 * numLines + 1] = end;
+        }
+        return numLines + 1;
+    }
+}
@@ -349,6 +349,8 @@ public class PDFCanvas extends AbstractCanvas implements ByteArrayResult {
                 boldFont = PDType0Font.load(doc, PDFCanvas.class.getResource("/fonts/LiberationSans-Bold.ttf").openStream());
                 break;
             case EMBEDDED_CUSTOM:
+                fontMetrics = FontMetrics.forTrueTypeFonts(fontSettings.getFontFamily(), fontSettings.getRegularFontPath(),
+                        fontSettings.getBoldFontPath(), fontSettings.getMetricsCacheDirectory());
                 regularFont = PDType0Font.load(doc, Files.newInputStream(fontSettings.getRegularFontPath()));
                 boldFont = PDType0Font.load(doc, Files.newInputStream(fontSettings.getBoldFontPath()));
                 break;
@@ -36,12 +36,15 @@ public class PDFFontSettings {
     private final String fontFamily;
     private final Path regularFontPath;
     private final Path boldFontPath;
+    private final Path metricsCacheDirectory;
 
-    private PDFFontSettings(FontEmbedding fontEmbedding, String fontFamily, Path regularFontPath, Path boldFontPath) {
+    private PDFFontSettings(FontEmbedding fontEmbedding, String fontFamily, Path regularFontPath, Path boldFontPath,
+                            Path metricsCacheDirectory) {
         this.fontEmbedding = fontEmbedding;
         this.fontFamily = fontFamily;
         this.regularFontPath = regularFontPath;
         this.boldFontPath = boldFontPath;
+        this.metricsCacheDirectory = metricsCacheDirectory;
     }
 
     /**
@@ -49,7 +52,7 @@ public class PDFFontSettings {
      * @return font settings instance
      */
     public static PDFFontSettings standardHelvetica() {
-        return new PDFFontSettings(FontEmbedding.STANDARD_HELVETICA, "Helvetica", null, null);
+        return new PDFFontSettings(FontEmbedding.STANDARD_HELVETICA, "Helvetica", null, null, null);
     }
 
     /**
@@ -57,13 +60,14 @@ public class PDFFontSettings {
      * @return font settings instance
      */
     public static PDFFontSettings embeddedLiberationSans() {
-        return new PDFFontSettings(FontEmbedding.EMBEDDED_LIBERATION_SANS, "Liberation Sans", null, null);
+        return new PDFFontSettings(FontEmbedding.EMBEDDED_LIBERATION_SANS, "Liberation Sans", null, null, null);
     }
 
     /**
      * Creates a font settings instance for a custom font.
      * <p>
-     * The font family name is used to determine what font information to use for calculating line breaks.
+     * The character widths for calculating line breaks are extracted from the font files.
+     * They are cached in memory.
      * </p>
      * @param fontFamily font family name
      * @param regularFontPath path to the regular font face in TrueType format
@@ -71,7 +75,26 @@ public class PDFFontSettings {
      * @return font settings instance
      */
     public static PDFFontSettings embeddedCustomFont(String fontFamily, Path regularFontPath, Path boldFontPath) {
-        return new PDFFontSettings(FontEmbedding.EMBEDDED_CUSTOM, fontFamily, regularFontPath, boldFontPath);
+        return embeddedCustomFont(fontFamily, regularFontPath, boldFontPath, null);
+    }
+
+    /**
+     * Creates a font settings instance for a custom font, with a persistent cache for the font metrics.
+     * <p>
+     * The character widths for calculating line breaks are extracted from the font files.
+     * They are cached in memory and persisted in the specified directory, so later
+     * processes can reuse them without parsing the fonts again.
+     * </p>
+     * @param fontFamily font family name
+     * @param regularFontPath path to the regular font face in TrueType format
+     * @param boldFontPath path to the bold font face in TrueType format
+     * @param metricsCacheDirectory directory for persisting the font metrics, or {@code null}
+     * @return font settings instance
+     */
+    public static PDFFontSettings embeddedCustomFont(String fontFamily, Path regularFontPath, Path boldFontPath,
+                                                     Path metricsCacheDirectory) {
+        return new PDFFontSettings(FontEmbedding.EMBEDDED_CUSTOM, fontFamily, regularFontPath, boldFontPath,
+                metricsCacheDirectory);
     }
 
     /**
@@ -83,7 +106,10 @@ public class PDFFontSettings {
     }
 
     /**
-     * Gets the font family name relevant for calculating line breaks.
+     * Gets the font family name.
+     * <p>
+     * Except for custom fonts, it is relevant for calculating line breaks.
+     * </p>
      * @return font family name
      */
     public String getFontFamily() {
@@ -106,6 +132,14 @@ public class PDFFontSettings {
         return boldFontPath;
     }
 
+    /**
+     * Gets the directory for persisting the font metrics of custom fonts.
+     * @return directory path, or {@code null} if the font metrics are only cached in memory
+     */
+    public Path getMetricsCacheDirectory() {
+        return metricsCacheDirectory;
+    }
+
     /**
      * Font embedding options.
      */
@@ -6,21 +6,17 @@
 //
 package net.codecrete.qrbill.canvas;
 
-import net.codecrete.qrbill.generator.QRBillGenerationException;
-
-import javax.imageio.*;
-import javax.imageio.metadata.IIOInvalidTreeException;
-import javax.imageio.metadata.IIOMetadata;
-import javax.imageio.metadata.IIOMetadataNode;
-import javax.imageio.stream.ImageOutputStream;
 import java.awt.*;
 import java.awt.image.BufferedImage;
+import java.awt.image.ComponentSampleModel;
+import java.awt.image.DataBufferByte;
+import java.awt.image.WritableRaster;
+import java.io.BufferedOutputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Iterator;
 
 /**
  * Canvas for generating PNG files.
@@ -31,9 +27,6 @@ import java.util.Iterator;
  */
 public class PNGCanvas extends Graphics2DCanvas implements ByteArrayResult {
 
-    private static final String METADATA_KEY_VALUE = "value";
-    private static final String METADATA_KEY_KEYWORD = "keyword";
-
     private BufferedImage image;
     private Graphics2D graphics;
     private final int resolution;
@@ -81,7 +74,6 @@ public class PNGCanvas extends Graphics2DCanvas implements ByteArrayResult {
         graphics = null;
         ByteArrayOutputStream os = new ByteArrayOutputStream();
 
-        // Instead of ImageIO.write(image, "png", os)
         createPNG(image, os, resolution);
         return os.toByteArray();
     }
@@ -96,7 +88,6 @@ public class PNGCanvas extends Graphics2DCanvas implements ByteArrayResult {
         graphics.dispose();
         graphics = null;
 
-        // Instead of ImageIO.write(image, "png", os)
         createPNG(image, os, resolution);
     }
 
@@ -110,8 +101,7 @@ public class PNGCanvas extends Graphics2DCanvas implements ByteArrayResult {
         graphics.dispose();
         graphics = null;
 
-        try (OutputStream os = Files.newOutputStream(path)) {
-            // Instead of ImageIO.write(image, "png", os)
+        try (OutputStream os = new BufferedOutputStream(Files.newOutputStream(path))) {
             createPNG(image, os, resolution);
         }
     }
@@ -126,88 +116,14 @@ public class PNGCanvas extends Graphics2DCanvas implements ByteArrayResult {
     }
 
     /**
-     * Saves image as PDF and stores metadata to indicate the resolution.
+     * Encodes the image as a PNG image including the resolution.
      */
     private static void createPNG(BufferedImage image, OutputStream os, int resolution) throws IOException {
+        WritableRaster raster = image.getRaster();
+        byte[] pixels = ((DataBufferByte) raster.getDataBuffer()).getData();
+        ComponentSampleModel sampleModel = (ComponentSampleModel) raster.getSampleModel();
 
-        ImageWriter writer = null;
-        ImageWriteParam writeParam = null;
-        IIOMetadata metadata = null;
-
-        for (Iterator<ImageWriter> iw = ImageIO.getImageWritersByFormatName("png"); iw.hasNext(); ) {
-            writer = iw.next();
-            writeParam = writer.getDefaultWriteParam();
-            ImageTypeSpecifier typeSpecifier = ImageTypeSpecifier.createFromBufferedImageType(image.getType());
-            metadata = writer.getDefaultImageMetadata(typeSpecifier, writeParam);
-            if (!metadata.isReadOnly() && metadata.isStandardMetadataFormatSupported())
-                break;
-        }
-
-        if (writer == null || writeParam == null)
-            throw new QRBillGenerationException("No valid PNG writer found");
-
-        addDpiMetadata(metadata, resolution);
-        addTextMetadata(metadata);
-
-        try (ImageOutputStream stream = ImageIO.createImageOutputStream(os)) {
-            writer.setOutput(stream);
-            writer.write(metadata, new IIOImage(image, null, metadata), writeParam);
-        }
+        PNGEncoder encoder = new PNGEncoder(image.getWidth(), image.getHeight(), 8, resolution);
+        encoder.write(pixels, 0, sampleModel.getScanlineStride(), os);
     }
-
-    private static final String PNG_STANDARD_METADATA_FORMAT = "javax_imageio_1.0";
-
-    /**
-     * Add meta data to specify the resolution
-     */
-    private static void addDpiMetadata(IIOMetadata metadata, int dpi) throws IIOInvalidTreeException {
-
-        // native metadata format ("pHYs")
-        double pixelsPerMeter = dpi / 25.4 * 1000;
-        String pixelsPerMeterString = Integer.toString((int) (pixelsPerMeter + 0.5));
-
-        IIOMetadataNode physNode = new IIOMetadataNode("pHYs");
-        physNode.setAttribute("pixelsPerUnitXAxis", pixelsPerMeterString);
-        physNode.setAttribute("pixelsPerUnitYAxis", pixelsPerMeterString);
-        physNode.setAttribute("unitSpecifier", "meter");
-
-        IIOMetadataNode root = new IIOMetadataNode(metadata.getNativeMetadataFormatName());
-        root.appendChild(physNode);
-        metadata.mergeTree(metadata.getNativeMetadataFormatName(), root);
-
-        IIOMetadataNode dimension = createDimensionNode(dpi);
-
-        root = new IIOMetadataNode(PNG_STANDARD_METADATA_FORMAT);
-        root.appendChild(dimension);
-        metadata.mergeTree(PNG_STANDARD_METADATA_FORMAT, root);
-    }
-
-    private static IIOMetadataNode createDimensionNode(int dpi) {
-        // standard metadata format
-        double pixelsPerMM = dpi / 25.4;
-        String pixelsPerMMString = Double.toString(pixelsPerMM);
-
-        IIOMetadataNode horizontalPixelSize = new IIOMetadataNode("HorizontalPixelSize");
-        horizontalPixelSize.setAttribute(METADATA_KEY_VALUE, pixelsPerMMString);
-
-        IIOMetadataNode verticalPixelSize = new IIOMetadataNode("VerticalPixelSize");
-        verticalPixelSize.setAttribute(METADATA_KEY_VALUE, pixelsPerMMString);
-
-        IIOMetadataNode dimension = new IIOMetadataNode("Dimension");
-        dimension.appendChild(horizontalPixelSize);
-        dimension.appendChild(verticalPixelSize);
-        return dimension;
-    }
-
-    private static void addTextMetadata(IIOMetadata metadata) throws IIOInvalidTreeException {
-        IIOMetadataNode textEntry = new IIOMetadataNode("tEXtEntry");
-        textEntry.setAttribute(METADATA_KEY_KEYWORD, "Title");
-        textEntry.setAttribute(METADATA_KEY_VALUE, "Swiss QR Bill");
-        IIOMetadataNode text = new IIOMetadataNode("tEXt");
-        text.appendChild(textEntry);
-        IIOMetadataNode commentMetadata = new IIOMetadataNode(metadata.getNativeMetadataFormatName());
-        commentMetadata.appendChild(text);
-        metadata.mergeTree(metadata.getNativeMetadataFormatName(), commentMetadata);
-    }
-
 }
@@ -0,0 +1,367 @@
+//
+// Swiss QR Bill Generator
+// Copyright (c) 2026 Manuel Bleichenbacher
+// Licensed under MIT License
+// https://opensource.org/licenses/MIT
+//
+package net.codecrete.qrbill.canvas;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Encoder for grayscale PNG images.
+ * <p>
+ * The encoder writes the PNG data directly to an output stream. Besides the image data,
+ * it writes the resolution (pHYs chunk) and the title "Swiss QR Bill" (tEXt chunk).
+ * </p>
+ * <p>
+ * The pixels are passed row by row, already packed with the encoder's bit depth
+ * (1, 2, 4 or 8 bits per pixel, first pixel in the most significant bits, 0 is black).
+ * </p>
+ * <p>
+ * Optionally, the filter type is selected separately for each row, using the
+ * minimum sum of absolute differences heuristic recommended by the PNG specification.
+ * It is off by default: QR bills mostly consist of white areas and black text, for which
+ * unfiltered rows compress to a smaller size and in about half the time.
+ * </p>
+ */
+public class PNGEncoder {
+
+    private static final byte[] SIGNATURE = { (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n' };
+    private static final byte[] TYPE_IHDR = chunkType("IHDR");
+    private static final byte[] TYPE_PHYS = chunkType("pHYs");
+    private static final byte[] TYPE_TEXT = chunkType("tEXt");
+    private static final byte[] TYPE_IDAT = chunkType("IDAT");
+    private static final byte[] TYPE_IEND = chunkType("IEND");
+    private static final byte[] TITLE_TEXT = "Title\0Swiss QR Bill".getBytes(StandardCharsets.ISO_8859_1);
+
+    private static final int FILTER_NONE = 0;
+    private static final int FILTER_SUB = 1;
+    private static final int FILTER_UP = 2;
+    private static final int FILTER_AVERAGE = 3;
+    private static final int FILTER_PAETH = 4;
+
+    /** Maximum size of the data of a single IDAT chunk */
+    private static final int IDAT_CHUNK_SIZE = 65536;
+
+    /** Serialized pHYs and tEXt chunks, by resolution */
+    private static final ConcurrentHashMap<Integer, byte[]> METADATA_CHUNKS = new ConcurrentHashMap<>();
+
+    private final int width;
+    private final int height;
+    private final int bitDepth;
+    private final int resolution;
+    private final int bytesPerRow;
+    private int compressionLevel = Deflater.DEFAULT_COMPRESSION;
+    private int compressionStrategy = Deflater.DEFAULT_STRATEGY;
+    private boolean adaptiveFiltering;
+    private final CRC32 crc = new CRC32();
+
+    /**
+     * Creates a new encoder for images with the specified size, bit depth and resolution.
+     *
+     * @param width      image width, in pixels
+     * @param height     image height, in pixels
+     * @param bitDepth   number of bits per pixel (1, 2, 4 or 8)
+     * @param resolution image resolution, in dpi
+     */
+    public PNGEncoder(int width, int height, int bitDepth, int resolution) {
+        if (width <= 0 || height <= 0)
+            throw new IllegalArgumentException("Invalid image size");
+        if (bitDepth != 1 && bitDepth != 2 && bitDepth != 4 && bitDepth != 8)
+            throw new IllegalArgumentException("Invalid bit depth");
+
+        this.width = width;
+        this.height = height;
+        this.bitDepth = bitDepth;
+        this.resolution = resolution;
+        bytesPerRow = (width * bitDepth + 7) / 8;
+    }
+
+    /**
+     * Gets the number of bytes per image row.
+     *
+     * @return number of bytes
+     */
+    public int getBytesPerRow() {
+        return bytesPerRow;
+    }
+
+    /**
+     * Sets the compression level.
+     * <p>
+     * Valid values are 0 to 9 and {@link Deflater#DEFAULT_COMPRESSION} (the default).
+     * </p>
+     *
+     * @param compressionLevel compression level
+     * @throws IllegalArgumentException if the compression level is invalid
+     */
+    public void setCompressionLevel(int compressionLevel) {
+        if ((compressionLevel < Deflater.NO_COMPRESSION || compressionLevel > Deflater.BEST_COMPRESSION)
+                && compressionLevel != Deflater.DEFAULT_COMPRESSION)
+            throw new IllegalArgumentException("Invalid compression level");
+        this.compressionLevel = compressionLevel;
+    }
+
+    /**
+     * Sets the compression strategy.
+     * <p>
+     * Valid values are {@link Deflater#DEFAULT_STRATEGY} (the default), {@link Deflater#FILTERED}
+     * and {@link Deflater#HUFFMAN_ONLY}.
+     * </p>
+     *
+     * @param compressionStrategy compression strategy
+     * @throws IllegalArgumentException if the compression strategy is invalid
+     */
+    public void setCompressionStrategy(int compressionStrategy) {
+        if (compressionStrategy != Deflater.DEFAULT_STRATEGY && compressionStrategy != Deflater.FILTERED
+                && compressionStrategy != Deflater.HUFFMAN_ONLY)
+            throw new IllegalArgumentException("Invalid compression strategy");
+        this.compressionStrategy = compressionStrategy;
+    }
+
+    /**
+     * Sets if the filter type is selected for each row individually.
+     * <p>
+     * If set to {@code false} (the default), the rows are not filtered.
+     * </p>
+     *
+     * @param adaptiveFiltering {@code true} for adaptive filtering, {@code false} for no filtering
+     */
+    public void setAdaptiveFiltering(boolean adaptiveFiltering) {
+        this.adaptiveFiltering = adaptiveFiltering;
+    }
+
+    /**
+     * Writes the PNG image to the specified output stream.
+     *
+     * @param pixels         packed pixel data
+     * @param offset         offset of the first row in {@code pixels}
+     * @param scanlineStride distance between the start of two consecutive rows in {@code pixels}
+     * @param os             the output stream
+     * @throws IOException thrown if the image cannot be written
+     */
+    public void write(byte[] pixels, int offset, int scanlineStride, OutputStream os) throws IOException {
+        os.write(SIGNATURE);
+        writeHeader(os);
+        os.write(getMetadataChunks(resolution));
+        writeImageData(pixels, offset, scanlineStride, os);
+        writeChunk(os, TYPE_IEND, new byte[0], 0);
+    }
+
+    private void writeHeader(OutputStream os) throws IOException {
+        byte[] header = new byte[13];
+        putInt(header, 0, width);
+        putInt(header, 4, height);
+        header[8] = (byte) bitDepth;
+        // color type 0 (grayscale), compression method 0, filter method 0, interlace method 0
+        writeChunk(os, TYPE_IHDR, header, header.length);
+    }
+
+    private void writeImageData(byte[] pixels, int offset, int scanlineStride, OutputStream os) throws IOException {
+        byte[] previousRow = new byte[bytesPerRow];
+        byte[] filteredRow = new byte[bytesPerRow + 1];
+        byte[] compressed = new byte[IDAT_CHUNK_SIZE];
+        int compressedLength = 0;
+
+        Deflater deflater = new Deflater(compressionLevel);
+        try {
+            deflater.setStrategy(compressionStrategy);
+
+            for (int y = 0; y < height; y++) {
+                int rowOffset = offset + y * scanlineStride;
+                if (adaptiveFiltering) {
+                    filterRow(pixels, rowOffset, previousRow, filteredRow);
+                    System.arraycopy(pixels, rowOffset, previousRow, 0, bytesPerRow);
+                } else {
+                    filteredRow[0] = FILTER_NONE;
+                    System.arraycopy(pixels, rowOffset, filteredRow, 1, bytesPerRow);
+                }
+
+                deflater.setInput(filteredRow);
+                while (!deflater.needsInput()) {
+                    compressedLength += deflater.deflate(compressed, compressedLength, IDAT_CHUNK_SIZE - compressedLength);
+                    if (compressedLength == IDAT_CHUNK_SIZE) {
+                        writeChunk(os, TYPE_IDAT, compressed, compressedLength);
+                        compressedLength = 0;
+                    }
+                }
+            }
+
+            deflater.finish();
+            while (!deflater.finished()) {
+                compressedLength += deflater.deflate(compressed, compressedLength, IDAT_CHUNK_SIZE - compressedLength);
+                if (compressedLength == IDAT_CHUNK_SIZE) {
+                    writeChunk(os, TYPE_IDAT, compressed, compressedLength);
+                    compressedLength = 0;
+                }
+            }
+            if (compressedLength > 0)
+                writeChunk(os, TYPE_IDAT, compressed, compressedLength);
+
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Filters the row with the filter type resulting in the minimum sum of absolute differences.
+     * <p>
+     * The filter type is written to the first byte of {@code result}, the filtered bytes to the
+     * remaining bytes.
+     * </p>
+     */
+    private void filterRow(byte[] pixels, int offset, byte[] previousRow, byte[] result) {
+        // sums of absolute differences (interpreted as signed bytes) for all filter types
+        int sumNone = 0;
+        int sumSub = 0;
+        int sumUp = 0;
+        int sumAverage = 0;
+        int sumPaeth = 0;
+
+        int left = 0;
+        int upperLeft = 0;
+        for (int i = 0; i < bytesPerRow; i++) {
+            int value = pixels[offset + i] & 0xff;
+            int up = previousRow[i] & 0xff;
+            sumNone += Math.abs((byte) value);
+            sumSub += Math.abs((byte) (value - left));
+            sumUp += Math.abs((byte) (value - up));
+            sumAverage += Math.abs((byte) (value - ((left + up) >> 1)));
+            sumPaeth += Math.abs((byte) (value - paethPredictor(left, up, upperLeft)));
+            left = value;
+            upperLeft = up;
+        }
+
+        int filter = FILTER_NONE;
+        int minSum = sumNone;
+        if (sumSub < minSum) {
+            filter = FILTER_SUB;
+            minSum = sumSub;
+        }
+        if (sumUp < minSum) {
+            filter = FILTER_UP;
+            minSum = sumUp;
+        }
+        if (sumAverage < minSum) {
+            filter = FILTER_AVERAGE;
+            minSum = sumAverage;
+        }
+        if (sumPaeth < minSum)
+            filter = FILTER_PAETH;
+
+        result[0] = (byte) filter;
+        left = 0;
+        upperLeft = 0;
+        for (int i = 0; i < bytesPerRow; i++) {
+            int value = pixels[offset + i] & 0xff;
+            int up = previousRow[i] & 0xff;
+            int predictor;
+            switch (filter) {
+                case FILTER_SUB:
+                    predictor = left;
+                    break;
+                case FILTER_UP:
+                    predictor = up;
+                    break;
+                case FILTER_AVERAGE:
+                    predictor = (left + up) >> 1;
+                    break;
+                case FILTER_PAETH:
+                    predictor = paethPredictor(left, up, upperLeft);
+                    break;
+                default:
+                    predictor = 0;
+                    break;
+            }
+            result[i + 1] = (byte) (value - predictor);
+            left = value;
+            upperLeft = up;
+        }
+    }
+
+    private static int paethPredictor(int left, int up, int upperLeft) {
+        int estimate = left + up - upperLeft;
+        int distanceLeft = Math.abs(estimate - left);
+        int distanceUp = Math.abs(estimate - up);
+        int distanceUpperLeft = Math.abs(estimate - upperLeft);
+        if (distanceLeft <= distanceUp && distanceLeft <= distanceUpperLeft)
+            return left;
+        if (distanceUp <= distanceUpperLeft)
+            return up;
+        return upperLeft;
+    }
+
+    private void writeChunk(OutputStream os, byte[] type, byte[] data, int length) throws IOException {
+        crc.reset();
+        crc.update(type);
+        crc.update(data, 0, length);
+
+        byte[] buffer = new byte[4];
+        putInt(buffer, 0, length);
+        os.write(buffer);
+        os.write(type);
+        os.write(data, 0, length);
+        putInt(buffer, 0, (int) crc.getValue());
+        os.write(buffer);
+    }
+
+    /**
+     * Gets the serialized pHYs and tEXt chunks for the specified resolution.
+     */
+    private static byte[] getMetadataChunks(int resolution) {
+        byte[] chunks = METADATA_CHUNKS.get(resolution);
+        if (chunks != null)
+            return chunks;
+
+        chunks = createMetadataChunks(resolution);
+        // limit the cache size in case of an unusual number of different resolutions
+        if (METADATA_CHUNKS.size() < MAX_CACHED_RESOLUTIONS)
+            METADATA_CHUNKS.putIfAbsent(resolution, chunks);
+        return chunks;
+    }
+
+    /** Maximum number of resolutions in the metadata chunk cache */
+    private static final int MAX_CACHED_RESOLUTIONS = 64;
+
+    private static byte[] createMetadataChunks(int resolution) {
+        int pixelsPerMeter = (int) (resolution / 25.4 * 1000 + 0.5);
+        byte[] physical = new byte[9];
+        putInt(physical, 0, pixelsPerMeter);
+        putInt(physical, 4, pixelsPerMeter);
+        physical[8] = 1; // unit: meter
+
+        byte[] chunks = new byte[12 + physical.length + 12 + TITLE_TEXT.length];
+        int offset = putChunk(chunks, 0, TYPE_PHYS, physical);
+        putChunk(chunks, offset, TYPE_TEXT, TITLE_TEXT);
+        return chunks;
+    }
+
+    private static int putChunk(byte[] buffer, int offset, byte[] type, byte[] data) {
+        CRC32 chunkCrc = new CRC32();
+        chunkCrc.update(type);
+        chunkCrc.update(data);
+
+        putInt(buffer, offset, data.length);
+        System.arraycopy(type, 0, buffer, offset + 4, 4);
+        System.arraycopy(data, 0, buffer, offset + 8, data.length);
+        putInt(buffer, offset + 8 + data.length, (int) chunkCrc.getValue());
+        return offset + 12 + data.length;
+    }
+
+    private static void putInt(byte[] buffer, int offset, int value) {
+        buffer[offset] = (byte) (value >>> 24);
+        buffer[offset + 1] = (byte) (value >>> 16);
+        buffer[offset + 2] = (byte) (value >>> 8);
+        buffer[offset + 3] = (byte) value;
+    }
+
+    private static byte[] chunkType(String type) {
+        return type.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -146,6 +146,17 @@ public class SVGCanvas extends AbstractCanvas implements ByteArrayResult {
 
     @Override
     public void addRectangle(double x, double y, double width, double height) throws IOException {
+        appendRectangle(x, y, width, height);
+    }
+
+    @Override
+    public void addRectangles(double[] xywh, int count) throws IOException {
+        path.ensureCapacity(path.length() + count * 28);
+        for (int i = 0; i < count * 4; i += 4)
+            appendRectangle(xywh[i], xywh[i + 1], xywh[i + 2], xywh[i + 3]);
+    }
+
+    private void appendRectangle(double x, double y, double width, double height) throws IOException {
         addPathNewlines(40);
         moveTo(x, y + height);
         path.append("h");
@@ -225,6 +236,25 @@ public class SVGCanvas extends AbstractCanvas implements ByteArrayResult {
         stream.write("</text>\n");
     }
 
+    @Override
+    public void putTextLines(MeasuredText text, int[] lineRanges, double x, double y, int fontSize, double leading) throws IOException {
+        String fontSizeText = formatNumber(fontSize);
+        String xText = formatCoordinate(x);
+        String str = text.getText();
+        for (int i = 0; i < lineRanges.length; i += 2) {
+            stream.write("<text x=\"");
+            stream.write(xText);
+            stream.write("\" y=\"");
+            stream.write(formatCoordinate(-y));
+            stream.write("\" font-size=\"");
+            stream.write(fontSizeText);
+            stream.write("\">");
+            writeEscapedXML(str, lineRanges[i], lineRanges[i + 1]);
+            stream.write("</text>\n");
+            y -= fontMetrics.getLineHeight(fontSize) + leading;
+        }
+    }
+
     @Override
     public void setTransformation(double translateX, double translateY, double rotate, double scaleX, double scaleY) throws IOException {
         if (isInGroup) {
@@ -295,34 +325,49 @@ public class SVGCanvas extends AbstractCanvas implements ByteArrayResult {
         return String.format(Locale.US, "%06x", color);
     }
 
+    private void writeEscapedXML(String text, int start, int end) throws IOException {
+        int lastCopiedPosition = start;
+        for (int i = start; i < end; i++) {
+            String entity = getXMLEntity(text.charAt(i));
+            if (entity != null) {
+                if (i > lastCopiedPosition)
+                    stream.write(text, lastCopiedPosition, i - lastCopiedPosition);
+                stream.write(entity);
+                lastCopiedPosition = i + 1;
+            }
+        }
+        if (end > lastCopiedPosition)
+            stream.write(text, lastCopiedPosition, end - lastCopiedPosition);
+    }
+
+    private static String getXMLEntity(char ch) {
+        switch (ch) {
+            case '<':
+                return "&lt;";
+            case '>':
+                return "&gt;";
+            case '&':
+                return "&amp;";
+            case '\'':
+                return "&apos;";
+            case '"':
+                return "&quot;";
+            default:
+                return null;
+        }
+    }
+
     private static String escapeXML(String text) {
         int length = text.length();
         int lastCopiedPosition = 0;
         StringBuilder result = null;
         for (int i = 0; i < length; i++) {
-            char ch = text.charAt(i);
-            if (ch == '<' || ch == '>' || ch == '&' || ch == '\'' || ch == '"') {
+            String entity = getXMLEntity(text.charAt(i));
+            if (entity != null) {
                 if (result == null)
                     result = new StringBuilder(length + 10);
                 if (i > lastCopiedPosition)
                     result.append(text, lastCopiedPosition, i);
-                String entity;
-                switch (ch) {
-                    case '<':
-                        entity = "&lt;";
-                        break;
-                    case '>':
-                        entity = "&gt;";
-                        break;
-                    case '&':
-                        entity = "&amp;";
-                        break;
-                    case '\'':
-                        entity = "&apos;";
-                        break;
-                    default:
-                        entity = "&quot;";
-                }
                 result.append(entity);
                 lastCopiedPosition = i + 1;
             }
@@ -0,0 +1,214 @@
+//
+// Swiss QR Bill Generator
+// Copyright (c) 2026 Manuel Bleichenbacher
+// Licensed under MIT License
+// https://opensource.org/licenses/MIT
+//
+package net.codecrete.qrbill.canvas;
+
+import org.apache.fontbox.ttf.CmapLookup;
+import org.apache.fontbox.ttf.TTFParser;
+import org.apache.fontbox.ttf.TrueTypeFont;
+import org.apache.pdfbox.io.RandomAccessReadBuffer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Character widths extracted from TrueType fonts.
+ * <p>
+ * The advance widths are taken from the font's <i>hmtx</i> table, for the glyphs the <i>cmap</i>
+ * table maps the characters to. They are converted to the compact binary form of {@link CharWidthTable},
+ * i.e. the same characters are covered as for the built-in fonts. The width of the <i>.notdef</i>
+ * glyph is used as the default width.
+ * </p>
+ * <p>
+ * The extracted widths are cached in memory per font path, file size and modification time,
+ * so a cached font is neither read nor hashed again. If a cache directory is specified, the widths
+ * are also persisted in it (one small file per font, named after the content hash) so that later
+ * processes do not need to parse the font again. Persisting them is best effort: if the cache
+ * directory cannot be used, the widths are only cached in memory.
+ * </p>
+ */
+final class TrueTypeCharWidths {
+
+    /** Maximum number of fonts in the in-memory cache */
+    private static final int MAX_CACHED_FONTS = 64;
+
+    private static final String FILE_SUFFIX = ".widths";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    /** Cached widths, by font path, file size and modification time */
+    private static final ConcurrentHashMap<String, CharWidthTable> CACHED_TABLES = new ConcurrentHashMap<>();
+
+    private TrueTypeCharWidths() {
+        // do not instantiate
+    }
+
+    /**
+     * Gets the character widths of the specified TrueType font.
+     * <p>
+     * The widths are looked up in the in-memory cache and then in the cache directory (if specified).
+     * Only if they are not found, they are extracted from the font.
+     * </p>
+     *
+     * @param fontPath       path to the font file (TrueType format)
+     * @param cacheDirectory directory for persisting the extracted widths, or {@code null}
+     * @return character widths
+     * @throws IOException thrown if the font cannot be read or parsed
+     */
+    static CharWidthTable getTable(Path fontPath, Path cacheDirectory) throws IOException {
+        // the font file is only read (and hashed) if it is not in the memory cache
+        BasicFileAttributes attributes = Files.readAttributes(fontPath, BasicFileAttributes.class);
+        String key = fontPath.toAbsolutePath() + "#" + attributes.size() + "#" + attributes.lastModifiedTime().toMillis();
+
+        CharWidthTable table = CACHED_TABLES.get(key);
+        if (table != null)
+            return table;
+
+        byte[] fontData = Files.readAllBytes(fontPath);
+        char[] widths;
+        if (cacheDirectory != null) {
+            String hash = computeHash(fontData);
+            widths = readPersistedWidths(cacheDirectory, hash);
+            if (widths == null) {
+                widths = extractWidths(fontData);
+                persistWidths(cacheDirectory, hash, widths);
+            }
+        } else {
+            widths = extractWidths(fontData);
+        }
+
+        table = CharWidthTable.read(CharBuffer.wrap(widths));
+        // limit the cache size in case of an unusual number of different fonts
+        if (CACHED_TABLES.size() < MAX_CACHED_FONTS) {
+            CharWidthTable existing = CACHED_TABLES.putIfAbsent(key, table);
+            if (existing != null)
+                table = existing;
+        }
+        return table;
+    }
+
+    /**
+     * Extracts the character widths from the specified TrueType font.
+     *
+     * @param fontData font data (TrueType format)
+     * @return widths in the compact binary form (see {@link CharWidthTable#read(CharBuffer)})
+     * @throws IOException thrown if the font cannot be parsed
+     */
+    static char[] extractWidths(byte[] fontData) throws IOException {
+        try (TrueTypeFont font = new TTFParser().parse(new RandomAccessReadBuffer(fontData))) {
+            CmapLookup cmap = font.getUnicodeCmapLookup();
+            float scale = 1000f / font.getUnitsPerEm();
+
+            char[] widths = new char[CharWidthTable.VALUES_PER_WEIGHT];
+            int index = 0;
+            widths[index++] = toWidth(font.getAdvanceWidth(0), scale);
+            widths[index++] = getWidth(font, cmap, CharWidthTable.NDASH, scale);
+            widths[index++] = getWidth(font, cmap, CharWidthTable.EURO_SIGN, scale);
+            for (int ch = 0; ch < CharWidthTable.DENSE_SIZE; ch++) {
+                if (CharWidthTable.hasStoredWidth(ch))
+                    widths[index++] = getWidth(font, cmap, ch, scale);
+            }
+            return widths;
+        }
+    }
+
+    /**
+     * Gets the width of the specified character.
+     *
+     * @return the width (in 1/1000 pt for font size 1), or 0 if the font has no glyph for the character
+     */
+    private static char getWidth(TrueTypeFont font, CmapLookup cmap, int ch, float scale) throws IOException {
+        int glyphId = cmap.getGlyphId(ch);
+        if (glyphId == 0)
+            return 0;
+        return toWidth(font.getAdvanceWidth(glyphId), scale);
+    }
+
+    private static char toWidth(int advanceWidth, float scale) {
+        return (char) Math.min(Math.round(advanceWidth * scale), Short.MAX_VALUE);
+    }
+
+    /**
+     * Reads the persisted widths from the cache directory.
+     * <p>
+     * The cache directory is optional. If the file cannot be read, the widths are extracted from the font instead.
+     * </p>
+     *
+     * @return widths, or {@code null} if the widths are not available
+     */
+    private static char[] readPersistedWidths(Path cacheDirectory, String hash) {
+        byte[] data;
+        try {
+            data = Files.readAllBytes(cacheDirectory.resolve(hash + FILE_SUFFIX));
+        } catch (IOException e) {
+            return null;
+        }
+
+        // ignore incomplete or outdated files; they will be overwritten
+        if (data.length != 2 * CharWidthTable.VALUES_PER_WEIGHT)
+            return null;
+        char[] widths = new char[CharWidthTable.VALUES_PER_WEIGHT];
+        ByteBuffer.wrap(data).asCharBuffer().get(widths);
+        return widths;
+    }
+
+    /**
+     * Persists the widths in the cache directory.
+     * <p>
+     * The cache directory is optional. If the widths cannot be written (e.g. because the directory is
+     * read-only or the file system does not support atomic moves), they are not persisted.
+     * </p>
+     */
+    private static void persistWidths(Path cacheDirectory, String hash, char[] widths) {
+        ByteBuffer buffer = ByteBuffer.allocate(2 * widths.length);
+        buffer.asCharBuffer().put(widths);
+
+        try {
+            Files.createDirectories(cacheDirectory);
+            Path tempFile = Files.createTempFile(cacheDirectory, hash, TEMP_FILE_SUFFIX);
+            try {
+                try (OutputStream os = Files.newOutputStream(tempFile)) {
+                    os.write(buffer.array());
+                }
+                Files.move(tempFile, cacheDirectory.resolve(hash + FILE_SUFFIX),
+                        StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        } catch (IOException e) {
+            // the widths are still cached in memory
+        }
+    }
+
+    private static String computeHash(byte[] data) {
+        byte[] hash = createDigest().digest(data);
+        char[] result = new char[2 * hash.length];
+        for (int i = 0; i < hash.length; i++) {
+            result[2 * i] = HEX_DIGITS[(hash[i] >> 4) & 0xf];
+            result[2 * i + 1] = HEX_DIGITS[hash[i] & 0xf];
+        }
+        return new String(result);
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
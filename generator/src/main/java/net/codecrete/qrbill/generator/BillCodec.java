@@ -0,0 +1,503 @@
+//
+// Swiss QR Bill Generator
+// Copyright (c) 2026 Manuel Bleichenbacher
+// Licensed under MIT License
+// https://opensource.org/licenses/MIT
+//
+package net.codecrete.qrbill.generator;
+
+import java.io.*;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Compact binary serialization of bill data.
+ * <p>
+ * The encoding is intended for passing bills between services, e.g. via message queues or caches.
+ * It is much more compact and faster to process than JSON or Java serialization. All data of
+ * {@link Bill}, {@link Address}, {@link BillFormat} and {@link AlternativeScheme} is retained,
+ * including the address type.
+ * </p>
+ * <p>
+ * The encoded data starts with a format version. Lengths and integers are encoded as variable-length
+ * integers, enumerations by their ordinal, amounts as unscaled value and scale, and frequent values
+ * such as currencies and country codes are encoded with a fixed dictionary.
+ * </p>
+ */
+public class BillCodec {
+
+    /**
+     * Version of the binary format
+     */
+    public static final int FORMAT_VERSION = 1;
+
+    private static final String[] REFERENCE_TYPES = {
+            Bill.REFERENCE_TYPE_NO_REF, Bill.REFERENCE_TYPE_QR_REF, Bill.REFERENCE_TYPE_CRED_REF
+    };
+    private static final String[] CURRENCIES = { "CHF", "EUR" };
+    private static final String[] COUNTRY_CODES = {
+            "CH", "LI", "DE", "FR", "IT", "AT", "NL", "BE", "LU", "ES", "PT", "GB", "US"
+    };
+    private static final String[] FONT_FAMILIES = {
+            "Helvetica,Arial,\"Liberation Sans\"", "Helvetica", "Arial", "Liberation Sans", "Frutiger"
+    };
+
+    private static final int AMOUNT_NULL = 0;
+    private static final int AMOUNT_LONG = 1;
+    private static final int AMOUNT_BIG = 2;
+
+    private BillCodec() {
+        // do not instantiate
+    }
+
+    /**
+     * Encodes the bill data into a byte array.
+     *
+     * @param bill the bill data
+     * @return encoded bill data
+     */
+    public static byte[] encode(Bill bill) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(256);
+        try {
+            write(bill, new DataOutputStream(buffer));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    /**
+     * Decodes the bill data from a byte array.
+     *
+     * @param data encoded bill data
+     * @return the decoded bill data
+     * @throws IOException if the data is invalid
+     */
+    public static Bill decode(byte[] data) throws IOException {
+        return read(ByteBuffer.wrap(data));
+    }
+
+    /**
+     * Writes the encoded bill data to the specified output.
+     *
+     * @param bill the bill data
+     * @param output the output
+     * @throws IOException if the data cannot be written
+     */
+    public static void write(Bill bill, DataOutput output) throws IOException {
+        Encoder encoder = new Encoder() {
+            @Override
+            void put(int b) throws IOException {
+                output.write(b);
+            }
+
+            @Override
+            void put(byte[] bytes) throws IOException {
+                output.write(bytes);
+            }
+        };
+        encoder.writeBill(bill);
+    }
+
+    /**
+     * Writes the encoded bill data to the specified buffer.
+     *
+     * @param bill the bill data
+     * @param buffer the buffer
+     * @throws java.nio.BufferOverflowException if the buffer has insufficient space
+     */
+    public static void write(Bill bill, ByteBuffer buffer) {
+        Encoder encoder = new Encoder() {
+            @Override
+            void put(int b) {
+                buffer.put((byte) b);
+            }
+
+            @Override
+            void put(byte[] bytes) {
+                buffer.put(bytes);
+            }
+        };
+        try {
+            encoder.writeBill(bill);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads encoded bill data from the specified input.
+     *
+     * @param input the input
+     * @return the decoded bill data
+     * @throws IOException if the data cannot be read or is invalid
+     */
+    public static Bill read(DataInput input) throws IOException {
+        Decoder decoder = new Decoder() {
+            @Override
+            int get() throws IOException {
+                return input.readUnsignedByte();
+            }
+
+            @Override
+            void get(byte[] bytes) throws IOException {
+                input.readFully(bytes);
+            }
+        };
+        return decoder.readBill();
+    }
+
+    /**
+     * Reads encoded bill data from the specified buffer.
+     *
+     * @param buffer the buffer
+     * @return the decoded bill data
+     * @throws IOException if the data is invalid
+     */
+    public static Bill read(ByteBuffer buffer) throws IOException {
+        Decoder decoder = new Decoder() {
+            @Override
+            int get() {
+                return buffer.get() & 0xff;
+            }
+
+            @Override
+            void get(byte[] bytes) {
+                buffer.get(bytes);
+            }
+        };
+        try {
+            return decoder.readBill();
+        } catch (BufferUnderflowException e) {
+            throw new EOFException("Incomplete bill data");
+        }
+    }
+
+    private abstract static class Encoder {
+
+        abstract void put(int b) throws IOException;
+
+        abstract void put(byte[] bytes) throws IOException;
+
+        void writeBill(Bill bill) throws IOException {
+            writeVarInt(FORMAT_VERSION);
+            writeEnum(bill.getVersion());
+            writeAmount(bill.getAmount());
+            writeDictionaryString(bill.getCurrency(), CURRENCIES);
+            writeString(bill.getAccount());
+            writeAddress(bill.getCreditor());
+            writeDictionaryString(bill.getReferenceType(), REFERENCE_TYPES);
+            writeString(bill.getReference());
+            writeAddress(bill.getDebtor());
+            writeString(bill.getUnstructuredMessage());
+            writeString(bill.getBillInformation());
+            writeAlternativeSchemes(bill.getAlternativeSchemes());
+            writeFormat(bill.getFormat());
+            writeEnum(bill.getSeparator());
+            writeEnum(bill.getCharacterSet());
+        }
+
+        @SuppressWarnings("deprecation")
+        private void writeAddress(Address address) throws IOException {
+            if (address == null) {
+                writeEnum(null);
+                return;
+            }
+
+            Address.Type type = address.getType();
+            writeEnum(type);
+            writeString(address.getName());
+            if (type == Address.Type.COMBINED_ELEMENTS || type == Address.Type.CONFLICTING) {
+                writeString(address.getAddressLine1());
+                writeString(address.getAddressLine2());
+            }
+            if (type == Address.Type.STRUCTURED || type == Address.Type.CONFLICTING) {
+                writeString(address.getStreet());
+                writeString(address.getHouseNo());
+                writeString(address.getPostalCode());
+                writeString(address.getTown());
+            }
+            writeDictionaryString(address.getCountryCode(), COUNTRY_CODES);
+        }
+
+        private void writeFormat(BillFormat format) throws IOException {
+            if (format == null) {
+                put(0);
+                return;
+            }
+
+            put(1);
+            writeEnum(format.getOutputSize());
+            writeEnum(format.getLanguage());
+            writeEnum(format.getSeparatorType());
+            writeDictionaryString(format.getFontFamily(), FONT_FAMILIES);
+            writeEnum(format.getGraphicsFormat());
+            writeVarLong(zigZag(format.getResolution()));
+            writeDouble(format.getMarginLeft());
+            writeDouble(format.getMarginRight());
+            writeDictionaryString(format.getLocalCountryCode(), COUNTRY_CODES);
+        }
+
+        private void writeAlternativeSchemes(AlternativeScheme[] schemes) throws IOException {
+            if (schemes == null) {
+                writeVarInt(0);
+                return;
+            }
+
+            writeVarInt(schemes.length + 1);
+            for (AlternativeScheme scheme : schemes) {
+                if (scheme == null) {
+                    put(0);
+                } else {
+                    put(1);
+                    writeString(scheme.getName());
+                    writeString(scheme.getInstruction());
+                }
+            }
+        }
+
+        private void writeAmount(BigDecimal amount) throws IOException {
+            if (amount == null) {
+                put(AMOUNT_NULL);
+                return;
+            }
+
+            BigInteger unscaled = amount.unscaledValue();
+            if (unscaled.bitLength() < 64) {
+                put(AMOUNT_LONG);
+                writeVarLong(zigZag(unscaled.longValue()));
+            } else {
+                put(AMOUNT_BIG);
+                byte[] bytes = unscaled.toByteArray();
+                writeVarInt(bytes.length);
+                put(bytes);
+            }
+            writeVarLong(zigZag(amount.scale()));
+        }
+
+        private void writeEnum(Enum<?> value) throws IOException {
+            writeVarInt(value == null ? 0 : value.ordinal() + 1);
+        }
+
+        private void writeString(String value) throws IOException {
+            if (value == null) {
+                put(0);
+                return;
+            }
+
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(bytes.length + 1);
+            put(bytes);
+        }
+
+        private void writeDictionaryString(String value, String[] dictionary) throws IOException {
+            if (value == null) {
+                put(0);
+                return;
+            }
+
+            for (int i = 0; i < dictionary.length; i++) {
+                if (dictionary[i].equals(value)) {
+                    writeVarInt(i + 1);
+                    return;
+                }
+            }
+
+            writeVarInt(dictionary.length + 1);
+            writeString(value);
+        }
+
+        private void writeDouble(double value) throws IOException {
+            long bits = Double.doubleToLongBits(value);
+            for (int i = 56; i >= 0; i -= 8)
+                put((int) (bits >>> i) & 0xff);
+        }
+
+        private void writeVarInt(int value) throws IOException {
+            writeVarLong(value & 0xffffffffL);
+        }
+
+        private void writeVarLong(long value) throws IOException {
+            while ((value & ~0x7fL) != 0) {
+                put((int) (value & 0x7f) | 0x80);
+                value >>>= 7;
+            }
+            put((int) value);
+        }
+
+        private static long zigZag(long value) {
+            return (value << 1) ^ (value >> 63);
+        }
+    }
+
+    private abstract static class Decoder {
+
+        abstract int get() throws IOException;
+
+        abstract void get(byte[] bytes) throws IOException;
+
+        Bill readBill() throws IOException {
+            int version = readVarInt();
+            if (version != FORMAT_VERSION)
+                throw new IOException("Unsupported bill data format version " + version);
+
+            Bill bill = new Bill();
+            bill.setVersion(readEnum(Bill.Version.values()));
+            bill.setAmount(readAmount());
+            bill.setCurrency(readDictionaryString(CURRENCIES));
+            bill.setAccount(readString());
+            bill.setCreditor(readAddress());
+            // setting the reference updates the reference type; so restore the type afterwards
+            String referenceType = readDictionaryString(REFERENCE_TYPES);
+            bill.setReference(readString());
+            bill.setReferenceType(referenceType);
+            bill.setDebtor(readAddress());
+            bill.setUnstructuredMessage(readString());
+            bill.setBillInformation(readString());
+            bill.setAlternativeSchemes(readAlternativeSchemes());
+            bill.setFormat(readFormat());
+            bill.setSeparator(readEnum(QrDataSeparator.values()));
+            bill.setCharacterSet(readEnum(SPSCharacterSet.values()));
+            return bill;
+        }
+
+        @SuppressWarnings("deprecation")
+        private Address readAddress() throws IOException {
+            // The address type is derived from the setters being called.
+            Address.Type type = readEnum(Address.Type.values());
+            if (type == null)
+                return null;
+            Address address = new Address();
+            address.setName(readString());
+            if (type == Address.Type.COMBINED_ELEMENTS || type == Address.Type.CONFLICTING) {
+                address.setAddressLine1(readString());
+                address.setAddressLine2(readString());
+            }
+            if (type == Address.Type.STRUCTURED || type == Address.Type.CONFLICTING) {
+                address.setStreet(readString());
+                address.setHouseNo(readString());
+                address.setPostalCode(readString());
+                address.setTown(readString());
+            }
+            address.setCountryCode(readDictionaryString(COUNTRY_CODES));
+            return address;
+        }
+
+        private BillFormat readFormat() throws IOException {
+            if (get() == 0)
+                return null;
+
+            BillFormat format = new BillFormat();
+            format.setOutputSize(readEnum(OutputSize.values()));
+            format.setLanguage(readEnum(Language.values()));
+            format.setSeparatorType(readEnum(SeparatorType.values()));
+            format.setFontFamily(readDictionaryString(FONT_FAMILIES));
+            format.setGraphicsFormat(readEnum(GraphicsFormat.values()));
+            format.setResolution((int) unZigZag(readVarLong()));
+            format.setMarginLeft(readDouble());
+            format.setMarginRight(readDouble());
+            format.setLocalCountryCode(readDictionaryString(COUNTRY_CODES));
+            return format;
+        }
+
+        private AlternativeScheme[] readAlternativeSchemes() throws IOException {
+            int length = readLength();
+            if (length == 0)
+                return null;
+
+            AlternativeScheme[] schemes = new AlternativeScheme[length - 1];
+            for (int i = 0; i < schemes.length; i++) {
+                if (get() != 0)
+                    schemes[i] = new AlternativeScheme(readString(), readString());
+            }
+            return schemes;
+        }
+
+        private BigDecimal readAmount() throws IOException {
+            int tag = get();
+            if (tag == AMOUNT_NULL)
+                return null;
+
+            BigInteger unscaled;
+            if (tag == AMOUNT_LONG) {
+                unscaled = BigInteger.valueOf(unZigZag(readVarLong()));
+            } else if (tag == AMOUNT_BIG) {
+                byte[] bytes = new byte[readLength()];
+                get(bytes);
+                unscaled = new BigInteger(bytes);
+            } else {
+                throw new IOException("Invalid amount encoding");
+            }
+            return new BigDecimal(unscaled, (int) unZigZag(readVarLong()));
+        }
+
+        private <E extends Enum<E>> E readEnum(E[] values) throws IOException {
+            int code = readVarInt();
+            if (code == 0)
+                return null;
+            if (code < 0 || code > values.length)
+                throw new IOException("Invalid enumeration value");
+            return values[code - 1];
+        }
+
+        private String readString() throws IOException {
+            int length = readLength();
+            if (length == 0)
+                return null;
+
+            byte[] bytes = new byte[length - 1];
+            get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        private String readDictionaryString(String[] dictionary) throws IOException {
+            int code = readVarInt();
+            if (code == 0)
+                return null;
+            if (code > 0 && code <= dictionary.length)
+                return dictionary[code - 1];
+            if (code == dictionary.length + 1)
+                return readString();
+            throw new IOException("Invalid dictionary value");
+        }
+
+        private double readDouble() throws IOException {
+            long bits = 0;
+            for (int i = 0; i < 8; i++)
+                bits = (bits << 8) | get();
+            return Double.longBitsToDouble(bits);
+        }
+
+        private int readLength() throws IOException {
+            int length = readVarInt();
+            if (length < 0 || length > 1000000)
+                throw new IOException("Invalid length in bill data");
+            return length;
+        }
+
+        private int readVarInt() throws IOException {
+            long value = readVarLong();
+            if (value > 0xffffffffL)
+                throw new IOException("Invalid integer in bill data");
+            return (int) value;
+        }
+
+        private long readVarLong() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = get();
+                value |= (long) (b & 0x7f) << shift;
+                if ((b & 0x80) == 0)
+                    return value;
+            }
+            throw new IOException("Invalid integer in bill data");
+        }
+
+        private static long unZigZag(long value) {
+            return (value >>> 1) ^ -(value & 1);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+//
+// Swiss QR Bill Generator
+// Copyright (c) 2026 Manuel Bleichenbacher
+// Licensed under MIT License
+// https://opensource.org/licenses/MIT
+//
+package net.codecrete.qrbill.generator;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Internal class for computing a stable content fingerprint of bill data.
+ * <p>
+ * The fingerprint is the first 128 bits of the SHA-256 hash of the binary encoding
+ * of the bill (see {@link BillCodec}), including the bill format. It is independent of the
+ * JVM and the process and changes only if the binary format version changes.
+ * </p>
+ */
+class BillFingerprint {
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    /** Length of fingerprint, in bytes */
+    private static final int FINGERPRINT_LENGTH = 16;
+
+    private BillFingerprint() {
+        // do not instantiate
+    }
+
+    /**
+     * Computes the fingerprint of the specified bill.
+     *
+     * @param bill bill data
+     * @return fingerprint (32 lowercase hexadecimal digits)
+     */
+    static String compute(Bill bill) {
+        byte[] hash = createDigest().digest(BillCodec.encode(bill));
+        char[] result = new char[2 * FINGERPRINT_LENGTH];
+        for (int i = 0; i < FINGERPRINT_LENGTH; i++) {
+            result[2 * i] = HEX_DIGITS[(hash[i] >> 4) & 0xf];
+            result[2 * i + 1] = HEX_DIGITS[hash[i] & 0xf];
+        }
+        return new String(result);
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
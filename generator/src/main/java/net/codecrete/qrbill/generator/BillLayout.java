@@ -7,6 +7,8 @@
 package net.codecrete.qrbill.generator;
 
 import net.codecrete.qrbill.canvas.Canvas;
+import net.codecrete.qrbill.canvas.FontMetrics;
+import net.codecrete.qrbill.canvas.MeasuredText;
 
 import java.awt.geom.AffineTransform;
 import java.io.IOException;
@@ -33,26 +35,32 @@ class BillLayout {
     private static final double DEBTOR_BOX_HEIGHT_PP = 25; // mm
     private static final double DEBTOR_BOX_WIDTH_RC = 52; // mm
     private static final double DEBTOR_BOX_HEIGHT_RC = 20; // mm
+    private static final int FONT_SIZE_FURTHER_INFO = 7; // pt
 
 
     private final Bill bill;
-    private final QRCode qrCode;
     private final Canvas graphics;
+    private final TextMetrics metrics;
 
     private final BillTextFormatter formatter;
 
     private final double additionalLeftMargin;
     private final double additionalRightMargin;
+    private final double paymentPartTextWidth;
+    private final double receiptTextWidth;
 
-    private String accountPayableTo;
+    private TextBlock accountPayableTo;
     private String reference;
-    private String additionalInfo;
-    private String payableBy;
+    private TextBlock additionalInfo;
+    private TextBlock payableBy;
     private String amount;
 
-    private String[] accountPayableToLines;
-    private String[] additionalInfoLines;
-    private String[] payableByLines;
+    private int numAccountPayableToLines;
+    private int numAdditionalInfoLines;
+    private int numPayableByLines;
+
+    private boolean isAccountPayableToReduced;
+    private boolean isPayableByReduced;
 
     private double yPos;
 
@@ -66,13 +74,32 @@ class BillLayout {
 
 
     BillLayout(Bill bill, Canvas graphics) {
+        this(bill, graphics, TextMetrics.of(graphics));
+    }
+
+    /**
+     * Creates a layout for a preflight.
+     * <p>
+     * The text is measured with the specified font metrics. The layout cannot be drawn.
+     * </p>
+     *
+     * @param bill        bill data
+     * @param fontMetrics font metrics
+     */
+    BillLayout(Bill bill, FontMetrics fontMetrics) {
+        this(bill, null, TextMetrics.of(fontMetrics));
+    }
+
+    private BillLayout(Bill bill, Canvas graphics, TextMetrics metrics) {
         this.bill = bill;
-        this.qrCode = new QRCode(bill);
         this.graphics = graphics;
+        this.metrics = metrics;
         this.formatter = new BillTextFormatter(bill, true);
         this.additionalLeftMargin = Math.min(Math.max(bill.getFormat().getMarginLeft(), 5.0), 12.0) - MARGIN;
         this.additionalRightMargin = Math.min(Math.max(bill.getFormat().getMarginRight(), 5.0), 12.0) - MARGIN;
         this.paymentPartHoriOffset = bill.getFormat().getOutputSize() == OutputSize.PAYMENT_PART_ONLY ? 0 : RECEIPT_WIDTH;
+        this.paymentPartTextWidth = PP_INFO_SECTION_WIDTH - additionalRightMargin;
+        this.receiptTextWidth = RECEIPT_TEXT_WIDTH - additionalLeftMargin;
     }
 
     void draw() throws IOException {
@@ -80,6 +107,57 @@ class BillLayout {
         prepareText();
 
         // payment part
+        layoutPaymentPart();
+        breakLines(paymentPartTextWidth);
+        drawPaymentPart();
+
+        if (bill.getFormat().getOutputSize() == OutputSize.PAYMENT_PART_ONLY)
+            return;
+
+        // receipt
+        layoutReceipt();
+        breakLines(receiptTextWidth);
+        drawReceipt();
+
+        // border
+        drawBorder();
+    }
+
+    /**
+     * Lays out the bill without drawing it.
+     * <p>
+     * Only the text is measured (to determine the font size and the line breaks).
+     * No canvas is needed.
+     * </p>
+     *
+     * @param validationResult validation result of the bill
+     * @return the layout information
+     */
+    LayoutPreflight preflight(ValidationResult validationResult) {
+
+        prepareText();
+
+        boolean isPaymentPartTooTight = layoutPaymentPart();
+        int[] paymentPartLineCounts = { numAccountPayableToLines, numAdditionalInfoLines, numPayableByLines };
+        int paymentPartFontSize = textFontSize;
+
+        boolean hasReceipt = bill.getFormat().getOutputSize() != OutputSize.PAYMENT_PART_ONLY;
+        boolean isReceiptTooTight = false;
+        int[] receiptLineCounts = { 0, 0 };
+        if (hasReceipt) {
+            isReceiptTooTight = layoutReceipt();
+            receiptLineCounts = new int[] { numAccountPayableToLines, numPayableByLines };
+        }
+
+        return new LayoutPreflight(validationResult, paymentPartFontSize, isPaymentPartTooTight,
+                paymentPartLineCounts, hasReceipt, isReceiptTooTight, receiptLineCounts,
+                isAccountPayableToReduced, isPayableByReduced, findTruncatedAlternativeSchemes());
+    }
+
+    // Determines the font size of the payment part (the text has been measured once;
+    // trying a font size only counts the lines). Returns true if the text is too tight
+    // even with the smallest font size.
+    private boolean layoutPaymentPart() {
 
         final int PP_LABEL_PREF_FONT_SIZE = 8; // pt
         final int PP_TEXT_PREF_FONT_SIZE = 10; // pt
@@ -90,42 +168,38 @@ class BillLayout {
 
         boolean isTooTight;
         while (true) {
-            breakLines(PP_INFO_SECTION_WIDTH - additionalRightMargin);
+            countLines(paymentPartTextWidth);
             isTooTight = computePaymentPartSpacing();
             if (!isTooTight || textFontSize == PP_TEXT_MIN_FONT_SIZE)
                 break;
             labelFontSize--;
             textFontSize--;
         }
-        drawPaymentPart();
-
-        if (bill.getFormat().getOutputSize() == OutputSize.PAYMENT_PART_ONLY)
-            return;
+        return isTooTight;
+    }
 
-        // receipt
+    // Lays out the receipt, reducing the text if it is too tight.
+    // Returns true if the text is too tight even after the reduction.
+    private boolean layoutReceipt() {
 
         final int RC_LABEL_PREF_FONT_SIZE = 6; // pt
         final int RC_TEXT_PREF_FONT_SIZE = 8; // pt
 
         labelFontSize = RC_LABEL_PREF_FONT_SIZE;
         textFontSize = RC_TEXT_PREF_FONT_SIZE;
-        double receiptTextWidthAdapted = RECEIPT_TEXT_WIDTH - additionalLeftMargin;
-        breakLines(receiptTextWidthAdapted);
-        isTooTight = computeReceiptSpacing();
+        countLines(receiptTextWidth);
+        boolean isTooTight = computeReceiptSpacing();
         if (isTooTight) {
             prepareReducedReceiptText(false);
-            breakLines(receiptTextWidthAdapted);
+            countLines(receiptTextWidth);
             isTooTight = computeReceiptSpacing();
         }
         if (isTooTight) {
             prepareReducedReceiptText(true);
-            breakLines(receiptTextWidthAdapted);
-            computeReceiptSpacing();
+            countLines(receiptTextWidth);
+            isTooTight = computeReceiptSpacing();
         }
-        drawReceipt();
-
-        // border
-        drawBorder();
+        return isTooTight;
     }
 
     private void drawPaymentPart() throws IOException {
@@ -134,10 +208,11 @@ class BillLayout {
 
         // title section
         graphics.setTransformation(paymentPartHoriOffset + MARGIN, 0, 0, 1, 1);
-        yPos = SLIP_HEIGHT - MARGIN - graphics.getAscender(FONT_SIZE_TITLE);
-        graphics.putText(getText(MultilingualText.KEY_PAYMENT_PART), 0, yPos, FONT_SIZE_TITLE, true);
+        yPos = SLIP_HEIGHT - MARGIN - metrics.getAscender(FONT_SIZE_TITLE);
+        graphics.putText(getText(MultilingualText.TEXT_PAYMENT_PART), 0, yPos, FONT_SIZE_TITLE, true);
 
         // Swiss QR code section
+        QRCode qrCode = new QRCode(bill);
         qrCode.draw(graphics, paymentPartHoriOffset + MARGIN, QR_CODE_BOTTOM);
 
         // amount section
@@ -160,7 +235,7 @@ class BillLayout {
 
         // currency
         double y = AMOUNT_SECTION_TOP - labelAscender;
-        String label = getText(MultilingualText.KEY_CURRENCY);
+        String label = getText(MultilingualText.TEXT_CURRENCY);
         graphics.putText(label, 0, y, labelFontSize, true);
 
         y -= (textFontSize + 3) * PT_TO_MM;
@@ -168,7 +243,7 @@ class BillLayout {
 
         // amount
         y = AMOUNT_SECTION_TOP - labelAscender;
-        label = getText(MultilingualText.KEY_AMOUNT);
+        label = getText(MultilingualText.TEXT_AMOUNT);
         graphics.putText(label, CURRENCY_WIDTH_PP, y, labelFontSize, true);
 
         y -= (textFontSize + 3) * PT_TO_MM;
@@ -186,21 +261,21 @@ class BillLayout {
         yPos = SLIP_HEIGHT - MARGIN - labelAscender;
 
         // account and creditor
-        drawLabelAndTextLines(MultilingualText.KEY_ACCOUNT_PAYABLE_TO, accountPayableToLines);
+        drawLabelAndTextLines(MultilingualText.TEXT_ACCOUNT_PAYABLE_TO, accountPayableTo);
 
         // reference
         if (reference != null)
-            drawLabelAndText(MultilingualText.KEY_REFERENCE, reference);
+            drawLabelAndText(MultilingualText.TEXT_REFERENCE, reference);
 
         // additional information
         if (additionalInfo != null)
-            drawLabelAndTextLines(MultilingualText.KEY_ADDITIONAL_INFORMATION, additionalInfoLines);
+            drawLabelAndTextLines(MultilingualText.TEXT_ADDITIONAL_INFORMATION, additionalInfo);
 
         // payable by
         if (payableBy != null) {
-            drawLabelAndTextLines(MultilingualText.KEY_PAYABLE_BY, payableByLines);
+            drawLabelAndTextLines(MultilingualText.TEXT_PAYABLE_BY, payableBy);
         } else {
-            drawLabel(MultilingualText.KEY_PAYABLE_BY_NAME_ADDRESS);
+            drawLabel(MultilingualText.TEXT_PAYABLE_BY_NAME_ADDRESS);
             yPos -= -textAscender + BOX_TOP_PADDING;
             yPos -= DEBTOR_BOX_HEIGHT_PP;
             drawCorners(0, yPos, DEBTOR_BOX_WIDTH_PP, DEBTOR_BOX_HEIGHT_PP);
@@ -209,7 +284,6 @@ class BillLayout {
 
     private void drawFurtherInformationSection() throws IOException {
 
-        final int FONT_SIZE = 7;
         final int LINE_SPACING = 8;
         final double FURTHER_INFORMATION_SECTION_TOP = 15; // mm
 
@@ -217,26 +291,58 @@ class BillLayout {
             return;
 
         graphics.setTransformation(paymentPartHoriOffset + MARGIN, 0, 0, 1, 1);
-        double y = FURTHER_INFORMATION_SECTION_TOP - graphics.getAscender(FONT_SIZE);
-        double maxWidth = PAYMENT_PART_WIDTH - 2 * MARGIN - additionalRightMargin;
+        double y = FURTHER_INFORMATION_SECTION_TOP - metrics.getAscender(FONT_SIZE_FURTHER_INFO);
 
         for (AlternativeScheme scheme : bill.getAlternativeSchemes()) {
-            String boldText = String.format("%s: ", scheme.getName());
-            double boldTextWidth = graphics.getTextWidth(boldText, FONT_SIZE, true);
-            graphics.putText(boldText, 0, y, FONT_SIZE, true);
-
-            String normalText = truncateText(scheme.getInstruction(), maxWidth - boldTextWidth, FONT_SIZE);
-            graphics.putText(normalText, boldTextWidth, y, FONT_SIZE, false);
+            AlternativeSchemeLine line = layoutAlternativeScheme(scheme);
+            graphics.putText(line.label, 0, y, FONT_SIZE_FURTHER_INFO, true);
+            graphics.putText(line.instruction, line.labelWidth, y, FONT_SIZE_FURTHER_INFO, false);
             y -= LINE_SPACING * PT_TO_MM;
         }
     }
 
+    // Determines which alternative scheme instructions will be truncated
+    private boolean[] findTruncatedAlternativeSchemes() {
+        AlternativeScheme[] schemes = bill.getAlternativeSchemes();
+        if (schemes == null)
+            return new boolean[0];
+
+        boolean[] isTruncated = new boolean[schemes.length];
+        for (int i = 0; i < schemes.length; i++)
+            isTruncated[i] = layoutAlternativeScheme(schemes[i]).isTruncated;
+        return isTruncated;
+    }
+
+    // Lays out the line of an alternative scheme: the name in bold, followed by the
+    // instruction, truncated to the remaining width
+    private AlternativeSchemeLine layoutAlternativeScheme(AlternativeScheme scheme) {
+        String label = String.format("%s: ", scheme.getName());
+        double labelWidth = metrics.getTextWidth(label, FONT_SIZE_FURTHER_INFO, true);
+        double maxWidth = PAYMENT_PART_WIDTH - 2 * MARGIN - additionalRightMargin - labelWidth;
+        String instruction = truncateText(scheme.getInstruction(), maxWidth, FONT_SIZE_FURTHER_INFO);
+        return new AlternativeSchemeLine(label, labelWidth, instruction, !instruction.equals(scheme.getInstruction()));
+    }
+
+    private static class AlternativeSchemeLine {
+        final String label;
+        final double labelWidth;
+        final String instruction;
+        final boolean isTruncated;
+
+        AlternativeSchemeLine(String label, double labelWidth, String instruction, boolean isTruncated) {
+            this.label = label;
+            this.labelWidth = labelWidth;
+            this.instruction = instruction;
+            this.isTruncated = isTruncated;
+        }
+    }
+
     private void drawReceipt() throws IOException {
 
         // "Receipt" title
         graphics.setTransformation(MARGIN + additionalLeftMargin, 0, 0, 1, 1);
-        yPos = SLIP_HEIGHT - MARGIN - graphics.getAscender(FONT_SIZE_TITLE);
-        graphics.putText(getText(MultilingualText.KEY_RECEIPT), 0, yPos, FONT_SIZE_TITLE, true);
+        yPos = SLIP_HEIGHT - MARGIN - metrics.getAscender(FONT_SIZE_TITLE);
+        graphics.putText(getText(MultilingualText.TEXT_RECEIPT), 0, yPos, FONT_SIZE_TITLE, true);
 
         // information section
         drawReceiptInformationSection();
@@ -254,17 +360,17 @@ class BillLayout {
 
         // payable to
         yPos = SLIP_HEIGHT - MARGIN - TITLE_HEIGHT - labelAscender;
-        drawLabelAndTextLines(MultilingualText.KEY_ACCOUNT_PAYABLE_TO, accountPayableToLines);
+        drawLabelAndTextLines(MultilingualText.TEXT_ACCOUNT_PAYABLE_TO, accountPayableTo);
 
         // reference
         if (reference != null)
-            drawLabelAndText(MultilingualText.KEY_REFERENCE, reference);
+            drawLabelAndText(MultilingualText.TEXT_REFERENCE, reference);
 
         // payable by
         if (payableBy != null) {
-            drawLabelAndTextLines(MultilingualText.KEY_PAYABLE_BY, payableByLines);
+            drawLabelAndTextLines(MultilingualText.TEXT_PAYABLE_BY, payableBy);
         } else {
-            drawLabel(MultilingualText.KEY_PAYABLE_BY_NAME_ADDRESS);
+            drawLabel(MultilingualText.TEXT_PAYABLE_BY_NAME_ADDRESS);
             yPos -= -textAscender + BOX_TOP_PADDING;
             yPos -= DEBTOR_BOX_HEIGHT_RC;
             drawCorners(0, yPos, DEBTOR_BOX_WIDTH_RC - additionalLeftMargin, DEBTOR_BOX_HEIGHT_RC);
@@ -279,7 +385,7 @@ class BillLayout {
 
         // currency
         double y = AMOUNT_SECTION_TOP - labelAscender;
-        String label = getText(MultilingualText.KEY_CURRENCY);
+        String label = getText(MultilingualText.TEXT_CURRENCY);
         graphics.putText(label, 0, y, labelFontSize, true);
 
         y -= (textFontSize + 3) * PT_TO_MM;
@@ -287,7 +393,7 @@ class BillLayout {
 
         // amount
         y = AMOUNT_SECTION_TOP - labelAscender;
-        label = getText(MultilingualText.KEY_AMOUNT);
+        label = getText(MultilingualText.TEXT_AMOUNT);
         graphics.putText(label, CURRENCY_WIDTH_RC, y, labelFontSize, true);
 
         if (amount != null) {
@@ -304,9 +410,9 @@ class BillLayout {
 
         final double ACCEPTANCE_POINT_SECTION_TOP = 23; // mm (from bottom)
 
-        String label = getText(MultilingualText.KEY_ACCEPTANCE_POINT);
+        String label = getText(MultilingualText.TEXT_ACCEPTANCE_POINT);
         double y = ACCEPTANCE_POINT_SECTION_TOP - labelAscender;
-        double w = graphics.getTextWidth(label, labelFontSize, true);
+        double w = metrics.getTextWidth(label, labelFontSize, true);
         graphics.putText(label, RECEIPT_TEXT_WIDTH - additionalLeftMargin - w, y, labelFontSize, true);
     }
 
@@ -319,18 +425,18 @@ class BillLayout {
         int numExtraLines = 0;
         double fixedHeight = 0;
 
-        numTextLines += 1 + accountPayableToLines.length;
+        numTextLines += 1 + numAccountPayableToLines;
         if (reference != null) {
             numExtraLines++;
             numTextLines += 2;
         }
         if (additionalInfo != null) {
             numExtraLines++;
-            numTextLines += 1 + additionalInfoLines.length;
+            numTextLines += 1 + numAdditionalInfoLines;
         }
         numExtraLines++;
         if (payableBy != null) {
-            numTextLines += 1 + payableByLines.length;
+            numTextLines += 1 + numPayableByLines;
         } else {
             numTextLines += 1;
             fixedHeight += DEBTOR_BOX_HEIGHT_PP;
@@ -352,14 +458,14 @@ class BillLayout {
         int numExtraLines = 0;
         double fixedHeight = 0;
 
-        numTextLines += 1 + accountPayableToLines.length;
+        numTextLines += 1 + numAccountPayableToLines;
         if (reference != null) {
             numExtraLines++;
             numTextLines += 2;
         }
         numExtraLines++;
         if (payableBy != null) {
-            numTextLines += 1 + payableByLines.length;
+            numTextLines += 1 + numPayableByLines;
         } else {
             numTextLines += 1;
             fixedHeight += DEBTOR_BOX_HEIGHT_RC;
@@ -376,8 +482,8 @@ class BillLayout {
         extraSpacing = (maxHeight - fixedHeight - numTextLines * lineSpacing) / numExtraLines;
         extraSpacing = Math.min(Math.max(extraSpacing, 0), lineSpacing);
 
-        labelAscender = graphics.getAscender(labelFontSize);
-        textAscender = graphics.getAscender(textFontSize);
+        labelAscender = metrics.getAscender(labelFontSize);
+        textAscender = metrics.getAscender(textFontSize);
 
         return extraSpacing / lineSpacing < 0.8;
     }
@@ -481,52 +587,107 @@ class BillLayout {
 
     // Draws a label at (0, yPos) and advances vertically.
     // yPos is taken as the baseline for the text.
-    private void drawLabel(String labelKey) throws IOException {
-        graphics.putText(getText(labelKey), 0, yPos, labelFontSize, true);
+    private void drawLabel(int labelIndex) throws IOException {
+        graphics.putText(getText(labelIndex), 0, yPos, labelFontSize, true);
         yPos -= lineSpacing;
     }
 
     // Draws a label and a single line of text at (0, yPos) and advances vertically.
     // yPos is taken as the baseline for the text.
     @SuppressWarnings("SameParameterValue")
-    private void drawLabelAndText(String labelKey, String text) throws IOException {
-        drawLabel(labelKey);
+    private void drawLabelAndText(int labelIndex, String text) throws IOException {
+        drawLabel(labelIndex);
         graphics.putText(text, 0, yPos, textFontSize, false);
         yPos -= lineSpacing + extraSpacing;
     }
 
     // Draws a label and a multiple lines of text at (0, yPos) and advances vertically.
     // yPos is taken as the baseline for the text.
-    private void drawLabelAndTextLines(String labelKey, String[] textLines) throws IOException {
-        drawLabel(labelKey);
-        double leading = lineSpacing - graphics.getLineHeight(textFontSize);
-        graphics.putTextLines(textLines, 0, yPos, textFontSize, leading);
-        yPos -= textLines.length * lineSpacing + extraSpacing;
+    private void drawLabelAndTextLines(int labelIndex, TextBlock text) throws IOException {
+        drawLabel(labelIndex);
+        double leading = lineSpacing - metrics.getLineHeight(textFontSize);
+        text.draw(0, yPos, leading);
+        yPos -= text.getNumLines() * lineSpacing + extraSpacing;
     }
 
     // Prepare the formatted text
     private void prepareText() {
-        accountPayableTo = formatter.getPayableTo();
+        accountPayableTo = measureText(formatter.getPayableTo());
         reference = formatter.getReference();
-        additionalInfo = formatter.getAdditionalInformation();
-        payableBy = formatter.getPayableBy();
+        additionalInfo = measureText(formatter.getAdditionalInformation());
+        payableBy = measureText(formatter.getPayableBy());
         amount = formatter.getAmount();
     }
 
     private void prepareReducedReceiptText(boolean reduceBoth) {
-        if (reduceBoth)
-            accountPayableTo = formatter.getPayableToReduced();
+        if (reduceBoth) {
+            accountPayableTo = measureText(formatter.getPayableToReduced());
+            isAccountPayableToReduced = true;
+        }
+
+        payableBy = measureText(formatter.getPayableByReduced());
+        isPayableByReduced = payableBy != null;
+    }
+
+    private TextBlock measureText(String text) {
+        return text != null ? new TextBlock(text) : null;
+    }
 
-        payableBy = formatter.getPayableByReduced();
+    // Count the lines the text will be broken into (for the current font size)
+    private void countLines(double maxWidth) {
+        numAccountPayableToLines = accountPayableTo.countLines(maxWidth);
+        if (additionalInfo != null)
+            numAdditionalInfoLines = additionalInfo.countLines(maxWidth);
+        if (payableBy != null)
+            numPayableByLines = payableBy.countLines(maxWidth);
     }
 
     // Prepare the text (by breaking it into lines where necessary)
     private void breakLines(double maxWidth) {
-        accountPayableToLines = graphics.splitLines(accountPayableTo, maxWidth * MM_TO_PT, textFontSize);
+        accountPayableTo.breakLines(maxWidth);
         if (additionalInfo != null)
-            additionalInfoLines = graphics.splitLines(additionalInfo, maxWidth * MM_TO_PT, textFontSize);
+            additionalInfo.breakLines(maxWidth);
         if (payableBy != null)
-            payableByLines = graphics.splitLines(payableBy, maxWidth * MM_TO_PT, textFontSize);
+            payableBy.breakLines(maxWidth);
+    }
+
+    // Multi-line block of text. If the canvas measures the text, the lines are found in
+    // the measured text. Otherwise, the text is split with the canvas's splitLines() for
+    // each font size.
+    private final class TextBlock {
+        private final String text;
+        private final MeasuredText measuredText;
+        private int[] lineRanges;
+        private String[] lines;
+
+        TextBlock(String text) {
+            this.text = text;
+            measuredText = metrics.measureText(text);
+        }
+
+        int countLines(double maxWidth) {
+            if (measuredText != null)
+                return measuredText.countLines(maxWidth * MM_TO_PT, textFontSize);
+            return metrics.splitLines(text, maxWidth * MM_TO_PT, textFontSize).length;
+        }
+
+        void breakLines(double maxWidth) {
+            if (measuredText != null)
+                lineRanges = measuredText.getLineRanges(maxWidth * MM_TO_PT, textFontSize);
+            else
+                lines = metrics.splitLines(text, maxWidth * MM_TO_PT, textFontSize);
+        }
+
+        int getNumLines() {
+            return measuredText != null ? lineRanges.length / 2 : lines.length;
+        }
+
+        void draw(double x, double y, double leading) throws IOException {
+            if (measuredText != null)
+                graphics.putTextLines(measuredText, lineRanges, x, y, textFontSize, leading);
+            else
+                graphics.putTextLines(lines, x, y, textFontSize, leading);
+        }
     }
 
 
@@ -562,14 +723,18 @@ class BillLayout {
 
         final double ELLIPSIS_WIDTH = 0.3528; // mm * font size
 
-        if (graphics.getTextWidth(text, fontSize, false) < maxWidth)
+        if (fitsWidth(text, maxWidth, fontSize))
             return text;
 
-        String[] lines = graphics.splitLines(text, maxWidth - fontSize * ELLIPSIS_WIDTH, fontSize);
+        String[] lines = metrics.splitLines(text, maxWidth - fontSize * ELLIPSIS_WIDTH, fontSize);
         return lines[0] + "…";
     }
 
-    private String getText(String textKey) {
-        return MultilingualText.getText(textKey, bill.getFormat().getLanguage());
+    private boolean fitsWidth(String text, double maxWidth, int fontSize) {
+        return metrics.getTextWidth(text, fontSize, false) < maxWidth;
+    }
+
+    private String getText(int textIndex) {
+        return MultilingualText.getText(textIndex, bill.getFormat().getLanguage());
     }
 }
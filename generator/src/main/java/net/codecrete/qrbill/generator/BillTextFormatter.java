@@ -1,9 +1,8 @@
 package net.codecrete.qrbill.generator;
 
 import java.math.BigDecimal;
-import java.text.DecimalFormat;
-import java.text.DecimalFormatSymbols;
-import java.util.Locale;
+import java.math.BigInteger;
+import java.math.RoundingMode;
 
 /**
  * Formats text on a QR bill.
@@ -12,13 +11,36 @@ import java.util.Locale;
  * by a line feed character (U+000A). Long lines might require additional line breaks to fit into the
  * given text boxes. These additional line breaks are not included in the resulting text.
  * </p>
+ * <p>
+ * The text is formatted when the instance is created. Later changes to the bill
+ * (or its addresses) are not reflected in the result. Create a new instance instead.
+ * </p>
  */
 public class BillTextFormatter {
 
-    private final Bill bill;
+    /** Reusable builder for formatting addresses and amounts */
+    private static final ThreadLocal<StringBuilder> BUILDER = ThreadLocal.withInitial(StringBuilder::new);
+
+    /** Maximum number of digits of the amount in cents handled without {@link BigInteger} */
+    private static final int MAX_LONG_DIGITS = 19;
+
+    // formatted text (snapshot of the bill at the time the instance was created)
+    private final String account;
+    private final String creditorAddress;
+    private final String creditorAddressReduced;
+    private final String payableTo;
+    private final String payableToReduced;
+    private final String reference;
+    private final String amount;
+    private final String payableBy;
+    private final String payableByReduced;
+    private final String additionalInformation;
 
     /**
      * Creates a new instance for the specified bill.
+     * <p>
+     * The text is formatted immediately. Later changes to the bill are not reflected.
+     * </p>
      *
      * @param bill QR bill data
      * @throws QRBillValidationError if the bill cannot be validated without errors
@@ -29,6 +51,9 @@ public class BillTextFormatter {
 
     /**
      * Creates a new instance for the given bill.
+     * <p>
+     * The text is formatted immediately. Later changes to the bill are not reflected.
+     * </p>
      *
      * @param bill QR bill data
      * @param isValidated indicates if the bill has already been validated
@@ -36,10 +61,23 @@ public class BillTextFormatter {
     public BillTextFormatter(Bill bill, boolean isValidated) {
         if (!isValidated) {
             ValidationResult result = Validator.validate(bill);
-            this.bill = result.getCleanedBill();
-        } else {
-            this.bill = bill;
+            bill = result.getCleanedBill();
         }
+
+        account = bill.getAccount() != null ? Payments.formatIBAN(bill.getAccount()) : null;
+        Address creditor = bill.getCreditor();
+        boolean isCreditorWithCountryCode = isCreditorWithCountryCode(bill);
+        creditorAddress = creditor != null ? formatAddressForDisplay(creditor, false, isCreditorWithCountryCode) : null;
+        creditorAddressReduced = creditor != null ? formatAddressForDisplay(creditor, true, isCreditorWithCountryCode) : null;
+        payableTo = account + "\n" + creditorAddress;
+        payableToReduced = account + "\n" + creditorAddressReduced;
+        reference = formatReferenceNumber(bill.getReference());
+        amount = bill.getAmount() != null ? formatAmountForDisplay(bill.getAmount()) : null;
+        Address debtor = bill.getDebtor();
+        boolean isDebtorWithCountryCode = isForeignAddress(debtor, bill.getFormat());
+        payableBy = debtor != null ? formatAddressForDisplay(debtor, false, isDebtorWithCountryCode) : null;
+        payableByReduced = debtor != null ? formatAddressForDisplay(debtor, true, isDebtorWithCountryCode) : null;
+        additionalInformation = formatAdditionalInformation(bill);
     }
 
     /**
@@ -48,7 +86,7 @@ public class BillTextFormatter {
      * @return "payable to" text
      */
     public String getPayableTo() {
-        return  getAccount() + "\n" + getCreditorAddress();
+        return payableTo;
     }
 
     /**
@@ -60,7 +98,7 @@ public class BillTextFormatter {
      * @return "payable to" text
      */
     public String getPayableToReduced() {
-        return  getAccount() + "\n" + getCreditorAddressReduced();
+        return payableToReduced;
     }
 
     /**
@@ -69,7 +107,7 @@ public class BillTextFormatter {
      * @return account number
      */
     public String getAccount() {
-        return Payments.formatIBAN(bill.getAccount());
+        return account;
     }
 
     /**
@@ -78,7 +116,7 @@ public class BillTextFormatter {
      * @return formatted address
      */
     public String getCreditorAddress() {
-        return formatAddressForDisplay(bill.getCreditor(), isCreditorWithCountryCode());
+        return creditorAddress;
     }
 
     /**
@@ -90,7 +128,7 @@ public class BillTextFormatter {
      * @return formatted address
      */
     public String getCreditorAddressReduced() {
-        return formatAddressForDisplay(createReducedAddress(bill.getCreditor()), isCreditorWithCountryCode());
+        return creditorAddressReduced;
     }
 
     /**
@@ -99,7 +137,7 @@ public class BillTextFormatter {
      * @return reference number, or {@code null} if no reference number has been specified
      */
     public String getReference() {
-        return formatReferenceNumber(bill.getReference());
+        return reference;
     }
 
     /**
@@ -108,9 +146,7 @@ public class BillTextFormatter {
      * @return the amount, or {@code null} if no amount has been specified
      */
     public String getAmount() {
-        if (bill.getAmount() == null)
-            return null;
-        return formatAmountForDisplay(bill.getAmount());
+        return amount;
     }
 
     /**
@@ -119,9 +155,7 @@ public class BillTextFormatter {
      * @return formatted address, or {@code null} if no debtor address has been specified
      */
     public String getPayableBy() {
-        if (bill.getDebtor() == null)
-            return null;
-        return formatAddressForDisplay(bill.getDebtor(), isDebtorWithCountryCode());
+        return payableBy;
     }
 
     /**
@@ -133,9 +167,7 @@ public class BillTextFormatter {
      * @return formatted address, or {@code null} if no debtor address has been specified
      */
     public String getPayableByReduced() {
-        if (bill.getDebtor() == null)
-            return null;
-        return formatAddressForDisplay(createReducedAddress(bill.getDebtor()), isDebtorWithCountryCode());
+        return payableByReduced;
     }
 
     /**
@@ -148,6 +180,10 @@ public class BillTextFormatter {
      * @return additional information, or {@code null} if neither an unstructured message nor bill information has been specified
      */
     public String getAdditionalInformation() {
+        return additionalInformation;
+    }
+
+    private static String formatAdditionalInformation(Bill bill) {
         String info = bill.getUnstructuredMessage();
         if (bill.getBillInformation() != null) {
             if (info == null)
@@ -158,41 +194,84 @@ public class BillTextFormatter {
         return info;
     }
 
-    private static String formatAmountForDisplay(BigDecimal amount) {
-        return createAmountFormatter().format(amount);
+    /**
+     * Formats the amount with two decimals and a space as the thousands separator.
+     * <p>
+     * The amount is rounded like {@link java.text.DecimalFormat} does (half-even),
+     * and then formatted from its value in cents.
+     * </p>
+     *
+     * @param amount the amount
+     * @return formatted amount
+     */
+    static String formatAmountForDisplay(BigDecimal amount) {
+        BigInteger cents = amount.setScale(2, RoundingMode.HALF_EVEN).unscaledValue().abs();
+
+        char[] digits;
+        int start;
+        if (cents.bitLength() < 64) {
+            digits = new char[MAX_LONG_DIGITS];
+            start = digits.length;
+            long value = cents.longValue();
+            // at least 3 digits (including leading zeros) are needed for "0.00"
+            do {
+                digits[--start] = (char) ('0' + value % 10);
+                value /= 10;
+            } while (value != 0 || digits.length - start < 3);
+
+        } else {
+            digits = cents.toString().toCharArray();
+            start = 0;
+        }
+
+        StringBuilder sb = getBuilder();
+        if (amount.signum() < 0)
+            sb.append('-');
+        int numIntegerDigits = digits.length - start - 2;
+        for (int i = 0; i < numIntegerDigits; i++) {
+            if (i > 0 && (numIntegerDigits - i) % 3 == 0)
+                sb.append(' ');
+            sb.append(digits[start + i]);
+        }
+        sb.append('.');
+        sb.append(digits, digits.length - 2, 2);
+        return sb.toString();
     }
 
     @SuppressWarnings("deprecation")
-    private static String formatAddressForDisplay(Address address, boolean withCountryCode) {
-        StringBuilder sb = new StringBuilder();
+    private static String formatAddressForDisplay(Address address, boolean isReduced, boolean withCountryCode) {
+        StringBuilder sb = getBuilder();
         sb.append(address.getName());
 
         if (address.getType() == Address.Type.STRUCTURED) {
-            String street = address.getStreet();
-            if (street != null) {
-                sb.append("\n");
-                sb.append(street);
+            if (!isReduced) {
+                // a reduced address has no street and house number
+                String street = address.getStreet();
+                if (street != null) {
+                    sb.append('\n');
+                    sb.append(street);
+                }
+                String houseNo = address.getHouseNo();
+                if (houseNo != null) {
+                    sb.append(street != null ? ' ' : '\n');
+                    sb.append(houseNo);
+                }
             }
-            String houseNo = address.getHouseNo();
-            if (houseNo != null) {
-                sb.append(street != null ? " " : "\n");
-                sb.append(houseNo);
-            }
-            sb.append("\n");
+            sb.append('\n');
             if (withCountryCode) {
                 sb.append(address.getCountryCode());
                 sb.append(" – ");
             }
             sb.append(address.getPostalCode());
-            sb.append(" ");
+            sb.append(' ');
             sb.append(address.getTown());
 
         } else if (address.getType() == Address.Type.COMBINED_ELEMENTS) {
-            if (address.getAddressLine1() != null) {
-                sb.append("\n");
+            if (!isReduced && address.getAddressLine1() != null) {
+                sb.append('\n');
                 sb.append(address.getAddressLine1());
             }
-            sb.append("\n");
+            sb.append('\n');
             if (withCountryCode) {
                 sb.append(address.getCountryCode());
                 sb.append(" – ");
@@ -202,6 +281,12 @@ public class BillTextFormatter {
         return sb.toString();
     }
 
+    private static StringBuilder getBuilder() {
+        StringBuilder sb = BUILDER.get();
+        sb.setLength(0);
+        return sb;
+    }
+
     private static String formatReferenceNumber(String refNo) {
         if (refNo == null)
             return null;
@@ -216,42 +301,12 @@ public class BillTextFormatter {
         return Payments.formatQRReferenceNumber(refNo);
     }
 
-    private boolean isCreditorWithCountryCode() {
+    private static boolean isCreditorWithCountryCode(Bill bill) {
         // The creditor country code is even shown for a Swiss address if the debtor lives abroad
         return isForeignAddress(bill.getCreditor(), bill.getFormat()) || isForeignAddress(bill.getDebtor(), bill.getFormat());
     }
 
-    private boolean isDebtorWithCountryCode() {
-        return isForeignAddress(bill.getDebtor(), bill.getFormat());
-    }
-
     private static boolean isForeignAddress(Address address, BillFormat format) {
         return address != null && !format.getLocalCountryCode().equals(address.getCountryCode());
     }
-
-    @SuppressWarnings("deprecation")
-    private Address createReducedAddress(Address address) {
-        // Address without street / house number
-        Address reducedAddress = new Address();
-        reducedAddress.setName(address.getName());
-        reducedAddress.setCountryCode(address.getCountryCode());
-        if (address.getType() == Address.Type.STRUCTURED) {
-            reducedAddress.setPostalCode(address.getPostalCode());
-            reducedAddress.setTown(address.getTown());
-        } else if (address.getType() == Address.Type.COMBINED_ELEMENTS) {
-            reducedAddress.setAddressLine2(address.getAddressLine2());
-        }
-
-        return reducedAddress;
-    }
-
-    private static DecimalFormat createAmountFormatter() {
-        DecimalFormat format = new DecimalFormat("###,##0.00");
-        DecimalFormatSymbols symbols = new DecimalFormatSymbols(Locale.US);
-        symbols.setDecimalSeparator('.');
-        symbols.setGroupingSeparator(' ');
-        format.setDecimalFormatSymbols(symbols);
-        return format;
-    }
-
 }
@@ -0,0 +1,197 @@
+//
+// Swiss QR Bill Generator
+// Copyright (c) 2026 Manuel Bleichenbacher
+// Licensed under MIT License
+// https://opensource.org/licenses/MIT
+//
+package net.codecrete.qrbill.generator;
+
+import java.io.IOException;
+import java.util.NoSuchElementException;
+
+/**
+ * Generates a sequence of consecutive ISO 11649 creditor references.
+ * <p>
+ * Each reference consists of "RF", the two check digits, a fixed alphanumeric prefix and a counter
+ * with a fixed number of digits. The result is the same as calling
+ * {@link Payments#createISO11649Reference(String)} with the prefix and the zero-padded counter.
+ * </p>
+ * <p>
+ * As the modulo 97 checksum is linear in the counter value, the check digits are updated
+ * with a single addition per reference instead of being recomputed from all characters.
+ * </p>
+ * <p>
+ * Instances of this class are not thread-safe.
+ * </p>
+ */
+public class CreditorReferenceSequence {
+
+    private static final int MAX_REFERENCE_LENGTH = 25;
+
+    /** "RF00" moved to the end and converted to digits */
+    private static final int RF00_DIGITS = 271500;
+    /** Factor for shifting a value by the 6 digits of "RF00" */
+    private static final int RF00_SHIFT = 1000000 % 97;
+
+    /** Reference characters (check digits at index 2 and 3) */
+    private final char[] reference;
+    /** Start of counter within {@code reference} */
+    private final int counterStart;
+    /** Current checksum (modulo 97) of reference with "RF00" */
+    private int checksum;
+    /** Number of remaining references */
+    private long remaining;
+    /** Indicates that {@code reference} still contains the previous reference */
+    private boolean isIncrementPending;
+
+    /**
+     * Creates a new sequence.
+     * <p>
+     * Whitespace is removed from the prefix.
+     * </p>
+     *
+     * @param prefix        the alphanumeric prefix (letters, digits and whitespace only, may be empty)
+     * @param counterDigits the number of digits of the counter
+     * @param start         the first counter value
+     * @param count         the number of references to generate
+     * @throws IllegalArgumentException if the prefix contains invalid characters, if the reference would be
+     *                                  too long or if the counter range does not fit into the counter digits
+     */
+    public CreditorReferenceSequence(String prefix, int counterDigits, long start, long count) {
+        String rawPrefix = Strings.whiteSpaceRemoved(prefix);
+        if (!Payments.isAlphaNumeric(rawPrefix))
+            throw new IllegalArgumentException("Invalid character in reference (letters and digits allowed only)");
+        if (counterDigits < 1 || counterDigits > 18)
+            throw new IllegalArgumentException("Counter must have between 1 and 18 digits");
+        if (4 + rawPrefix.length() + counterDigits > MAX_REFERENCE_LENGTH)
+            throw new IllegalArgumentException("Reference number is too long");
+        if (start < 0 || count < 0 || count > Payments.maxValue(counterDigits) - start + 1)
+            throw new IllegalArgumentException("Counter range exceeds counter digits");
+
+        reference = new char[4 + rawPrefix.length() + counterDigits];
+        reference[0] = 'R';
+        reference[1] = 'F';
+        rawPrefix.getChars(0, rawPrefix.length(), reference, 4);
+        counterStart = 4 + rawPrefix.length();
+
+        // checksum of prefix
+        int sum = 0;
+        for (int i = 4; i < counterStart; i++)
+            sum = appendToChecksum(sum, reference[i]);
+
+        // append counter
+        long value = start;
+        for (int i = reference.length - 1; i >= counterStart; i--) {
+            reference[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        for (int i = counterStart; i < reference.length; i++)
+            sum = appendToChecksum(sum, reference[i]);
+
+        // append "RF00"
+        checksum = (int) ((sum * (long) RF00_SHIFT + RF00_DIGITS) % 97);
+        remaining = count;
+    }
+
+    /**
+     * Indicates if there are more references in the sequence.
+     *
+     * @return {@code true} if there are more references, {@code false} otherwise
+     */
+    public boolean hasNext() {
+        return remaining > 0;
+    }
+
+    /**
+     * Gets the number of remaining references in the sequence.
+     *
+     * @return number of remaining references
+     */
+    public long getRemaining() {
+        return remaining;
+    }
+
+    /**
+     * Gets the length of the generated creditor references.
+     *
+     * @return length (number of characters)
+     */
+    public int getReferenceLength() {
+        return reference.length;
+    }
+
+    /**
+     * Writes the next creditor reference into the specified buffer.
+     * <p>
+     * Exactly {@link #getReferenceLength()} characters are written.
+     * </p>
+     *
+     * @param buffer the buffer
+     * @param offset the offset of the first character within the buffer
+     * @throws NoSuchElementException if the sequence has no more references
+     */
+    public void next(char[] buffer, int offset) {
+        advance();
+        System.arraycopy(reference, 0, buffer, offset, reference.length);
+    }
+
+    /**
+     * Appends the next creditor reference to the specified output.
+     *
+     * @param output the output, e.g. a {@code Writer} or {@code StringBuilder}
+     * @throws IOException            if the output cannot be written
+     * @throws NoSuchElementException if the sequence has no more references
+     */
+    public void next(Appendable output) throws IOException {
+        advance();
+        for (char ch : reference)
+            output.append(ch);
+    }
+
+    /**
+     * Gets the next creditor reference.
+     *
+     * @return creditor reference
+     * @throws NoSuchElementException if the sequence has no more references
+     */
+    public String next() {
+        advance();
+        return new String(reference);
+    }
+
+    private void advance() {
+        if (remaining <= 0)
+            throw new NoSuchElementException();
+
+        if (isIncrementPending) {
+            // increment counter, propagating the carry to the left
+            int pos = reference.length - 1;
+            while (reference[pos] == '9') {
+                reference[pos] = '0';
+                pos--;
+            }
+            reference[pos]++;
+
+            // incrementing the counter by 1 adds 10^6 (shift by "RF00") to the checksum
+            checksum += RF00_SHIFT;
+            if (checksum >= 97)
+                checksum -= 97;
+        }
+
+        int checkDigits = 98 - checksum;
+        reference[2] = (char) ('0' + checkDigits / 10);
+        reference[3] = (char) ('0' + checkDigits % 10);
+
+        remaining--;
+        isIncrementPending = true;
+    }
+
+    private static int appendToChecksum(int sum, char ch) {
+        if (ch >= '0' && ch <= '9')
+            return (sum * 10 + (ch - '0')) % 97;
+        else if (ch >= 'A' && ch <= 'Z')
+            return (sum * 100 + (ch - 'A' + 10)) % 97;
+        else
+            return (sum * 100 + (ch - 'a' + 10)) % 97;
+    }
+}
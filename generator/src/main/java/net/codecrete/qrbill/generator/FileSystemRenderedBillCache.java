@@ -0,0 +1,255 @@
+//
+// Swiss QR Bill Generator
+// Copyright (c) 2026 Manuel Bleichenbacher
+// Licensed under MIT License
+// https://opensource.org/licenses/MIT
+//
+package net.codecrete.qrbill.generator;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+
+/**
+ * Cache for generated QR bills stored in a local directory.
+ * <p>
+ * Each QR bill is stored in a separate file named after its content fingerprint and
+ * the output version ({@link RenderedBillCache#OUTPUT_VERSION}). Files of other output
+ * versions are deleted when an instance is created. Files are written to a temporary file first and then atomically moved into place.
+ * So concurrent readers never see partially written files.
+ * </p>
+ * <p>
+ * The total size of the cached files is limited. If the limit is exceeded, the least
+ * recently used entries are evicted. The usage order is kept in memory. When an instance
+ * is created for an existing directory, the order is initialized from the file modification times.
+ * </p>
+ * <p>
+ * Cached files are read via memory mapping. {@link #getMapped(String)} gives direct access to the mapped
+ * buffer without copying the data.
+ * </p>
+ * <p>
+ * Files that cannot be deleted are left behind. This happens on Windows if a file is
+ * evicted while a buffer returned by {@link #getMapped(String)} is still in use.
+ * They are removed from the cache nevertheless, and deleted later when an instance is
+ * created for the directory.
+ * </p>
+ * <p>
+ * The directory should only be used by a single instance of this class.
+ * </p>
+ */
+public class FileSystemRenderedBillCache implements RenderedBillCache {
+
+    private static final String FILE_SUFFIX = ".qrbill";
+    private static final String VERSION_SUFFIX = ".v" + OUTPUT_VERSION + FILE_SUFFIX;
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private final Path directory;
+    private final long maxSize;
+    /** Cached entries (fingerprint to file size), in LRU order */
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalSize;
+
+    /**
+     * Creates a new instance using the specified directory.
+     * <p>
+     * If the directory does not exist, it is created. If it already contains
+     * cached QR bills, they are reused.
+     * </p>
+     *
+     * @param directory directory for cached files
+     * @param maxSize   maximum total size of cached files, in bytes
+     * @throws IOException thrown if the directory cannot be created or read
+     */
+    public FileSystemRenderedBillCache(Path directory, long maxSize) throws IOException {
+        this.directory = directory;
+        this.maxSize = maxSize;
+        Files.createDirectories(directory);
+        loadEntries();
+    }
+
+    /**
+     * Gets the maximum total size of cached files.
+     *
+     * @return maximum size, in bytes
+     */
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Gets the current total size of cached files.
+     *
+     * @return size, in bytes
+     */
+    public synchronized long getTotalSize() {
+        return totalSize;
+    }
+
+    /**
+     * Gets the number of cached QR bills.
+     *
+     * @return number of entries
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    @Override
+    public byte[] get(String fingerprint) throws IOException {
+        ByteBuffer buffer = getMapped(fingerprint);
+        if (buffer == null)
+            return null;
+
+        byte[] data = new byte[buffer.remaining()];
+        buffer.get(data);
+        return data;
+    }
+
+    /**
+     * Gets the cached QR bill for the specified fingerprint as a memory-mapped read-only buffer.
+     * <p>
+     * The file remains mapped until the buffer is garbage collected. On Windows, it cannot
+     * be deleted during that time.
+     * </p>
+     *
+     * @param fingerprint content fingerprint of cleaned bill data
+     * @return the mapped buffer, or {@code null} if it is not in the cache
+     * @throws IOException thrown if the cache cannot be accessed
+     */
+    public ByteBuffer getMapped(String fingerprint) throws IOException {
+        checkFingerprint(fingerprint);
+        synchronized (this) {
+            // 'get' (unlike 'containsKey') updates the LRU order
+            if (entries.get(fingerprint) == null)
+                return null;
+        }
+
+        try (FileChannel channel = FileChannel.open(getPath(fingerprint), StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return buffer.asReadOnlyBuffer();
+        } catch (NoSuchFileException e) {
+            // file has been evicted in the meantime
+            removeEntry(fingerprint);
+            return null;
+        }
+    }
+
+    @Override
+    public void put(String fingerprint, byte[] data) throws IOException {
+        checkFingerprint(fingerprint);
+        if (data.length > maxSize)
+            return;
+
+        Path tempFile = Files.createTempFile(directory, fingerprint, TEMP_FILE_SUFFIX);
+        try {
+            try (OutputStream os = Files.newOutputStream(tempFile)) {
+                os.write(data);
+            }
+            Files.move(tempFile, getPath(fingerprint), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+
+        List<String> evicted = addEntry(fingerprint, data.length);
+        for (String key : evicted)
+            deleteFile(getPath(key));
+    }
+
+    /**
+     * Removes all cached QR bills.
+     * <p>
+     * Files that cannot be deleted are left behind (see class description).
+     * </p>
+     */
+    public void clear() {
+        List<String> keys;
+        synchronized (this) {
+            keys = new ArrayList<>(entries.keySet());
+            entries.clear();
+            totalSize = 0;
+        }
+        for (String key : keys)
+            deleteFile(getPath(key));
+    }
+
+    private synchronized List<String> addEntry(String fingerprint, long size) {
+        Long previousSize = entries.put(fingerprint, size);
+        if (previousSize != null)
+            totalSize -= previousSize;
+        totalSize += size;
+
+        List<String> evicted = new ArrayList<>();
+        Iterator<Map.Entry<String, Long>> iterator = entries.entrySet().iterator();
+        while (totalSize > maxSize && iterator.hasNext()) {
+            Map.Entry<String, Long> entry = iterator.next();
+            if (entry.getKey().equals(fingerprint))
+                continue;
+            totalSize -= entry.getValue();
+            evicted.add(entry.getKey());
+            iterator.remove();
+        }
+        return evicted;
+    }
+
+    private synchronized void removeEntry(String fingerprint) {
+        Long size = entries.remove(fingerprint);
+        if (size != null)
+            totalSize -= size;
+    }
+
+    private void loadEntries() throws IOException {
+        List<Path> files = new ArrayList<>();
+        Map<Path, BasicFileAttributes> attributes = new HashMap<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            for (Path file : stream) {
+                String fileName = file.getFileName().toString();
+                if (fileName.endsWith(TEMP_FILE_SUFFIX)) {
+                    // left over from an interrupted write
+                    deleteFile(file);
+                } else if (fileName.endsWith(VERSION_SUFFIX)) {
+                    files.add(file);
+                    attributes.put(file, Files.readAttributes(file, BasicFileAttributes.class));
+                } else if (fileName.endsWith(FILE_SUFFIX)) {
+                    // generated by another version
+                    deleteFile(file);
+                }
+            }
+        }
+
+        files.sort(Comparator.comparing(file -> attributes.get(file).lastModifiedTime()));
+        for (Path file : files) {
+            String fileName = file.getFileName().toString();
+            String fingerprint = fileName.substring(0, fileName.length() - VERSION_SUFFIX.length());
+            for (String key : addEntry(fingerprint, attributes.get(file).size()))
+                deleteFile(getPath(key));
+        }
+    }
+
+    private Path getPath(String fingerprint) {
+        return directory.resolve(fingerprint + VERSION_SUFFIX);
+    }
+
+    private static void deleteFile(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // still mapped or locked; left behind (see class description)
+        }
+    }
+
+    private static void checkFingerprint(String fingerprint) {
+        int len = fingerprint.length();
+        boolean isValid = len > 0;
+        for (int i = 0; i < len && isValid; i++) {
+            char ch = fingerprint.charAt(i);
+            isValid = (ch >= '0' && ch <= '9') || (ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z');
+        }
+        if (!isValid)
+            throw new IllegalArgumentException("Invalid fingerprint");
+    }
+}
@@ -0,0 +1,126 @@
+//
+// Swiss QR Bill Generator
+// Copyright (c) 2026 Manuel Bleichenbacher
+// Licensed under MIT License
+// https://opensource.org/licenses/MIT
+//
+package net.codecrete.qrbill.generator;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache for generated QR bills kept in memory.
+ * <p>
+ * The cache is intended for deduplicating identical bills when generating a batch of QR bills.
+ * Bills with identical cleaned data and format are only generated once, and the same byte array
+ * is returned for every occurrence. So the returned byte arrays must not be modified.
+ * </p>
+ * <p>
+ * The memory usage is limited. If the limit is exceeded, the least recently used entries are evicted.
+ * As duplicate bills usually occur close to each other in a batch, a limit of a few megabytes is
+ * sufficient even for very large batches.
+ * </p>
+ * <pre>
+ * InMemoryRenderedBillCache cache = new InMemoryRenderedBillCache(16 * 1024 * 1024);
+ * for (Bill bill : bills)
+ *     output(QRBill.generate(bill, cache));
+ * </pre>
+ *
+ * @see QRBill#generate(Bill, RenderedBillCache)
+ */
+public class InMemoryRenderedBillCache implements RenderedBillCache {
+
+    /** Estimated memory used per entry in addition to the data */
+    private static final int ENTRY_OVERHEAD = 160;
+
+    private final long maxSize;
+    /** Cached entries, in LRU order */
+    private final LinkedHashMap<String, byte[]> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalSize;
+    private long hitCount;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param maxSize maximum memory used by cached QR bills, in bytes
+     */
+    public InMemoryRenderedBillCache(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Gets the maximum memory used by cached QR bills.
+     *
+     * @return maximum size, in bytes
+     */
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Gets the estimated memory currently used by cached QR bills.
+     *
+     * @return size, in bytes
+     */
+    public synchronized long getTotalSize() {
+        return totalSize;
+    }
+
+    /**
+     * Gets the number of cached QR bills.
+     *
+     * @return number of entries
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Gets the number of QR bills that have been served from the cache.
+     * <p>
+     * For a batch, this is the number of duplicate bills that did not need to be generated.
+     * </p>
+     *
+     * @return number of cache hits
+     */
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    @Override
+    public synchronized byte[] get(String fingerprint) {
+        byte[] data = entries.get(fingerprint);
+        if (data != null)
+            hitCount++;
+        return data;
+    }
+
+    @Override
+    public synchronized void put(String fingerprint, byte[] data) {
+        long size = data.length + ENTRY_OVERHEAD;
+        if (size > maxSize)
+            return;
+
+        byte[] previousData = entries.put(fingerprint, data);
+        if (previousData != null)
+            totalSize -= previousData.length + ENTRY_OVERHEAD;
+        totalSize += size;
+
+        Iterator<Map.Entry<String, byte[]>> iterator = entries.entrySet().iterator();
+        while (totalSize > maxSize) {
+            Map.Entry<String, byte[]> entry = iterator.next();
+            totalSize -= entry.getValue().length + ENTRY_OVERHEAD;
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Removes all cached QR bills.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        totalSize = 0;
+    }
+}
@@ -0,0 +1,195 @@
+//
+// Swiss QR Bill Generator
+// Copyright (c) 2026 Manuel Bleichenbacher
+// Licensed under MIT License
+// https://opensource.org/licenses/MIT
+//
+package net.codecrete.qrbill.generator;
+
+/**
+ * Layout information of a QR bill, determined without generating it.
+ * <p>
+ * The information reflects the decisions of the layout process: the font size
+ * of the payment part, the number of lines of the text blocks, whether the text of
+ * the receipt had to be reduced, and whether any alternative scheme instructions
+ * are truncated.
+ * </p>
+ *
+ * @see QRBill#preflight(Bill)
+ */
+public final class LayoutPreflight {
+
+    private final ValidationResult validationResult;
+    private final int paymentPartFontSize;
+    private final boolean isPaymentPartTooTight;
+    private final int[] paymentPartLineCounts;
+    private final boolean hasReceipt;
+    private final boolean isReceiptTooTight;
+    private final int[] receiptLineCounts;
+    private final boolean isReceiptAccountPayableToReduced;
+    private final boolean isReceiptPayableByReduced;
+    private final boolean[] truncatedAlternativeSchemes;
+
+    LayoutPreflight(ValidationResult validationResult, int paymentPartFontSize, boolean isPaymentPartTooTight,
+                    int[] paymentPartLineCounts, boolean hasReceipt, boolean isReceiptTooTight,
+                    int[] receiptLineCounts, boolean isReceiptAccountPayableToReduced,
+                    boolean isReceiptPayableByReduced, boolean[] truncatedAlternativeSchemes) {
+        this.validationResult = validationResult;
+        this.paymentPartFontSize = paymentPartFontSize;
+        this.isPaymentPartTooTight = isPaymentPartTooTight;
+        this.paymentPartLineCounts = paymentPartLineCounts;
+        this.hasReceipt = hasReceipt;
+        this.isReceiptTooTight = isReceiptTooTight;
+        this.receiptLineCounts = receiptLineCounts;
+        this.isReceiptAccountPayableToReduced = isReceiptAccountPayableToReduced;
+        this.isReceiptPayableByReduced = isReceiptPayableByReduced;
+        this.truncatedAlternativeSchemes = truncatedAlternativeSchemes;
+    }
+
+    /**
+     * Gets the validation result of the bill data.
+     * <p>
+     * It contains the warnings (if any) and the cleaned bill data.
+     * </p>
+     *
+     * @return validation result
+     */
+    public ValidationResult getValidationResult() {
+        return validationResult;
+    }
+
+    /**
+     * Gets the font size used for the text of the payment part.
+     * <p>
+     * The preferred font size is 10pt. It is reduced (down to 8pt) if the text does not fit.
+     * </p>
+     *
+     * @return font size (in pt)
+     */
+    public int getPaymentPartFontSize() {
+        return paymentPartFontSize;
+    }
+
+    /**
+     * Gets if the text of the payment part does not fit even with the smallest font size.
+     * <p>
+     * If so, the text blocks are placed without spacing between them, and
+     * the text might overlap.
+     * </p>
+     *
+     * @return {@code true} if the text is too tight, {@code false} otherwise
+     */
+    public boolean isPaymentPartTooTight() {
+        return isPaymentPartTooTight;
+    }
+
+    /**
+     * Gets the number of lines of the "Account / Payable to" block of the payment part.
+     *
+     * @return number of lines (excluding the label)
+     */
+    public int getPaymentPartAccountPayableToLines() {
+        return paymentPartLineCounts[0];
+    }
+
+    /**
+     * Gets the number of lines of the "Additional information" block of the payment part.
+     *
+     * @return number of lines (excluding the label), or 0 if there is no additional information
+     */
+    public int getPaymentPartAdditionalInfoLines() {
+        return paymentPartLineCounts[1];
+    }
+
+    /**
+     * Gets the number of lines of the "Payable by" block of the payment part.
+     *
+     * @return number of lines (excluding the label), or 0 if the debtor is not specified
+     */
+    public int getPaymentPartPayableByLines() {
+        return paymentPartLineCounts[2];
+    }
+
+    /**
+     * Gets if the layout includes a receipt.
+     * <p>
+     * If not, the receipt related properties are all 0 or {@code false}.
+     * </p>
+     *
+     * @return {@code true} if there is a receipt, {@code false} otherwise
+     */
+    public boolean hasReceipt() {
+        return hasReceipt;
+    }
+
+    /**
+     * Gets if the text of the receipt does not fit even after it has been reduced.
+     *
+     * @return {@code true} if the text is too tight, {@code false} otherwise
+     */
+    public boolean isReceiptTooTight() {
+        return isReceiptTooTight;
+    }
+
+    /**
+     * Gets the number of lines of the "Account / Payable to" block of the receipt.
+     *
+     * @return number of lines (excluding the label)
+     */
+    public int getReceiptAccountPayableToLines() {
+        return receiptLineCounts[0];
+    }
+
+    /**
+     * Gets the number of lines of the "Payable by" block of the receipt.
+     *
+     * @return number of lines (excluding the label), or 0 if the debtor is not specified
+     */
+    public int getReceiptPayableByLines() {
+        return receiptLineCounts[1];
+    }
+
+    /**
+     * Gets if the debtor address of the receipt has been reduced (to name and town) to make the text fit.
+     *
+     * @return {@code true} if it has been reduced, {@code false} otherwise
+     */
+    public boolean isReceiptPayableByReduced() {
+        return isReceiptPayableByReduced;
+    }
+
+    /**
+     * Gets if the creditor address of the receipt has been reduced (to name and town) to make the text fit.
+     *
+     * @return {@code true} if it has been reduced, {@code false} otherwise
+     */
+    public boolean isReceiptAccountPayableToReduced() {
+        return isReceiptAccountPayableToReduced;
+    }
+
+    /**
+     * Gets if the instruction of the specified alternative scheme is truncated.
+     *
+     * @param index index of the alternative scheme (in {@link Bill#getAlternativeSchemes()})
+     * @return {@code true} if it is truncated, {@code false} otherwise
+     * @throws IndexOutOfBoundsException thrown if the index is invalid
+     */
+    public boolean isAlternativeSchemeTruncated(int index) {
+        if (index < 0 || index >= truncatedAlternativeSchemes.length)
+            throw new IndexOutOfBoundsException("Invalid alternative scheme index: " + index);
+        return truncatedAlternativeSchemes[index];
+    }
+
+    /**
+     * Gets if the instruction of any alternative scheme is truncated.
+     *
+     * @return {@code true} if at least one instruction is truncated, {@code false} otherwise
+     */
+    public boolean hasTruncatedAlternativeSchemes() {
+        for (boolean isTruncated : truncatedAlternativeSchemes) {
+            if (isTruncated)
+                return true;
+        }
+        return false;
+    }
+}
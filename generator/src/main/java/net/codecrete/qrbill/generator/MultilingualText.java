@@ -7,6 +7,7 @@
 package net.codecrete.qrbill.generator;
 
 import java.util.Locale;
+import java.util.MissingResourceException;
 import java.util.ResourceBundle;
 
 /**
@@ -60,9 +61,36 @@ public class MultilingualText {
     public static final String KEY_DO_NOT_USE_FOR_PAYMENT = "do_not_use_for_payment";
 
 
+    // indexes of the texts in the text table (for fast lookup within the library)
+    static final int TEXT_PAYMENT_PART = 0;
+    static final int TEXT_ACCOUNT_PAYABLE_TO = 1;
+    static final int TEXT_REFERENCE = 2;
+    static final int TEXT_ADDITIONAL_INFORMATION = 3;
+    static final int TEXT_CURRENCY = 4;
+    static final int TEXT_AMOUNT = 5;
+    static final int TEXT_RECEIPT = 6;
+    static final int TEXT_ACCEPTANCE_POINT = 7;
+    static final int TEXT_PAYABLE_BY = 8;
+    static final int TEXT_PAYABLE_BY_NAME_ADDRESS = 9;
+    static final int TEXT_DO_NOT_USE_FOR_PAYMENT = 10;
+
+    /** Text keys, in the order of the text indexes */
+    private static final String[] TEXT_KEYS = {
+            KEY_PAYMENT_PART, KEY_ACCOUNT_PAYABLE_TO, KEY_REFERENCE, KEY_ADDITIONAL_INFORMATION,
+            KEY_CURRENCY, KEY_AMOUNT, KEY_RECEIPT, KEY_ACCEPTANCE_POINT, KEY_PAYABLE_BY,
+            KEY_PAYABLE_BY_NAME_ADDRESS, KEY_DO_NOT_USE_FOR_PAYMENT
+    };
+
     private static final String[] languageCodes = { "de", "fr", "it", "rm", "en" };
 
-    private static final ResourceBundle[] messageBundles = new ResourceBundle[5];
+    /**
+     * Texts, by language index and text index.
+     * <p>
+     * The table is built once from the resource bundles when the class is initialized,
+     * which also makes it safely available to all threads.
+     * </p>
+     */
+    private static final String[][] TEXTS = loadTexts();
 
 
     private MultilingualText() {
@@ -75,19 +103,38 @@ public class MultilingualText {
      * @param key      text key
      * @param language language
      * @return text
+     * @throws MissingResourceException if there is no text for the specified key
      */
     public static String getText(String key, Language language) {
+        for (int i = 0; i < TEXT_KEYS.length; i++) {
+            if (TEXT_KEYS[i].equals(key))
+                return getText(i, language);
+        }
+        throw new MissingResourceException("Can't find resource for bundle qrbill, key " + key,
+                MultilingualText.class.getName(), key);
+    }
 
-        int index = getLanguageIndex(language);
-        ResourceBundle bundle = messageBundles[index];
+    /**
+     * Gets the text for the specified text index in the specified language
+     *
+     * @param textIndex text index (see {@code TEXT_xxx} constants)
+     * @param language  language
+     * @return text
+     */
+    static String getText(int textIndex, Language language) {
+        return TEXTS[getLanguageIndex(language)][textIndex];
+    }
 
-        if (bundle == null) {
+    private static String[][] loadTexts() {
+        String[][] texts = new String[languageCodes.length][];
+        for (int index = 0; index < languageCodes.length; index++) {
             Locale locale = new Locale(languageCodes[index], "CH");
-            bundle = ResourceBundle.getBundle("qrbill", locale, MultilingualText.class.getClassLoader());
-            messageBundles[index] = bundle;
+            ResourceBundle bundle = ResourceBundle.getBundle("qrbill", locale, MultilingualText.class.getClassLoader());
+            texts[index] = new String[TEXT_KEYS.length];
+            for (int i = 0; i < TEXT_KEYS.length; i++)
+                texts[index][i] = bundle.getString(TEXT_KEYS[i]);
         }
-
-        return bundle.getString(key);
+        return texts;
     }
 
     private static int getLanguageIndex(Language language) {
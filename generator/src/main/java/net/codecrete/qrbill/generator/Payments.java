@@ -256,7 +256,21 @@ public class Payments {
         return sum;
     }
 
-    private static final int[] MOD_10 = { 0, 9, 4, 6, 8, 2, 7, 1, 3, 5 };
+    /** Modulo 10 recursive carry table (used for the check digit of QR references) */
+    static final int[] MOD_10 = { 0, 9, 4, 6, 8, 2, 7, 1, 3, 5 };
+
+    /**
+     * Gets the maximum value of a decimal number with the specified number of digits.
+     *
+     * @param numDigits number of digits (1 to 18)
+     * @return maximum value (all digits 9)
+     */
+    static long maxValue(int numDigits) {
+        long max = 9;
+        for (int i = 1; i < numDigits; i++)
+            max = max * 10 + 9;
+        return max;
+    }
 
     /**
      * Validates if the string is a valid QR reference.
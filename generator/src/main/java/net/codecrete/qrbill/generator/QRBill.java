@@ -104,6 +104,8 @@ public class QRBill {
      */
     public static final double PAYMENT_PART_HEIGHT = 105;
 
+    private static volatile QRModuleEncoder qrModuleEncoder = QRModuleEncoder.SPECIALIZED;
+
 
     private QRBill() {
         // do not instantiate
@@ -149,14 +151,67 @@ public class QRBill {
      * @see #draw
      */
     public static byte[] generate(Bill bill) {
-        try (Canvas canvas = createCanvas(bill)) {
-            validateAndGenerate(bill, canvas);
-            return ((ByteArrayResult) canvas).toByteArray();
+        ValidationResult result = Validator.validate(bill);
+        if (result.hasErrors())
+            throw new QRBillValidationError(result);
+
+        try {
+            return generateValidated(result.getCleanedBill());
+        } catch (IOException e) {
+            throw new QRBillGenerationException(e);
+        }
+    }
+
+    /**
+     * Generates a QR bill (payment part and receipt) or QR code as an SVG image or PDF document,
+     * using the specified cache.
+     * <p>
+     * The bill data is validated and cleaned first. If the cache already contains the result for
+     * the cleaned bill data, the cached result is returned. Otherwise, the QR bill is generated
+     * and stored in the cache.
+     * </p>
+     * <p>
+     * If the bill data is not valid, a {@link QRBillValidationError} is
+     * thrown, which contains the validation result. For details about the
+     * validation result, see <a href=
+     * "https://github.com/manuelbl/SwissQRBill/wiki/Bill-data-validation">Bill data
+     * validation</a>
+     * </p>
+     *
+     * @param bill  the bill data
+     * @param cache the cache for generated QR bills
+     * @return the generated QR bill (as a byte array encoded in the specified graphics format)
+     * @throws QRBillValidationError thrown if the bill data does not validate
+     * @see #generate(Bill)
+     * @see RenderedBillCache
+     */
+    public static byte[] generate(Bill bill, RenderedBillCache cache) {
+        ValidationResult result = Validator.validate(bill);
+        if (result.hasErrors())
+            throw new QRBillValidationError(result);
+
+        try {
+            byte[] data = cache.get(result.getFingerprint());
+            if (data == null) {
+                data = generateValidated(result.getCleanedBill());
+                cache.put(result.getFingerprint(), data);
+            }
+            return data;
         } catch (IOException e) {
             throw new QRBillGenerationException(e);
         }
     }
 
+    private static byte[] generateValidated(Bill cleanedBill) throws IOException {
+        if (QRCodePNGRenderer.isApplicable(cleanedBill.getFormat()))
+            return QRCodePNGRenderer.render(cleanedBill);
+
+        try (Canvas canvas = createCanvas(cleanedBill)) {
+            drawValidated(cleanedBill, canvas);
+            return ((ByteArrayResult) canvas).toByteArray();
+        }
+    }
+
     /**
      * Draws the QR bill (payment part and receipt) or QR code for the specified bill data onto the specified canvas.
      * <p>
@@ -223,17 +278,52 @@ public class QRBill {
         }
     }
 
+    /**
+     * Lays out the specified bill without generating it.
+     * <p>
+     * The bill data is validated and cleaned, and the text of the payment part and
+     * receipt is laid out using the font metrics of the font that would be used for
+     * the bill's graphics format. No QR code is encoded and no output is generated, making
+     * this method suitable for checking a large number of bills ahead of generating them.
+     * </p>
+     * <p>
+     * For the output sizes {@link OutputSize#QR_CODE_ONLY} and {@link OutputSize#QR_CODE_WITH_QUIET_ZONE},
+     * the layout of the payment part and receipt is determined as if a QR bill was generated.
+     * </p>
+     * <p>
+     * If the bill data does not validate, a {@link QRBillValidationError} is
+     * thrown, which contains the validation result.
+     * </p>
+     *
+     * @param bill the bill data
+     * @return the layout information
+     * @throws QRBillValidationError thrown if the bill data does not validate
+     */
+    public static LayoutPreflight preflight(Bill bill) {
+        ValidationResult result = Validator.validate(bill);
+        Bill cleanedBill = result.getCleanedBill();
+        if (result.hasErrors())
+            throw new QRBillValidationError(result);
+
+        BillLayout layout = new BillLayout(cleanedBill, FontMetrics.getInstance(getFontFamily(cleanedBill)));
+        return layout.preflight(result);
+    }
+
     private static void validateAndGenerate(Bill bill, Canvas canvas) throws IOException {
         ValidationResult result = Validator.validate(bill);
         Bill cleanedBill = result.getCleanedBill();
         if (result.hasErrors())
             throw new QRBillValidationError(result);
 
-        if (bill.getFormat().getOutputSize() == OutputSize.QR_CODE_ONLY) {
+        drawValidated(cleanedBill, canvas);
+    }
+
+    private static void drawValidated(Bill cleanedBill, Canvas canvas) throws IOException {
+        if (cleanedBill.getFormat().getOutputSize() == OutputSize.QR_CODE_ONLY) {
             QRCode qrCode = new QRCode(cleanedBill);
             qrCode.draw(canvas, 0, 0);
 
-        } else if (bill.getFormat().getOutputSize() == OutputSize.QR_CODE_WITH_QUIET_ZONE) {
+        } else if (cleanedBill.getFormat().getOutputSize() == OutputSize.QR_CODE_WITH_QUIET_ZONE) {
                 QRCode qrCode = new QRCode(cleanedBill);
                 canvas.startPath();
                 canvas.addRectangle(0, 0, QR_CODE_WITH_QUIET_ZONE_WIDTH, QR_CODE_WITH_QUIET_ZONE_HEIGHT);
@@ -246,6 +336,28 @@ public class QRBill {
         }
     }
 
+    /**
+     * Gets the encoder used for generating the modules of the QR code.
+     *
+     * @return QR code module encoder
+     */
+    public static QRModuleEncoder getQrModuleEncoder() {
+        return qrModuleEncoder;
+    }
+
+    /**
+     * Sets the encoder used for generating the modules of the QR code.
+     * <p>
+     * The encoder is used for all QR bills generated thereafter (in all threads).
+     * The default is {@link QRModuleEncoder#SPECIALIZED}.
+     * </p>
+     *
+     * @param encoder QR code module encoder, or {@code null} to restore the default
+     */
+    public static void setQrModuleEncoder(QRModuleEncoder encoder) {
+        qrModuleEncoder = encoder != null ? encoder : QRModuleEncoder.SPECIALIZED;
+    }
+
     /**
      * Encodes the text embedded in the QR code from the specified bill data.
      * <p>
@@ -332,10 +444,7 @@ public class QRBill {
                 canvas = new SVGCanvas(drawingWidth, drawingHeight, format.getFontFamily());
                 break;
             case PDF:
-                canvas = new PDFCanvas(drawingWidth, drawingHeight,
-                        bill.getCharacterSet() != SPSCharacterSet.LATIN_1_SUBSET
-                                ? PDFFontSettings.embeddedLiberationSans()
-                                : PDFFontSettings.standardHelvetica());
+                canvas = new PDFCanvas(drawingWidth, drawingHeight, getPDFFontSettings(bill));
                 break;
             case PNG:
                 canvas = new PNGCanvas(drawingWidth, drawingHeight, format.getResolution(), format.getFontFamily());
@@ -345,4 +454,17 @@ public class QRBill {
         }
         return canvas;
     }
+
+    private static PDFFontSettings getPDFFontSettings(Bill bill) {
+        return bill.getCharacterSet() != SPSCharacterSet.LATIN_1_SUBSET
+                ? PDFFontSettings.embeddedLiberationSans()
+                : PDFFontSettings.standardHelvetica();
+    }
+
+    private static String getFontFamily(Bill bill) {
+        BillFormat format = bill.getFormat();
+        if (format.getGraphicsFormat() == GraphicsFormat.PDF)
+            return getPDFFontSettings(bill).getFontFamily();
+        return format.getFontFamily();
+    }
 }
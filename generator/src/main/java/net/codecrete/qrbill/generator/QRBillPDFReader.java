@@ -0,0 +1,399 @@
+//
+// Swiss QR Bill Generator
+// Copyright (c) 2026 Manuel Bleichenbacher
+// Licensed under MIT License
+// https://opensource.org/licenses/MIT
+//
+package net.codecrete.qrbill.generator;
+
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.contentstream.PDFGraphicsStreamEngine;
+import org.apache.pdfbox.cos.COSArray;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.graphics.image.PDImage;
+
+import java.awt.geom.PathIterator;
+import java.awt.geom.Point2D;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reads the QR code of a QR bill from the vector graphics of a PDF page.
+ * <p>
+ * The QR code is recovered from the path operators of the page's content stream, without
+ * rendering the page: the dark modules of a QR code are drawn as a single filled path consisting
+ * of rectangles or rectilinear polygons. The module grid is derived from the path's bounding box
+ * and its corner coordinates, and the modules are sampled from the path with a scanline algorithm.
+ * Text is skipped entirely.
+ * </p>
+ * <p>
+ * This works for PDF documents generated by this library and by other generators drawing
+ * the QR code as vector graphics. If the QR code has been embedded as an image, it cannot be read.
+ * </p>
+ */
+public class QRBillPDFReader {
+
+    /** Minimum number of subpaths of a path considered as QR code candidate */
+    private static final int MIN_SUBPATHS = 8;
+
+    /** Maximum deviation of corner coordinates from the module grid, relative to the module size */
+    private static final double MAX_GRID_DEVIATION = 0.1;
+
+    private QRBillPDFReader() {
+        // do not instantiate
+    }
+
+    /**
+     * Reads the first QR bill found in the specified PDF document.
+     *
+     * @param pdf PDF document data
+     * @return decoded bill data
+     * @throws IOException           thrown if the PDF document cannot be parsed
+     * @throws QRBillReadException   thrown if no QR code was found
+     * @throws QRBillValidationError thrown if the QR code text is not valid QR bill data
+     */
+    public static Bill read(byte[] pdf) throws IOException {
+        try (PDDocument document = Loader.loadPDF(pdf)) {
+            for (PDPage page : document.getPages()) {
+                String text = findQrCodeText(page);
+                if (text != null)
+                    return QRBill.decodeQrCodeText(text);
+            }
+        }
+        throw new QRBillReadException("No QR code found");
+    }
+
+    /**
+     * Reads the QR bill on the specified PDF page.
+     *
+     * @param page PDF page
+     * @return decoded bill data
+     * @throws IOException           thrown if the page content cannot be parsed
+     * @throws QRBillReadException   thrown if no QR code was found
+     * @throws QRBillValidationError thrown if the QR code text is not valid QR bill data
+     */
+    public static Bill read(PDPage page) throws IOException {
+        return QRBill.decodeQrCodeText(readQrCodeText(page));
+    }
+
+    /**
+     * Reads the text of the QR code on the specified PDF page.
+     * <p>
+     * The text is not validated.
+     * </p>
+     *
+     * @param page PDF page
+     * @return QR code text
+     * @throws IOException         thrown if the page content cannot be parsed
+     * @throws QRBillReadException thrown if no QR code was found
+     */
+    public static String readQrCodeText(PDPage page) throws IOException {
+        String text = findQrCodeText(page);
+        if (text == null)
+            throw new QRBillReadException("No QR code found");
+        return text;
+    }
+
+    private static String findQrCodeText(PDPage page) throws IOException {
+        PathCollector collector = new PathCollector(page);
+        collector.processPage(page);
+
+        // try candidates with the most subpaths first
+        collector.candidates.sort((a, b) -> Integer.compare(b.numSubpaths, a.numSubpaths));
+        for (FilledPath path : collector.candidates) {
+            long[][] modules = sampleModules(path);
+            if (modules == null)
+                continue;
+            // the QR code is usually upright, but the page content might be rotated
+            for (int rotation = 0; rotation < 4; rotation++) {
+                String text = QRCodeDecoder.decode(modules, true);
+                if (text != null)
+                    return text;
+                modules = rotate(modules);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Samples the modules of the specified path.
+     *
+     * @return modules, as bit sets indexed by y (row 0 at the top), or {@code null} if the path is not a QR code
+     */
+    static long[][] sampleModules(FilledPath path) {
+        double[] edges = path.edges;
+        int numEdges = path.numEdges;
+
+        double minX = Double.MAX_VALUE;
+        double minY = Double.MAX_VALUE;
+        double maxX = -Double.MAX_VALUE;
+        double maxY = -Double.MAX_VALUE;
+        for (int i = 0; i < numEdges * 4; i += 2) {
+            minX = Math.min(minX, edges[i]);
+            maxX = Math.max(maxX, edges[i]);
+            minY = Math.min(minY, edges[i + 1]);
+            maxY = Math.max(maxY, edges[i + 1]);
+        }
+        double width = maxX - minX;
+        double height = maxY - minY;
+        if (width <= 0 || Math.abs(width - height) > width * 0.01)
+            return null;
+
+        int size = findGridSize(edges, numEdges, minX, minY, width);
+        if (size == 0)
+            return null;
+
+        double moduleSize = width / size;
+        long[][] modules = new long[size][QRCodeBitMatrix.getWordsPerLine(size)];
+        double[] crossings = new double[numEdges];
+        int[] directions = new int[numEdges];
+        int[] order = new int[numEdges];
+        for (int row = 0; row < size; row++) {
+            // collect crossings of edges with horizontal line through module centers
+            double y = maxY - (row + 0.5) * moduleSize;
+            int numCrossings = 0;
+            for (int i = 0; i < numEdges * 4; i += 4) {
+                double y0 = edges[i + 1];
+                double y1 = edges[i + 3];
+                if ((y0 <= y) == (y1 <= y))
+                    continue;
+                double x0 = edges[i];
+                crossings[numCrossings] = x0 + (y - y0) * (edges[i + 2] - x0) / (y1 - y0);
+                directions[numCrossings] = y1 > y0 ? 1 : -1;
+                numCrossings++;
+            }
+            sortCrossings(crossings, order, numCrossings);
+
+            // sweep module centers
+            long[] moduleRow = modules[row];
+            int winding = 0;
+            int next = 0;
+            for (int column = 0; column < size; column++) {
+                double x = minX + (column + 0.5) * moduleSize;
+                while (next < numCrossings && crossings[order[next]] < x) {
+                    winding += directions[order[next]];
+                    next++;
+                }
+                boolean isDark = path.windingRule == PathIterator.WIND_EVEN_ODD ? (winding & 1) != 0 : winding != 0;
+                if (isDark)
+                    moduleRow[column >>> 6] |= 1L << column;
+            }
+        }
+        return modules;
+    }
+
+    /**
+     * Finds the number of modules per row for which all corners are on the module grid.
+     *
+     * @return number of modules, or 0 if no matching grid was found
+     */
+    private static int findGridSize(double[] edges, int numEdges, double minX, double minY, double width) {
+        for (int version = 1; version <= 40; version++) {
+            int size = version * 4 + 17;
+            double moduleSize = width / size;
+            boolean matches = true;
+            for (int i = 0; i < numEdges * 4 && matches; i += 2) {
+                double gx = (edges[i] - minX) / moduleSize;
+                double gy = (edges[i + 1] - minY) / moduleSize;
+                matches = Math.abs(gx - Math.rint(gx)) <= MAX_GRID_DEVIATION
+                        && Math.abs(gy - Math.rint(gy)) <= MAX_GRID_DEVIATION;
+            }
+            if (matches)
+                return size;
+        }
+        return 0;
+    }
+
+    private static void sortCrossings(double[] crossings, int[] order, int numCrossings) {
+        // insertion sort of indexes (rows have few crossings, mostly in order already)
+        for (int i = 0; i < numCrossings; i++) {
+            int index = i;
+            int j = i - 1;
+            while (j >= 0 && crossings[order[j]] > crossings[index]) {
+                order[j + 1] = order[j];
+                j--;
+            }
+            order[j + 1] = index;
+        }
+    }
+
+    /**
+     * Rotates the modules by 90° clockwise.
+     */
+    private static long[][] rotate(long[][] modules) {
+        int size = modules.length;
+        long[][] result = new long[size][modules[0].length];
+        for (int y = 0; y < size; y++)
+            for (int x = 0; x < size; x++)
+                if ((modules[y][x >>> 6] & (1L << x)) != 0) {
+                    int rx = size - 1 - y;
+                    result[x][rx >>> 6] |= 1L << rx;
+                }
+        return result;
+    }
+
+    /**
+     * Filled path consisting of straight lines only.
+     */
+    static class FilledPath {
+        /** Edges as a sequence of x0, y0, x1, y1 */
+        final double[] edges;
+        final int numEdges;
+        final int numSubpaths;
+        final int windingRule;
+
+        FilledPath(double[] edges, int numEdges, int numSubpaths, int windingRule) {
+            this.edges = edges;
+            this.numEdges = numEdges;
+            this.numSubpaths = numSubpaths;
+            this.windingRule = windingRule;
+        }
+    }
+
+    /**
+     * Collects the dark filled paths of a page.
+     */
+    private static class PathCollector extends PDFGraphicsStreamEngine {
+
+        final List<FilledPath> candidates = new ArrayList<>();
+
+        private double[] edges = new double[256];
+        private int numEdges;
+        private int numSubpaths;
+        private boolean hasCurves;
+        private float startX;
+        private float startY;
+        private float currentX;
+        private float currentY;
+
+        PathCollector(PDPage page) {
+            super(page);
+        }
+
+        @Override
+        public void appendRectangle(Point2D p0, Point2D p1, Point2D p2, Point2D p3) {
+            moveTo((float) p0.getX(), (float) p0.getY());
+            lineTo((float) p1.getX(), (float) p1.getY());
+            lineTo((float) p2.getX(), (float) p2.getY());
+            lineTo((float) p3.getX(), (float) p3.getY());
+            closePath();
+        }
+
+        @Override
+        public void moveTo(float x, float y) {
+            if (numSubpaths > 0)
+                closePath(); // subpaths are implicitly closed for filling
+            startX = x;
+            startY = y;
+            currentX = x;
+            currentY = y;
+            numSubpaths++;
+        }
+
+        @Override
+        public void lineTo(float x, float y) {
+            if (x != currentX || y != currentY)
+                addEdge(currentX, currentY, x, y);
+            currentX = x;
+            currentY = y;
+        }
+
+        @Override
+        public void curveTo(float x1, float y1, float x2, float y2, float x3, float y3) {
+            hasCurves = true;
+            currentX = x3;
+            currentY = y3;
+        }
+
+        @Override
+        public Point2D getCurrentPoint() {
+            return new Point2D.Float(currentX, currentY);
+        }
+
+        @Override
+        public void closePath() {
+            lineTo(startX, startY);
+        }
+
+        @Override
+        public void endPath() {
+            resetPath();
+        }
+
+        @Override
+        public void strokePath() {
+            resetPath();
+        }
+
+        @Override
+        public void fillPath(int windingRule) throws IOException {
+            if (numSubpaths > 0)
+                closePath();
+            if (!hasCurves && numSubpaths >= MIN_SUBPATHS && isDarkFill())
+                candidates.add(new FilledPath(Arrays.copyOf(edges, numEdges * 4), numEdges, numSubpaths, windingRule));
+            resetPath();
+        }
+
+        @Override
+        public void fillAndStrokePath(int windingRule) throws IOException {
+            fillPath(windingRule);
+        }
+
+        @Override
+        public void clip(int windingRule) {
+            // clipping is ignored
+        }
+
+        @Override
+        public void drawImage(PDImage pdImage) {
+            // images are ignored
+        }
+
+        @Override
+        public void shadingFill(COSName shadingName) {
+            // shadings are ignored
+        }
+
+        @Override
+        public void showTextString(byte[] string) {
+            // text is skipped (saves processing the fonts)
+        }
+
+        @Override
+        public void showTextStrings(COSArray array) {
+            // text is skipped (saves processing the fonts)
+        }
+
+        private boolean isDarkFill() throws IOException {
+            int rgb;
+            try {
+                rgb = getGraphicsState().getNonStrokingColor().toRGB();
+            } catch (UnsupportedOperationException e) {
+                return false; // e.g. pattern
+            }
+            int luminance = (77 * ((rgb >> 16) & 0xff) + 150 * ((rgb >> 8) & 0xff) + 29 * (rgb & 0xff)) >> 8;
+            return luminance < 128;
+        }
+
+        private void addEdge(float x0, float y0, float x1, float y1) {
+            if (numEdges * 4 == edges.length)
+                edges = Arrays.copyOf(edges, edges.length * 2);
+            int index = numEdges * 4;
+            edges[index] = x0;
+            edges[index + 1] = y0;
+            edges[index + 2] = x1;
+            edges[index + 3] = y1;
+            numEdges++;
+        }
+
+        private void resetPath() {
+            numEdges = 0;
+            numSubpaths = 0;
+            hasCurves = false;
+        }
+    }
+}
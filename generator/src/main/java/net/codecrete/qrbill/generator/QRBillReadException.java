@@ -0,0 +1,28 @@
+//
+// Swiss QR Bill Generator
+// Copyright (c) 2026 Manuel Bleichenbacher
+// Licensed under MIT License
+// https://opensource.org/licenses/MIT
+//
+package net.codecrete.qrbill.generator;
+
+/**
+ * Exception thrown if no QR code could be read from an image.
+ * <p>
+ * If a QR code was found but its text is not valid QR bill data,
+ * a {@link QRBillValidationError} exception is thrown instead.
+ * </p>
+ */
+public class QRBillReadException extends RuntimeException {
+
+    private static final long serialVersionUID = -3168457290457180924L;
+
+    /**
+     * Constructs a new runtime exception with the specified detail message.
+     *
+     * @param message detail message
+     */
+    public QRBillReadException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,154 @@
+//
+// Swiss QR Bill Generator
+// Copyright (c) 2026 Manuel Bleichenbacher
+// Licensed under MIT License
+// https://opensource.org/licenses/MIT
+//
+package net.codecrete.qrbill.generator;
+
+import java.awt.image.BufferedImage;
+import java.util.List;
+
+/**
+ * Reads the QR code of a QR bill from a raster image, e.g. a scanned payment slip.
+ * <p>
+ * The reader is specialized for QR bills in scanned documents, which makes it faster than
+ * general-purpose barcode readers:
+ * </p>
+ * <ul>
+ *     <li>The image is binarized with a single global threshold.</li>
+ *     <li>As the QR code is always 46 by 46 mm, its finder patterns are large compared to the
+ *     document. So initially only every n-th row is scanned for finder patterns.</li>
+ *     <li>The modules are sampled with an affine transformation (scans have no perspective distortion).</li>
+ *     <li>The codewords covered by the Swiss cross are treated as erasures, which
+ *     doubles the number of them that error correction can repair.</li>
+ * </ul>
+ * <p>
+ * The QR code may be rotated by any angle, but it must not be mirrored.
+ * </p>
+ */
+public class QRBillReader {
+
+    /** Number of scanned rows in the first pass, relative to the shorter image side */
+    private static final int COARSE_SCAN_LINES = 400;
+
+    /** Number of triples of finder patterns tried */
+    private static final int MAX_TRIPLES = 5;
+
+    private QRBillReader() {
+        // do not instantiate
+    }
+
+    /**
+     * Reads the QR bill from the specified image.
+     *
+     * @param image image containing the QR code
+     * @return decoded bill data
+     * @throws QRBillReadException   thrown if no QR code was found
+     * @throws QRBillValidationError thrown if the QR code text is not valid QR bill data
+     */
+    public static Bill read(BufferedImage image) {
+        return QRBill.decodeQrCodeText(readQrCodeText(image));
+    }
+
+    /**
+     * Reads the QR bill from the specified grayscale image.
+     *
+     * @param pixels 8-bit grayscale pixels (0 is black, 255 is white), row by row without padding
+     * @param width  image width, in pixels
+     * @param height image height, in pixels
+     * @return decoded bill data
+     * @throws QRBillReadException   thrown if no QR code was found
+     * @throws QRBillValidationError thrown if the QR code text is not valid QR bill data
+     */
+    public static Bill read(byte[] pixels, int width, int height) {
+        return QRBill.decodeQrCodeText(readQrCodeText(pixels, width, height));
+    }
+
+    /**
+     * Reads the text of the QR code in the specified image.
+     * <p>
+     * The text is not validated.
+     * </p>
+     *
+     * @param image image containing the QR code
+     * @return QR code text
+     * @throws QRBillReadException thrown if no QR code was found
+     */
+    public static String readQrCodeText(BufferedImage image) {
+        return readQrCodeText(toGrayscale(image), image.getWidth(), image.getHeight());
+    }
+
+    /**
+     * Reads the text of the QR code in the specified grayscale image.
+     * <p>
+     * The text is not validated.
+     * </p>
+     *
+     * @param pixels 8-bit grayscale pixels (0 is black, 255 is white), row by row without padding
+     * @param width  image width, in pixels
+     * @param height image height, in pixels
+     * @return QR code text
+     * @throws QRBillReadException thrown if no QR code was found
+     */
+    public static String readQrCodeText(byte[] pixels, int width, int height) {
+        if (width <= 0 || height <= 0 || pixels.length < width * height)
+            throw new IllegalArgumentException("Invalid image size");
+
+        QRCodeLocator locator = new QRCodeLocator(pixels, width, height);
+        int coarseStep = Math.max(1, Math.min(width, height) / COARSE_SCAN_LINES);
+        String text = readQrCodeText(locator, coarseStep);
+        if (text == null && coarseStep > 1)
+            text = readQrCodeText(locator, 1);
+        if (text == null)
+            throw new QRBillReadException("No QR code found");
+        return text;
+    }
+
+    private static String readQrCodeText(QRCodeLocator locator, int rowStep) {
+        List<QRCodeLocator.FinderPattern> candidates = locator.findFinderPatterns(rowStep);
+        List<QRCodeLocator.FinderPattern[]> triples = QRCodeLocator.findTriples(candidates);
+        int numTriples = Math.min(triples.size(), MAX_TRIPLES);
+        for (int i = 0; i < numTriples; i++) {
+            QRCodeLocator.FinderPattern[] triple = triples.get(i);
+            int estimatedVersion = (int) Math.round((QRCodeLocator.estimateSize(triple) - 17) / 4);
+
+            // try estimated version first, then neighboring versions
+            for (int delta = 0; delta <= 2; delta++) {
+                for (int sign = delta == 0 ? 1 : -1; sign <= 1; sign += 2) {
+                    int version = estimatedVersion + sign * delta;
+                    if (version < 1 || version > 40)
+                        continue;
+                    String text = QRCodeDecoder.decode(locator.sampleModules(triple, version * 4 + 17), true);
+                    if (text != null)
+                        return text;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static byte[] toGrayscale(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        byte[] pixels = new byte[width * height];
+
+        if (image.getType() == BufferedImage.TYPE_BYTE_GRAY) {
+            image.getRaster().getDataElements(0, 0, width, height, pixels);
+            return pixels;
+        }
+
+        int[] rgb = new int[width];
+        for (int y = 0; y < height; y++) {
+            image.getRGB(0, y, width, 1, rgb, 0, width);
+            for (int x = 0, offset = y * width; x < width; x++, offset++) {
+                int argb = rgb[x];
+                int luminance = (77 * ((argb >> 16) & 0xff) + 150 * ((argb >> 8) & 0xff) + 29 * (argb & 0xff)) >> 8;
+                int alpha = argb >>> 24;
+                // composite onto white background
+                pixels[offset] = (byte) ((luminance * alpha + 255 * (255 - alpha)) / 255);
+            }
+        }
+        return pixels;
+    }
+}
@@ -6,10 +6,10 @@
 //
 package net.codecrete.qrbill.generator;
 
-import io.nayuki.qrcodegen.QrCode;
 import net.codecrete.qrbill.canvas.Canvas;
 
 import java.io.IOException;
+import java.util.Arrays;
 
 /**
  * Generates the QR code for the Swiss QR bill.
@@ -21,6 +21,8 @@ import java.io.IOException;
 class QRCode {
 
     static final double SIZE = 46; // mm
+    static final double CROSS_BAR_WIDTH = 7 / 6.0; // mm
+    static final double CROSS_BAR_LENGTH = 35 / 9.0; // mm
 
     private final String embeddedText;
 
@@ -46,10 +48,7 @@ class QRCode {
      * @throws IOException exception thrown in case of error in graphics context
      */
     void draw(Canvas graphics, double offsetX, double offsetY) throws IOException {
-        QrCode qrCode = QrCode.encodeText(embeddedText, QrCode.Ecc.MEDIUM);
-
-        boolean[][] modules = copyModules(qrCode);
-        clearSwissCrossArea(modules);
+        long[][] modules = createModules();
 
         graphics.setTransformation(offsetX, offsetY, 0, SIZE / modules.length / 25.4 * 72, SIZE / modules.length / 25.4 * 72);
         graphics.startPath();
@@ -61,8 +60,6 @@ class QRCode {
         graphics.startPath();
         graphics.addRectangle(20, 20, 6, 6);
         graphics.fillPath(0, false);
-        final double BAR_WIDTH = 7 / 6.0;
-        final double BAR_LENGTH = 35 / 9.0;
         graphics.startPath();
         //       A----B
         //       |    |
@@ -77,59 +74,80 @@ class QRCode {
 
         // Center is (23;23)
         // Start in A
-        graphics.moveTo(23 - BAR_WIDTH / 2, 23 - BAR_LENGTH / 2);
+        graphics.moveTo(23 - CROSS_BAR_WIDTH / 2, 23 - CROSS_BAR_LENGTH / 2);
 
         // Line to B
-        graphics.lineTo(23 + BAR_WIDTH / 2, 23 - BAR_LENGTH / 2);
+        graphics.lineTo(23 + CROSS_BAR_WIDTH / 2, 23 - CROSS_BAR_LENGTH / 2);
 
         // Line to C
-        graphics.lineTo(23 + BAR_WIDTH / 2, 23 - BAR_WIDTH / 2);
+        graphics.lineTo(23 + CROSS_BAR_WIDTH / 2, 23 - CROSS_BAR_WIDTH / 2);
 
         // Line to D
-        graphics.lineTo(23 + BAR_LENGTH / 2, 23 - BAR_WIDTH / 2);
+        graphics.lineTo(23 + CROSS_BAR_LENGTH / 2, 23 - CROSS_BAR_WIDTH / 2);
 
         // Line to E
-        graphics.lineTo(23 + BAR_LENGTH / 2, 23 + BAR_WIDTH / 2);
+        graphics.lineTo(23 + CROSS_BAR_LENGTH / 2, 23 + CROSS_BAR_WIDTH / 2);
 
         // Line to F
-        graphics.lineTo(23 + BAR_WIDTH / 2, 23 + BAR_WIDTH / 2);
+        graphics.lineTo(23 + CROSS_BAR_WIDTH / 2, 23 + CROSS_BAR_WIDTH / 2);
 
         // Line to G
-        graphics.lineTo(23 + BAR_WIDTH / 2, 23 + BAR_LENGTH / 2);
+        graphics.lineTo(23 + CROSS_BAR_WIDTH / 2, 23 + CROSS_BAR_LENGTH / 2);
 
         // Line to H
-        graphics.lineTo(23 - BAR_WIDTH / 2, 23 + BAR_LENGTH / 2);
+        graphics.lineTo(23 - CROSS_BAR_WIDTH / 2, 23 + CROSS_BAR_LENGTH / 2);
 
         // Line to I
-        graphics.lineTo(23 - BAR_WIDTH / 2, 23 + BAR_WIDTH / 2);
+        graphics.lineTo(23 - CROSS_BAR_WIDTH / 2, 23 + CROSS_BAR_WIDTH / 2);
 
         // Line to J
-        graphics.lineTo(23 - BAR_LENGTH / 2, 23 + BAR_WIDTH / 2);
+        graphics.lineTo(23 - CROSS_BAR_LENGTH / 2, 23 + CROSS_BAR_WIDTH / 2);
 
         // Line to K
-        graphics.lineTo(23 - BAR_LENGTH / 2, 23 - BAR_WIDTH / 2);
+        graphics.lineTo(23 - CROSS_BAR_LENGTH / 2, 23 - CROSS_BAR_WIDTH / 2);
 
         // Line to K
-        graphics.lineTo(23 - BAR_WIDTH / 2, 23 - BAR_WIDTH / 2);
+        graphics.lineTo(23 - CROSS_BAR_WIDTH / 2, 23 - CROSS_BAR_WIDTH / 2);
 
         graphics.fillPath(0xffffff, false);
     }
 
-    private void drawModulesPath(Canvas graphics, boolean[][] modules) throws IOException {
-        // Simple algorithm to reduce the number of drawn rectangles
+    /**
+     * Creates the QR code modules, with the area for the Swiss cross cleared.
+     *
+     * @return QR code modules, as bit sets indexed by y
+     */
+    long[][] createModules() {
+        long[][] modules = QRBill.getQrModuleEncoder().encode(embeddedText);
+        clearSwissCrossArea(modules);
+        return modules;
+    }
+
+    private void drawModulesPath(Canvas graphics, long[][] modules) throws IOException {
+        // Simple algorithm to reduce the number of drawn rectangles.
+        // The rectangles are collected and passed to the canvas in a single call.
         int size = modules.length;
+        double[] rectangles = new double[size * 16];
+        int count = 0;
         for (int y = 0; y < size; y++) {
-            for (int x = 0; x < size; x++) {
-                if (modules[y][x]) {
-                    drawLargestRectangle(graphics, modules, x, y);
+            long[] row = modules[y];
+            for (int w = 0; w < row.length; w++) {
+                // adding a rectangle clears at least the found module
+                while (row[w] != 0) {
+                    int x = (w << 6) + Long.numberOfTrailingZeros(row[w]);
+                    if (count * 4 == rectangles.length)
+                        rectangles = Arrays.copyOf(rectangles, rectangles.length * 2);
+                    addLargestRectangle(modules, x, y, rectangles, count * 4);
+                    count++;
                 }
             }
         }
+        graphics.addRectangles(rectangles, count);
     }
 
     // Simple algorithms to reduce the number of rectangles for drawing the QR code
     // and reduce SVG size
-    private void drawLargestRectangle(Canvas graphics, boolean[][] modules, int x, int y) throws IOException {
+    private static void addLargestRectangle(long[][] modules, int x, int y, double[] rectangles, int offset) {
         int size = modules.length;
 
         int bestW = 1;
@@ -138,10 +156,8 @@ class QRCode {
 
         int xLimit = size;
         int iy = y;
-        while (iy < size && modules[iy][x]) {
-            int w = 0;
-            while (x + w < xLimit && modules[iy][x + w])
-                w++;
+        while (iy < size && isDark(modules[iy], x)) {
+            int w = getRunLength(modules[iy], x, xLimit);
             int area = w * (iy - y + 1);
             if (area > maxArea) {
                 maxArea = area;
@@ -153,32 +169,66 @@ class QRCode {
         }
 
         final double unit = 25.4 / 72;
-        graphics.addRectangle(x * unit, (size - y - bestH) * unit, bestW * unit, bestH * unit);
+        rectangles[offset] = x * unit;
+        rectangles[offset + 1] = (size - y - bestH) * unit;
+        rectangles[offset + 2] = bestW * unit;
+        rectangles[offset + 3] = bestH * unit;
         clearRectangle(modules, x, y, bestW, bestH);
     }
 
-    private static void clearSwissCrossArea(boolean[][] modules) {
+    private static void clearSwissCrossArea(long[][] modules) {
         // The Swiss cross area is supposed to be 7 by 7 mm in the center of
         // the QR code, which is 46 by 46 mm.
         // We clear sufficient modules to make room for the cross.
         int size = modules.length;
-        int start = (int) Math.floor((46 - 6.8) / 2 * size / 46);
+        int start = getSwissCrossAreaStart(size);
         clearRectangle(modules, start, start, size - 2 * start, size - 2 * start);
     }
 
-    private static boolean[][] copyModules(QrCode qrCode) {
-        int size = qrCode.size;
-        boolean[][] modules = new boolean[size][size];
-        for (int y = 0; y < size; y++)
-            for (int x = 0; x < size; x++)
-                modules[y][x] = qrCode.getModule(x, y);
-        return modules;
+    /**
+     * Gets the first module coordinate (x and y) of the area cleared for the Swiss cross.
+     * <p>
+     * The area is square and centered.
+     * </p>
+     *
+     * @param size number of modules per row and column
+     * @return module coordinate
+     */
+    static int getSwissCrossAreaStart(int size) {
+        return (int) Math.floor((46 - 6.8) / 2 * size / 46);
+    }
+
+    private static boolean isDark(long[] row, int x) {
+        return (row[x >>> 6] & (1L << x)) != 0;
+    }
+
+    /**
+     * Gets the number of consecutive dark modules starting at the specified x coordinate.
+     */
+    private static int getRunLength(long[] row, int x, int xLimit) {
+        int end = x;
+        while (end < xLimit) {
+            // number of dark modules in current word starting at 'end'
+            int offset = end & 63;
+            int n = Long.numberOfTrailingZeros(~(row[end >>> 6] >>> offset));
+            end += n;
+            if (offset + n < 64)
+                break; // run ends within this word
+        }
+        return Math.min(end, xLimit) - x;
     }
 
-    private static void clearRectangle(boolean[][] modules, int x, int y, int width, int height) {
-        for (int iy = y; iy < y + height; iy++)
-            for (int ix = x; ix < x + width; ix++)
-                modules[iy][ix] = false;
+    private static void clearRectangle(long[][] modules, int x, int y, int width, int height) {
+        int end = x + width;
+        for (int iy = y; iy < y + height; iy++) {
+            long[] row = modules[iy];
+            for (int w = x >>> 6; w <= (end - 1) >>> 6; w++) {
+                int from = Math.max(x - (w << 6), 0);
+                int to = Math.min(end - (w << 6), 64);
+                long mask = (to == 64 ? -1L : (1L << to) - 1) & (-1L << from);
+                row[w] &= ~mask;
+            }
+        }
     }
 
 }
@@ -0,0 +1,249 @@
+//
+// Swiss QR Bill Generator
+// Copyright (c) 2026 Manuel Bleichenbacher
+// Licensed under MIT License
+// https://opensource.org/licenses/MIT
+//
+package net.codecrete.qrbill.generator;
+
+/**
+ * Internal class storing the QR code modules as bit sets for fast mask selection.
+ * <p>
+ * Each row and each column is stored as a sequence of {@code long} words (bit <i>i</i>
+ * of word <i>w</i> represents module <i>64w + i</i>). Rows and columns are kept in sync
+ * so that the penalty rules can be evaluated horizontally and vertically with bitwise operations:
+ * same-colored 2×2 blocks and the balance of dark modules are counted with {@link Long#bitCount(long)},
+ * and runs are extracted from the color transitions with {@link Long#numberOfTrailingZeros(long)}
+ * instead of visiting each module.
+ * </p>
+ * <p>
+ * The penalty score is identical to the one computed by the generic QR code encoder.
+ * </p>
+ */
+class QRCodeBitMatrix {
+
+    private static final int PENALTY_N1 = 3;
+    private static final int PENALTY_N2 = 3;
+    private static final int PENALTY_N3 = 40;
+    private static final int PENALTY_N4 = 10;
+
+    private final long[] rows;
+    private final long[] columns;
+    private final int[] runHistory = new int[7];
+    private int size;
+    private int wordsPerLine;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param maxSize maximum size (number of modules per row and column)
+     */
+    QRCodeBitMatrix(int maxSize) {
+        int maxWords = getWordsPerLine(maxSize);
+        rows = new long[maxSize * maxWords];
+        columns = new long[maxSize * maxWords];
+    }
+
+    /**
+     * Gets the number of {@code long} words required for a row or column.
+     *
+     * @param size number of modules per row
+     * @return number of words
+     */
+    static int getWordsPerLine(int size) {
+        return (size + 63) >>> 6;
+    }
+
+    /**
+     * Creates a bit pattern from a list of module positions.
+     *
+     * @param positions  module positions ({@code y * size + x})
+     * @param size       number of modules per row and column
+     * @param transposed {@code true} to create a pattern for columns, {@code false} for rows
+     * @return bit pattern
+     */
+    static long[] createPattern(int[] positions, int size, boolean transposed) {
+        int words = getWordsPerLine(size);
+        long[] pattern = new long[size * words];
+        for (int position : positions) {
+            int x = position % size;
+            int y = position / size;
+            if (transposed)
+                pattern[x * words + (y >>> 6)] |= 1L << y;
+            else
+                pattern[y * words + (x >>> 6)] |= 1L << x;
+        }
+        return pattern;
+    }
+
+    /**
+     * Loads the modules.
+     *
+     * @param grid modules (row by row, {@code true} for dark modules)
+     * @param size number of modules per row and column
+     */
+    void load(boolean[] grid, int size) {
+        this.size = size;
+        wordsPerLine = getWordsPerLine(size);
+        int length = size * wordsPerLine;
+        for (int i = 0; i < length; i++) {
+            rows[i] = 0;
+            columns[i] = 0;
+        }
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                if (grid[y * size + x]) {
+                    rows[y * wordsPerLine + (x >>> 6)] |= 1L << x;
+                    columns[x * wordsPerLine + (y >>> 6)] |= 1L << y;
+                }
+            }
+        }
+    }
+
+    /**
+     * Inverts the modules of the specified pattern.
+     * <p>
+     * Applying the same pattern twice restores the original state.
+     * </p>
+     *
+     * @param rowPattern    pattern for rows
+     * @param columnPattern same pattern for columns
+     */
+    void invert(long[] rowPattern, long[] columnPattern) {
+        int length = size * wordsPerLine;
+        for (int i = 0; i < length; i++) {
+            rows[i] ^= rowPattern[i];
+            columns[i] ^= columnPattern[i];
+        }
+    }
+
+    /**
+     * Sets the color of a single module.
+     *
+     * @param x      x coordinate
+     * @param y      y coordinate
+     * @param isDark {@code true} for dark, {@code false} for light
+     */
+    void setModule(int x, int y, boolean isDark) {
+        int rowIndex = y * wordsPerLine + (x >>> 6);
+        int columnIndex = x * wordsPerLine + (y >>> 6);
+        if (isDark) {
+            rows[rowIndex] |= 1L << x;
+            columns[columnIndex] |= 1L << y;
+        } else {
+            rows[rowIndex] &= ~(1L << x);
+            columns[columnIndex] &= ~(1L << y);
+        }
+    }
+
+    /**
+     * Computes the penalty score used for selecting the mask.
+     *
+     * @return penalty score
+     */
+    int getPenaltyScore() {
+        int result = 0;
+
+        // adjacent modules in row/column having same color, and finder-like patterns
+        for (int line = 0; line < size; line++) {
+            result += getLinePenaltyScore(rows, line * wordsPerLine);
+            result += getLinePenaltyScore(columns, line * wordsPerLine);
+        }
+
+        // 2*2 blocks of modules having same color
+        for (int y = 0; y < size - 1; y++) {
+            int upper = y * wordsPerLine;
+            int lower = upper + wordsPerLine;
+            for (int w = 0; w < wordsPerLine; w++) {
+                long a = rows[upper + w];
+                long b = rows[lower + w];
+                long aNext = a >>> 1;
+                long bNext = b >>> 1;
+                if (w + 1 < wordsPerLine) {
+                    aNext |= rows[upper + w + 1] << 63;
+                    bNext |= rows[lower + w + 1] << 63;
+                }
+                long sameColor = ~(a ^ aNext) & ~(a ^ b) & ~(b ^ bNext);
+                result += Long.bitCount(sameColor & getValidBits(w, size - 1)) * PENALTY_N2;
+            }
+        }
+
+        // balance of dark and light modules
+        int total = size * size;
+        int dark = 0;
+        int length = size * wordsPerLine;
+        for (int i = 0; i < length; i++)
+            dark += Long.bitCount(rows[i]);
+        int k = (Math.abs(dark * 20 - total * 10) + total - 1) / total - 1;
+        result += k * PENALTY_N4;
+        return result;
+    }
+
+    private int getLinePenaltyScore(long[] lines, int offset) {
+        int[] history = runHistory;
+        for (int i = 0; i < history.length; i++)
+            history[i] = 0;
+
+        int result = 0;
+        boolean runColor = false;
+        int runStart = 0;
+        long previousWord = 0;
+        for (int w = 0; w < wordsPerLine; w++) {
+            long word = lines[offset + w];
+            // bit set where the color differs from the previous module (starting with light)
+            long transitions = (word ^ (word << 1 | previousWord >>> 63)) & getValidBits(w, size);
+            previousWord = word;
+
+            while (transitions != 0) {
+                int position = (w << 6) + Long.numberOfTrailingZeros(transitions);
+                transitions &= transitions - 1;
+
+                int runLength = position - runStart;
+                result += getRunPenalty(runLength);
+                addRunToHistory(runLength);
+                if (!runColor)
+                    result += countFinderPatterns() * PENALTY_N3;
+                runColor = !runColor;
+                runStart = position;
+            }
+        }
+
+        // terminate with light border
+        int runLength = size - runStart;
+        result += getRunPenalty(runLength);
+        if (runColor) {
+            addRunToHistory(runLength);
+            runLength = 0;
+        }
+        addRunToHistory(runLength + size);
+        result += countFinderPatterns() * PENALTY_N3;
+        return result;
+    }
+
+    private static int getRunPenalty(int runLength) {
+        return runLength >= 5 ? PENALTY_N1 + runLength - 5 : 0;
+    }
+
+    private int countFinderPatterns() {
+        int[] history = runHistory;
+        int n = history[1];
+        boolean core = n > 0 && history[2] == n && history[3] == n * 3 && history[4] == n && history[5] == n;
+        return (core && history[0] >= n * 4 && history[6] >= n ? 1 : 0)
+                + (core && history[6] >= n * 4 && history[0] >= n ? 1 : 0);
+    }
+
+    private void addRunToHistory(int runLength) {
+        int[] history = runHistory;
+        if (history[0] == 0)
+            runLength += size; // add light border to initial run
+        System.arraycopy(history, 0, history, 1, history.length - 1);
+        history[0] = runLength;
+    }
+
+    private static long getValidBits(int word, int numBits) {
+        int remaining = numBits - (word << 6);
+        if (remaining >= 64)
+            return -1L;
+        return remaining <= 0 ? 0 : (1L << remaining) - 1;
+    }
+}
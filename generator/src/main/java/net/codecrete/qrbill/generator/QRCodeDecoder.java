@@ -0,0 +1,433 @@
+//
+// Swiss QR Bill Generator
+// Copyright (c) 2026 Manuel Bleichenbacher
+// Licensed under MIT License
+// https://opensource.org/licenses/MIT
+//
+package net.codecrete.qrbill.generator;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static net.codecrete.qrbill.generator.QRCodeEncoder.gfExp;
+import static net.codecrete.qrbill.generator.QRCodeEncoder.gfLog;
+import static net.codecrete.qrbill.generator.QRCodeEncoder.gfMultiply;
+
+/**
+ * Internal class for decoding the modules of a QR code into text.
+ * <p>
+ * The modules are expected in the same format as produced by {@link QRCodeEncoder#encode(String)}.
+ * The precomputed templates of the encoder are reused for locating the format bits and the
+ * data modules.
+ * </p>
+ * <p>
+ * If requested, the codewords overlapping the area of the Swiss cross are treated as erasures:
+ * their position is known to be unreliable, which doubles the number of them that Reed-Solomon
+ * error correction can repair.
+ * </p>
+ */
+class QRCodeDecoder {
+
+    private static final int MODE_NUMERIC = 1;
+    private static final int MODE_ALPHANUMERIC = 2;
+    private static final int MODE_BYTE = 4;
+    private static final int MODE_ECI = 7;
+
+    private static final String ALPHANUMERIC_CHARSET = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ $%*+-./:";
+
+    private QRCodeDecoder() {
+        // do not instantiate
+    }
+
+    /**
+     * Decodes the specified QR code modules.
+     * <p>
+     * The text is expected to be UTF-8 encoded.
+     * </p>
+     *
+     * @param modules          QR code modules, as bit sets indexed by y
+     * @param eraseSwissCross  {@code true} to treat the codewords in the Swiss cross area as erasures
+     * @return decoded text, or {@code null} if the modules cannot be decoded
+     */
+    static String decode(long[][] modules, boolean eraseSwissCross) {
+        int size = modules.length;
+        int version = (size - 17) / 4;
+        if (size < 21 || size > 177 || (size - 17) % 4 != 0)
+            return null;
+
+        QRCodeEncoder.Template template = QRCodeEncoder.getTemplate(version);
+        if (version >= 7 && !hasValidVersionBits(modules, version))
+            return null;
+
+        int format = decodeFormat(modules, template);
+        if (format < 0)
+            return null;
+        int ecl = format >>> 3;
+        int mask = format & 7;
+
+        // read (masked) codewords
+        boolean[] grid = new boolean[size * size];
+        for (int position : template.dataPositions)
+            grid[position] = isDark(modules, position % size, position / size);
+        for (int position : template.maskPositions[mask])
+            grid[position] = !grid[position];
+
+        int[] positions = template.dataPositions;
+        int numCodewords = positions.length / 8;
+        byte[] codewords = new byte[numCodewords];
+        boolean[] erased = new boolean[numCodewords];
+        int crossStart = QRCode.getSwissCrossAreaStart(size);
+        int crossEnd = size - crossStart;
+        for (int i = 0; i < numCodewords * 8; i++) {
+            int position = positions[i];
+            if (grid[position])
+                codewords[i >>> 3] |= (byte) (0x80 >>> (i & 7));
+            if (eraseSwissCross) {
+                int x = position % size;
+                int y = position / size;
+                if (x >= crossStart && x < crossEnd && y >= crossStart && y < crossEnd)
+                    erased[i >>> 3] = true;
+            }
+        }
+
+        byte[] data = deinterleaveAndCorrect(codewords, erased, version, ecl);
+        if (data == null)
+            return null;
+        return parseSegments(data, version);
+    }
+
+    private static boolean hasValidVersionBits(long[][] modules, int version) {
+        int size = modules.length;
+        int expected = QRCodeEncoder.getVersionBits(version);
+        int bits1 = 0;
+        int bits2 = 0;
+        for (int i = 0; i < 18; i++) {
+            int a = size - 11 + i % 3;
+            int b = i / 3;
+            if (isDark(modules, a, b))
+                bits1 |= 1 << i;
+            if (isDark(modules, b, a))
+                bits2 |= 1 << i;
+        }
+        return Integer.bitCount(bits1 ^ expected) <= 3 || Integer.bitCount(bits2 ^ expected) <= 3;
+    }
+
+    /**
+     * Decodes the format bits.
+     *
+     * @return error correction level and mask ({@code ecl << 3 | mask}), or -1 if invalid
+     */
+    private static int decodeFormat(long[][] modules, QRCodeEncoder.Template template) {
+        int size = template.size;
+        int bits1 = 0;
+        int bits2 = 0;
+        for (int i = 0; i < 30; i++) {
+            int position = template.formatPositions[i];
+            if (isDark(modules, position % size, position / size)) {
+                if (i < 15)
+                    bits1 |= 1 << template.formatBitIndexes[i];
+                else
+                    bits2 |= 1 << template.formatBitIndexes[i];
+            }
+        }
+
+        // select the valid format with the smallest distance (can correct up to 3 bit errors)
+        int bestFormat = -1;
+        int bestDistance = 4;
+        for (int ecl = 0; ecl < 4; ecl++) {
+            for (int mask = 0; mask < 8; mask++) {
+                int formatBits = QRCodeEncoder.getFormatBits(ecl, mask);
+                int distance = Math.min(Integer.bitCount(bits1 ^ formatBits), Integer.bitCount(bits2 ^ formatBits));
+                if (distance < bestDistance) {
+                    bestDistance = distance;
+                    bestFormat = ecl << 3 | mask;
+                }
+            }
+        }
+        return bestFormat;
+    }
+
+    private static byte[] deinterleaveAndCorrect(byte[] codewords, boolean[] erased, int version, int ecl) {
+        int numBlocks = QRCodeEncoder.getNumErrorCorrectionBlocks(version, ecl);
+        int blockEccLen = QRCodeEncoder.getEccCodewordsPerBlock(version, ecl);
+        int rawCodewords = codewords.length;
+        int numShortBlocks = numBlocks - rawCodewords % numBlocks;
+        int shortDataLen = rawCodewords / numBlocks - blockEccLen;
+
+        byte[][] blocks = new byte[numBlocks][];
+        int[][] erasures = new int[numBlocks][];
+        int[] numErasures = new int[numBlocks];
+        for (int j = 0; j < numBlocks; j++) {
+            blocks[j] = new byte[shortDataLen + (j < numShortBlocks ? 0 : 1) + blockEccLen];
+            erasures[j] = new int[blocks[j].length];
+        }
+
+        // reverse interleaving of data and error correction codewords
+        int k = 0;
+        for (int i = 0; i <= shortDataLen; i++) {
+            for (int j = 0; j < numBlocks; j++) {
+                if (i < shortDataLen || j >= numShortBlocks) {
+                    if (erased[k])
+                        erasures[j][numErasures[j]++] = i;
+                    blocks[j][i] = codewords[k++];
+                }
+            }
+        }
+        for (int i = 0; i < blockEccLen; i++) {
+            for (int j = 0; j < numBlocks; j++) {
+                int index = blocks[j].length - blockEccLen + i;
+                if (erased[k])
+                    erasures[j][numErasures[j]++] = index;
+                blocks[j][index] = codewords[k++];
+            }
+        }
+
+        byte[] data = new byte[QRCodeEncoder.getNumDataCodewords(version, ecl)];
+        int offset = 0;
+        for (int j = 0; j < numBlocks; j++) {
+            byte[] block = blocks[j];
+            if (!correctErrors(block, blockEccLen, erasures[j], numErasures[j])
+                    && (numErasures[j] == 0 || !correctErrors(block, blockEccLen, erasures[j], 0)))
+                return null;
+            int dataLen = block.length - blockEccLen;
+            System.arraycopy(block, 0, data, offset, dataLen);
+            offset += dataLen;
+        }
+        return data;
+    }
+
+    /**
+     * Corrects errors and erasures in a Reed-Solomon code block.
+     * <p>
+     * The block consists of the data codewords followed by the error correction codewords.
+     * It is corrected in place if {@code 2 * errors + erasures <= numEccCodewords}.
+     * If the block cannot be corrected, it remains unchanged.
+     * </p>
+     *
+     * @param block           codewords of block
+     * @param numEccCodewords number of error correction codewords
+     * @param erasures        indexes of codewords known to be unreliable
+     * @param numErasures     number of valid entries in {@code erasures}
+     * @return {@code true} if the block is valid or has been corrected, {@code false} otherwise
+     */
+    static boolean correctErrors(byte[] block, int numEccCodewords, int[] erasures, int numErasures) {
+        int n = block.length;
+        int[] syndromes = computeSyndromes(block, numEccCodewords);
+        if (syndromes == null)
+            return true;
+        if (numErasures > numEccCodewords)
+            return false;
+
+        // Berlekamp-Massey algorithm, initialized with the erasure locator polynomial
+        int[] lambda = new int[numEccCodewords + 1];
+        lambda[0] = 1;
+        for (int e = 0; e < numErasures; e++) {
+            int x = gfExp(n - 1 - erasures[e]);
+            for (int j = numEccCodewords; j >= 1; j--)
+                lambda[j] ^= gfMultiply(lambda[j - 1], x);
+        }
+        int[] b = lambda.clone();
+        int numLocators = numErasures;
+        for (int r = numErasures + 1; r <= numEccCodewords; r++) {
+            int delta = 0;
+            for (int j = 0; j < r; j++)
+                delta ^= gfMultiply(lambda[j], syndromes[r - 1 - j]);
+
+            int[] shiftedB = new int[numEccCodewords + 1];
+            System.arraycopy(b, 0, shiftedB, 1, numEccCodewords);
+            if (delta == 0) {
+                b = shiftedB;
+                continue;
+            }
+
+            int[] t = new int[numEccCodewords + 1];
+            for (int j = 0; j <= numEccCodewords; j++)
+                t[j] = lambda[j] ^ gfMultiply(delta, shiftedB[j]);
+            if (2 * numLocators <= r - 1 + numErasures) {
+                int deltaInverse = gfExp(255 - gfLog(delta));
+                for (int j = 0; j <= numEccCodewords; j++)
+                    b[j] = gfMultiply(lambda[j], deltaInverse);
+                numLocators = r - numLocators + numErasures;
+            } else {
+                b = shiftedB;
+            }
+            lambda = t;
+        }
+
+        int degree = numEccCodewords;
+        while (degree > 0 && lambda[degree] == 0)
+            degree--;
+        if (degree != numLocators || 2 * numLocators - numErasures > numEccCodewords)
+            return false;
+
+        // evaluator polynomial: syndromes * lambda mod x^numEccCodewords
+        int[] omega = new int[numEccCodewords];
+        for (int i = 0; i < numEccCodewords; i++)
+            for (int j = 0; j <= Math.min(i, degree); j++)
+                omega[i] ^= gfMultiply(syndromes[i - j], lambda[j]);
+
+        // find error locations (Chien search) and compute error values (Forney algorithm)
+        int[] errorIndexes = new int[degree];
+        int[] errorValues = new int[degree];
+        int numErrors = 0;
+        for (int i = 0; i < n && numErrors < degree; i++) {
+            int power = n - 1 - i;
+            int xInverse = gfExp((255 - power) % 255);
+            if (evaluate(lambda, degree + 1, xInverse) != 0)
+                continue;
+
+            int derivative = 0;
+            for (int j = 1; j <= degree; j += 2)
+                derivative ^= gfMultiply(lambda[j], power(xInverse, j - 1));
+            if (derivative == 0)
+                return false;
+            int value = gfMultiply(gfExp(power), evaluate(omega, numEccCodewords, xInverse));
+            errorIndexes[numErrors] = i;
+            errorValues[numErrors] = gfMultiply(value, gfExp(255 - gfLog(derivative)));
+            numErrors++;
+        }
+        if (numErrors != degree)
+            return false;
+
+        for (int i = 0; i < numErrors; i++)
+            block[errorIndexes[i]] ^= (byte) errorValues[i];
+
+        // verify result to detect miscorrection
+        if (computeSyndromes(block, numEccCodewords) != null) {
+            for (int i = 0; i < numErrors; i++)
+                block[errorIndexes[i]] ^= (byte) errorValues[i];
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Computes the syndromes.
+     *
+     * @return syndromes, or {@code null} if all syndromes are zero
+     */
+    private static int[] computeSyndromes(byte[] block, int numEccCodewords) {
+        int[] syndromes = new int[numEccCodewords];
+        boolean hasErrors = false;
+        for (int i = 0; i < numEccCodewords; i++) {
+            int s = 0;
+            for (byte codeword : block)
+                s = gfMultiply(s, gfExp(i)) ^ (codeword & 0xff);
+            syndromes[i] = s;
+            hasErrors |= s != 0;
+        }
+        return hasErrors ? syndromes : null;
+    }
+
+    private static int evaluate(int[] polynomial, int length, int x) {
+        int result = 0;
+        for (int i = length - 1; i >= 0; i--)
+            result = gfMultiply(result, x) ^ polynomial[i];
+        return result;
+    }
+
+    private static int power(int x, int exponent) {
+        if (exponent == 0)
+            return 1;
+        return gfExp(gfLog(x) * exponent % 255);
+    }
+
+    private static String parseSegments(byte[] data, int version) {
+        BitReader reader = new BitReader(data);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(data.length);
+        int sizeClass = version <= 9 ? 0 : version <= 26 ? 1 : 2;
+
+        while (reader.available() >= 4) {
+            int mode = reader.read(4);
+            if (mode == 0)
+                break; // terminator
+
+            switch (mode) {
+                case MODE_NUMERIC: {
+                    int count = reader.read(new int[]{ 10, 12, 14 }[sizeClass]);
+                    for (; count >= 3; count -= 3)
+                        appendDigits(bytes, reader.read(10), 3);
+                    if (count > 0)
+                        appendDigits(bytes, reader.read(count == 2 ? 7 : 4), count);
+                    break;
+                }
+                case MODE_ALPHANUMERIC: {
+                    int count = reader.read(new int[]{ 9, 11, 13 }[sizeClass]);
+                    for (; count >= 2; count -= 2) {
+                        int value = reader.read(11);
+                        if (value >= 45 * 45)
+                            return null;
+                        bytes.write(ALPHANUMERIC_CHARSET.charAt(value / 45));
+                        bytes.write(ALPHANUMERIC_CHARSET.charAt(value % 45));
+                    }
+                    if (count > 0) {
+                        int value = reader.read(6);
+                        if (value >= 45)
+                            return null;
+                        bytes.write(ALPHANUMERIC_CHARSET.charAt(value));
+                    }
+                    break;
+                }
+                case MODE_BYTE: {
+                    int count = reader.read(sizeClass == 0 ? 8 : 16);
+                    if (reader.available() < count * 8)
+                        return null;
+                    for (int i = 0; i < count; i++)
+                        bytes.write(reader.read(8));
+                    break;
+                }
+                case MODE_ECI: {
+                    // the designator is ignored; UTF-8 is assumed
+                    int first = reader.read(8);
+                    if ((first & 0x80) != 0)
+                        reader.read((first & 0x40) == 0 ? 8 : 16);
+                    break;
+                }
+                default:
+                    return null;
+            }
+
+            if (reader.available() < 0)
+                return null;
+        }
+
+        return new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private static void appendDigits(ByteArrayOutputStream bytes, int value, int numDigits) {
+        for (int divisor = numDigits == 3 ? 100 : numDigits == 2 ? 10 : 1; divisor > 0; divisor /= 10)
+            bytes.write('0' + value / divisor % 10);
+    }
+
+    private static boolean isDark(long[][] modules, int x, int y) {
+        return (modules[y][x >>> 6] & (1L << x)) != 0;
+    }
+
+    /**
+     * Reads bits from a byte array, starting with the most significant bit.
+     */
+    private static class BitReader {
+        private final byte[] data;
+        private int bitOffset;
+
+        BitReader(byte[] data) {
+            this.data = data;
+        }
+
+        /**
+         * Gets the number of remaining bits (negative if more bits than available have been read).
+         */
+        int available() {
+            return data.length * 8 - bitOffset;
+        }
+
+        int read(int numBits) {
+            int result = 0;
+            for (int i = 0; i < numBits; i++, bitOffset++) {
+                int bit = bitOffset < data.length * 8 ? (data[bitOffset >>> 3] >>> (7 - (bitOffset & 7))) & 1 : 0;
+                result = result << 1 | bit;
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,751 @@
+//
+// Swiss QR Bill Generator
+// Copyright (c) 2026 Manuel Bleichenbacher
+// Licensed under MIT License
+// https://opensource.org/licenses/MIT
+//
+package net.codecrete.qrbill.generator;
+
+import io.nayuki.qrcodegen.QrCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Internal class for encoding the text of a Swiss QR bill as a QR code.
+ * <p>
+ * The encoder is specialized for the Swiss QR bill payload: it always uses byte mode,
+ * error correction level M (boosted if possible) and automatic mask selection. It produces
+ * exactly the same QR code as {@link QrCode#encodeText(CharSequence, QrCode.Ecc)} with
+ * error correction level M.
+ * </p>
+ * <p>
+ * Function patterns, the data module placement order and the mask patterns are precomputed
+ * per version. Reed-Solomon error correction uses logarithm tables. Working buffers are
+ * allocated once per thread.
+ * </p>
+ * <p>
+ * By default, the mask is selected by evaluating the penalty rules on bit sets. The system property
+ * {@value #MASK_SELECTION_PROPERTY} can be set to {@code simple} to evaluate them module by module instead.
+ * Both algorithms select the same mask.
+ * </p>
+ * <p>
+ * Texts that the general-purpose encoder would not encode in byte mode (e.g. only digits)
+ * are passed on to it.
+ * </p>
+ */
+class QRCodeEncoder {
+
+    private static final int MAX_VERSION = 40;
+    private static final int MAX_SIZE = MAX_VERSION * 4 + 17;
+
+    // error correction levels (same order as QrCode.Ecc)
+    private static final int ECC_MEDIUM = 1;
+    private static final int ECC_HIGH = 3;
+    private static final int[] ECC_FORMAT_BITS = { 1, 0, 3, 2 };
+
+    private static final int[][] ECC_CODEWORDS_PER_BLOCK = {
+            // Version: (note that index 0 is for padding, and is set to an illegal value)
+            // 0, 1, 2, 3, 4, 5, 6, 7, 8, 9,10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31, 32, 33, 34, 35, 36, 37, 38, 39, 40
+            { -1, 7, 10, 15, 20, 26, 18, 20, 24, 30, 18, 20, 24, 26, 30, 22, 24, 28, 30, 28, 28, 28, 28, 30, 30, 26, 28, 30, 30, 30, 30, 30, 30, 30, 30, 30, 30, 30, 30, 30, 30 },  // Low
+            { -1, 10, 16, 26, 18, 24, 16, 18, 22, 22, 26, 30, 22, 22, 24, 24, 28, 28, 26, 26, 26, 26, 28, 28, 28, 28, 28, 28, 28, 28, 28, 28, 28, 28, 28, 28, 28, 28, 28, 28, 28 },  // Medium
+            { -1, 13, 22, 18, 26, 18, 24, 18, 22, 20, 24, 28, 26, 24, 20, 30, 24, 28, 28, 26, 30, 28, 30, 30, 30, 30, 28, 30, 30, 30, 30, 30, 30, 30, 30, 30, 30, 30, 30, 30, 30 },  // Quartile
+            { -1, 17, 28, 22, 16, 22, 28, 26, 26, 24, 28, 24, 28, 22, 24, 24, 30, 28, 28, 26, 28, 30, 24, 30, 30, 30, 30, 30, 30, 30, 30, 30, 30, 30, 30, 30, 30, 30, 30, 30, 30 },  // High
+    };
+
+    private static final int[][] NUM_ERROR_CORRECTION_BLOCKS = {
+            // Version: (note that index 0 is for padding, and is set to an illegal value)
+            // 0, 1, 2, 3, 4, 5, 6, 7, 8, 9,10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31, 32, 33, 34, 35, 36, 37, 38, 39, 40
+            { -1, 1, 1, 1, 1, 1, 2, 2, 2, 2, 4, 4, 4, 4, 4, 6, 6, 6, 6, 7, 8, 8, 9, 9, 10, 12, 12, 12, 13, 14, 15, 16, 17, 18, 19, 19, 20, 21, 22, 24, 25 },  // Low
+            { -1, 1, 1, 1, 2, 2, 4, 4, 4, 5, 5, 5, 8, 9, 9, 10, 10, 11, 13, 14, 16, 17, 17, 18, 20, 21, 23, 25, 26, 28, 29, 31, 33, 35, 37, 38, 40, 43, 45, 47, 49 },  // Medium
+            { -1, 1, 1, 2, 2, 4, 4, 6, 6, 8, 8, 8, 10, 12, 16, 12, 17, 16, 18, 21, 20, 23, 23, 25, 27, 29, 34, 34, 35, 38, 40, 43, 45, 48, 51, 53, 56, 59, 62, 65, 68 },  // Quartile
+            { -1, 1, 1, 2, 4, 4, 4, 5, 6, 8, 8, 11, 11, 16, 16, 18, 16, 19, 21, 25, 25, 25, 34, 30, 32, 35, 37, 40, 42, 45, 48, 51, 54, 57, 60, 63, 66, 70, 74, 77, 81 },  // High
+    };
+
+    private static final String ALPHANUMERIC_CHARSET = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ $%*+-./:";
+
+    // penalty weights for mask selection
+    private static final int PENALTY_N1 = 3;
+    private static final int PENALTY_N2 = 3;
+    private static final int PENALTY_N3 = 40;
+    private static final int PENALTY_N4 = 10;
+
+    // GF(256) tables (primitive polynomial 0x11D, generator 2)
+    private static final int[] GF_EXP = new int[512];
+    private static final int[] GF_LOG = new int[256];
+
+    /** Reed-Solomon divisors in logarithmic form (-1 for zero coefficients), indexed by degree */
+    private static final int[][] RS_DIVISOR_LOGS = new int[31][];
+
+    /**
+     * Algorithm for selecting the mask.
+     */
+    enum MaskSelection {
+        /** Evaluates the penalty rules module by module */
+        SIMPLE,
+        /** Evaluates the penalty rules on bit sets (see {@link QRCodeBitMatrix}) */
+        BITWISE
+    }
+
+    /**
+     * Name of the system property for configuring the mask selection algorithm
+     * (values: {@code simple}, {@code bitwise}).
+     */
+    static final String MASK_SELECTION_PROPERTY = "net.codecrete.qrbill.qrcode.maskSelection";
+
+    /** Configured mask selection algorithm (both produce the same result) */
+    private static final MaskSelection MASK_SELECTION = getConfiguredMaskSelection();
+
+    private static final AtomicReferenceArray<Template> TEMPLATES = new AtomicReferenceArray<>(MAX_VERSION + 1);
+
+    private static final ThreadLocal<Workspace> WORKSPACE = ThreadLocal.withInitial(Workspace::new);
+
+    static {
+        int x = 1;
+        for (int i = 0; i < 255; i++) {
+            GF_EXP[i] = x;
+            GF_LOG[x] = i;
+            x <<= 1;
+            if ((x & 0x100) != 0)
+                x ^= 0x11D;
+        }
+        for (int i = 255; i < GF_EXP.length; i++)
+            GF_EXP[i] = GF_EXP[i - 255];
+
+        for (int[] eccCodewords : ECC_CODEWORDS_PER_BLOCK) {
+            for (int degree : eccCodewords) {
+                if (degree > 0 && RS_DIVISOR_LOGS[degree] == null)
+                    RS_DIVISOR_LOGS[degree] = computeDivisorLogs(degree);
+            }
+        }
+    }
+
+    private QRCodeEncoder() {
+        // do not instantiate
+    }
+
+    /**
+     * Encodes the specified text as a QR code.
+     *
+     * <p>
+     * The modules are returned as one bit set per row: module <i>x</i> of row <i>y</i>
+     * is bit <i>x % 64</i> of {@code rows[y][x / 64]} (set for dark modules).
+     * </p>
+     *
+     * @param text text to encode
+     * @return QR code modules, as bit sets indexed by y
+     */
+    static long[][] encode(String text) {
+        return encode(text, MASK_SELECTION);
+    }
+
+    /**
+     * Encodes the specified text as a QR code, using the specified mask selection algorithm.
+     *
+     * @param text          text to encode
+     * @param maskSelection mask selection algorithm
+     * @return QR code modules, as bit sets indexed by y
+     * @see #encode(String)
+     */
+    static long[][] encode(String text, MaskSelection maskSelection) {
+        if (!requiresByteMode(text))
+            return encodeGeneric(text);
+
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+
+        // find smallest version
+        int version;
+        int dataUsedBits;
+        for (version = 1; ; version++) {
+            int charCountBits = version <= 9 ? 8 : 16;
+            dataUsedBits = 4 + charCountBits + bytes.length * 8;
+            if (bytes.length < (1 << charCountBits) && dataUsedBits <= getNumDataCodewords(version, ECC_MEDIUM) * 8)
+                break;
+            if (version == MAX_VERSION)
+                return encodeGeneric(text); // throws exception
+        }
+
+        // boost error correction level if the data still fits
+        int ecl = ECC_MEDIUM;
+        while (ecl < ECC_HIGH && dataUsedBits <= getNumDataCodewords(version, ecl + 1) * 8)
+            ecl++;
+
+        Workspace workspace = WORKSPACE.get();
+        Template template = getTemplate(version);
+        byte[] dataCodewords = createDataCodewords(bytes, version, ecl, workspace);
+        byte[] allCodewords = addEccAndInterleave(dataCodewords, version, ecl, workspace);
+        boolean[] grid = workspace.grid;
+        drawCodewords(allCodewords, template, grid);
+
+        int bestMask = maskSelection == MaskSelection.BITWISE
+                ? selectMaskBitwise(grid, template, ecl, workspace)
+                : selectMaskSimple(grid, template, ecl, workspace);
+        applyMask(grid, template.maskPositions[bestMask]);
+        drawFormatBits(grid, template, getFormatBits(ecl, bestMask));
+
+        int size = template.size;
+        long[][] rows = new long[size][QRCodeBitMatrix.getWordsPerLine(size)];
+        for (int y = 0; y < size; y++) {
+            long[] row = rows[y];
+            for (int x = 0, position = y * size; x < size; x++, position++) {
+                if (grid[position])
+                    row[x >>> 6] |= 1L << x;
+            }
+        }
+        return rows;
+    }
+
+    private static int selectMaskSimple(boolean[] grid, Template template, int ecl, Workspace workspace) {
+        int bestMask = 0;
+        int minPenalty = Integer.MAX_VALUE;
+        for (int mask = 0; mask < 8; mask++) {
+            applyMask(grid, template.maskPositions[mask]);
+            drawFormatBits(grid, template, getFormatBits(ecl, mask));
+            int penalty = getPenaltyScore(grid, template.size, workspace.runHistory);
+            if (penalty < minPenalty) {
+                bestMask = mask;
+                minPenalty = penalty;
+            }
+            applyMask(grid, template.maskPositions[mask]); // undo
+        }
+        return bestMask;
+    }
+
+    private static int selectMaskBitwise(boolean[] grid, Template template, int ecl, Workspace workspace) {
+        QRCodeBitMatrix matrix = workspace.bitMatrix;
+        matrix.load(grid, template.size);
+        int[] positions = template.formatPositions;
+        int[] bitIndexes = template.formatBitIndexes;
+
+        int bestMask = 0;
+        int minPenalty = Integer.MAX_VALUE;
+        for (int mask = 0; mask < 8; mask++) {
+            matrix.invert(template.rowMasks[mask], template.columnMasks[mask]);
+            int formatBits = getFormatBits(ecl, mask);
+            for (int i = 0; i < positions.length; i++)
+                matrix.setModule(positions[i] % template.size, positions[i] / template.size,
+                        bitIndexes[i] < 0 || getBit(formatBits, bitIndexes[i]));
+            int penalty = matrix.getPenaltyScore();
+            if (penalty < minPenalty) {
+                bestMask = mask;
+                minPenalty = penalty;
+            }
+            matrix.invert(template.rowMasks[mask], template.columnMasks[mask]); // undo
+        }
+        return bestMask;
+    }
+
+    private static MaskSelection getConfiguredMaskSelection() {
+        String value = System.getProperty(MASK_SELECTION_PROPERTY);
+        return "simple".equalsIgnoreCase(value) ? MaskSelection.SIMPLE : MaskSelection.BITWISE;
+    }
+
+    private static boolean requiresByteMode(String text) {
+        int len = text.length();
+        for (int i = 0; i < len; i++) {
+            if (ALPHANUMERIC_CHARSET.indexOf(text.charAt(i)) < 0)
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Encodes the specified text with the general-purpose QR code encoder.
+     *
+     * @param text text to encode
+     * @return QR code modules, as bit sets indexed by y
+     */
+    static long[][] encodeGeneric(String text) {
+        QrCode qrCode = QrCode.encodeText(text, QrCode.Ecc.MEDIUM);
+        int size = qrCode.size;
+        long[][] rows = new long[size][QRCodeBitMatrix.getWordsPerLine(size)];
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                if (qrCode.getModule(x, y))
+                    rows[y][x >>> 6] |= 1L << x;
+            }
+        }
+        return rows;
+    }
+
+    private static byte[] createDataCodewords(byte[] bytes, int version, int ecl, Workspace workspace) {
+        int dataCapacityBits = getNumDataCodewords(version, ecl) * 8;
+        byte[] data = workspace.dataCodewords;
+        Arrays.fill(data, 0, dataCapacityBits / 8, (byte) 0);
+
+        int bitLength = appendBits(data, 0, 4, 4); // byte mode
+        bitLength = appendBits(data, bitLength, bytes.length, version <= 9 ? 8 : 16);
+        for (byte b : bytes)
+            bitLength = appendBits(data, bitLength, b & 0xff, 8);
+
+        // terminator and padding to byte boundary (zero bits)
+        bitLength += Math.min(4, dataCapacityBits - bitLength);
+        bitLength = (bitLength + 7) & ~7;
+
+        // pad bytes
+        for (int padByte = 0xEC; bitLength < dataCapacityBits; padByte ^= 0xEC ^ 0x11, bitLength += 8)
+            data[bitLength >>> 3] = (byte) padByte;
+
+        return data;
+    }
+
+    private static int appendBits(byte[] buffer, int bitLength, int value, int length) {
+        for (int i = length - 1; i >= 0; i--, bitLength++)
+            buffer[bitLength >>> 3] |= (byte) (((value >>> i) & 1) << (7 - (bitLength & 7)));
+        return bitLength;
+    }
+
+    private static byte[] addEccAndInterleave(byte[] data, int version, int ecl, Workspace workspace) {
+        int numBlocks = NUM_ERROR_CORRECTION_BLOCKS[ecl][version];
+        int blockEccLen = ECC_CODEWORDS_PER_BLOCK[ecl][version];
+        int rawCodewords = getNumRawDataModules(version) / 8;
+        int numShortBlocks = numBlocks - rawCodewords % numBlocks;
+        int shortDataLen = rawCodewords / numBlocks - blockEccLen;
+        int[] divisorLogs = RS_DIVISOR_LOGS[blockEccLen];
+
+        byte[] ecc = workspace.eccCodewords;
+        byte[] result = workspace.allCodewords;
+
+        // compute error correction codewords for each block
+        for (int j = 0, offset = 0; j < numBlocks; j++) {
+            int dataLen = shortDataLen + (j < numShortBlocks ? 0 : 1);
+            computeRemainder(data, offset, dataLen, divisorLogs, ecc, j * blockEccLen);
+            offset += dataLen;
+        }
+
+        // interleave data codewords
+        int k = 0;
+        for (int i = 0; i <= shortDataLen; i++) {
+            for (int j = 0; j < numBlocks; j++) {
+                if (i < shortDataLen || j >= numShortBlocks)
+                    result[k++] = data[j * shortDataLen + Math.max(0, j - numShortBlocks) + i];
+            }
+        }
+
+        // interleave error correction codewords
+        for (int i = 0; i < blockEccLen; i++)
+            for (int j = 0; j < numBlocks; j++)
+                result[k++] = ecc[j * blockEccLen + i];
+
+        return result;
+    }
+
+    private static void computeRemainder(byte[] data, int offset, int length, int[] divisorLogs,
+                                         byte[] result, int resultOffset) {
+        int degree = divisorLogs.length;
+        int resultEnd = resultOffset + degree;
+        Arrays.fill(result, resultOffset, resultEnd, (byte) 0);
+        for (int i = offset; i < offset + length; i++) {
+            int factor = (data[i] ^ result[resultOffset]) & 0xff;
+            System.arraycopy(result, resultOffset + 1, result, resultOffset, degree - 1);
+            result[resultEnd - 1] = 0;
+            if (factor == 0)
+                continue;
+            int factorLog = GF_LOG[factor];
+            for (int j = 0; j < degree; j++) {
+                if (divisorLogs[j] >= 0)
+                    result[resultOffset + j] ^= (byte) GF_EXP[divisorLogs[j] + factorLog];
+            }
+        }
+    }
+
+    private static int[] computeDivisorLogs(int degree) {
+        int[] divisor = new int[degree];
+        divisor[degree - 1] = 1;
+        int root = 1;
+        for (int i = 0; i < degree; i++) {
+            for (int j = 0; j < degree; j++) {
+                divisor[j] = gfMultiply(divisor[j], root);
+                if (j + 1 < degree)
+                    divisor[j] ^= divisor[j + 1];
+            }
+            root = gfMultiply(root, 2);
+        }
+
+        int[] logs = new int[degree];
+        for (int j = 0; j < degree; j++)
+            logs[j] = divisor[j] != 0 ? GF_LOG[divisor[j]] : -1;
+        return logs;
+    }
+
+    /**
+     * Gets the power of the generator in GF(256).
+     *
+     * @param exponent exponent (0 to 511)
+     * @return power
+     */
+    static int gfExp(int exponent) {
+        return GF_EXP[exponent];
+    }
+
+    /**
+     * Gets the discrete logarithm in GF(256).
+     *
+     * @param value value (1 to 255)
+     * @return logarithm (0 to 254)
+     */
+    static int gfLog(int value) {
+        return GF_LOG[value];
+    }
+
+    static int gfMultiply(int x, int y) {
+        if (x == 0 || y == 0)
+            return 0;
+        return GF_EXP[GF_LOG[x] + GF_LOG[y]];
+    }
+
+    private static void drawCodewords(byte[] codewords, Template template, boolean[] grid) {
+        System.arraycopy(template.modules, 0, grid, 0, template.modules.length);
+        int[] positions = template.dataPositions;
+        int numBits = positions.length / 8 * 8;
+        for (int i = 0; i < numBits; i++)
+            grid[positions[i]] = ((codewords[i >>> 3] >>> (7 - (i & 7))) & 1) != 0;
+    }
+
+    private static void applyMask(boolean[] grid, int[] maskPositions) {
+        for (int position : maskPositions)
+            grid[position] = !grid[position];
+    }
+
+    /**
+     * Gets the 15 format bits (incl. error correction and XOR mask).
+     *
+     * @param ecl  error correction level (0 to 3 for L, M, Q, H)
+     * @param mask mask (0 to 7)
+     * @return format bits
+     */
+    static int getFormatBits(int ecl, int mask) {
+        int data = ECC_FORMAT_BITS[ecl] << 3 | mask;
+        int rem = data;
+        for (int i = 0; i < 10; i++)
+            rem = (rem << 1) ^ ((rem >>> 9) * 0x537);
+        return (data << 10 | rem) ^ 0x5412;
+    }
+
+    private static void drawFormatBits(boolean[] grid, Template template, int formatBits) {
+        int[] positions = template.formatPositions;
+        int[] bitIndexes = template.formatBitIndexes;
+        for (int i = 0; i < positions.length; i++)
+            grid[positions[i]] = bitIndexes[i] < 0 || getBit(formatBits, bitIndexes[i]);
+    }
+
+    static int getPenaltyScore(boolean[] grid, int size, int[] runHistory) {
+        int result = 0;
+
+        // adjacent modules in row/column having same color, and finder-like patterns
+        for (int y = 0; y < size; y++)
+            result += getLinePenaltyScore(grid, y * size, 1, size, runHistory);
+        for (int x = 0; x < size; x++)
+            result += getLinePenaltyScore(grid, x, size, size, runHistory);
+
+        // 2*2 blocks of modules having same color
+        for (int y = 0; y < size - 1; y++) {
+            int row = y * size;
+            for (int x = 0; x < size - 1; x++) {
+                boolean color = grid[row + x];
+                if (color == grid[row + x + 1] && color == grid[row + size + x] && color == grid[row + size + x + 1])
+                    result += PENALTY_N2;
+            }
+        }
+
+        // balance of dark and light modules
+        int total = size * size;
+        int dark = 0;
+        for (int i = 0; i < total; i++) {
+            if (grid[i])
+                dark++;
+        }
+        int k = (Math.abs(dark * 20 - total * 10) + total - 1) / total - 1;
+        result += k * PENALTY_N4;
+        return result;
+    }
+
+    private static int getLinePenaltyScore(boolean[] grid, int start, int step, int size, int[] runHistory) {
+        Arrays.fill(runHistory, 0);
+        int result = 0;
+        boolean runColor = false;
+        int runLength = 0;
+        for (int i = 0, position = start; i < size; i++, position += step) {
+            if (grid[position] == runColor) {
+                runLength++;
+                if (runLength == 5)
+                    result += PENALTY_N1;
+                else if (runLength > 5)
+                    result++;
+            } else {
+                addRunToHistory(runLength, runHistory, size);
+                if (!runColor)
+                    result += countFinderPatterns(runHistory) * PENALTY_N3;
+                runColor = grid[position];
+                runLength = 1;
+            }
+        }
+
+        // terminate with light border
+        if (runColor) {
+            addRunToHistory(runLength, runHistory, size);
+            runLength = 0;
+        }
+        addRunToHistory(runLength + size, runHistory, size);
+        result += countFinderPatterns(runHistory) * PENALTY_N3;
+        return result;
+    }
+
+    private static int countFinderPatterns(int[] runHistory) {
+        int n = runHistory[1];
+        boolean core = n > 0 && runHistory[2] == n && runHistory[3] == n * 3 && runHistory[4] == n && runHistory[5] == n;
+        return (core && runHistory[0] >= n * 4 && runHistory[6] >= n ? 1 : 0)
+                + (core && runHistory[6] >= n * 4 && runHistory[0] >= n ? 1 : 0);
+    }
+
+    private static void addRunToHistory(int runLength, int[] runHistory, int size) {
+        if (runHistory[0] == 0)
+            runLength += size; // add light border to initial run
+        System.arraycopy(runHistory, 0, runHistory, 1, runHistory.length - 1);
+        runHistory[0] = runLength;
+    }
+
+    static int getNumRawDataModules(int version) {
+        int result = (16 * version + 128) * version + 64;
+        if (version >= 2) {
+            int numAlign = version / 7 + 2;
+            result -= (25 * numAlign - 10) * numAlign - 55;
+            if (version >= 7)
+                result -= 36;
+        }
+        return result;
+    }
+
+    static int getNumDataCodewords(int version, int ecl) {
+        return getNumRawDataModules(version) / 8
+                - ECC_CODEWORDS_PER_BLOCK[ecl][version] * NUM_ERROR_CORRECTION_BLOCKS[ecl][version];
+    }
+
+    static int getNumErrorCorrectionBlocks(int version, int ecl) {
+        return NUM_ERROR_CORRECTION_BLOCKS[ecl][version];
+    }
+
+    static int getEccCodewordsPerBlock(int version, int ecl) {
+        return ECC_CODEWORDS_PER_BLOCK[ecl][version];
+    }
+
+    /**
+     * Gets the 18 version bits (incl. error correction).
+     *
+     * @param version version (7 to 40)
+     * @return version bits
+     */
+    static int getVersionBits(int version) {
+        int rem = version;
+        for (int i = 0; i < 12; i++)
+            rem = (rem << 1) ^ ((rem >>> 11) * 0x1F25);
+        return version << 12 | rem;
+    }
+
+    static Template getTemplate(int version) {
+        Template template = TEMPLATES.get(version);
+        if (template == null) {
+            template = new Template(version);
+            TEMPLATES.compareAndSet(version, null, template);
+        }
+        return template;
+    }
+
+    private static void setModule(boolean[] grid, boolean[] isFunction, int size, int x, int y, boolean isDark) {
+        grid[y * size + x] = isDark;
+        isFunction[y * size + x] = true;
+    }
+
+    private static boolean getBit(long x, int i) {
+        return ((x >>> i) & 1) != 0;
+    }
+
+    /**
+     * Precomputed, immutable data for a single QR code version.
+     */
+    static class Template {
+        final int size;
+        /** Function patterns (format bits excluded) */
+        final boolean[] modules;
+        /** Positions of data modules in placement order */
+        final int[] dataPositions;
+        /** Positions of data modules inverted by each of the 8 masks */
+        final int[][] maskPositions;
+        /** Masks as row bit patterns (see {@link QRCodeBitMatrix}) */
+        final long[][] rowMasks;
+        /** Masks as column bit patterns (see {@link QRCodeBitMatrix}) */
+        final long[][] columnMasks;
+        /** Positions of format modules */
+        final int[] formatPositions = new int[31];
+        /** Format bit index of each format module (-1 for the module that is always dark) */
+        final int[] formatBitIndexes = new int[31];
+
+        Template(int version) {
+            size = version * 4 + 17;
+            modules = new boolean[size * size];
+            boolean[] isFunction = new boolean[size * size];
+
+            // timing patterns
+            for (int i = 0; i < size; i++) {
+                setModule(modules, isFunction, size, 6, i, i % 2 == 0);
+                setModule(modules, isFunction, size, i, 6, i % 2 == 0);
+            }
+
+            // finder patterns
+            drawFinderPattern(isFunction, 3, 3);
+            drawFinderPattern(isFunction, size - 4, 3);
+            drawFinderPattern(isFunction, 3, size - 4);
+
+            // alignment patterns
+            int[] alignPatPos = getAlignmentPatternPositions(version);
+            int numAlign = alignPatPos.length;
+            for (int i = 0; i < numAlign; i++) {
+                for (int j = 0; j < numAlign; j++) {
+                    if (!(i == 0 && j == 0 || i == 0 && j == numAlign - 1 || i == numAlign - 1 && j == 0))
+                        drawAlignmentPattern(isFunction, alignPatPos[i], alignPatPos[j]);
+                }
+            }
+
+            // format bits (drawn for each mask)
+            initFormatModules();
+            for (int position : formatPositions)
+                isFunction[position] = true;
+
+            drawVersion(isFunction, version);
+
+            // data module positions (zigzag scan)
+            int[] positions = new int[getNumRawDataModules(version)];
+            int index = 0;
+            for (int right = size - 1; right >= 1; right -= 2) {
+                if (right == 6)
+                    right = 5;
+                boolean upward = ((right + 1) & 2) == 0;
+                for (int vert = 0; vert < size; vert++) {
+                    int y = upward ? size - 1 - vert : vert;
+                    for (int j = 0; j < 2; j++) {
+                        int position = y * size + right - j;
+                        if (!isFunction[position])
+                            positions[index++] = position;
+                    }
+                }
+            }
+            dataPositions = positions;
+
+            // mask patterns
+            maskPositions = new int[8][];
+            int[] buffer = new int[positions.length];
+            for (int mask = 0; mask < 8; mask++) {
+                int count = 0;
+                for (int position : positions) {
+                    if (isMasked(mask, position % size, position / size))
+                        buffer[count++] = position;
+                }
+                maskPositions[mask] = Arrays.copyOf(buffer, count);
+            }
+
+            rowMasks = new long[8][];
+            columnMasks = new long[8][];
+            for (int mask = 0; mask < 8; mask++) {
+                rowMasks[mask] = QRCodeBitMatrix.createPattern(maskPositions[mask], size, false);
+                columnMasks[mask] = QRCodeBitMatrix.createPattern(maskPositions[mask], size, true);
+            }
+        }
+
+        private void initFormatModules() {
+            int index = 0;
+            // first copy
+            for (int i = 0; i <= 5; i++)
+                index = addFormatModule(index, 8, i, i);
+            index = addFormatModule(index, 8, 7, 6);
+            index = addFormatModule(index, 8, 8, 7);
+            index = addFormatModule(index, 7, 8, 8);
+            for (int i = 9; i < 15; i++)
+                index = addFormatModule(index, 14 - i, 8, i);
+
+            // second copy
+            for (int i = 0; i < 8; i++)
+                index = addFormatModule(index, size - 1 - i, 8, i);
+            for (int i = 8; i < 15; i++)
+                index = addFormatModule(index, 8, size - 15 + i, i);
+            addFormatModule(index, 8, size - 8, -1); // always dark
+        }
+
+        private int addFormatModule(int index, int x, int y, int bitIndex) {
+            formatPositions[index] = y * size + x;
+            formatBitIndexes[index] = bitIndex;
+            return index + 1;
+        }
+
+        private void drawFinderPattern(boolean[] isFunction, int x, int y) {
+            for (int dy = -4; dy <= 4; dy++) {
+                for (int dx = -4; dx <= 4; dx++) {
+                    int dist = Math.max(Math.abs(dx), Math.abs(dy));
+                    int xx = x + dx;
+                    int yy = y + dy;
+                    if (0 <= xx && xx < size && 0 <= yy && yy < size)
+                        setModule(modules, isFunction, size, xx, yy, dist != 2 && dist != 4);
+                }
+            }
+        }
+
+        private void drawAlignmentPattern(boolean[] isFunction, int x, int y) {
+            for (int dy = -2; dy <= 2; dy++)
+                for (int dx = -2; dx <= 2; dx++)
+                    setModule(modules, isFunction, size, x + dx, y + dy, Math.max(Math.abs(dx), Math.abs(dy)) != 1);
+        }
+
+        private void drawVersion(boolean[] isFunction, int version) {
+            if (version < 7)
+                return;
+
+            int bits = getVersionBits(version);
+
+            for (int i = 0; i < 18; i++) {
+                boolean bit = getBit(bits, i);
+                int a = size - 11 + i % 3;
+                int b = i / 3;
+                setModule(modules, isFunction, size, a, b, bit);
+                setModule(modules, isFunction, size, b, a, bit);
+            }
+        }
+
+        private static int[] getAlignmentPatternPositions(int version) {
+            if (version == 1)
+                return new int[0];
+
+            int numAlign = version / 7 + 2;
+            int step = (version * 8 + numAlign * 3 + 5) / (numAlign * 4 - 4) * 2;
+            int[] result = new int[numAlign];
+            result[0] = 6;
+            for (int i = result.length - 1, pos = version * 4 + 17 - 7; i >= 1; i--, pos -= step)
+                result[i] = pos;
+            return result;
+        }
+
+        private static boolean isMasked(int mask, int x, int y) {
+            switch (mask) {
+                case 0:  return (x + y) % 2 == 0;
+                case 1:  return y % 2 == 0;
+                case 2:  return x % 3 == 0;
+                case 3:  return (x + y) % 3 == 0;
+                case 4:  return (x / 3 + y / 2) % 2 == 0;
+                case 5:  return x * y % 2 + x * y % 3 == 0;
+                case 6:  return (x * y % 2 + x * y % 3) % 2 == 0;
+                default: return ((x + y) % 2 + x * y % 3) % 2 == 0;
+            }
+        }
+    }
+
+    /**
+     * Per-thread working buffers (sized for the largest version).
+     */
+    private static class Workspace {
+        final byte[] dataCodewords = new byte[getNumRawDataModules(MAX_VERSION) / 8];
+        final byte[] eccCodewords = new byte[getNumRawDataModules(MAX_VERSION) / 8];
+        final byte[] allCodewords = new byte[getNumRawDataModules(MAX_VERSION) / 8];
+        final boolean[] grid = new boolean[MAX_SIZE * MAX_SIZE];
+        final int[] runHistory = new int[7];
+        final QRCodeBitMatrix bitMatrix = new QRCodeBitMatrix(MAX_SIZE);
+    }
+}
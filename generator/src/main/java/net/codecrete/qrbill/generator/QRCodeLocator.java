@@ -0,0 +1,375 @@
+//
+// Swiss QR Bill Generator
+// Copyright (c) 2026 Manuel Bleichenbacher
+// Licensed under MIT License
+// https://opensource.org/licenses/MIT
+//
+package net.codecrete.qrbill.generator;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Internal class for locating a QR code in a grayscale image and sampling its modules.
+ * <p>
+ * The image is binarized with a global threshold (Otsu's method), which is suitable for scanned
+ * documents. Finder patterns are detected by scanning rows for the 1:1:3:1:1 run ratio and cross-checking
+ * the candidates vertically and horizontally. Three finder patterns forming an isosceles right
+ * triangle define the position, size and rotation of the QR code. As scanned documents have no
+ * perspective distortion, the modules are sampled with an affine transformation.
+ * </p>
+ */
+class QRCodeLocator {
+
+    /** Maximum number of finder pattern candidates combined into triples */
+    private static final int MAX_CANDIDATES = 12;
+
+    private final byte[] pixels;
+    private final int width;
+    private final int height;
+    private final int threshold;
+
+    /**
+     * Creates a new instance for the specified image.
+     *
+     * @param pixels grayscale pixels (0 is black, 255 is white), row by row
+     * @param width  image width, in pixels
+     * @param height image height, in pixels
+     */
+    QRCodeLocator(byte[] pixels, int width, int height) {
+        this.pixels = pixels;
+        this.width = width;
+        this.height = height;
+        threshold = computeThreshold(pixels, width * height);
+    }
+
+    /**
+     * Finds finder pattern candidates by scanning every n-th row.
+     *
+     * @param rowStep distance between scanned rows, in pixels
+     * @return candidates, with the most frequently detected first
+     */
+    List<FinderPattern> findFinderPatterns(int rowStep) {
+        List<FinderPattern> candidates = new ArrayList<>();
+        int[] runs = new int[width + 1];
+        int[] starts = new int[width + 1];
+
+        for (int y = rowStep / 2; y < height; y += rowStep) {
+            // run-length encode row
+            int numRuns = 0;
+            boolean firstIsDark = isDark(0, y);
+            boolean color = firstIsDark;
+            starts[0] = 0;
+            for (int x = 1; x < width; x++) {
+                if (isDark(x, y) != color) {
+                    runs[numRuns] = x - starts[numRuns];
+                    numRuns++;
+                    starts[numRuns] = x;
+                    color = !color;
+                }
+            }
+            runs[numRuns] = width - starts[numRuns];
+            numRuns++;
+
+            for (int i = firstIsDark ? 0 : 1; i + 4 < numRuns; i += 2) {
+                if (hasFinderRatio(runs[i], runs[i + 1], runs[i + 2], runs[i + 3], runs[i + 4])) {
+                    double centerX = starts[i + 2] + runs[i + 2] / 2.0;
+                    int total = runs[i] + runs[i + 1] + runs[i + 2] + runs[i + 3] + runs[i + 4];
+                    confirmCandidate(candidates, centerX, y + 0.5, total);
+                }
+            }
+        }
+
+        candidates.sort(Comparator.comparingInt((FinderPattern p) -> p.count).reversed());
+        return candidates;
+    }
+
+    /**
+     * Finds triples of finder patterns that could be the finder patterns of a QR code.
+     *
+     * @param candidates finder pattern candidates
+     * @return triples (ordered top left, top right and bottom left), with the most likely first
+     */
+    static List<FinderPattern[]> findTriples(List<FinderPattern> candidates) {
+        int n = Math.min(candidates.size(), MAX_CANDIDATES);
+        List<FinderPattern[]> triples = new ArrayList<>();
+        List<Double> scores = new ArrayList<>();
+
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                for (int k = j + 1; k < n; k++) {
+                    FinderPattern[] triple = orderTriple(candidates.get(i), candidates.get(j), candidates.get(k));
+                    if (triple == null)
+                        continue;
+                    double score = getTripleScore(triple);
+                    if (Double.isNaN(score))
+                        continue;
+                    int index = 0;
+                    while (index < scores.size() && scores.get(index) <= score)
+                        index++;
+                    triples.add(index, triple);
+                    scores.add(index, score);
+                }
+            }
+        }
+        return triples;
+    }
+
+    /**
+     * Estimates the number of modules per row and column.
+     *
+     * @param triple finder patterns (top left, top right and bottom left)
+     * @return number of modules (not rounded)
+     */
+    static double estimateSize(FinderPattern[] triple) {
+        // the module size was measured horizontally and vertically; if the QR code is rotated,
+        // the cut through the finder pattern is longer than its width by 1 / max(|cos|, |sin|)
+        double leg = distance(triple[0], triple[1]);
+        double rotationFactor = Math.max(Math.abs(triple[1].x - triple[0].x), Math.abs(triple[1].y - triple[0].y)) / leg;
+        double moduleSize = (triple[0].moduleSize + triple[1].moduleSize + triple[2].moduleSize) / 3 * rotationFactor;
+        double legs = (leg + distance(triple[0], triple[2])) / 2;
+        return legs / moduleSize + 7;
+    }
+
+    /**
+     * Samples the modules of a QR code.
+     *
+     * @param triple finder patterns (top left, top right and bottom left)
+     * @param size   number of modules per row and column
+     * @return QR code modules, as bit sets indexed by y
+     */
+    long[][] sampleModules(FinderPattern[] triple, int size) {
+        FinderPattern topLeft = triple[0];
+        // module vectors along x and y axis of the QR code
+        double ux = (triple[1].x - topLeft.x) / (size - 7);
+        double uy = (triple[1].y - topLeft.y) / (size - 7);
+        double vx = (triple[2].x - topLeft.x) / (size - 7);
+        double vy = (triple[2].y - topLeft.y) / (size - 7);
+
+        long[][] modules = new long[size][QRCodeBitMatrix.getWordsPerLine(size)];
+        for (int my = 0; my < size; my++) {
+            // the center of the finder pattern is the center of module 3
+            double rowX = topLeft.x + (my - 3) * vx - 3 * ux;
+            double rowY = topLeft.y + (my - 3) * vy - 3 * uy;
+            long[] row = modules[my];
+            for (int mx = 0; mx < size; mx++) {
+                int px = (int) Math.floor(rowX + mx * ux);
+                int py = (int) Math.floor(rowY + mx * uy);
+                if (px >= 0 && px < width && py >= 0 && py < height && isDark(px, py))
+                    row[mx >>> 6] |= 1L << mx;
+            }
+        }
+        return modules;
+    }
+
+    private boolean isDark(int x, int y) {
+        return (pixels[y * width + x] & 0xff) < threshold;
+    }
+
+    private void confirmCandidate(List<FinderPattern> candidates, double centerX, double centerY, int total) {
+        // cross-check vertically, then horizontally again at the refined center
+        double refinedY = crossCheck((int) centerX, (int) centerY, 0, 1, total);
+        if (Double.isNaN(refinedY))
+            return;
+        int[] counts = new int[5];
+        double refinedX = crossCheck((int) centerX, (int) refinedY, 1, 0, total, counts);
+        if (Double.isNaN(refinedX))
+            return;
+        int horizontalTotal = counts[0] + counts[1] + counts[2] + counts[3] + counts[4];
+        crossCheck((int) refinedX, (int) refinedY, 0, 1, total, counts);
+        int verticalTotal = counts[0] + counts[1] + counts[2] + counts[3] + counts[4];
+        double moduleSize = (horizontalTotal + verticalTotal) / 14.0;
+
+        for (FinderPattern candidate : candidates) {
+            if (Math.abs(candidate.x - refinedX) <= moduleSize && Math.abs(candidate.y - refinedY) <= moduleSize
+                    && Math.abs(candidate.moduleSize - moduleSize) <= Math.max(1, moduleSize / 2)) {
+                candidate.merge(refinedX, refinedY, moduleSize);
+                return;
+            }
+        }
+        candidates.add(new FinderPattern(refinedX, refinedY, moduleSize));
+    }
+
+    private double crossCheck(int centerX, int centerY, int dx, int dy, int expectedTotal) {
+        return crossCheck(centerX, centerY, dx, dy, expectedTotal, new int[5]);
+    }
+
+    /**
+     * Checks for the finder pattern run ratio along a line through the specified point.
+     *
+     * @return center coordinate along the line (x or y), or {@code NaN} if no finder pattern was found
+     */
+    private double crossCheck(int centerX, int centerY, int dx, int dy, int expectedTotal, int[] counts) {
+        int maxCount = expectedTotal;
+        for (int i = 0; i < 5; i++)
+            counts[i] = 0;
+
+        // backwards from center
+        int x = centerX;
+        int y = centerY;
+        for (int state = 2; state >= 0; state--) {
+            boolean dark = state != 1;
+            while (x >= 0 && y >= 0 && isDark(x, y) == dark && counts[state] <= maxCount) {
+                counts[state]++;
+                x -= dx;
+                y -= dy;
+            }
+            if (counts[state] == 0 || counts[state] > maxCount)
+                return Double.NaN;
+        }
+
+        // forward from center
+        x = centerX + dx;
+        y = centerY + dy;
+        for (int state = 2; state <= 4; state++) {
+            boolean dark = state != 3;
+            while (x < width && y < height && isDark(x, y) == dark && counts[state] <= maxCount) {
+                counts[state]++;
+                x += dx;
+                y += dy;
+            }
+            if (state > 2 && (counts[state] == 0 || counts[state] > maxCount))
+                return Double.NaN;
+        }
+
+        int total = counts[0] + counts[1] + counts[2] + counts[3] + counts[4];
+        if (5 * Math.abs(total - expectedTotal) >= 2 * expectedTotal
+                || !hasFinderRatio(counts[0], counts[1], counts[2], counts[3], counts[4]))
+            return Double.NaN;
+
+        int end = dx != 0 ? x : y;
+        return end - counts[4] - counts[3] - counts[2] / 2.0;
+    }
+
+    private static boolean hasFinderRatio(int r0, int r1, int r2, int r3, int r4) {
+        int total = r0 + r1 + r2 + r3 + r4;
+        if (total < 7)
+            return false;
+        double moduleSize = total / 7.0;
+        double maxVariance = moduleSize / 2;
+        return Math.abs(moduleSize - r0) < maxVariance
+                && Math.abs(moduleSize - r1) < maxVariance
+                && Math.abs(3 * moduleSize - r2) < 3 * maxVariance
+                && Math.abs(moduleSize - r3) < maxVariance
+                && Math.abs(moduleSize - r4) < maxVariance;
+    }
+
+    /**
+     * Orders the finder patterns as top left, top right and bottom left.
+     *
+     * @return ordered triple, or {@code null} if the module sizes do not match
+     */
+    private static FinderPattern[] orderTriple(FinderPattern a, FinderPattern b, FinderPattern c) {
+        double minModuleSize = Math.min(a.moduleSize, Math.min(b.moduleSize, c.moduleSize));
+        double maxModuleSize = Math.max(a.moduleSize, Math.max(b.moduleSize, c.moduleSize));
+        if (maxModuleSize > 1.4 * minModuleSize)
+            return null;
+
+        // the top left pattern is opposite the longest side
+        double ab = distance(a, b);
+        double bc = distance(b, c);
+        double ca = distance(c, a);
+        FinderPattern topLeft;
+        FinderPattern p1;
+        FinderPattern p2;
+        if (bc >= ab && bc >= ca) {
+            topLeft = a;
+            p1 = b;
+            p2 = c;
+        } else if (ca >= ab) {
+            topLeft = b;
+            p1 = c;
+            p2 = a;
+        } else {
+            topLeft = c;
+            p1 = a;
+            p2 = b;
+        }
+
+        // with the y axis pointing down, top right follows top left clockwise
+        double cross = (p1.x - topLeft.x) * (p2.y - topLeft.y) - (p1.y - topLeft.y) * (p2.x - topLeft.x);
+        return cross > 0 ? new FinderPattern[] { topLeft, p1, p2 } : new FinderPattern[] { topLeft, p2, p1 };
+    }
+
+    /**
+     * Computes how much the triple deviates from an isosceles right triangle.
+     *
+     * @return score (lower is better), or {@code NaN} if the triple is implausible
+     */
+    private static double getTripleScore(FinderPattern[] triple) {
+        double leg1 = distance(triple[0], triple[1]);
+        double leg2 = distance(triple[0], triple[2]);
+        double hypotenuse = distance(triple[1], triple[2]);
+        double legDeviation = Math.abs(leg1 - leg2) / Math.max(leg1, leg2);
+        double expectedHypotenuse = Math.sqrt(leg1 * leg1 + leg2 * leg2);
+        double hypotenuseDeviation = Math.abs(hypotenuse - expectedHypotenuse) / expectedHypotenuse;
+        double size = estimateSize(triple);
+        if (legDeviation > 0.2 || hypotenuseDeviation > 0.1 || size < 21 - 4 || size > 177 + 8)
+            return Double.NaN;
+        return legDeviation + hypotenuseDeviation;
+    }
+
+    private static double distance(FinderPattern a, FinderPattern b) {
+        return Math.hypot(a.x - b.x, a.y - b.y);
+    }
+
+    /**
+     * Computes the binarization threshold with Otsu's method.
+     */
+    private static int computeThreshold(byte[] pixels, int numPixels) {
+        int[] histogram = new int[256];
+        for (int i = 0; i < numPixels; i++)
+            histogram[pixels[i] & 0xff]++;
+
+        long totalSum = 0;
+        for (int i = 0; i < 256; i++)
+            totalSum += (long) i * histogram[i];
+
+        long backgroundSum = 0;
+        int backgroundCount = 0;
+        double maxVariance = -1;
+        int threshold = 128;
+        for (int t = 0; t < 256; t++) {
+            backgroundCount += histogram[t];
+            if (backgroundCount == 0)
+                continue;
+            int foregroundCount = numPixels - backgroundCount;
+            if (foregroundCount == 0)
+                break;
+            backgroundSum += (long) t * histogram[t];
+            double backgroundMean = (double) backgroundSum / backgroundCount;
+            double foregroundMean = (double) (totalSum - backgroundSum) / foregroundCount;
+            double variance = (double) backgroundCount * foregroundCount
+                    * (backgroundMean - foregroundMean) * (backgroundMean - foregroundMean);
+            if (variance > maxVariance) {
+                maxVariance = variance;
+                threshold = t + 1; // pixels with values < threshold are dark
+            }
+        }
+        return threshold;
+    }
+
+    /**
+     * Finder pattern candidate.
+     */
+    static class FinderPattern {
+        double x;
+        double y;
+        double moduleSize;
+        int count = 1;
+
+        FinderPattern(double x, double y, double moduleSize) {
+            this.x = x;
+            this.y = y;
+            this.moduleSize = moduleSize;
+        }
+
+        void merge(double x, double y, double moduleSize) {
+            this.x = (this.x * count + x) / (count + 1);
+            this.y = (this.y * count + y) / (count + 1);
+            this.moduleSize = (this.moduleSize * count + moduleSize) / (count + 1);
+            count++;
+        }
+    }
+}
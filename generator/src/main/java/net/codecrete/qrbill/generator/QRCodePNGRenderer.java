@@ -0,0 +1,154 @@
+//
+// Swiss QR Bill Generator
+// Copyright (c) 2026 Manuel Bleichenbacher
+// Licensed under MIT License
+// https://opensource.org/licenses/MIT
+//
+package net.codecrete.qrbill.generator;
+
+import net.codecrete.qrbill.canvas.PNGEncoder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+
+/**
+ * Internal class rendering a QR code directly as a PNG image.
+ * <p>
+ * Used for the output sizes {@link OutputSize#QR_CODE_ONLY} and {@link OutputSize#QR_CODE_WITH_QUIET_ZONE}
+ * instead of {@code PNGCanvas}. The image only consists of black and white rectangles. So the module
+ * grid and the Swiss cross are snapped to whole pixels and written into a 1-bit scanline buffer,
+ * which is then encoded as a grayscale PNG with a bit depth of 1 using {@link PNGEncoder}.
+ * </p>
+ * <p>
+ * The image has the same size and metadata as the one produced by {@code PNGCanvas}.
+ * </p>
+ */
+class QRCodePNGRenderer {
+
+    private final int width;
+    private final int height;
+    private final int bytesPerRow;
+    /** Pixels, row by row, 1 bit per pixel (0 for black, 1 for white), first pixel in most significant bit */
+    private final byte[] pixels;
+    private final double scale;
+
+    private QRCodePNGRenderer(double width, double height, int resolution) {
+        // same image size calculation as PNGCanvas
+        float floatScale = (float) (resolution / 25.4);
+        this.width = (int) (width * floatScale + 0.5);
+        this.height = (int) (height * floatScale + 0.5);
+        scale = floatScale;
+        bytesPerRow = (this.width + 7) / 8;
+        pixels = new byte[bytesPerRow * this.height];
+        Arrays.fill(pixels, (byte) 0xff);
+    }
+
+    /**
+     * Checks if the specified format is rendered by this class.
+     *
+     * @param format bill format
+     * @return {@code true} if it is rendered by this class, {@code false} otherwise
+     */
+    static boolean isApplicable(BillFormat format) {
+        return format.getGraphicsFormat() == GraphicsFormat.PNG
+                && (format.getOutputSize() == OutputSize.QR_CODE_ONLY
+                || format.getOutputSize() == OutputSize.QR_CODE_WITH_QUIET_ZONE);
+    }
+
+    /**
+     * Renders the QR code of the specified bill as a PNG image.
+     * <p>
+     * The bill data must have been validated and cleaned.
+     * </p>
+     *
+     * @param bill bill data
+     * @return PNG image data
+     * @throws IOException thrown if the image cannot be encoded
+     */
+    static byte[] render(Bill bill) throws IOException {
+        BillFormat format = bill.getFormat();
+        double size = QRCode.SIZE;
+        double offset = 0;
+        if (format.getOutputSize() == OutputSize.QR_CODE_WITH_QUIET_ZONE) {
+            size = QRBill.QR_CODE_WITH_QUIET_ZONE_WIDTH;
+            offset = (size - QRCode.SIZE) / 2;
+        }
+
+        QRCodePNGRenderer renderer = new QRCodePNGRenderer(size, size, format.getResolution());
+        renderer.drawQRCode(new QRCode(bill).createModules(), offset);
+        return renderer.encodePNG(format.getResolution());
+    }
+
+    private void drawQRCode(long[][] modules, double offset) {
+        int size = modules.length;
+        int[] edges = new int[size + 1];
+        for (int i = 0; i <= size; i++)
+            edges[i] = toPixel(offset + i * QRCode.SIZE / size);
+
+        // create scanline for each module row and replicate it for the row's pixel rows
+        byte[] scanline = new byte[bytesPerRow];
+        for (int my = 0; my < size; my++) {
+            Arrays.fill(scanline, (byte) 0xff);
+            long[] row = modules[my];
+            int mx = 0;
+            while (mx < size) {
+                if ((row[mx >>> 6] & (1L << mx)) == 0) {
+                    mx++;
+                    continue;
+                }
+                int start = mx;
+                while (mx < size && (row[mx >>> 6] & (1L << mx)) != 0)
+                    mx++;
+                fillSpan(scanline, edges[start], edges[mx], false);
+            }
+
+            for (int y = edges[my]; y < edges[my + 1]; y++)
+                System.arraycopy(scanline, 0, pixels, y * bytesPerRow, bytesPerRow);
+        }
+
+        // Swiss cross (symmetric, so the direction of the y axis does not matter)
+        double center = offset + QRCode.SIZE / 2;
+        fillRectangle(center - 3, center - 3, center + 3, center + 3, false);
+        double barWidth = QRCode.CROSS_BAR_WIDTH / 2;
+        double barLength = QRCode.CROSS_BAR_LENGTH / 2;
+        fillRectangle(center - barWidth, center - barLength, center + barWidth, center + barLength, true);
+        fillRectangle(center - barLength, center - barWidth, center + barLength, center + barWidth, true);
+    }
+
+    private int toPixel(double mm) {
+        return (int) Math.round(mm * scale);
+    }
+
+    private void fillRectangle(double left, double top, double right, double bottom, boolean white) {
+        int x0 = toPixel(left);
+        int x1 = toPixel(right);
+        for (int y = toPixel(top); y < toPixel(bottom); y++) {
+            int rowOffset = y * bytesPerRow;
+            for (int x = x0; x < x1; x++)
+                setPixel(pixels, rowOffset, x, white);
+        }
+    }
+
+    private static void fillSpan(byte[] scanline, int start, int end, boolean white) {
+        for (int x = start; x < end; x++)
+            setPixel(scanline, 0, x, white);
+    }
+
+    private static void setPixel(byte[] buffer, int rowOffset, int x, boolean white) {
+        int mask = 0x80 >>> (x & 7);
+        if (white)
+            buffer[rowOffset + (x >>> 3)] |= (byte) mask;
+        else
+            buffer[rowOffset + (x >>> 3)] &= (byte) ~mask;
+    }
+
+    private byte[] encodePNG(int resolution) throws IOException {
+        ByteArrayOutputStream os = new ByteArrayOutputStream(pixels.length / 8 + 200);
+        PNGEncoder encoder = new PNGEncoder(width, height, 1, resolution);
+        encoder.setCompressionLevel(Deflater.BEST_COMPRESSION);
+        encoder.write(pixels, 0, bytesPerRow, os);
+        return os.toByteArray();
+    }
+}
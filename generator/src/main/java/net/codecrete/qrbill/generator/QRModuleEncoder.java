@@ -0,0 +1,53 @@
+//
+// Swiss QR Bill Generator
+// Copyright (c) 2026 Manuel Bleichenbacher
+// Licensed under MIT License
+// https://opensource.org/licenses/MIT
+//
+package net.codecrete.qrbill.generator;
+
+/**
+ * Encoder generating the modules of the QR code from the QR code text.
+ * <p>
+ * Implementations must produce exactly the same modules as the
+ * <a href="https://www.nayuki.io/page/qr-code-generator-library">QR Code generator library</a>
+ * by Project Nayuki with {@code QrCode.encodeText(text, QrCode.Ecc.MEDIUM)}, i.e. the same
+ * segment mode, version, error correction level (incl. boosting) and mask.
+ * </p>
+ * <p>
+ * Implementations must be thread-safe. They can be checked with the conformance tests
+ * {@code QRModuleEncoderConformanceTest} in the test jar ({@code tests} classifier).
+ * </p>
+ *
+ * @see QRBill#setQrModuleEncoder(QRModuleEncoder)
+ */
+public interface QRModuleEncoder {
+
+    /**
+     * Encoder specialized for QR bill texts (default).
+     * <p>
+     * It uses precomputed tables and bitwise mask selection, and passes on texts that
+     * are not encoded in byte mode to {@link #GENERIC}.
+     * </p>
+     */
+    QRModuleEncoder SPECIALIZED = QRCodeEncoder::encode;
+
+    /**
+     * General-purpose encoder of the QR Code generator library by Project Nayuki.
+     */
+    QRModuleEncoder GENERIC = QRCodeEncoder::encodeGeneric;
+
+    /**
+     * Encodes the specified text as a QR code.
+     * <p>
+     * The modules are returned as one bit set per row: module <i>x</i> of row <i>y</i>
+     * is bit <i>x % 64</i> of {@code rows[y][x / 64]}. It is set for dark modules. Each row
+     * consists of {@code (size + 63) / 64} words, and the bits beyond the size are zero.
+     * The caller may modify the returned arrays.
+     * </p>
+     *
+     * @param text text to encode
+     * @return QR code modules, as bit sets indexed by y
+     */
+    long[][] encode(String text);
+}
@@ -0,0 +1,176 @@
+//
+// Swiss QR Bill Generator
+// Copyright (c) 2026 Manuel Bleichenbacher
+// Licensed under MIT License
+// https://opensource.org/licenses/MIT
+//
+package net.codecrete.qrbill.generator;
+
+import java.io.IOException;
+import java.util.NoSuchElementException;
+
+/**
+ * Generates a sequence of consecutive QR references.
+ * <p>
+ * Each reference consists of a fixed numeric prefix followed by a counter with a fixed number
+ * of digits. The result is the same as calling {@link Payments#createQRReference(String)} with
+ * the prefix and the zero-padded counter, i.e. the raw reference is padded with leading zeros
+ * to 26 digits and the check digit is appended.
+ * </p>
+ * <p>
+ * The check digit is updated incrementally: the modulo 10 (recursive) state is kept for each
+ * counter digit so that only the digits that changed need to be recomputed.
+ * </p>
+ * <p>
+ * Instances of this class are not thread-safe.
+ * </p>
+ */
+public class QRReferenceSequence {
+
+    /**
+     * Length of a QR reference
+     */
+    public static final int REFERENCE_LENGTH = 27;
+
+    /** Reference digits (without check digit) */
+    private final char[] digits = new char[REFERENCE_LENGTH - 1];
+    /** Modulo 10 state after each digit */
+    private final int[] carries = new int[REFERENCE_LENGTH - 1];
+    /** Start of counter within {@code digits} */
+    private final int counterStart;
+    /** Number of remaining references */
+    private long remaining;
+    /** Indicates that {@code digits} still contains the previous reference */
+    private boolean isIncrementPending;
+
+    /**
+     * Creates a new sequence.
+     * <p>
+     * Whitespace is removed from the prefix.
+     * </p>
+     *
+     * @param prefix        the numeric prefix (digits and whitespace only, may be empty)
+     * @param counterDigits the number of digits of the counter
+     * @param start         the first counter value
+     * @param count         the number of references to generate
+     * @throws IllegalArgumentException if the prefix contains invalid characters, if the reference would be
+     *                                  too long or if the counter range does not fit into the counter digits
+     */
+    public QRReferenceSequence(String prefix, int counterDigits, long start, long count) {
+        String rawPrefix = Strings.whiteSpaceRemoved(prefix);
+        if (!Payments.isNumeric(rawPrefix))
+            throw new IllegalArgumentException("Invalid character in reference (digits allowed only)");
+        if (counterDigits < 1 || counterDigits > 18)
+            throw new IllegalArgumentException("Counter must have between 1 and 18 digits");
+        if (rawPrefix.length() + counterDigits > REFERENCE_LENGTH - 1)
+            throw new IllegalArgumentException("Reference number is too long");
+        if (start < 0 || count < 0 || count > Payments.maxValue(counterDigits) - start + 1)
+            throw new IllegalArgumentException("Counter range exceeds counter digits");
+
+        counterStart = REFERENCE_LENGTH - 1 - counterDigits;
+        int prefixStart = counterStart - rawPrefix.length();
+        for (int i = 0; i < prefixStart; i++)
+            digits[i] = '0';
+        rawPrefix.getChars(0, rawPrefix.length(), digits, prefixStart);
+
+        long value = start;
+        for (int i = REFERENCE_LENGTH - 2; i >= counterStart; i--) {
+            digits[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+
+        updateCarries(0);
+        remaining = count;
+    }
+
+    /**
+     * Indicates if there are more references in the sequence.
+     *
+     * @return {@code true} if there are more references, {@code false} otherwise
+     */
+    public boolean hasNext() {
+        return remaining > 0;
+    }
+
+    /**
+     * Gets the number of remaining references in the sequence.
+     *
+     * @return number of remaining references
+     */
+    public long getRemaining() {
+        return remaining;
+    }
+
+    /**
+     * Writes the next QR reference into the specified buffer.
+     * <p>
+     * Exactly {@link #REFERENCE_LENGTH} characters are written.
+     * </p>
+     *
+     * @param buffer the buffer
+     * @param offset the offset of the first character within the buffer
+     * @throws NoSuchElementException if the sequence has no more references
+     */
+    public void next(char[] buffer, int offset) {
+        advance();
+        System.arraycopy(digits, 0, buffer, offset, REFERENCE_LENGTH - 1);
+        buffer[offset + REFERENCE_LENGTH - 1] = checkDigit();
+    }
+
+    /**
+     * Appends the next QR reference to the specified output.
+     *
+     * @param output the output, e.g. a {@code Writer} or {@code StringBuilder}
+     * @throws IOException            if the output cannot be written
+     * @throws NoSuchElementException if the sequence has no more references
+     */
+    public void next(Appendable output) throws IOException {
+        advance();
+        for (char ch : digits)
+            output.append(ch);
+        output.append(checkDigit());
+    }
+
+    /**
+     * Gets the next QR reference.
+     *
+     * @return QR reference
+     * @throws NoSuchElementException if the sequence has no more references
+     */
+    public String next() {
+        char[] buffer = new char[REFERENCE_LENGTH];
+        next(buffer, 0);
+        return new String(buffer);
+    }
+
+    private void advance() {
+        if (remaining <= 0)
+            throw new NoSuchElementException();
+
+        if (isIncrementPending) {
+            // increment counter, propagating the carry to the left
+            int pos = REFERENCE_LENGTH - 2;
+            while (digits[pos] == '9') {
+                digits[pos] = '0';
+                pos--;
+            }
+            digits[pos]++;
+            updateCarries(pos);
+        }
+
+        remaining--;
+        isIncrementPending = true;
+    }
+
+    private void updateCarries(int from) {
+        int carry = from > 0 ? carries[from - 1] : 0;
+        for (int i = from; i < REFERENCE_LENGTH - 1; i++) {
+            carry = Payments.MOD_10[(carry + digits[i] - '0') % 10];
+            carries[i] = carry;
+        }
+    }
+
+    private char checkDigit() {
+        return (char) ('0' + (10 - carries[REFERENCE_LENGTH - 2]) % 10);
+    }
+}
@@ -0,0 +1,57 @@
+//
+// Swiss QR Bill Generator
+// Copyright (c) 2026 Manuel Bleichenbacher
+// Licensed under MIT License
+// https://opensource.org/licenses/MIT
+//
+package net.codecrete.qrbill.generator;
+
+import java.io.IOException;
+
+/**
+ * Cache for generated QR bills.
+ * <p>
+ * The cache is keyed by the content fingerprint of the cleaned bill data
+ * (see {@link ValidationResult#getFingerprint()}). As the fingerprint includes the bill
+ * format, and thus the graphics format and output size, the cached data can be
+ * returned as is.
+ * </p>
+ * <p>
+ * The generated output can change between versions of this library. So a persistent cache
+ * must include {@link #OUTPUT_VERSION} in its keys or layout, or be cleared when the library is upgraded.
+ * </p>
+ * <p>
+ * Implementations must be thread-safe.
+ * </p>
+ *
+ * @see QRBill#generate(Bill, RenderedBillCache)
+ * @see FileSystemRenderedBillCache
+ */
+public interface RenderedBillCache {
+
+    /**
+     * Version of the generated output.
+     * <p>
+     * It is incremented whenever this library generates different output for the same bill data.
+     * </p>
+     */
+    int OUTPUT_VERSION = 1;
+
+    /**
+     * Gets the cached QR bill for the specified fingerprint.
+     *
+     * @param fingerprint content fingerprint of cleaned bill data
+     * @return the cached QR bill (encoded in the graphics format), or {@code null} if it is not in the cache
+     * @throws IOException thrown if the cache cannot be accessed
+     */
+    byte[] get(String fingerprint) throws IOException;
+
+    /**
+     * Stores the QR bill for the specified fingerprint in the cache.
+     *
+     * @param fingerprint content fingerprint of cleaned bill data
+     * @param data        the QR bill (encoded in the graphics format)
+     * @throws IOException thrown if the cache cannot be accessed
+     */
+    void put(String fingerprint, byte[] data) throws IOException;
+}
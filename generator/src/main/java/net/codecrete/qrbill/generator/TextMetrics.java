@@ -0,0 +1,106 @@
+//
+// Swiss QR Bill Generator
+// Copyright (c) 2026 Manuel Bleichenbacher
+// Licensed under MIT License
+// https://opensource.org/licenses/MIT
+//
+package net.codecrete.qrbill.generator;
+
+import net.codecrete.qrbill.canvas.Canvas;
+import net.codecrete.qrbill.canvas.FontMetrics;
+import net.codecrete.qrbill.canvas.MeasuredText;
+
+/**
+ * Text measurement for laying out a bill.
+ * <p>
+ * When a bill is drawn, the text is measured by the canvas. For a preflight,
+ * it is measured with the font metrics directly, and no canvas is needed.
+ * </p>
+ * <p>
+ * The methods are the same as the ones of {@link Canvas} and {@link FontMetrics}.
+ * Like {@link Canvas#measureText(String)}, {@link #measureText(String)} returns {@code null}
+ * if the canvas does not measure text.
+ * </p>
+ */
+interface TextMetrics {
+
+    double getAscender(int fontSize);
+
+    double getLineHeight(int fontSize);
+
+    double getTextWidth(CharSequence text, int fontSize, boolean isBold);
+
+    String[] splitLines(String text, double maxLength, int fontSize);
+
+    MeasuredText measureText(String text);
+
+    /**
+     * Gets the text metrics of the specified canvas.
+     *
+     * @param canvas canvas
+     * @return text metrics
+     */
+    static TextMetrics of(Canvas canvas) {
+        return new TextMetrics() {
+            @Override
+            public double getAscender(int fontSize) {
+                return canvas.getAscender(fontSize);
+            }
+
+            @Override
+            public double getLineHeight(int fontSize) {
+                return canvas.getLineHeight(fontSize);
+            }
+
+            @Override
+            public double getTextWidth(CharSequence text, int fontSize, boolean isBold) {
+                return canvas.getTextWidth(text, fontSize, isBold);
+            }
+
+            @Override
+            public String[] splitLines(String text, double maxLength, int fontSize) {
+                return canvas.splitLines(text, maxLength, fontSize);
+            }
+
+            @Override
+            public MeasuredText measureText(String text) {
+                return canvas.measureText(text);
+            }
+        };
+    }
+
+    /**
+     * Gets the text metrics of the specified font metrics.
+     *
+     * @param fontMetrics font metrics
+     * @return text metrics
+     */
+    static TextMetrics of(FontMetrics fontMetrics) {
+        return new TextMetrics() {
+            @Override
+            public double getAscender(int fontSize) {
+                return fontMetrics.getAscender(fontSize);
+            }
+
+            @Override
+            public double getLineHeight(int fontSize) {
+                return fontMetrics.getLineHeight(fontSize);
+            }
+
+            @Override
+            public double getTextWidth(CharSequence text, int fontSize, boolean isBold) {
+                return fontMetrics.getTextWidth(text, fontSize, isBold);
+            }
+
+            @Override
+            public String[] splitLines(String text, double maxLength, int fontSize) {
+                return fontMetrics.splitLines(text, maxLength, fontSize);
+            }
+
+            @Override
+            public MeasuredText measureText(String text) {
+                return fontMetrics.measureText(text);
+            }
+        };
+    }
+}
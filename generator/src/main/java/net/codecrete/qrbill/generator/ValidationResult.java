@@ -23,6 +23,8 @@ public class ValidationResult implements Serializable {
     private List<ValidationMessage> validationMessages;
     /** Cleaned bill data */
     private Bill cleanedBill;
+    /** Fingerprint of cleaned bill data (computed on first use) */
+    private String fingerprint;
 
     /**
      * Creates a new validation result instance
@@ -136,6 +138,31 @@ public class ValidationResult implements Serializable {
      */
     public void setCleanedBill(Bill cleanedBill) {
         this.cleanedBill = cleanedBill;
+        fingerprint = null;
+    }
+
+    /**
+     * Gets the content fingerprint of the cleaned bill data.
+     * <p>
+     * The fingerprint covers all fields of the cleaned bill data including the bill format.
+     * Two bills with the same fingerprint will result in the same QR bill. The fingerprint
+     * is deterministic and independent of the JVM and process. So it is suitable as a key
+     * for persistent and distributed caches, and for detecting duplicate bills.
+     * </p>
+     * <p>
+     * It consists of 32 lowercase hexadecimal digits (128 bits).
+     * </p>
+     * <p>
+     * The fingerprint is computed when this method is called for the first time.
+     * Changes to the cleaned bill data made thereafter are not reflected.
+     * </p>
+     *
+     * @return the fingerprint, or {@code null} if there is no cleaned bill data
+     */
+    public String getFingerprint() {
+        if (fingerprint == null && cleanedBill != null)
+            fingerprint = BillFingerprint.compute(cleanedBill);
+        return fingerprint;
     }
 
     /**
@@ -0,0 +1,109 @@
+//
+// Swiss QR Bill Generator
+// Copyright (c) 2026 Manuel Bleichenbacher
+// Licensed under MIT License
+// https://opensource.org/licenses/MIT
+//
+package net.codecrete.qrbill.canvas;
+
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+/**
+ * Unit tests for adding multiple rectangles at once
+ */
+@DisplayName("Add multiple rectangles")
+class AddRectanglesTest {
+
+    private static final String FONT = "Helvetica";
+
+    @Test
+    void svg_sameAsSingleRectangles() throws IOException {
+        double[] rectangles = createRectangles();
+        byte[] expected;
+        try (SVGCanvas canvas = new SVGCanvas(100, 100, FONT)) {
+            drawSingle(canvas, rectangles);
+            expected = canvas.toByteArray();
+        }
+        try (SVGCanvas canvas = new SVGCanvas(100, 100, FONT)) {
+            drawBatch(canvas, rectangles);
+            assertArrayEquals(expected, canvas.toByteArray());
+        }
+    }
+
+    @Test
+    void pdf_sameAsSingleRectangles() throws IOException {
+        double[] rectangles = createRectangles();
+        byte[] expected;
+        try (PDFCanvas canvas = new PDFCanvas(100, 100)) {
+            drawSingle(canvas, rectangles);
+            expected = getPageContent(canvas.toByteArray());
+        }
+        try (PDFCanvas canvas = new PDFCanvas(100, 100)) {
+            drawBatch(canvas, rectangles);
+            assertArrayEquals(expected, getPageContent(canvas.toByteArray()));
+        }
+    }
+
+    private static byte[] getPageContent(byte[] pdf) throws IOException {
+        // the document ID differs; compare the page content only
+        try (PDDocument document = Loader.loadPDF(pdf); InputStream content = document.getPage(0).getContents()) {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            byte[] chunk = new byte[4096];
+            int length;
+            while ((length = content.read(chunk)) > 0)
+                buffer.write(chunk, 0, length);
+            return buffer.toByteArray();
+        }
+    }
+
+    @Test
+    void png_sameAsSingleRectangles() throws IOException {
+        double[] rectangles = createRectangles();
+        byte[] expected;
+        try (PNGCanvas canvas = new PNGCanvas(100, 100, 144, FONT)) {
+            drawSingle(canvas, rectangles);
+            expected = canvas.toByteArray();
+        }
+        try (PNGCanvas canvas = new PNGCanvas(100, 100, 144, FONT)) {
+            drawBatch(canvas, rectangles);
+            assertArrayEquals(expected, canvas.toByteArray());
+        }
+    }
+
+    private static double[] createRectangles() {
+        Random random = new Random(42);
+        double[] rectangles = new double[200 * 4];
+        for (int i = 0; i < rectangles.length; i += 4) {
+            rectangles[i] = random.nextDouble() * 90;
+            rectangles[i + 1] = random.nextDouble() * 90;
+            rectangles[i + 2] = random.nextDouble() * 10;
+            rectangles[i + 3] = random.nextDouble() * 10;
+        }
+        return rectangles;
+    }
+
+    private static void drawSingle(Canvas canvas, double[] rectangles) throws IOException {
+        canvas.setTransformation(5, 5, 0, 0.5, 0.5);
+        canvas.startPath();
+        for (int i = 0; i < rectangles.length; i += 4)
+            canvas.addRectangle(rectangles[i], rectangles[i + 1], rectangles[i + 2], rectangles[i + 3]);
+        canvas.fillPath(0, false);
+    }
+
+    private static void drawBatch(Canvas canvas, double[] rectangles) throws IOException {
+        canvas.setTransformation(5, 5, 0, 0.5, 0.5);
+        canvas.startPath();
+        canvas.addRectangles(rectangles, rectangles.length / 4);
+        canvas.fillPath(0, false);
+    }
+}
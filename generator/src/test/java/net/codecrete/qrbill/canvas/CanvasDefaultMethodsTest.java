@@ -0,0 +1,187 @@
+//
+// Swiss QR Bill Generator
+// Copyright (c) 2026 Manuel Bleichenbacher
+// Licensed under MIT License
+// https://opensource.org/licenses/MIT
+//
+package net.codecrete.qrbill.canvas;
+
+import net.codecrete.qrbill.generator.QRBill;
+import net.codecrete.qrbill.testhelper.SampleData;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the default methods of {@link Canvas}
+ */
+@DisplayName("Canvas default methods")
+class CanvasDefaultMethodsTest {
+
+    private static final String TEXT = "Salvation Army Foundation Switzerland\nLaupenstrasse 7\n3001 Bern";
+
+    @Test
+    void measureText_returnsNull() {
+        RecordingCanvas canvas = new RecordingCanvas();
+        assertNull(canvas.measureText(TEXT));
+    }
+
+    @Test
+    void drawBill_splitsLinesWithCanvas() {
+        RecordingCanvas canvas = new RecordingCanvas();
+        QRBill.draw(SampleData.getExample1(), canvas);
+        assertTrue(canvas.numSplitLinesCalls > 0);
+        assertTrue(canvas.operations.contains("text:Robert Schneider AG"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 30, 50, 80, 200 })
+    void measuredTextOf_splitsLikeSplitLines(int maxLength) {
+        RecordingCanvas canvas = new RecordingCanvas();
+        MeasuredText measuredText = MeasuredText.of(TEXT, measureCharacters(canvas.fontMetrics, TEXT));
+        assertArrayEquals(canvas.splitLines(TEXT, maxLength, 10), measuredText.splitLines(maxLength, 10));
+    }
+
+    @Test
+    void measuredTextOf_invalidLength_fails() {
+        int[] cumulativeWidths = new int[TEXT.length()];
+        assertThrows(IllegalArgumentException.class, () -> MeasuredText.of(TEXT, cumulativeWidths));
+    }
+
+    @Test
+    void putTextLines_putsLines() throws Exception {
+        RecordingCanvas canvas = new RecordingCanvas();
+        MeasuredText measuredText = canvas.fontMetrics.measureText(TEXT);
+        int[] lineRanges = measuredText.getLineRanges(80, 10);
+        canvas.putTextLines(measuredText, lineRanges, 10, 20, 10, 1);
+        assertEquals(canvas.splitLines(TEXT, 80, 10).length, canvas.operations.size());
+        assertEquals("text:Salvation Army", canvas.operations.get(0));
+        assertEquals("text:3001 Bern", canvas.operations.get(canvas.operations.size() - 1));
+    }
+
+    @Test
+    void addRectangles_addsEachRectangle() throws Exception {
+        RecordingCanvas canvas = new RecordingCanvas();
+        canvas.addRectangles(new double[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 9, 9, 9 }, 2);
+        assertEquals(2, canvas.operations.size());
+        assertEquals("rect:1.0,2.0,3.0,4.0", canvas.operations.get(0));
+        assertEquals("rect:5.0,6.0,7.0,8.0", canvas.operations.get(1));
+    }
+
+    private static int[] measureCharacters(FontMetrics fontMetrics, String text) {
+        int[] cumulativeWidths = new int[text.length() + 1];
+        for (int i = 0; i < text.length(); i++) {
+            // at a font size of 1000 pt, the width in pt is the width in 0.001 pt at a font size of 1 pt
+            double width = fontMetrics.getTextWidth(text.subSequence(0, i + 1), 1000, false) * 72 / 25.4;
+            cumulativeWidths[i + 1] = (int) Math.round(width);
+        }
+        return cumulativeWidths;
+    }
+
+    /**
+     * Canvas implementing the abstract methods only, like a canvas outside this library.
+     */
+    private static class RecordingCanvas implements Canvas {
+
+        private final FontMetrics fontMetrics = new FontMetrics("Helvetica");
+        private final List<String> operations = new ArrayList<>();
+        private int numSplitLinesCalls;
+
+        @Override
+        public void setTransformation(double translateX, double translateY, double rotate, double scaleX, double scaleY) {
+            // not needed
+        }
+
+        @Override
+        public void putText(String text, double x, double y, int fontSize, boolean isBold) {
+            operations.add("text:" + text);
+        }
+
+        @Override
+        public void putTextLines(String[] lines, double x, double y, int fontSize, double leading) {
+            for (String line : lines)
+                putText(line, x, y, fontSize, false);
+        }
+
+        @Override
+        public void startPath() {
+            // not needed
+        }
+
+        @Override
+        public void moveTo(double x, double y) {
+            // not needed
+        }
+
+        @Override
+        public void lineTo(double x, double y) {
+            // not needed
+        }
+
+        @Override
+        public void cubicCurveTo(double x1, double y1, double x2, double y2, double x, double y) {
+            // not needed
+        }
+
+        @Override
+        public void addRectangle(double x, double y, double width, double height) {
+            operations.add("rect:" + x + "," + y + "," + width + "," + height);
+        }
+
+        @Override
+        public void closeSubpath() {
+            // not needed
+        }
+
+        @Override
+        public void fillPath(int color, boolean smoothing) {
+            // not needed
+        }
+
+        @Override
+        public void strokePath(double strokeWidth, int color, LineStyle lineStyle, boolean smoothing) {
+            // not needed
+        }
+
+        @Override
+        public double getAscender(int fontSize) {
+            return fontMetrics.getAscender(fontSize);
+        }
+
+        @Override
+        public double getDescender(int fontSize) {
+            return fontMetrics.getDescender(fontSize);
+        }
+
+        @Override
+        public double getLineHeight(int fontSize) {
+            return fontMetrics.getLineHeight(fontSize);
+        }
+
+        @Override
+        public double getTextWidth(CharSequence text, int fontSize, boolean isBold) {
+            return fontMetrics.getTextWidth(text, fontSize, isBold);
+        }
+
+        @Override
+        public String[] splitLines(String text, double maxLength, int fontSize) {
+            numSplitLinesCalls++;
+            return fontMetrics.splitLines(text, maxLength, fontSize);
+        }
+
+        @Override
+        public void close() {
+            // nothing to close
+        }
+    }
+}
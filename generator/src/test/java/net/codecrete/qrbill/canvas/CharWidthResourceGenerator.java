@@ -0,0 +1,137 @@
+//
+// Swiss QR Bill Generator
+// Copyright (c) 2026 Manuel Bleichenbacher
+// Licensed under MIT License
+// https://opensource.org/licenses/MIT
+//
+
+package net.codecrete.qrbill.canvas;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+/**
+ * Generates the binary character width resources from their text sources.
+ * <p>
+ * The text sources ({@code src/test/resources/fonts/widths/*.txt}) list the widths of the
+ * regular and bold weight of a font family. The binary resources
+ * ({@code src/main/resources/fonts/widths/*.bin}) have the format read by {@link CharWidthTable}.
+ * </p>
+ * <p>
+ * Not run as part of the unit tests. Run the {@code main} method from the {@code generator}
+ * directory with the test classpath after changing a text source.
+ * {@code FontMetricsTest} checks that the binary resources are up-to-date.
+ * </p>
+ */
+public class CharWidthResourceGenerator {
+
+    static final String[] FAMILIES = {
+            CharWidthTable.HELVETICA, CharWidthTable.ARIAL, CharWidthTable.LIBERATION_SANS, CharWidthTable.FRUTIGER
+    };
+
+    private CharWidthResourceGenerator() {
+        // do not instantiate
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path outputDir = Paths.get("src/main/resources/fonts/widths");
+        for (String family : FAMILIES) {
+            Path path = outputDir.resolve(family + ".bin");
+            Files.write(path, toResource(readSource(family)));
+            System.out.println("Generated " + path);
+        }
+    }
+
+    /**
+     * Reads the text source of the character widths of a font family.
+     * <p>
+     * The result contains the widths of all characters, first for regular and then
+     * for bold weight (65536 values each).
+     * </p>
+     *
+     * @param family font family
+     * @return character widths (in 1/1000 pt for font size 1)
+     */
+    static int[] readSource(String family) {
+        String resourceName = "/fonts/widths/" + family + ".txt";
+        try (InputStream is = CharWidthResourceGenerator.class.getResourceAsStream(resourceName)) {
+            if (is == null)
+                throw new IllegalStateException("Resource " + resourceName + " is missing");
+            BufferedReader reader = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8));
+
+            int[] widths = null;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int commentPos = line.indexOf('#');
+                if (commentPos >= 0)
+                    line = line.substring(0, commentPos);
+                line = line.trim();
+                if (line.isEmpty())
+                    continue;
+
+                String[] fields = line.split("\\s+");
+                if (fields.length != 3)
+                    throw new IllegalStateException("Invalid line in " + resourceName + ": " + line);
+                int regularWidth = Integer.parseInt(fields[1]);
+                int boldWidth = Integer.parseInt(fields[2]);
+
+                if (widths == null) {
+                    // first line: default widths
+                    if (!fields[0].equals("default"))
+                        throw new IllegalStateException("Default width missing in " + resourceName);
+                    widths = new int[2 * 0x10000];
+                    Arrays.fill(widths, 0, 0x10000, regularWidth);
+                    Arrays.fill(widths, 0x10000, 2 * 0x10000, boldWidth);
+                    for (int offset = 0; offset <= 0x10000; offset += 0x10000) {
+                        widths[offset + '\n'] = 0;
+                        widths[offset + '\r'] = 0;
+                    }
+
+                } else {
+                    int ch = Integer.parseInt(fields[0], 16);
+                    if (!CharWidthTable.hasStoredWidth(ch) && ch != CharWidthTable.NDASH && ch != CharWidthTable.EURO_SIGN)
+                        throw new IllegalStateException("Width of character cannot be stored in " + resourceName + ": " + line);
+                    widths[ch] = regularWidth;
+                    widths[0x10000 + ch] = boldWidth;
+                }
+            }
+
+            if (widths == null)
+                throw new IllegalStateException("Resource " + resourceName + " is empty");
+            return widths;
+
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Converts the character widths of a font family into the binary resource format.
+     *
+     * @param widths character widths, as returned by {@link #readSource(String)}
+     * @return binary resource data
+     */
+    static byte[] toResource(int[] widths) {
+        ByteBuffer buffer = ByteBuffer.allocate(2 * 2 * CharWidthTable.VALUES_PER_WEIGHT);
+        for (int offset = 0; offset <= 0x10000; offset += 0x10000) {
+            // U+FFFF is never listed and thus has the default width
+            buffer.putChar((char) widths[offset + 0xffff]);
+            buffer.putChar((char) widths[offset + CharWidthTable.NDASH]);
+            buffer.putChar((char) widths[offset + CharWidthTable.EURO_SIGN]);
+            for (int ch = 0; ch < CharWidthTable.DENSE_SIZE; ch++) {
+                if (CharWidthTable.hasStoredWidth(ch))
+                    buffer.putChar((char) widths[offset + ch]);
+            }
+        }
+        return buffer.array();
+    }
+}
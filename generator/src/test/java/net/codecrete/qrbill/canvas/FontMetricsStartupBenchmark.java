@@ -0,0 +1,63 @@
+//
+// Swiss QR Bill Generator
+// Copyright (c) 2026 Manuel Bleichenbacher
+// Licensed under MIT License
+// https://opensource.org/licenses/MIT
+//
+
+package net.codecrete.qrbill.canvas;
+
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
+
+/**
+ * Startup cost of the font metrics, i.e. the time from loading the classes to the first text measurement.
+ * <p>
+ * Each iteration loads the classes with a new class loader so the font metrics are initialized from scratch.
+ * The first iteration is the most realistic one for a freshly started process; later iterations
+ * show the cost once the JVM itself has warmed up.
+ * </p>
+ * <p>
+ * Not run as part of the unit tests. Run the {@code main} method with the test classpath.
+ * The first argument optionally specifies the number of iterations.
+ * </p>
+ */
+public class FontMetricsStartupBenchmark {
+
+    private FontMetricsStartupBenchmark() {
+        // do not instantiate
+    }
+
+    public static void main(String[] args) throws Exception {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        URL location = FontMetrics.class.getProtectionDomain().getCodeSource().getLocation();
+
+        // the generator always loads its text resources; so the JDK's resource loading is initialized anyway
+        try (InputStream is = FontMetricsStartupBenchmark.class.getResourceAsStream("/qrbill_en_CH.properties")) {
+            if (is == null)
+                throw new IllegalStateException("text resources not found");
+        }
+
+        long[] durations = new long[iterations];
+        double checksum = 0;
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            try (URLClassLoader loader = new URLClassLoader(new URL[] { location }, null)) {
+                Class<?> metricsClass = loader.loadClass(FontMetrics.class.getName());
+                Method getInstance = metricsClass.getMethod("getInstance", String.class);
+                Method getTextWidth = metricsClass.getMethod("getTextWidth", CharSequence.class, int.class, boolean.class);
+                Object metrics = getInstance.invoke(null, "Helvetica");
+                checksum += (Double) getTextWidth.invoke(metrics, "Grüezi mitenand", 10, false);
+            }
+            durations[i] = System.nanoTime() - start;
+        }
+
+        long first = durations[0];
+        Arrays.sort(durations);
+        System.out.printf("first %8.3f ms, median %8.3f ms, minimum %8.3f ms (checksum %.3f)%n",
+                first / 1e6, durations[iterations / 2] / 1e6, durations[0] / 1e6, checksum);
+    }
+}
@@ -10,9 +10,21 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 /**
  * Unit tests for {@link FontMetrics} class
@@ -135,4 +147,188 @@ class FontMetricsTest {
     void euroSign_textWidthWork() {
         assertEquals(2.62467, fontMetrics.getTextWidth("€", 10, false), 0.0001);
     }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 8, 9, 10 })
+    void measuredText_countsLinesLikeCharacterWalk(int fontSize) {
+        String text = "Salvation Army Foundation Switzerland\nLaupenstrasse 7  \n\n3001 Bern Vierundzwanzigzeichenwort";
+        MeasuredText measuredText = fontMetrics.measureText(text);
+        for (double maxLength = 10; maxLength < 200; maxLength += 7.5) {
+            String[] expectedLines = splitLinesByCharacterWalk(text, maxLength, fontSize);
+            assertArrayEquals(expectedLines, measuredText.splitLines(maxLength, fontSize));
+            assertEquals(expectedLines.length, measuredText.countLines(maxLength, fontSize));
+        }
+    }
+
+    @Test
+    void measuredText_splitsLines() {
+        MeasuredText measuredText = fontMetrics.measureText("Salvation Army Foundation Switzerland\nLaupenstrasse 7\n3001 Bern");
+        assertArrayEquals(new String[] { "Salvation Army", "Foundation", "Switzerland", "Laupenstrasse 7", "3001 Bern" },
+                measuredText.splitLines(80, 10));
+        assertEquals(5, measuredText.countLines(80, 10));
+    }
+
+    @Test
+    void lineRanges_referToText() {
+        MeasuredText measuredText = fontMetrics.measureText("  abcde   fghijk  \nlmn");
+        assertArrayEquals(new int[] { 2, 7, 10, 16, 19, 22 }, measuredText.getLineRanges(50, 10));
+    }
+
+    @Test
+    void randomText_splitsLikeCharacterWalk() {
+        Random random = new Random(42);
+        String alphabet = "aaaabcdeeeefghijklmnopqrstuvwxyzWM  \n-.éß";
+        for (int i = 0; i < 2000; i++) {
+            int length = random.nextInt(80);
+            StringBuilder sb = new StringBuilder(length);
+            for (int j = 0; j < length; j++)
+                sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            String text = sb.toString();
+            double maxLength = 1 + random.nextInt(150);
+            int fontSize = 6 + random.nextInt(6);
+
+            String[] expectedLines = splitLinesByCharacterWalk(text, maxLength, fontSize);
+            assertArrayEquals(expectedLines, fontMetrics.splitLines(text, maxLength, fontSize), text);
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "helvetica, false, 667, 556, 556, 744",
+            "helvetica, true, 722, 611, 556, 744",
+            "arial, false, 667, 556, 556, 556",
+            "arial, true, 722, 611, 556, 556",
+            "liberation-sans, false, 667, 556, 556, 556",
+            "liberation-sans, true, 722, 611, 556, 556",
+            "frutiger, false, 667, 556, 500, 556",
+            "frutiger, true, 722, 611, 500, 556"
+    })
+    void widthTable_isLoadedFromResource(String family, boolean isBold, int widthA, int defaultWidth,
+                                         int nDashWidth, int euroWidth) {
+        CharWidthTable table = CharWidthTable.forFont(family, isBold);
+        assertEquals(widthA, table.getWidth('A'));
+        assertEquals(defaultWidth, table.getWidth('\u0190'));
+        assertEquals(defaultWidth, table.getWidth('\u4e00'));
+        assertEquals(nDashWidth, table.getWidth('\u2013'));
+        assertEquals(euroWidth, table.getWidth('\u20ac'));
+        assertEquals(0, table.getWidth('\n'));
+        assertSame(table, CharWidthTable.forFont(family, isBold));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "helvetica", "arial", "liberation-sans", "frutiger" })
+    void widthTable_matchesSource(String family) {
+        int[] widths = CharWidthResourceGenerator.readSource(family);
+        CharWidthTable regular = CharWidthTable.forFont(family, false);
+        CharWidthTable bold = CharWidthTable.forFont(family, true);
+        for (int ch = 0; ch <= 0xffff; ch++) {
+            assertEquals(widths[ch], regular.getWidth((char) ch), "regular, character " + Integer.toHexString(ch));
+            assertEquals(widths[0x10000 + ch], bold.getWidth((char) ch), "bold, character " + Integer.toHexString(ch));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "helvetica", "arial", "liberation-sans", "frutiger" })
+    void widthResource_isGeneratedFromSource(String family) throws IOException {
+        byte[] expected = CharWidthResourceGenerator.toResource(CharWidthResourceGenerator.readSource(family));
+        try (InputStream is = CharWidthTable.class.getResourceAsStream("/fonts/widths/" + family + ".bin")) {
+            assertNotNull(is);
+            ByteArrayOutputStream resource = new ByteArrayOutputStream();
+            byte[] chunk = new byte[4096];
+            int length;
+            while ((length = is.read(chunk)) > 0)
+                resource.write(chunk, 0, length);
+            assertArrayEquals(expected, resource.toByteArray(), "run CharWidthResourceGenerator to update " + family + ".bin");
+        }
+    }
+
+    @Test
+    void sharedInstance_isReused() {
+        FontMetrics metrics = FontMetrics.getInstance("Arial,Helvetica");
+        assertSame(metrics, FontMetrics.getInstance("Arial,Helvetica"));
+        assertNotSame(metrics, FontMetrics.getInstance("Frutiger,Helvetica"));
+        assertEquals("Arial,Helvetica", metrics.getFontFamilyList());
+        assertEquals("Arial", metrics.getFirstFontFamily());
+    }
+
+    @Test
+    void sharedInstance_measuresLikeNewInstance() {
+        FontMetrics metrics = FontMetrics.getInstance("\"Liberation Sans\"");
+        assertEquals(5.70089, metrics.getTextWidth("ďīŊ", 10, false), 0.0001);
+    }
+
+    @Test
+    void canvases_shareFontMetrics() throws IOException {
+        try (SVGCanvas canvas1 = new SVGCanvas(10, 10, "Helvetica, Arial");
+             SVGCanvas canvas2 = new SVGCanvas(20, 20, "Helvetica, Arial")) {
+            assertSame(canvas1.fontMetrics, canvas2.fontMetrics);
+        }
+    }
+
+    @Test
+    void emptyMeasuredText_hasSingleLine() {
+        MeasuredText measuredText = fontMetrics.measureText("");
+        assertEquals(1, measuredText.countLines(50, 10));
+        assertArrayEquals(new String[] { "" }, measuredText.splitLines(50, 10));
+    }
+
+    /**
+     * Reference implementation of line breaking, walking the text character by character.
+     */
+    private String[] splitLinesByCharacterWalk(String text, double maxLength, int fontSize) {
+        List<String> lines = new ArrayList<>();
+        double max = (int) (maxLength * 1000 / fontSize) * fontSize / 1000.0 * 25.4 / 72;
+        int len = text.length();
+        int pos = 0;
+        int lineStartPos = 0;
+        boolean addEmptyLine = true;
+
+        while (pos < len) {
+            char ch = text.charAt(pos);
+            if (ch == ' ' && pos == lineStartPos) {
+                lineStartPos++;
+                pos++;
+                continue;
+            }
+            addEmptyLine = false;
+
+            double lineWidth = fontMetrics.getTextWidth(text.substring(lineStartPos, pos + 1), fontSize, false);
+            if (ch == '\n' || lineWidth > max + 1e-9) {
+                int breakPos;
+                if (ch == '\n') {
+                    breakPos = pos;
+                } else {
+                    int spacePos = pos - 1;
+                    while (spacePos > lineStartPos && text.charAt(spacePos) != ' ')
+                        spacePos--;
+                    if (spacePos > lineStartPos)
+                        breakPos = spacePos;
+                    else
+                        breakPos = pos > lineStartPos ? pos : lineStartPos + 1;
+                }
+                lines.add(trimEnd(text.substring(lineStartPos, breakPos)));
+                lineStartPos = breakPos;
+                if (ch == '\n') {
+                    lineStartPos = breakPos + 1;
+                    addEmptyLine = true;
+                }
+                pos = lineStartPos;
+            } else {
+                pos++;
+            }
+        }
+
+        if (pos > lineStartPos)
+            lines.add(trimEnd(text.substring(lineStartPos, pos)));
+        else if (addEmptyLine)
+            lines.add("");
+        return lines.toArray(new String[0]);
+    }
+
+    private static String trimEnd(String text) {
+        int end = text.length();
+        while (end > 0 && text.charAt(end - 1) == ' ')
+            end--;
+        return text.substring(0, end);
+    }
 }
@@ -14,6 +14,7 @@ import net.codecrete.qrbill.testhelper.SampleData;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.awt.Font;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.file.Files;
@@ -21,6 +22,8 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -81,6 +84,17 @@ class PNGCanvasTest {
         Files.delete(path);
     }
 
+    @Test
+    void fonts_areReused() {
+        Font font = Graphics2DCanvas.getFont("Liberation Sans", true, 42);
+        assertSame(font, Graphics2DCanvas.getFont("Liberation Sans", true, 42));
+        assertNotSame(font, Graphics2DCanvas.getFont("Liberation Sans", false, 42));
+        assertNotSame(font, Graphics2DCanvas.getFont("Liberation Sans", true, 43));
+        assertNotSame(font, Graphics2DCanvas.getFont("Arial", true, 42));
+        assertEquals(Font.BOLD, font.getStyle());
+        assertEquals(42, font.getSize());
+    }
+
     private void checkForPngHeader(byte[] data) {
         assertEquals((byte) 137, data[0]);
         assertEquals((byte) 80, data[1]);
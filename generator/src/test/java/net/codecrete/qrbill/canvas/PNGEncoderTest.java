@@ -0,0 +1,207 @@
+//
+// Swiss QR Bill Generator
+// Copyright (c) 2026 Manuel Bleichenbacher
+// Licensed under MIT License
+// https://opensource.org/licenses/MIT
+//
+
+package net.codecrete.qrbill.canvas;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.w3c.dom.Element;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.zip.Deflater;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link PNGEncoder}
+ */
+@DisplayName("PNG encoder")
+class PNGEncoderTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 2, 4, 8 })
+    void randomImage_roundTrips(int bitDepth) throws IOException {
+        int width = 37;
+        int height = 23;
+        int[] values = createRandomValues(width * height, bitDepth, new Random(bitDepth));
+        PNGEncoder encoder = new PNGEncoder(width, height, bitDepth, 144);
+        byte[] pixels = pack(values, width, height, bitDepth, encoder.getBytesPerRow());
+
+        BufferedImage image = decode(encode(encoder, pixels, encoder.getBytesPerRow()));
+        assertPixelsEqual(values, width, bitDepth, image);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { false, true })
+    void gradientImage_roundTrips(boolean adaptiveFiltering) throws IOException {
+        int width = 300;
+        int height = 200;
+        int[] values = new int[width * height];
+        for (int y = 0; y < height; y++)
+            for (int x = 0; x < width; x++)
+                values[y * width + x] = (x * 3 + y * 5 + (x * y) / 7) & 0xff;
+
+        PNGEncoder encoder = new PNGEncoder(width, height, 8, 300);
+        encoder.setAdaptiveFiltering(adaptiveFiltering);
+        byte[] pixels = pack(values, width, height, 8, width);
+
+        BufferedImage image = decode(encode(encoder, pixels, width));
+        assertPixelsEqual(values, width, 8, image);
+    }
+
+    @Test
+    void scanlineStride_isRespected() throws IOException {
+        int width = 10;
+        int height = 5;
+        int stride = 16;
+        int[] values = createRandomValues(width * height, 8, new Random(4));
+        byte[] pixels = new byte[3 + stride * height];
+        for (int y = 0; y < height; y++)
+            for (int x = 0; x < width; x++)
+                pixels[3 + y * stride + x] = (byte) values[y * width + x];
+
+        PNGEncoder encoder = new PNGEncoder(width, height, 8, 72);
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        encoder.write(pixels, 3, stride, os);
+        assertPixelsEqual(values, width, 8, decode(os.toByteArray()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { Deflater.DEFAULT_STRATEGY, Deflater.FILTERED, Deflater.HUFFMAN_ONLY })
+    void largeImage_isSplitIntoChunks(int strategy) throws IOException {
+        int width = 1000;
+        int height = 800;
+        int[] values = createRandomValues(width * height, 8, new Random(strategy));
+        PNGEncoder encoder = new PNGEncoder(width, height, 8, 300);
+        encoder.setCompressionLevel(1);
+        encoder.setCompressionStrategy(strategy);
+        byte[] png = encode(encoder, pack(values, width, height, 8, width), width);
+
+        assertTrue(countChunks(png, "IDAT") > 1);
+        assertPixelsEqual(values, width, 8, decode(png));
+    }
+
+    @Test
+    void metadata_isWritten() throws IOException {
+        PNGEncoder encoder = new PNGEncoder(20, 10, 8, 300);
+        byte[] png = encode(encoder, new byte[200], 20);
+
+        try (ImageInputStream stream = ImageIO.createImageInputStream(new ByteArrayInputStream(png))) {
+            ImageReader reader = ImageIO.getImageReaders(stream).next();
+            reader.setInput(stream);
+            IIOMetadata metadata = reader.getImageMetadata(0);
+            Element root = (Element) metadata.getAsTree("javax_imageio_png_1.0");
+
+            Element physical = (Element) root.getElementsByTagName("pHYs").item(0);
+            assertEquals("11811", physical.getAttribute("pixelsPerUnitXAxis"));
+            assertEquals("11811", physical.getAttribute("pixelsPerUnitYAxis"));
+            assertEquals("meter", physical.getAttribute("unitSpecifier"));
+
+            Element textEntry = (Element) root.getElementsByTagName("tEXtEntry").item(0);
+            assertEquals("Title", textEntry.getAttribute("keyword"));
+            assertEquals("Swiss QR Bill", textEntry.getAttribute("value"));
+            reader.dispose();
+        }
+    }
+
+    @Test
+    void invalidBitDepth_throwsException() {
+        assertThrows(IllegalArgumentException.class, () -> new PNGEncoder(10, 10, 3, 144));
+        assertThrows(IllegalArgumentException.class, () -> new PNGEncoder(10, 10, 16, 144));
+    }
+
+    @Test
+    void invalidSize_throwsException() {
+        assertThrows(IllegalArgumentException.class, () -> new PNGEncoder(0, 10, 8, 144));
+        assertThrows(IllegalArgumentException.class, () -> new PNGEncoder(10, -1, 8, 144));
+    }
+
+    @Test
+    void invalidCompressionSettings_throwException() {
+        PNGEncoder encoder = new PNGEncoder(10, 10, 8, 144);
+        assertThrows(IllegalArgumentException.class, () -> encoder.setCompressionLevel(10));
+        assertThrows(IllegalArgumentException.class, () -> encoder.setCompressionLevel(-2));
+        assertThrows(IllegalArgumentException.class, () -> encoder.setCompressionStrategy(3));
+        encoder.setCompressionLevel(Deflater.BEST_SPEED);
+        encoder.setCompressionStrategy(Deflater.HUFFMAN_ONLY);
+    }
+
+    @Test
+    void manyResolutions_areEncoded() throws IOException {
+        byte[] pixels = new byte[10];
+        for (int resolution = 100; resolution < 200; resolution++) {
+            PNGEncoder encoder = new PNGEncoder(10, 1, 8, resolution);
+            assertEquals(10, decode(encode(encoder, pixels, 10)).getWidth());
+        }
+    }
+
+    private static byte[] encode(PNGEncoder encoder, byte[] pixels, int stride) throws IOException {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        encoder.write(pixels, 0, stride, os);
+        return os.toByteArray();
+    }
+
+    private static BufferedImage decode(byte[] png) throws IOException {
+        return ImageIO.read(new ByteArrayInputStream(png));
+    }
+
+    private static int[] createRandomValues(int count, int bitDepth, Random random) {
+        int[] values = new int[count];
+        for (int i = 0; i < count; i++)
+            values[i] = random.nextInt(1 << bitDepth);
+        return values;
+    }
+
+    private static byte[] pack(int[] values, int width, int height, int bitDepth, int bytesPerRow) {
+        byte[] pixels = new byte[bytesPerRow * height];
+        int pixelsPerByte = 8 / bitDepth;
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int shift = 8 - bitDepth * (x % pixelsPerByte + 1);
+                pixels[y * bytesPerRow + x / pixelsPerByte] |= (byte) (values[y * width + x] << shift);
+            }
+        }
+        return pixels;
+    }
+
+    private static void assertPixelsEqual(int[] values, int width, int bitDepth, BufferedImage image) {
+        int height = values.length / width;
+        assertEquals(width, image.getWidth());
+        assertEquals(height, image.getHeight());
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int sample = image.getRaster().getSample(x, y, 0);
+                assertEquals(values[y * width + x], sample, "pixel " + x + ", " + y);
+            }
+        }
+        assertEquals(bitDepth, image.getSampleModel().getSampleSize(0));
+    }
+
+    private static int countChunks(byte[] png, String type) {
+        int count = 0;
+        int offset = 8;
+        while (offset < png.length) {
+            int length = ((png[offset] & 0xff) << 24) | ((png[offset + 1] & 0xff) << 16)
+                    | ((png[offset + 2] & 0xff) << 8) | (png[offset + 3] & 0xff);
+            if (new String(png, offset + 4, 4, StandardCharsets.US_ASCII).equals(type))
+                count++;
+            offset += 12 + length;
+        }
+        return count;
+    }
+}
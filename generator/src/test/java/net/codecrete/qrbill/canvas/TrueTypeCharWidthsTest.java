@@ -0,0 +1,166 @@
+//
+// Swiss QR Bill Generator
+// Copyright (c) 2026 Manuel Bleichenbacher
+// Licensed under MIT License
+// https://opensource.org/licenses/MIT
+//
+
+package net.codecrete.qrbill.canvas;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link TrueTypeCharWidths}
+ */
+@DisplayName("Character widths of TrueType fonts")
+class TrueTypeCharWidthsTest {
+
+    private Path tempDirectory;
+    private Path regularFontPath;
+    private Path boldFontPath;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        tempDirectory = Files.createTempDirectory("ttf-widths-");
+        regularFontPath = unpackFont("/fonts/LiberationSans-Regular.ttf", "regular.ttf");
+        boldFontPath = unpackFont("/fonts/LiberationSans-Bold.ttf", "bold.ttf");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(tempDirectory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { false, true })
+    void extractedWidths_matchBuiltInWidths(boolean isBold) throws IOException {
+        CharWidthTable builtIn = CharWidthTable.forFont(CharWidthTable.LIBERATION_SANS, isBold);
+        CharWidthTable extracted = TrueTypeCharWidths.getTable(isBold ? boldFontPath : regularFontPath, null);
+
+        for (int ch = 0; ch < CharWidthTable.DENSE_SIZE; ch++) {
+            if (CharWidthTable.hasStoredWidth(ch))
+                assertEquals(builtIn.getWidth((char) ch), extracted.getWidth((char) ch), "character " + Integer.toHexString(ch));
+        }
+        assertEquals(builtIn.getWidth(CharWidthTable.NDASH), extracted.getWidth(CharWidthTable.NDASH));
+        assertEquals(builtIn.getWidth(CharWidthTable.EURO_SIGN), extracted.getWidth(CharWidthTable.EURO_SIGN));
+        assertEquals(0, extracted.getWidth('\n'));
+    }
+
+    @Test
+    void sameFont_isCached() throws IOException {
+        CharWidthTable table = TrueTypeCharWidths.getTable(regularFontPath, null);
+        assertSame(table, TrueTypeCharWidths.getTable(regularFontPath, null));
+    }
+
+    @Test
+    void modifiedFont_isReloaded() throws IOException {
+        Path fontPath = Files.copy(regularFontPath, tempDirectory.resolve("font.ttf"));
+        FileTime modificationTime = Files.getLastModifiedTime(fontPath);
+        CharWidthTable table = TrueTypeCharWidths.getTable(fontPath, null);
+        assertEquals(CharWidthTable.forFont(CharWidthTable.LIBERATION_SANS, false).getWidth('A'), table.getWidth('A'));
+
+        Files.copy(boldFontPath, fontPath, StandardCopyOption.REPLACE_EXISTING);
+        Files.setLastModifiedTime(fontPath, FileTime.fromMillis(modificationTime.toMillis() + 10_000));
+        CharWidthTable modifiedTable = TrueTypeCharWidths.getTable(fontPath, null);
+        assertEquals(CharWidthTable.forFont(CharWidthTable.LIBERATION_SANS, true).getWidth('A'), modifiedTable.getWidth('A'));
+    }
+
+    @Test
+    void extractedWidths_arePersisted() throws IOException {
+        Path cacheDirectory = tempDirectory.resolve("cache");
+        CharWidthTable table = TrueTypeCharWidths.getTable(regularFontPath, cacheDirectory);
+        List<Path> files = listFiles(cacheDirectory);
+        assertEquals(1, files.size());
+        assertTrue(files.get(0).getFileName().toString().endsWith(".widths"));
+
+        // a copy of the font at a different path is not in the memory cache but in the cache directory
+        Path copiedFontPath = Files.copy(regularFontPath, tempDirectory.resolve("copy.ttf"));
+        CharWidthTable persistedTable = TrueTypeCharWidths.getTable(copiedFontPath, cacheDirectory);
+        assertNotSame(table, persistedTable);
+        assertEquals(1, listFiles(cacheDirectory).size());
+        assertSameWidths(table, persistedTable);
+    }
+
+    @Test
+    void invalidPersistedWidths_areReplaced() throws IOException {
+        Path cacheDirectory = tempDirectory.resolve("cache");
+        CharWidthTable table = TrueTypeCharWidths.getTable(boldFontPath, cacheDirectory);
+        Path file = listFiles(cacheDirectory).get(0);
+        Files.write(file, new byte[] { 1, 2, 3 });
+
+        Path copiedFontPath = Files.copy(boldFontPath, tempDirectory.resolve("copy.ttf"));
+        assertSameWidths(table, TrueTypeCharWidths.getTable(copiedFontPath, cacheDirectory));
+        assertEquals(2 * CharWidthTable.VALUES_PER_WEIGHT, Files.size(file));
+    }
+
+    @Test
+    void unusableCacheDirectory_isIgnored() throws IOException {
+        // the cache directory cannot be created as a file with the same name exists
+        Path cacheDirectory = Files.write(tempDirectory.resolve("cache"), new byte[] { 1 });
+        CharWidthTable table = TrueTypeCharWidths.getTable(regularFontPath, cacheDirectory);
+        assertEquals(CharWidthTable.forFont(CharWidthTable.LIBERATION_SANS, false).getWidth('A'), table.getWidth('A'));
+        assertSame(table, TrueTypeCharWidths.getTable(regularFontPath, cacheDirectory));
+    }
+
+    @Test
+    void fontMetrics_measuresLikeBuiltInFont() throws IOException {
+        FontMetrics builtIn = new FontMetrics("Liberation Sans");
+        FontMetrics extracted = FontMetrics.forTrueTypeFonts("Corporate Sans", regularFontPath, boldFontPath, null);
+        assertEquals("Corporate Sans", extracted.getFirstFontFamily());
+
+        String text = "Grüezi mitenand – Zahlbar durch € 1'234.50";
+        assertEquals(builtIn.getTextWidth(text, 10, false), extracted.getTextWidth(text, 10, false));
+        assertEquals(builtIn.getTextWidth(text, 11, true), extracted.getTextWidth(text, 11, true));
+        assertArrayEquals(builtIn.splitLines(text, 60, 9), extracted.splitLines(text, 60, 9));
+    }
+
+    @Test
+    void missingFont_throwsException() {
+        Path missingPath = tempDirectory.resolve("missing.ttf");
+        assertThrows(IOException.class, () -> TrueTypeCharWidths.getTable(missingPath, null));
+    }
+
+    private static void assertSameWidths(CharWidthTable expected, CharWidthTable actual) {
+        for (int ch = 0; ch <= 0xffff; ch++)
+            assertEquals(expected.getWidth((char) ch), actual.getWidth((char) ch), "character " + Integer.toHexString(ch));
+    }
+
+    private static List<Path> listFiles(Path directory) throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            for (Path file : stream)
+                files.add(file);
+        }
+        return files;
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    private Path unpackFont(String fontResource, String fileName) throws IOException {
+        Path fontPath = tempDirectory.resolve(fileName);
+        try (InputStream is = TrueTypeCharWidthsTest.class.getResource(fontResource).openStream()) {
+            Files.copy(is, fontPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return fontPath;
+    }
+}
@@ -0,0 +1,173 @@
+//
+// Swiss QR Bill Generator
+// Copyright (c) 2026 Manuel Bleichenbacher
+// Licensed under MIT License
+// https://opensource.org/licenses/MIT
+//
+
+package net.codecrete.qrbill.generator;
+
+import net.codecrete.qrbill.testhelper.SampleData;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link BillCodec}
+ */
+@DisplayName("Binary bill encoding")
+class BillCodecTest {
+
+    @Test
+    void roundTripSampleData() throws IOException {
+        assertRoundTrip(SampleData.getExample1());
+        assertRoundTrip(SampleData.getExample2());
+        assertRoundTrip(SampleData.getExample3());
+        assertRoundTrip(SampleData.getExample4());
+    }
+
+    @Test
+    void roundTripCleanedBill() throws IOException {
+        Bill bill = QRBill.validate(SampleData.getExample1()).getCleanedBill();
+        assertRoundTrip(bill);
+    }
+
+    @Test
+    void roundTripEmptyBill() throws IOException {
+        Bill bill = new Bill();
+        bill.setCreditor(null);
+        bill.setCurrency(null);
+        bill.setFormat(null);
+        bill.setAlternativeSchemes(new AlternativeScheme[] { null, new AlternativeScheme() });
+        assertRoundTrip(bill);
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void roundTripSpecialValues() throws IOException {
+        Bill bill = SampleData.getExample3();
+        bill.setAmount(new BigDecimal("123456789012345678901234567890.123"));
+        bill.setCurrency("USD");
+        bill.setReferenceType(Bill.REFERENCE_TYPE_CRED_REF);
+        Address debtor = new Address();
+        debtor.setName("Conflicting Ltd.");
+        debtor.setAddressLine2("8000 Zürich");
+        debtor.setTown("Zürich");
+        debtor.setCountryCode("SE");
+        bill.setDebtor(debtor);
+        bill.getFormat().setFontFamily("Frutiger 55 Roman");
+        bill.getFormat().setMarginLeft(8.5);
+        bill.getFormat().setResolution(-1);
+        bill.setCharacterSet(SPSCharacterSet.FULL_UNICODE);
+        bill.setUnstructuredMessage("Emoji 😃 and €");
+        assertRoundTrip(bill);
+        assertEquals(Address.Type.CONFLICTING, BillCodec.decode(BillCodec.encode(bill)).getDebtor().getType());
+    }
+
+    @Test
+    void streamAndBufferAreEquivalent() throws IOException {
+        Bill bill = SampleData.getExample1();
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        BillCodec.write(bill, new DataOutputStream(os));
+        BillCodec.write(bill, new DataOutputStream(os));
+
+        ByteBuffer buffer = ByteBuffer.allocate(2000);
+        BillCodec.write(bill, buffer);
+        BillCodec.write(bill, buffer);
+        buffer.flip();
+        byte[] fromBuffer = new byte[buffer.remaining()];
+        buffer.get(fromBuffer);
+        assertArrayEquals(os.toByteArray(), fromBuffer);
+
+        DataInputStream is = new DataInputStream(new ByteArrayInputStream(os.toByteArray()));
+        assertEquals(bill, BillCodec.read(is));
+        assertEquals(bill, BillCodec.read(is));
+        assertEquals(-1, is.read());
+    }
+
+    @Test
+    void encodingIsCompact() throws IOException {
+        Bill bill = SampleData.getExample1();
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(os)) {
+            oos.writeObject(bill);
+        }
+        assertTrue(BillCodec.encode(bill).length * 3 < os.size());
+    }
+
+    @Test
+    void truncatedData_throwsException() {
+        byte[] data = BillCodec.encode(SampleData.getExample1());
+        byte[] truncated = new byte[data.length / 2];
+        System.arraycopy(data, 0, truncated, 0, truncated.length);
+        assertThrows(EOFException.class, () -> BillCodec.decode(truncated));
+    }
+
+    @Test
+    void unknownVersion_throwsException() {
+        byte[] data = BillCodec.encode(SampleData.getExample1());
+        data[0] = 99;
+        IOException e = assertThrows(IOException.class, () -> BillCodec.decode(data));
+        assertEquals("Unsupported bill data format version 99", e.getMessage());
+    }
+
+    @Test
+    void invalidAlternativeSchemeCount_throwsException() {
+        Bill bill = SampleData.getExample2();
+        bill.setFormat(null);
+        byte[] data = BillCodec.encode(bill);
+        int index = indexOfAlternativeSchemes(data);
+        assertInvalidVarInt(data, index);
+    }
+
+    @Test
+    void invalidEnumValue_throwsException() {
+        byte[] data = BillCodec.encode(SampleData.getExample2());
+        // the bill version is the first enumeration (after the format version)
+        assertInvalidVarInt(data, 1);
+    }
+
+    @Test
+    void invalidAddressType_throwsException() {
+        Bill bill = SampleData.getExample2();
+        bill.setAmount(null);
+        bill.setCurrency(null);
+        bill.setAccount(null);
+        byte[] data = BillCodec.encode(bill);
+        // format version, bill version, amount tag, currency, account
+        assertEquals(0, data[4]);
+        assertInvalidVarInt(data, 5);
+        data[5] = (byte) (Address.Type.values().length + 1);
+        IOException e = assertThrows(IOException.class, () -> BillCodec.decode(data));
+        assertEquals("Invalid enumeration value", e.getMessage());
+    }
+
+    // Replaces the variable length integer at the specified index with a negative integer (as int)
+    private static void assertInvalidVarInt(byte[] data, int index) {
+        byte[] negative = { (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff, 0x0f };
+        byte[] invalid = new byte[data.length + negative.length - 1];
+        System.arraycopy(data, 0, invalid, 0, index);
+        System.arraycopy(negative, 0, invalid, index, negative.length);
+        System.arraycopy(data, index + 1, invalid, index + negative.length, data.length - index - 1);
+        assertThrows(IOException.class, () -> BillCodec.decode(invalid));
+        assertThrows(IOException.class, () -> BillCodec.read(ByteBuffer.wrap(invalid)));
+    }
+
+    // The alternative schemes are encoded after the bill information (empty for example 2)
+    private static int indexOfAlternativeSchemes(byte[] data) {
+        // example 2 without format ends with: alternative schemes (0), format (0), separator, character set
+        return data.length - 4;
+    }
+
+    private static void assertRoundTrip(Bill bill) throws IOException {
+        byte[] data = BillCodec.encode(bill);
+        Bill decoded = BillCodec.decode(data);
+        assertEquals(bill, decoded);
+        assertArrayEquals(data, BillCodec.encode(decoded));
+    }
+}
@@ -3,9 +3,17 @@ package net.codecrete.qrbill.generator;
 import net.codecrete.qrbill.testhelper.SampleData;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 class BillTextFormatterTest {
 
@@ -71,6 +79,59 @@ class BillTextFormatterTest {
         assertNull(textFormatter.getAmount());
     }
 
+    @ParameterizedTest
+    @CsvSource({
+            "0, 0.00",
+            "0.01, 0.01",
+            "0.5, 0.50",
+            "7, 7.00",
+            "999.99, 999.99",
+            "1000, 1 000.00",
+            "123456.78, 123 456.78",
+            "999999999.99, 999 999 999.99",
+            "1.005, 1.00",
+            "1.015, 1.02",
+            "-1234.5, -1 234.50",
+            "-0.001, -0.00",
+            "92233720368547758.07, 92 233 720 368 547 758.07",
+            "92233720368547758.08, 92 233 720 368 547 758.08",
+            "123456789012345678901.234, 123 456 789 012 345 678 901.23"
+    })
+    void amount_isFormattedLikeDecimalFormat(String amount, String expected) {
+        BigDecimal value = new BigDecimal(amount);
+        assertEquals(expected, BillTextFormatter.formatAmountForDisplay(value));
+
+        DecimalFormat format = new DecimalFormat("###,##0.00");
+        DecimalFormatSymbols symbols = new DecimalFormatSymbols(Locale.US);
+        symbols.setDecimalSeparator('.');
+        symbols.setGroupingSeparator(' ');
+        format.setDecimalFormatSymbols(symbols);
+        assertEquals(format.format(value), BillTextFormatter.formatAmountForDisplay(value));
+    }
+
+    @Test
+    void formattedText_isReused() {
+        assertSame(textFormatter.getCreditorAddress(), textFormatter.getCreditorAddress());
+        assertSame(textFormatter.getPayableByReduced(), textFormatter.getPayableByReduced());
+        assertSame(textFormatter.getAmount(), textFormatter.getAmount());
+    }
+
+    @Test
+    void laterBillChanges_areNotReflected() {
+        Bill bill = SampleData.getExample1();
+        textFormatter = new BillTextFormatter(bill, true);
+        bill.getCreditor().setName("Changed AG");
+        bill.getDebtor().setTown("Changed");
+        bill.setAmount(BigDecimal.ONE);
+        bill.setUnstructuredMessage("Changed");
+
+        BillTextFormatter expected = new BillTextFormatter(SampleData.getExample1(), true);
+        assertEquals(expected.getPayableTo(), textFormatter.getPayableTo());
+        assertEquals(expected.getPayableBy(), textFormatter.getPayableBy());
+        assertEquals(expected.getAmount(), textFormatter.getAmount());
+        assertEquals(expected.getAdditionalInformation(), textFormatter.getAdditionalInformation());
+    }
+
     @Test
     void payableBy_isCorrect() {
         assertEquals(
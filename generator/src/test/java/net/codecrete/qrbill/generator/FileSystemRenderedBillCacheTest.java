@@ -0,0 +1,136 @@
+//
+// Swiss QR Bill Generator
+// Copyright (c) 2026 Manuel Bleichenbacher
+// Licensed under MIT License
+// https://opensource.org/licenses/MIT
+//
+
+package net.codecrete.qrbill.generator;
+
+import net.codecrete.qrbill.testhelper.SampleData;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link FileSystemRenderedBillCache}
+ */
+@DisplayName("File system cache for generated QR bills")
+class FileSystemRenderedBillCacheTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void generateWithCache_returnsSameResult() throws IOException {
+        FileSystemRenderedBillCache cache = new FileSystemRenderedBillCache(directory, 10_000_000);
+        Bill bill = SampleData.getExample1();
+        byte[] expected = QRBill.generate(bill);
+
+        byte[] result1 = QRBill.generate(bill, cache);
+        assertEquals(1, cache.size());
+        byte[] result2 = QRBill.generate(bill, cache);
+        assertEquals(1, cache.size());
+        assertArrayEquals(expected, result1);
+        assertArrayEquals(expected, result2);
+
+        bill.getFormat().setGraphicsFormat(GraphicsFormat.PDF);
+        QRBill.generate(bill, cache);
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void getMissingEntry_returnsNull() throws IOException {
+        FileSystemRenderedBillCache cache = new FileSystemRenderedBillCache(directory, 1000);
+        assertNull(cache.get("0123abcd"));
+        assertNull(cache.getMapped("0123abcd"));
+    }
+
+    @Test
+    void getMapped_returnsData() throws IOException {
+        FileSystemRenderedBillCache cache = new FileSystemRenderedBillCache(directory, 1000);
+        cache.put("abc1", new byte[] { 1, 2, 3 });
+        ByteBuffer buffer = cache.getMapped("abc1");
+        assertNotNull(buffer);
+        assertEquals(3, buffer.remaining());
+        assertEquals(2, buffer.get(1));
+    }
+
+    @Test
+    void exceedingMaxSize_evictsLeastRecentlyUsed() throws IOException {
+        FileSystemRenderedBillCache cache = new FileSystemRenderedBillCache(directory, 250);
+        cache.put("aa", new byte[100]);
+        cache.put("bb", new byte[100]);
+        assertTrue(Files.exists(cachedFile("bb")));
+        assertNotNull(cache.get("aa"));
+        cache.put("cc", new byte[100]);
+
+        assertEquals(2, cache.size());
+        assertEquals(200, cache.getTotalSize());
+        assertNotNull(cache.get("aa"));
+        assertNull(cache.get("bb"));
+        assertNotNull(cache.get("cc"));
+        assertFalse(Files.exists(cachedFile("bb")));
+    }
+
+    @Test
+    void tooLargeEntry_isNotStored() throws IOException {
+        FileSystemRenderedBillCache cache = new FileSystemRenderedBillCache(directory, 50);
+        cache.put("aa", new byte[100]);
+        assertEquals(0, cache.size());
+        assertNull(cache.get("aa"));
+    }
+
+    @Test
+    void existingEntries_areReused() throws IOException {
+        FileSystemRenderedBillCache cache = new FileSystemRenderedBillCache(directory, 1000);
+        cache.put("aa", new byte[] { 7 });
+        cache.put("bb", new byte[] { 8, 9 });
+        Files.write(directory.resolve("cc123.tmp"), new byte[10]);
+
+        FileSystemRenderedBillCache cache2 = new FileSystemRenderedBillCache(directory, 1000);
+        assertEquals(2, cache2.size());
+        assertEquals(3, cache2.getTotalSize());
+        assertArrayEquals(new byte[] { 8, 9 }, cache2.get("bb"));
+        assertFalse(Files.exists(directory.resolve("cc123.tmp")));
+    }
+
+    @Test
+    void clear_removesAllEntries() throws IOException {
+        FileSystemRenderedBillCache cache = new FileSystemRenderedBillCache(directory, 1000);
+        cache.put("aa", new byte[] { 7 });
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertFalse(Files.exists(cachedFile("aa")));
+    }
+
+    @Test
+    void entriesOfOtherVersions_areDeleted() throws IOException {
+        Files.write(directory.resolve("aa.qrbill"), new byte[10]);
+        Files.write(directory.resolve("bb.v0.qrbill"), new byte[10]);
+
+        FileSystemRenderedBillCache cache = new FileSystemRenderedBillCache(directory, 1000);
+        assertEquals(0, cache.size());
+        assertNull(cache.get("bb"));
+        assertFalse(Files.exists(directory.resolve("aa.qrbill")));
+        assertFalse(Files.exists(directory.resolve("bb.v0.qrbill")));
+    }
+
+    @Test
+    void invalidFingerprint_throwsException() throws IOException {
+        FileSystemRenderedBillCache cache = new FileSystemRenderedBillCache(directory, 1000);
+        assertThrows(IllegalArgumentException.class, () -> cache.get("../secret"));
+        assertThrows(IllegalArgumentException.class, () -> cache.put("", new byte[1]));
+    }
+
+    private Path cachedFile(String fingerprint) {
+        return directory.resolve(fingerprint + ".v" + RenderedBillCache.OUTPUT_VERSION + ".qrbill");
+    }
+}
@@ -0,0 +1,90 @@
+//
+// Swiss QR Bill Generator
+// Copyright (c) 2026 Manuel Bleichenbacher
+// Licensed under MIT License
+// https://opensource.org/licenses/MIT
+//
+
+package net.codecrete.qrbill.generator;
+
+import net.codecrete.qrbill.testhelper.SampleData;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link InMemoryRenderedBillCache}
+ */
+@DisplayName("In-memory cache for generated QR bills")
+class InMemoryRenderedBillCacheTest {
+
+    @Test
+    void duplicateBills_areGeneratedOnce() {
+        InMemoryRenderedBillCache cache = new InMemoryRenderedBillCache(10_000_000);
+        Bill[] batch = {
+                SampleData.getExample1(),
+                SampleData.getExample2(),
+                SampleData.getExample1(),
+                SampleData.getExample1()
+        };
+
+        byte[][] results = new byte[batch.length][];
+        for (int i = 0; i < batch.length; i++)
+            results[i] = QRBill.generate(batch[i], cache);
+
+        assertEquals(2, cache.size());
+        assertEquals(2, cache.getHitCount());
+        assertSame(results[0], results[2]);
+        assertSame(results[0], results[3]);
+        assertNotSame(results[0], results[1]);
+        assertArrayEquals(QRBill.generate(SampleData.getExample1()), results[0]);
+    }
+
+    @Test
+    void differentFormat_isNotDeduplicated() {
+        InMemoryRenderedBillCache cache = new InMemoryRenderedBillCache(10_000_000);
+        Bill bill = SampleData.getExample1();
+        byte[] result1 = QRBill.generate(bill, cache);
+        bill.getFormat().setLanguage(Language.FR);
+        byte[] result2 = QRBill.generate(bill, cache);
+
+        assertEquals(2, cache.size());
+        assertEquals(0, cache.getHitCount());
+        assertFalse(Arrays.equals(result1, result2));
+    }
+
+    @Test
+    void exceedingMaxSize_evictsLeastRecentlyUsed() {
+        InMemoryRenderedBillCache cache = new InMemoryRenderedBillCache(1000);
+        cache.put("aa", new byte[200]);
+        cache.put("bb", new byte[200]);
+        assertNotNull(cache.get("aa"));
+        cache.put("cc", new byte[200]);
+
+        assertEquals(2, cache.size());
+        assertTrue(cache.getTotalSize() <= cache.getMaxSize());
+        assertNotNull(cache.get("aa"));
+        assertNull(cache.get("bb"));
+        assertNotNull(cache.get("cc"));
+    }
+
+    @Test
+    void tooLargeEntry_isNotStored() {
+        InMemoryRenderedBillCache cache = new InMemoryRenderedBillCache(100);
+        cache.put("aa", new byte[100]);
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getTotalSize());
+    }
+
+    @Test
+    void clear_removesAllEntries() {
+        InMemoryRenderedBillCache cache = new InMemoryRenderedBillCache(1000);
+        cache.put("aa", new byte[10]);
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertNull(cache.get("aa"));
+    }
+}
@@ -0,0 +1,102 @@
+//
+// Swiss QR Bill Generator
+// Copyright (c) 2026 Manuel Bleichenbacher
+// Licensed under MIT License
+// https://opensource.org/licenses/MIT
+//
+package net.codecrete.qrbill.generator;
+
+import net.codecrete.qrbill.testhelper.SampleData;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link QRBill#preflight(Bill)}
+ */
+@DisplayName("Layout preflight")
+class LayoutPreflightTest {
+
+    @Test
+    void regularBill_usesPreferredFontSize() {
+        LayoutPreflight preflight = QRBill.preflight(SampleData.getExample1());
+        assertFalse(preflight.getValidationResult().hasErrors());
+        assertEquals(10, preflight.getPaymentPartFontSize());
+        assertFalse(preflight.isPaymentPartTooTight());
+        assertEquals(4, preflight.getPaymentPartAccountPayableToLines());
+        assertEquals(3, preflight.getPaymentPartAdditionalInfoLines());
+        assertEquals(3, preflight.getPaymentPartPayableByLines());
+
+        assertTrue(preflight.hasReceipt());
+        assertFalse(preflight.isReceiptTooTight());
+        assertEquals(4, preflight.getReceiptAccountPayableToLines());
+        assertEquals(3, preflight.getReceiptPayableByLines());
+        assertFalse(preflight.isReceiptAccountPayableToReduced());
+        assertFalse(preflight.isReceiptPayableByReduced());
+
+        assertFalse(preflight.hasTruncatedAlternativeSchemes());
+        assertFalse(preflight.isAlternativeSchemeTruncated(0));
+        assertFalse(preflight.isAlternativeSchemeTruncated(1));
+    }
+
+    @Test
+    void billWithoutDebtor_hasNoPayableByLines() {
+        LayoutPreflight preflight = QRBill.preflight(SampleData.getExample2());
+        assertEquals(10, preflight.getPaymentPartFontSize());
+        assertEquals(3, preflight.getPaymentPartAccountPayableToLines());
+        assertEquals(1, preflight.getPaymentPartAdditionalInfoLines());
+        assertEquals(0, preflight.getPaymentPartPayableByLines());
+        assertEquals(0, preflight.getReceiptPayableByLines());
+        assertFalse(preflight.isReceiptPayableByReduced());
+        assertFalse(preflight.hasTruncatedAlternativeSchemes());
+    }
+
+    @Test
+    void longText_reducesFontSizeAndReceiptText() {
+        LayoutPreflight preflight = QRBill.preflight(SampleData.getExample5());
+        assertEquals(9, preflight.getPaymentPartFontSize());
+        assertFalse(preflight.isPaymentPartTooTight());
+        assertEquals(7, preflight.getPaymentPartAccountPayableToLines());
+        assertEquals(4, preflight.getPaymentPartPayableByLines());
+
+        assertTrue(preflight.isReceiptAccountPayableToReduced());
+        assertTrue(preflight.isReceiptPayableByReduced());
+        assertFalse(preflight.isReceiptTooTight());
+        assertEquals(6, preflight.getReceiptAccountPayableToLines());
+        assertEquals(3, preflight.getReceiptPayableByLines());
+    }
+
+    @Test
+    void paymentPartOnly_hasNoReceipt() {
+        Bill bill = SampleData.getExample1();
+        bill.getFormat().setOutputSize(OutputSize.PAYMENT_PART_ONLY);
+        LayoutPreflight preflight = QRBill.preflight(bill);
+        assertEquals(10, preflight.getPaymentPartFontSize());
+        assertFalse(preflight.hasReceipt());
+        assertEquals(0, preflight.getReceiptAccountPayableToLines());
+        assertEquals(0, preflight.getReceiptPayableByLines());
+    }
+
+    @Test
+    void longAlternativeScheme_isTruncated() {
+        Bill bill = SampleData.getExample1();
+        bill.setAlternativeSchemes(new AlternativeScheme[] {
+                new AlternativeScheme("Ultraviolet", "UV;UltraPay005;12345"),
+                new AlternativeScheme("Xing Yong",
+                        "XY;XYService;54321;ABCDEFGHIJKLMNOPQRSTUVWXYZ;ABCDEFGHIJKLMNOPQRSTUVWXYZ;ABCDEFGHIJKLMNOPQRSTUVWXYZ")
+        });
+        LayoutPreflight preflight = QRBill.preflight(bill);
+        assertTrue(preflight.hasTruncatedAlternativeSchemes());
+        assertFalse(preflight.isAlternativeSchemeTruncated(0));
+        assertTrue(preflight.isAlternativeSchemeTruncated(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> preflight.isAlternativeSchemeTruncated(2));
+    }
+
+    @Test
+    void invalidBill_throwsException() {
+        Bill bill = SampleData.getExample1();
+        bill.setAccount(null);
+        assertThrows(QRBillValidationError.class, () -> QRBill.preflight(bill));
+    }
+}
@@ -0,0 +1,64 @@
+//
+// Swiss QR Bill Generator
+// Copyright (c) 2026 Manuel Bleichenbacher
+// Licensed under MIT License
+// https://opensource.org/licenses/MIT
+//
+
+package net.codecrete.qrbill.generator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.Locale;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for {@link MultilingualText}
+ */
+@DisplayName("Multilingual texts")
+class MultilingualTextTest {
+
+    private static final String[] KEYS = {
+            MultilingualText.KEY_PAYMENT_PART, MultilingualText.KEY_ACCOUNT_PAYABLE_TO,
+            MultilingualText.KEY_REFERENCE, MultilingualText.KEY_ADDITIONAL_INFORMATION,
+            MultilingualText.KEY_CURRENCY, MultilingualText.KEY_AMOUNT, MultilingualText.KEY_RECEIPT,
+            MultilingualText.KEY_ACCEPTANCE_POINT, MultilingualText.KEY_PAYABLE_BY,
+            MultilingualText.KEY_PAYABLE_BY_NAME_ADDRESS, MultilingualText.KEY_DO_NOT_USE_FOR_PAYMENT
+    };
+
+    private static final int[] INDEXES = {
+            MultilingualText.TEXT_PAYMENT_PART, MultilingualText.TEXT_ACCOUNT_PAYABLE_TO,
+            MultilingualText.TEXT_REFERENCE, MultilingualText.TEXT_ADDITIONAL_INFORMATION,
+            MultilingualText.TEXT_CURRENCY, MultilingualText.TEXT_AMOUNT, MultilingualText.TEXT_RECEIPT,
+            MultilingualText.TEXT_ACCEPTANCE_POINT, MultilingualText.TEXT_PAYABLE_BY,
+            MultilingualText.TEXT_PAYABLE_BY_NAME_ADDRESS, MultilingualText.TEXT_DO_NOT_USE_FOR_PAYMENT
+    };
+
+    @ParameterizedTest
+    @EnumSource(Language.class)
+    void texts_matchResourceBundle(Language language) {
+        Locale locale = new Locale(language.name().toLowerCase(Locale.US), "CH");
+        ResourceBundle bundle = ResourceBundle.getBundle("qrbill", locale, MultilingualText.class.getClassLoader());
+        for (int i = 0; i < KEYS.length; i++) {
+            assertEquals(bundle.getString(KEYS[i]), MultilingualText.getText(KEYS[i], language));
+            assertEquals(bundle.getString(KEYS[i]), MultilingualText.getText(INDEXES[i], language));
+        }
+    }
+
+    @Test
+    void frenchReceipt_isLookedUp() {
+        assertEquals("Récépissé", MultilingualText.getText(MultilingualText.TEXT_RECEIPT, Language.FR));
+    }
+
+    @Test
+    void unknownKey_throwsException() {
+        assertThrows(MissingResourceException.class, () -> MultilingualText.getText("unknown", Language.DE));
+    }
+}
@@ -0,0 +1,118 @@
+//
+// Swiss QR Bill Generator
+// Copyright (c) 2026 Manuel Bleichenbacher
+// Licensed under MIT License
+// https://opensource.org/licenses/MIT
+//
+
+package net.codecrete.qrbill.generator;
+
+import net.codecrete.qrbill.canvas.PDFCanvas;
+import net.codecrete.qrbill.testhelper.SampleData;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.util.Matrix;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link QRBillPDFReader}
+ */
+@DisplayName("QR bill PDF reader")
+class QRBillPDFReaderTest {
+
+    @Test
+    void sampleBills_areRead() throws IOException {
+        Bill[] bills = { SampleData.getExample1(), SampleData.getExample2(), SampleData.getExample3(), SampleData.getExample4() };
+        for (Bill bill : bills) {
+            assertBillRead(bill, QRBillPDFReader.read(generatePDF(bill, OutputSize.A4_PORTRAIT_SHEET)));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = OutputSize.class, names = { "QR_BILL_ONLY", "QR_CODE_ONLY", "QR_CODE_WITH_QUIET_ZONE", "PAYMENT_PART_ONLY" })
+    void outputSizes_areRead(OutputSize outputSize) throws IOException {
+        Bill bill = SampleData.getExample3();
+        assertBillRead(bill, QRBillPDFReader.read(generatePDF(bill, outputSize)));
+    }
+
+    @Test
+    void randomBills_areRead() throws IOException {
+        Random random = new Random(77);
+        for (int i = 0; i < 20; i++) {
+            String text = QRModuleEncoderConformance.createRandomPayload(random);
+            Bill bill = QRBill.decodeQrCodeText(text);
+            assertEquals(text, readText(generatePDF(bill, OutputSize.QR_CODE_ONLY)));
+        }
+    }
+
+    @Test
+    void billOnSecondPage_isRead() throws IOException {
+        Bill bill = SampleData.getExample4();
+        try (PDDocument document = new PDDocument()) {
+            document.addPage(new PDPage(PDRectangle.A4));
+            ByteArrayOutputStream os = new ByteArrayOutputStream();
+            document.save(os);
+            try (PDFCanvas canvas = new PDFCanvas(os.toByteArray(), PDFCanvas.NEW_PAGE_AT_END)) {
+                QRBill.draw(bill, canvas);
+                assertBillRead(bill, QRBillPDFReader.read(canvas.toByteArray()));
+            }
+        }
+    }
+
+    @Test
+    void rotatedPageContent_isRead() throws IOException {
+        Bill bill = SampleData.getExample1();
+        byte[] pdf = generatePDF(bill, OutputSize.QR_CODE_ONLY);
+        try (PDDocument document = Loader.loadPDF(pdf)) {
+            PDPage page = document.getPage(0);
+            // prepend a transformation rotating the content by 90°
+            try (PDPageContentStream contentStream = new PDPageContentStream(document, page,
+                    PDPageContentStream.AppendMode.PREPEND, false)) {
+                contentStream.transform(new Matrix(0, 1, -1, 0, page.getMediaBox().getHeight(), 0));
+            }
+            assertBillRead(bill, QRBillPDFReader.read(page));
+        }
+    }
+
+    @Test
+    void pageWithoutQrCode_throwsException() throws IOException {
+        try (PDDocument document = new PDDocument()) {
+            PDPage page = new PDPage(PDRectangle.A4);
+            document.addPage(page);
+            try (PDPageContentStream contentStream = new PDPageContentStream(document, page)) {
+                for (int i = 0; i < 20; i++)
+                    contentStream.addRect(10 + i * 20, 10, 10, 10);
+                contentStream.fill();
+            }
+            assertThrows(QRBillReadException.class, () -> QRBillPDFReader.readQrCodeText(page));
+        }
+    }
+
+    private static String readText(byte[] pdf) throws IOException {
+        try (PDDocument document = Loader.loadPDF(pdf)) {
+            return QRBillPDFReader.readQrCodeText(document.getPage(0));
+        }
+    }
+
+    private static void assertBillRead(Bill expected, Bill actual) {
+        assertEquals(QRBill.encodeQrCodeText(expected), QRBill.encodeQrCodeText(actual));
+    }
+
+    private static byte[] generatePDF(Bill bill, OutputSize outputSize) {
+        bill.getFormat().setOutputSize(outputSize);
+        bill.getFormat().setGraphicsFormat(GraphicsFormat.PDF);
+        return QRBill.generate(bill);
+    }
+}
@@ -0,0 +1,135 @@
+//
+// Swiss QR Bill Generator
+// Copyright (c) 2026 Manuel Bleichenbacher
+// Licensed under MIT License
+// https://opensource.org/licenses/MIT
+//
+
+package net.codecrete.qrbill.generator;
+
+import net.codecrete.qrbill.testhelper.SampleData;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link QRBillReader}
+ */
+@DisplayName("QR bill reader")
+class QRBillReaderTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = { 100, 150, 300 })
+    void qrCodeOnly_isRead(int resolution) throws IOException {
+        Bill bill = SampleData.getExample1();
+        BufferedImage image = render(bill, OutputSize.QR_CODE_WITH_QUIET_ZONE, resolution);
+        assertBillRead(bill, QRBillReader.read(image));
+    }
+
+    @Test
+    void a4Sheet_isRead() throws IOException {
+        Bill bill = SampleData.getExample3();
+        BufferedImage image = render(bill, OutputSize.A4_PORTRAIT_SHEET, 200);
+        assertBillRead(bill, QRBillReader.read(image));
+    }
+
+    @Test
+    void sampleBills_areRead() throws IOException {
+        for (Bill bill : new Bill[] { SampleData.getExample2(), SampleData.getExample4() }) {
+            BufferedImage image = render(bill, OutputSize.PAYMENT_PART_ONLY, 150);
+            assertBillRead(bill, QRBillReader.read(image));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 90, 180, 270, 7, -12, 45, 133 })
+    void rotatedQrCode_isRead(int angle) throws IOException {
+        Bill bill = SampleData.getExample1();
+        BufferedImage image = rotate(render(bill, OutputSize.QR_CODE_WITH_QUIET_ZONE, 200), angle);
+        assertBillRead(bill, QRBillReader.read(image));
+    }
+
+    @Test
+    void noisyScan_isRead() throws IOException {
+        Bill bill = SampleData.getExample3();
+        BufferedImage image = rotate(render(bill, OutputSize.PAYMENT_PART_ONLY, 200), 3);
+        int width = image.getWidth();
+        int height = image.getHeight();
+        byte[] pixels = new byte[width * height];
+        image.getRaster().getDataElements(0, 0, width, height, pixels);
+
+        // gray background, lower contrast and noise
+        Random random = new Random(11);
+        for (int i = 0; i < pixels.length; i++) {
+            int value = 40 + (pixels[i] & 0xff) * 170 / 255 + (int) (random.nextGaussian() * 15);
+            pixels[i] = (byte) Math.max(0, Math.min(255, value));
+        }
+        assertBillRead(bill, QRBillReader.read(pixels, width, height));
+    }
+
+    @Test
+    void colorImage_isRead() throws IOException {
+        Bill bill = SampleData.getExample1();
+        BufferedImage gray = render(bill, OutputSize.QR_CODE_WITH_QUIET_ZONE, 150);
+        BufferedImage image = new BufferedImage(gray.getWidth(), gray.getHeight(), BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.drawImage(gray, 0, 0, null);
+        graphics.dispose();
+        assertEquals(QRBill.encodeQrCodeText(bill), QRBillReader.readQrCodeText(image));
+    }
+
+    @Test
+    void blankImage_throwsException() {
+        byte[] pixels = new byte[400 * 300];
+        Arrays.fill(pixels, (byte) 255);
+        assertThrows(QRBillReadException.class, () -> QRBillReader.readQrCodeText(pixels, 400, 300));
+    }
+
+    @Test
+    void invalidSize_throwsException() {
+        assertThrows(IllegalArgumentException.class, () -> QRBillReader.readQrCodeText(new byte[10], 4, 4));
+    }
+
+    private static void assertBillRead(Bill expected, Bill actual) {
+        assertEquals(QRBill.encodeQrCodeText(expected), QRBill.encodeQrCodeText(actual));
+    }
+
+    private static BufferedImage render(Bill bill, OutputSize outputSize, int resolution) throws IOException {
+        bill.getFormat().setOutputSize(outputSize);
+        bill.getFormat().setGraphicsFormat(GraphicsFormat.PNG);
+        bill.getFormat().setResolution(resolution);
+        return ImageIO.read(new ByteArrayInputStream(QRBill.generate(bill)));
+    }
+
+    private static BufferedImage rotate(BufferedImage image, int angle) {
+        double radians = Math.toRadians(angle);
+        double sin = Math.abs(Math.sin(radians));
+        double cos = Math.abs(Math.cos(radians));
+        int width = (int) Math.ceil(image.getWidth() * cos + image.getHeight() * sin);
+        int height = (int) Math.ceil(image.getWidth() * sin + image.getHeight() * cos);
+
+        BufferedImage result = new BufferedImage(width, height, BufferedImage.TYPE_BYTE_GRAY);
+        Graphics2D graphics = result.createGraphics();
+        graphics.setColor(Color.WHITE);
+        graphics.fillRect(0, 0, width, height);
+        graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        graphics.translate(width / 2.0, height / 2.0);
+        graphics.rotate(radians);
+        graphics.drawImage(image, -image.getWidth() / 2, -image.getHeight() / 2, null);
+        graphics.dispose();
+        return result;
+    }
+}
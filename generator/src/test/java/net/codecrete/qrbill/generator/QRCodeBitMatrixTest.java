@@ -0,0 +1,121 @@
+//
+// Swiss QR Bill Generator
+// Copyright (c) 2026 Manuel Bleichenbacher
+// Licensed under MIT License
+// https://opensource.org/licenses/MIT
+//
+
+package net.codecrete.qrbill.generator;
+
+import net.codecrete.qrbill.testhelper.SampleData;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Unit tests for {@link QRCodeBitMatrix}
+ */
+@DisplayName("QR code bit matrix")
+class QRCodeBitMatrixTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = { 21, 25, 61, 63, 65, 69, 125, 129, 177 })
+    void randomModules_haveSamePenalty(int size) {
+        Random random = new Random(size);
+        for (int i = 0; i < 20; i++) {
+            boolean[] grid = new boolean[size * size];
+            int darkPercentage = 10 + random.nextInt(80);
+            for (int j = 0; j < grid.length; j++)
+                grid[j] = random.nextInt(100) < darkPercentage;
+            assertSamePenalty(grid, size);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 21, 65, 97, 177 })
+    void finderLikePatterns_haveSamePenalty(int size) {
+        Random random = new Random(size);
+        int[] pattern = { 1, 1, 3, 1, 1 };
+        for (int i = 0; i < 20; i++) {
+            boolean[] grid = new boolean[size * size];
+            for (int y = 0; y < size; y++) {
+                // runs of 1:1:3:1:1 with varying unit length and light borders
+                int x = random.nextInt(6);
+                int unit = 1 + random.nextInt(3);
+                boolean dark = true;
+                while (x < size) {
+                    for (int length : pattern) {
+                        for (int k = 0; k < length * unit && x < size; k++, x++)
+                            grid[y * size + x] = dark;
+                        dark = !dark;
+                    }
+                    dark = true;
+                    x += random.nextInt(5 * unit);
+                }
+            }
+            assertSamePenalty(grid, size);
+            assertSamePenalty(transpose(grid, size), size);
+        }
+    }
+
+    @Test
+    void uniformModules_haveSamePenalty() {
+        assertSamePenalty(new boolean[21 * 21], 21);
+        boolean[] grid = new boolean[177 * 177];
+        Arrays.fill(grid, true);
+        assertSamePenalty(grid, 177);
+    }
+
+    @Test
+    void qrCode_hasSamePenalty() {
+        long[][] rows = QRCodeEncoder.encode(QRCodeText.create(SampleData.getExample1()));
+        int size = rows.length;
+        boolean[] grid = new boolean[size * size];
+        for (int y = 0; y < size; y++)
+            for (int x = 0; x < size; x++)
+                grid[y * size + x] = (rows[y][x >>> 6] & (1L << x)) != 0;
+        assertSamePenalty(grid, size);
+    }
+
+    @Test
+    void invertTwice_restoresModules() {
+        int size = 33;
+        Random random = new Random(7);
+        boolean[] grid = new boolean[size * size];
+        int[] positions = new int[100];
+        for (int i = 0; i < grid.length; i++)
+            grid[i] = random.nextBoolean();
+        for (int i = 0; i < positions.length; i++)
+            positions[i] = random.nextInt(grid.length);
+
+        QRCodeBitMatrix matrix = new QRCodeBitMatrix(size);
+        matrix.load(grid, size);
+        int expected = matrix.getPenaltyScore();
+        long[] rowPattern = QRCodeBitMatrix.createPattern(positions, size, false);
+        long[] columnPattern = QRCodeBitMatrix.createPattern(positions, size, true);
+        matrix.invert(rowPattern, columnPattern);
+        matrix.invert(rowPattern, columnPattern);
+        assertEquals(expected, matrix.getPenaltyScore());
+    }
+
+    private static void assertSamePenalty(boolean[] grid, int size) {
+        int expected = QRCodeEncoder.getPenaltyScore(grid, size, new int[7]);
+        QRCodeBitMatrix matrix = new QRCodeBitMatrix(177);
+        matrix.load(grid, size);
+        assertEquals(expected, matrix.getPenaltyScore());
+    }
+
+    private static boolean[] transpose(boolean[] grid, int size) {
+        boolean[] result = new boolean[size * size];
+        for (int y = 0; y < size; y++)
+            for (int x = 0; x < size; x++)
+                result[x * size + y] = grid[y * size + x];
+        return result;
+    }
+}
@@ -0,0 +1,174 @@
+//
+// Swiss QR Bill Generator
+// Copyright (c) 2026 Manuel Bleichenbacher
+// Licensed under MIT License
+// https://opensource.org/licenses/MIT
+//
+
+package net.codecrete.qrbill.generator;
+
+import net.codecrete.qrbill.testhelper.SampleData;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link QRCodeDecoder}
+ */
+@DisplayName("QR code decoder")
+class QRCodeDecoderTest {
+
+    @Test
+    void sampleBills_areDecoded() {
+        assertRoundTrip(QRCodeText.create(SampleData.getExample1()));
+        assertRoundTrip(QRCodeText.create(SampleData.getExample2()));
+        assertRoundTrip(QRCodeText.create(SampleData.getExample3()));
+        assertRoundTrip(QRCodeText.create(SampleData.getExample4()));
+    }
+
+    @Test
+    void allVersions_areDecoded() {
+        Random random = new Random(4711);
+        for (int length = 1; length <= 2331; length += 1 + length / 20)
+            assertRoundTrip(QRModuleEncoderConformance.createRandomText(random, length, length <= 2200));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "", "12345678", "1234567", "HELLO WORLD", "$%*+-./:" })
+    void nonByteModeText_isDecoded(String text) {
+        assertRoundTrip(text);
+    }
+
+    @Test
+    void clearedSwissCrossArea_isCorrected() {
+        Random random = new Random(17);
+        for (int i = 0; i < 50; i++) {
+            String text = QRModuleEncoderConformance.createRandomPayload(random);
+            long[][] modules = QRCodeEncoder.encode(text);
+            int size = modules.length;
+            int start = QRCode.getSwissCrossAreaStart(size);
+            for (int y = start; y < size - start; y++)
+                for (int x = start; x < size - start; x++)
+                    modules[y][x >>> 6] &= ~(1L << x);
+            assertEquals(text, QRCodeDecoder.decode(modules, true));
+        }
+    }
+
+    @Test
+    void flippedModules_areCorrected() {
+        Random random = new Random(23);
+        for (int i = 0; i < 50; i++) {
+            String text = QRModuleEncoderConformance.createRandomPayload(random);
+            long[][] modules = QRCodeEncoder.encode(text);
+            int size = modules.length;
+            for (int j = 0; j < 20; j++) {
+                int x = random.nextInt(size);
+                modules[random.nextInt(size)][x >>> 6] ^= 1L << x;
+            }
+            assertEquals(text, QRCodeDecoder.decode(modules, true));
+        }
+    }
+
+    @Test
+    void invalidModules_returnNull() {
+        assertNull(QRCodeDecoder.decode(new long[21][1], false));
+        assertNull(QRCodeDecoder.decode(new long[22][1], false));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 10, 16, 22, 28, 30 })
+    void errorsAndErasures_areCorrected(int numEccCodewords) {
+        Random random = new Random(numEccCodewords);
+        for (int i = 0; i < 200; i++) {
+            byte[] block = createBlock(random, 20 + random.nextInt(100), numEccCodewords);
+            byte[] corrupted = block.clone();
+
+            // random mix of errors and erasures within the correction capacity
+            int numErasures = random.nextInt(numEccCodewords + 1);
+            int numErrors = random.nextInt((numEccCodewords - numErasures) / 2 + 1);
+            int[] indexes = pickIndexes(random, block.length, numErasures + numErrors);
+            int[] erasures = new int[numErasures];
+            for (int j = 0; j < indexes.length; j++) {
+                if (j < numErasures) {
+                    erasures[j] = indexes[j];
+                    if (random.nextBoolean())
+                        continue; // erased codeword that happens to be correct
+                }
+                corrupted[indexes[j]] ^= (byte) (1 + random.nextInt(255));
+            }
+
+            assertTrue(QRCodeDecoder.correctErrors(corrupted, numEccCodewords, erasures, numErasures));
+            assertArrayEquals(block, corrupted);
+        }
+    }
+
+    @Test
+    void tooManyErrors_areNotCorrected() {
+        Random random = new Random(5);
+        int failures = 0;
+        for (int i = 0; i < 100; i++) {
+            byte[] block = createBlock(random, 50, 10);
+            byte[] corrupted = block.clone();
+            for (int index : pickIndexes(random, block.length, 20))
+                corrupted[index] ^= (byte) (1 + random.nextInt(255));
+            byte[] original = corrupted.clone();
+            if (!QRCodeDecoder.correctErrors(corrupted, 10, new int[0], 0)) {
+                failures++;
+                assertArrayEquals(original, corrupted);
+            }
+        }
+        assertTrue(failures > 90);
+    }
+
+    private static void assertRoundTrip(String text) {
+        assertEquals(text, QRCodeDecoder.decode(QRCodeEncoder.encode(text), false));
+    }
+
+    private static byte[] createBlock(Random random, int numDataCodewords, int numEccCodewords) {
+        // data codewords followed by the remainder of the division by the generator polynomial
+        byte[] block = new byte[numDataCodewords + numEccCodewords];
+        for (int i = 0; i < numDataCodewords; i++)
+            block[i] = (byte) random.nextInt(256);
+        int[] generator = new int[] { 1 };
+        for (int i = 0; i < numEccCodewords; i++) {
+            int[] next = new int[generator.length + 1];
+            for (int j = 0; j < generator.length; j++) {
+                next[j] ^= generator[j];
+                next[j + 1] ^= QRCodeEncoder.gfMultiply(generator[j], QRCodeEncoder.gfExp(i));
+            }
+            generator = next;
+        }
+        // polynomial division (coefficients with highest degree first)
+        int[] remainder = new int[block.length];
+        for (int i = 0; i < numDataCodewords; i++)
+            remainder[i] = block[i] & 0xff;
+        for (int i = 0; i < numDataCodewords; i++) {
+            int factor = remainder[i];
+            for (int j = 0; j < generator.length; j++)
+                remainder[i + j] ^= QRCodeEncoder.gfMultiply(generator[j], factor);
+        }
+        for (int i = numDataCodewords; i < block.length; i++)
+            block[i] = (byte) remainder[i];
+        return block;
+    }
+
+    private static int[] pickIndexes(Random random, int length, int count) {
+        int[] permutation = new int[length];
+        for (int i = 0; i < length; i++)
+            permutation[i] = i;
+        for (int i = 0; i < count; i++) {
+            int j = i + random.nextInt(length - i);
+            int t = permutation[i];
+            permutation[i] = permutation[j];
+            permutation[j] = t;
+        }
+        int[] result = new int[count];
+        System.arraycopy(permutation, 0, result, 0, count);
+        return result;
+    }
+}
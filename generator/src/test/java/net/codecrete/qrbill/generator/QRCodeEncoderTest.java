@@ -0,0 +1,83 @@
+//
+// Swiss QR Bill Generator
+// Copyright (c) 2026 Manuel Bleichenbacher
+// Licensed under MIT License
+// https://opensource.org/licenses/MIT
+//
+
+package net.codecrete.qrbill.generator;
+
+import io.nayuki.qrcodegen.DataTooLongException;
+import net.codecrete.qrbill.testhelper.SampleData;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link QRCodeEncoder}
+ */
+@DisplayName("QR code encoder")
+class QRCodeEncoderTest extends QRModuleEncoderConformanceTest {
+
+    @Override
+    protected QRModuleEncoder createEncoder() {
+        return QRModuleEncoder.SPECIALIZED;
+    }
+
+    @Test
+    void simpleMaskSelection_matchesGenericEncoder() {
+        QRModuleEncoder encoder = text -> QRCodeEncoder.encode(text, QRCodeEncoder.MaskSelection.SIMPLE);
+        Random random = new Random(815);
+        for (int length = 1; length <= 1000; length += 37)
+            QRModuleEncoderConformance.verifyText(encoder, QRModuleEncoderConformance.createRandomText(random, length, false));
+    }
+
+    @Test
+    void tooLongText_throwsException() {
+        String text = QRModuleEncoderConformance.createRandomText(new Random(1), 2400, false);
+        assertThrows(DataTooLongException.class, () -> QRCodeEncoder.encode(text));
+    }
+
+    @Test
+    void genericEncoder_conforms() {
+        Random random = new Random(99);
+        for (int i = 0; i < 20; i++)
+            QRModuleEncoderConformance.verifyText(QRModuleEncoder.GENERIC, QRModuleEncoderConformance.createRandomPayload(random));
+    }
+
+    @Test
+    void nonConformingEncoder_isDetected() {
+        QRModuleEncoder encoder = text -> {
+            long[][] rows = QRModuleEncoder.SPECIALIZED.encode(text);
+            rows[10][0] ^= 1L << 10;
+            return rows;
+        };
+        AssertionError e = assertThrows(AssertionError.class, () -> QRModuleEncoderConformance.verifyRandomBills(encoder));
+        assertTrue(e.getMessage().startsWith("Module mismatch at (10, 10)"));
+        assertThrows(AssertionError.class, () -> QRModuleEncoderConformance.verifyMultipleThreads(encoder));
+    }
+
+    @Test
+    void customEncoder_isUsed() {
+        int[] count = new int[1];
+        QRBill.setQrModuleEncoder(text -> {
+            count[0]++;
+            return QRModuleEncoder.GENERIC.encode(text);
+        });
+        try {
+            Bill bill = SampleData.getExample1();
+            bill.getFormat().setOutputSize(OutputSize.QR_CODE_ONLY);
+            byte[] custom = QRBill.generate(bill);
+            assertEquals(1, count[0]);
+
+            QRBill.setQrModuleEncoder(null);
+            assertSame(QRModuleEncoder.SPECIALIZED, QRBill.getQrModuleEncoder());
+            assertArrayEquals(QRBill.generate(bill), custom);
+        } finally {
+            QRBill.setQrModuleEncoder(null);
+        }
+    }
+}
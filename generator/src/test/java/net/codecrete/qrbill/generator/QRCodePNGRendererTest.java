@@ -0,0 +1,138 @@
+//
+// Swiss QR Bill Generator
+// Copyright (c) 2026 Manuel Bleichenbacher
+// Licensed under MIT License
+// https://opensource.org/licenses/MIT
+//
+
+package net.codecrete.qrbill.generator;
+
+import net.codecrete.qrbill.testhelper.SampleData;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Iterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link QRCodePNGRenderer}
+ */
+@DisplayName("QR code PNG renderer")
+class QRCodePNGRendererTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = { 72, 144, 300, 600 })
+    void qrCodeOnly_hasCorrectSize(int resolution) throws IOException {
+        BufferedImage image = render(SampleData.getExample1(), OutputSize.QR_CODE_ONLY, resolution);
+        int expectedSize = (int) (46 * (float) (resolution / 25.4) + 0.5);
+        assertEquals(expectedSize, image.getWidth());
+        assertEquals(expectedSize, image.getHeight());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 72, 144, 300, 600 })
+    void qrCodeWithQuietZone_hasCorrectSize(int resolution) throws IOException {
+        BufferedImage image = render(SampleData.getExample1(), OutputSize.QR_CODE_WITH_QUIET_ZONE, resolution);
+        int expectedSize = (int) (56 * (float) (resolution / 25.4) + 0.5);
+        assertEquals(expectedSize, image.getWidth());
+        assertEquals(expectedSize, image.getHeight());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 150, 300 })
+    void modules_matchEncoder(int resolution) throws IOException {
+        Bill bill = SampleData.getExample3();
+        BufferedImage image = render(bill, OutputSize.QR_CODE_WITH_QUIET_ZONE, resolution);
+        long[][] modules = QRCodeEncoder.encode(QRBill.encodeQrCodeText(bill));
+        int size = modules.length;
+        double scale = resolution / 25.4;
+        double moduleSize = 46.0 / size;
+        int crossStart = QRCode.getSwissCrossAreaStart(size);
+        int crossEnd = size - crossStart;
+
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                if (x >= crossStart && x < crossEnd && y >= crossStart && y < crossEnd)
+                    continue;
+                boolean isDark = (modules[y][x >>> 6] & (1L << x)) != 0;
+                int px = (int) ((5 + (x + 0.5) * moduleSize) * scale);
+                int py = (int) ((5 + (y + 0.5) * moduleSize) * scale);
+                assertEquals(isDark, isBlack(image, px, py), "module " + x + ", " + y);
+            }
+        }
+    }
+
+    @Test
+    void swissCross_isDrawn() throws IOException {
+        BufferedImage image = render(SampleData.getExample1(), OutputSize.QR_CODE_ONLY, 300);
+        double scale = 300 / 25.4;
+        int center = (int) (23 * scale);
+        assertFalse(isBlack(image, center, center));
+        assertFalse(isBlack(image, center, (int) (21.2 * scale)));
+        assertFalse(isBlack(image, (int) (21.2 * scale), center));
+        assertTrue(isBlack(image, (int) (20.3 * scale), (int) (20.3 * scale)));
+        assertTrue(isBlack(image, (int) (25.7 * scale), (int) (25.7 * scale)));
+        assertTrue(isBlack(image, (int) (22 * scale), (int) (20.3 * scale)));
+    }
+
+    @Test
+    void qrCode_isReadable() throws IOException {
+        Bill bill = SampleData.getExample4();
+        BufferedImage image = render(bill, OutputSize.QR_CODE_WITH_QUIET_ZONE, 144);
+        assertEquals(QRBill.encodeQrCodeText(bill), QRBillReader.readQrCodeText(image));
+    }
+
+    @Test
+    void pngMetadata_isSet() throws IOException {
+        Bill bill = SampleData.getExample1();
+        bill.getFormat().setOutputSize(OutputSize.QR_CODE_ONLY);
+        bill.getFormat().setGraphicsFormat(GraphicsFormat.PNG);
+        bill.getFormat().setResolution(300);
+        byte[] png = QRBill.generate(bill);
+
+        try (ImageInputStream stream = ImageIO.createImageInputStream(new ByteArrayInputStream(png))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(stream);
+            ImageReader reader = readers.next();
+            reader.setInput(stream);
+            IIOMetadata metadata = reader.getImageMetadata(0);
+            Element root = (Element) metadata.getAsTree("javax_imageio_png_1.0");
+
+            Element header = (Element) root.getElementsByTagName("IHDR").item(0);
+            assertEquals("1", header.getAttribute("bitDepth"));
+            assertEquals("Grayscale", header.getAttribute("colorType"));
+
+            Element physical = (Element) root.getElementsByTagName("pHYs").item(0);
+            assertEquals("11811", physical.getAttribute("pixelsPerUnitXAxis"));
+            assertEquals("meter", physical.getAttribute("unitSpecifier"));
+
+            NodeList textEntries = root.getElementsByTagName("tEXtEntry");
+            assertEquals(1, textEntries.getLength());
+            assertEquals("Title", ((Element) textEntries.item(0)).getAttribute("keyword"));
+            assertEquals("Swiss QR Bill", ((Element) textEntries.item(0)).getAttribute("value"));
+            reader.dispose();
+        }
+    }
+
+    private static BufferedImage render(Bill bill, OutputSize outputSize, int resolution) throws IOException {
+        bill.getFormat().setOutputSize(outputSize);
+        bill.getFormat().setGraphicsFormat(GraphicsFormat.PNG);
+        bill.getFormat().setResolution(resolution);
+        return ImageIO.read(new ByteArrayInputStream(QRBill.generate(bill)));
+    }
+
+    private static boolean isBlack(BufferedImage image, int x, int y) {
+        return (image.getRGB(x, y) & 0xffffff) == 0;
+    }
+}
@@ -0,0 +1,57 @@
+//
+// Swiss QR Bill Generator
+// Copyright (c) 2026 Manuel Bleichenbacher
+// Licensed under MIT License
+// https://opensource.org/licenses/MIT
+//
+
+package net.codecrete.qrbill.generator;
+
+import java.util.Random;
+
+/**
+ * Throughput comparison of the QR code module encoders.
+ * <p>
+ * Not run as part of the unit tests. Run the {@code main} method with the test classpath.
+ * The first argument optionally specifies the measurement time per encoder in seconds.
+ * </p>
+ */
+public class QRModuleEncoderBenchmark {
+
+    private QRModuleEncoderBenchmark() {
+        // do not instantiate
+    }
+
+    public static void main(String[] args) {
+        double seconds = args.length > 0 ? Double.parseDouble(args[0]) : 3;
+
+        Random random = new Random(42);
+        String[] payloads = new String[500];
+        for (int i = 0; i < payloads.length; i++)
+            payloads[i] = QRModuleEncoderConformance.createRandomPayload(random);
+
+        // two rounds: the first one is warm-up
+        for (int round = 0; round < 2; round++) {
+            run("generic", QRModuleEncoder.GENERIC, payloads, seconds, round == 1);
+            run("specialized", QRModuleEncoder.SPECIALIZED, payloads, seconds, round == 1);
+        }
+    }
+
+    private static void run(String name, QRModuleEncoder encoder, String[] payloads, double seconds, boolean report) {
+        long duration = (long) (seconds * 1e9);
+        long start = System.nanoTime();
+        long count = 0;
+        long checksum = 0;
+        long elapsed;
+        do {
+            long[][] rows = encoder.encode(payloads[(int) (count % payloads.length)]);
+            checksum += rows[rows.length / 2][0];
+            count++;
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < duration);
+
+        if (report)
+            System.out.printf("%-12s %10.1f ops/s %8.2f us/op (checksum %x)%n",
+                    name, count / (elapsed / 1e9), elapsed / 1e3 / count, checksum);
+    }
+}
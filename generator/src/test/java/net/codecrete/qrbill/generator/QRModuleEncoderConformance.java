@@ -0,0 +1,207 @@
+//
+// Swiss QR Bill Generator
+// Copyright (c) 2026 Manuel Bleichenbacher
+// Licensed under MIT License
+// https://opensource.org/licenses/MIT
+//
+package net.codecrete.qrbill.generator;
+
+import io.nayuki.qrcodegen.QrCode;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+/**
+ * Conformance checks for implementations of {@link QRModuleEncoder}.
+ * <p>
+ * The generated modules are compared against the QR Code generator library by Project Nayuki
+ * (see {@link QRModuleEncoder} for the exact requirements). If an implementation does not conform,
+ * an {@link AssertionError} is thrown.
+ * </p>
+ * <p>
+ * The checks are run by {@link QRModuleEncoderConformanceTest}. Both classes are part of
+ * the test jar ({@code tests} classifier).
+ * </p>
+ * <p>
+ * The checks use fixed random seeds, i.e. they encode the same texts each time they are run.
+ * </p>
+ */
+public final class QRModuleEncoderConformance {
+
+    private static final String[] ACCOUNTS = { "CH4431999123000889012", "CH3709000000304442225", "CH5204835012345671000" };
+    private static final String CHARACTERS
+            = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789 .,-/'&()+:äöüÄÖÜéèàçâêîôûëïÿ";
+
+    private QRModuleEncoderConformance() {
+        // do not instantiate
+    }
+
+    /**
+     * Checks the encoder with the QR code texts of random, valid bills.
+     *
+     * @param encoder encoder to check
+     * @throws AssertionError thrown if the encoder does not conform
+     */
+    public static void verifyRandomBills(QRModuleEncoder encoder) {
+        Random random = new Random(3141);
+        for (int i = 0; i < 200; i++)
+            verifyText(encoder, createRandomPayload(random));
+    }
+
+    /**
+     * Checks the encoder with texts covering all QR code versions and error correction levels.
+     *
+     * @param encoder encoder to check
+     * @throws AssertionError thrown if the encoder does not conform
+     */
+    public static void verifyAllVersions(QRModuleEncoder encoder) {
+        Random random = new Random(4711);
+        // covers all versions and error correction levels (incl. boosted levels)
+        for (int length = 1; length <= 2331; length += 1 + length / 40) {
+            verifyText(encoder, createRandomText(random, length, false));
+            if (length <= 2200) // UTF-8 encoding is longer
+                verifyText(encoder, createRandomText(random, length, true));
+        }
+    }
+
+    /**
+     * Checks that the encoder produces the same result when used from multiple threads concurrently.
+     *
+     * @param encoder encoder to check
+     * @throws AssertionError thrown if the encoder does not conform
+     */
+    public static void verifyMultipleThreads(QRModuleEncoder encoder) {
+        String[] texts = new String[8];
+        Random random = new Random(2718);
+        for (int i = 0; i < texts.length; i++)
+            texts[i] = createRandomPayload(random);
+
+        Throwable[] failures = new Throwable[texts.length];
+        Thread[] threads = new Thread[texts.length];
+        for (int i = 0; i < threads.length; i++) {
+            final int index = i;
+            threads[i] = new Thread(() -> {
+                try {
+                    for (int k = 0; k < 20; k++)
+                        verifyText(encoder, texts[(index + k) % texts.length]);
+                } catch (Throwable e) {
+                    failures[index] = e;
+                }
+            });
+            threads[i].start();
+        }
+
+        try {
+            for (Thread thread : threads)
+                thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AssertionError("Interrupted while waiting for encoder threads", e);
+        }
+
+        for (Throwable failure : failures) {
+            if (failure != null)
+                throw new AssertionError("Encoder failed in concurrent use", failure);
+        }
+    }
+
+    /**
+     * Checks that the encoder generates the same modules for the specified text as the reference implementation.
+     *
+     * @param encoder encoder to check
+     * @param text    text to encode
+     * @throws AssertionError thrown if the modules differ
+     */
+    public static void verifyText(QRModuleEncoder encoder, String text) {
+        QrCode qrCode = QrCode.encodeText(text, QrCode.Ecc.MEDIUM);
+        long[][] rows = encoder.encode(text);
+        if (rows.length != qrCode.size)
+            throw new AssertionError("Size " + rows.length + " instead of " + qrCode.size
+                    + " for text length " + text.length());
+
+        int wordsPerLine = (qrCode.size + 63) / 64;
+        for (int y = 0; y < qrCode.size; y++) {
+            if (rows[y].length != wordsPerLine)
+                throw new AssertionError("Row " + y + " has " + rows[y].length + " words instead of " + wordsPerLine);
+            for (int x = 0; x < wordsPerLine * 64; x++) {
+                boolean isDark = x < qrCode.size && qrCode.getModule(x, y);
+                if (isDark != ((rows[y][x >>> 6] & (1L << x)) != 0))
+                    throw new AssertionError("Module mismatch at (" + x + ", " + y + ") for text length " + text.length());
+            }
+        }
+    }
+
+    /**
+     * Creates the QR code text for a random, valid bill.
+     *
+     * @param random random number generator
+     * @return QR code text
+     */
+    static String createRandomPayload(Random random) {
+        Bill bill = new Bill();
+        String account = ACCOUNTS[random.nextInt(ACCOUNTS.length)];
+        bill.setAccount(account);
+        bill.setCurrency(random.nextBoolean() ? "CHF" : "EUR");
+        if (random.nextInt(4) != 0)
+            bill.setAmount(BigDecimal.valueOf(random.nextInt(100_000_000), 2));
+        bill.setCreditor(createRandomAddress(random));
+        if (random.nextBoolean())
+            bill.setDebtor(createRandomAddress(random));
+
+        if (Payments.isQRIBAN(account)) {
+            bill.setReference(Payments.createQRReference(Long.toString(random.nextLong() & Long.MAX_VALUE)));
+        } else if (random.nextBoolean()) {
+            bill.setReference(Payments.createISO11649Reference(Integer.toString(random.nextInt(1_000_000_000), 36)));
+        }
+        if (random.nextBoolean())
+            bill.setUnstructuredMessage(createRandomString(random, 1, 60));
+        if (random.nextInt(4) == 0)
+            bill.setBillInformation("//S1/10/" + random.nextInt(1_000_000) + "/11/200627");
+
+        return QRBill.encodeQrCodeText(bill);
+    }
+
+    /**
+     * Creates a random text starting with "SPC".
+     *
+     * @param random      random number generator
+     * @param length      length of text
+     * @param withAccents indicates if the text should include accented characters (requiring 2 bytes in UTF-8)
+     * @return random text
+     */
+    static String createRandomText(Random random, int length, boolean withAccents) {
+        StringBuilder sb = new StringBuilder(length);
+        sb.append("SPC\n");
+        while (sb.length() < length) {
+            int r = random.nextInt(100);
+            if (withAccents && r < 5)
+                sb.append('é');
+            else if (r < 10)
+                sb.append('\n');
+            else
+                sb.append((char) (' ' + random.nextInt(95)));
+        }
+        sb.setLength(length);
+        return sb.toString();
+    }
+
+    private static Address createRandomAddress(Random random) {
+        Address address = new Address();
+        address.setName(createRandomString(random, 1, 70));
+        address.setStreet(createRandomString(random, 1, 40));
+        address.setHouseNo(Integer.toString(1 + random.nextInt(300)));
+        address.setPostalCode(Integer.toString(1000 + random.nextInt(9000)));
+        address.setTown(createRandomString(random, 1, 35));
+        address.setCountryCode(random.nextInt(4) == 0 ? "DE" : "CH");
+        return address;
+    }
+
+    private static String createRandomString(Random random, int minLength, int maxLength) {
+        int length = minLength + random.nextInt(maxLength - minLength + 1);
+        StringBuilder sb = new StringBuilder(length);
+        sb.append(CHARACTERS.charAt(random.nextInt(26))); // start with letter
+        while (sb.length() < length)
+            sb.append(CHARACTERS.charAt(random.nextInt(CHARACTERS.length())));
+        return sb.toString();
+    }
+}
@@ -0,0 +1,61 @@
+//
+// Swiss QR Bill Generator
+// Copyright (c) 2026 Manuel Bleichenbacher
+// Licensed under MIT License
+// https://opensource.org/licenses/MIT
+//
+
+package net.codecrete.qrbill.generator;
+
+import net.codecrete.qrbill.testhelper.SampleData;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Conformance tests for implementations of {@link QRModuleEncoder}
+ * <p>
+ * The tests run the checks of {@link QRModuleEncoderConformance}.
+ * To test an implementation, derive a test class and implement {@link #createEncoder()}.
+ * The class is part of the test jar ({@code tests} classifier).
+ * </p>
+ */
+public abstract class QRModuleEncoderConformanceTest {
+
+    /**
+     * Creates the encoder to test.
+     *
+     * @return encoder
+     */
+    protected abstract QRModuleEncoder createEncoder();
+
+    @Test
+    void sampleBills_matchReference() {
+        QRModuleEncoder encoder = createEncoder();
+        QRModuleEncoderConformance.verifyText(encoder, QRCodeText.create(SampleData.getExample1()));
+        QRModuleEncoderConformance.verifyText(encoder, QRCodeText.create(SampleData.getExample2()));
+        QRModuleEncoderConformance.verifyText(encoder, QRCodeText.create(SampleData.getExample3()));
+        QRModuleEncoderConformance.verifyText(encoder, QRCodeText.create(SampleData.getExample4()));
+    }
+
+    @Test
+    void randomBills_matchReference() {
+        QRModuleEncoderConformance.verifyRandomBills(createEncoder());
+    }
+
+    @Test
+    void allVersions_matchReference() {
+        QRModuleEncoderConformance.verifyAllVersions(createEncoder());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "", "12345678", "HELLO WORLD", "$%*+-./:" })
+    void nonByteModeText_matchesReference(String text) {
+        QRModuleEncoderConformance.verifyText(createEncoder(), text);
+    }
+
+    @Test
+    void multipleThreads_produceSameResult() {
+        QRModuleEncoderConformance.verifyMultipleThreads(createEncoder());
+    }
+}
@@ -0,0 +1,103 @@
+//
+// Swiss QR Bill Generator
+// Copyright (c) 2026 Manuel Bleichenbacher
+// Licensed under MIT License
+// https://opensource.org/licenses/MIT
+//
+
+package net.codecrete.qrbill.generator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link QRReferenceSequence} and {@link CreditorReferenceSequence}
+ */
+@DisplayName("QR and creditor reference sequences")
+class ReferenceSequenceTest {
+
+    @Test
+    void qrReferences_matchSingleCreation() {
+        QRReferenceSequence sequence = new QRReferenceSequence("12 3456", 6, 999, 2500);
+        for (long counter = 999; counter < 999 + 2500; counter++) {
+            assertTrue(sequence.hasNext());
+            String expected = Payments.createQRReference(String.format("123456%06d", counter));
+            assertEquals(expected, sequence.next());
+        }
+        assertFalse(sequence.hasNext());
+    }
+
+    @Test
+    void qrReferences_withFullLength() {
+        QRReferenceSequence sequence = new QRReferenceSequence("21000000000313947143", 6, 9017, 3);
+        String reference = sequence.next();
+        assertEquals(Payments.createQRReference("21000000000313947143009017"), reference);
+        assertTrue(Payments.isValidQRReference(reference));
+    }
+
+    @Test
+    void qrReferences_intoBuffer() {
+        QRReferenceSequence sequence = new QRReferenceSequence("", 10, 9999999998L, 2);
+        char[] buffer = new char[2 * QRReferenceSequence.REFERENCE_LENGTH];
+        sequence.next(buffer, 0);
+        sequence.next(buffer, QRReferenceSequence.REFERENCE_LENGTH);
+        assertEquals(Payments.createQRReference("9999999998") + Payments.createQRReference("9999999999"),
+                new String(buffer));
+    }
+
+    @Test
+    void qrReferences_exhausted() {
+        QRReferenceSequence sequence = new QRReferenceSequence("1", 1, 9, 1);
+        sequence.next();
+        assertThrows(NoSuchElementException.class, sequence::next);
+    }
+
+    @Test
+    void qrReferences_invalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new QRReferenceSequence("12a", 4, 0, 10));
+        assertThrows(IllegalArgumentException.class, () -> new QRReferenceSequence("12345678901234567890123", 4, 0, 10));
+        assertThrows(IllegalArgumentException.class, () -> new QRReferenceSequence("1", 2, 95, 10));
+    }
+
+    @Test
+    void creditorReferences_matchSingleCreation() {
+        CreditorReferenceSequence sequence = new CreditorReferenceSequence("INV 2026Q", 7, 99990, 2500);
+        for (long counter = 99990; counter < 99990 + 2500; counter++) {
+            assertTrue(sequence.hasNext());
+            String expected = Payments.createISO11649Reference(String.format("INV2026Q%07d", counter));
+            assertEquals(expected, sequence.next());
+        }
+        assertFalse(sequence.hasNext());
+    }
+
+    @Test
+    void creditorReferences_toAppendable() throws IOException {
+        CreditorReferenceSequence sequence = new CreditorReferenceSequence("ab", 3, 7, 2);
+        StringBuilder sb = new StringBuilder();
+        sequence.next(sb);
+        sb.append(',');
+        sequence.next(sb);
+        assertEquals(Payments.createISO11649Reference("ab007") + "," + Payments.createISO11649Reference("ab008"),
+                sb.toString());
+        assertEquals(9, sequence.getReferenceLength());
+    }
+
+    @Test
+    void creditorReferences_areValid() {
+        CreditorReferenceSequence sequence = new CreditorReferenceSequence("", 4, 0, 200);
+        while (sequence.hasNext())
+            assertTrue(Payments.isValidISO11649Reference(sequence.next()));
+    }
+
+    @Test
+    void creditorReferences_invalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new CreditorReferenceSequence("A-1", 4, 0, 10));
+        assertThrows(IllegalArgumentException.class, () -> new CreditorReferenceSequence("ABCDEFGHIJKLMNOP", 6, 0, 10));
+        assertThrows(IllegalArgumentException.class, () -> new CreditorReferenceSequence("A", 2, 0, 101));
+    }
+}
@@ -11,6 +11,7 @@ import net.codecrete.qrbill.generator.ValidationMessage.Type;
 import net.codecrete.qrbill.testhelper.SampleData;
 import org.junit.jupiter.api.Test;
 
+import java.lang.reflect.Field;
 import java.util.Collections;
 import java.util.List;
 
@@ -115,4 +116,56 @@ class ValidationResultTest {
 
         assertEquals(SampleData.getExample2(), result.getCleanedBill());
     }
+
+    @Test
+    void fingerprint_isStable() {
+        ValidationResult result1 = QRBill.validate(SampleData.getExample1());
+        ValidationResult result2 = QRBill.validate(SampleData.getExample1());
+        assertEquals(32, result1.getFingerprint().length());
+        assertTrue(result1.getFingerprint().matches("[0-9a-f]+"));
+        assertEquals(result1.getFingerprint(), result2.getFingerprint());
+        assertEquals("763bcf20371641f69553c870954f5d5a", result1.getFingerprint());
+    }
+
+    @Test
+    void fingerprint_ignoresUncleanedDifferences() {
+        Bill bill = SampleData.getExample1();
+        String fingerprint = QRBill.validate(bill).getFingerprint();
+        bill.setAccount(" ch44 3199 9123 0008 8901 2 ");
+        bill.getCreditor().setName(" Robert Schneider AG ");
+        assertEquals(fingerprint, QRBill.validate(bill).getFingerprint());
+    }
+
+    @Test
+    void fingerprint_coversBillAndFormat() {
+        Bill bill = SampleData.getExample1();
+        String fingerprint = QRBill.validate(bill).getFingerprint();
+        bill.setUnstructuredMessage("Instruction of 16.09.2019");
+        String fingerprint2 = QRBill.validate(bill).getFingerprint();
+        bill.getFormat().setLanguage(Language.DE);
+        String fingerprint3 = QRBill.validate(bill).getFingerprint();
+        assertNotEquals(fingerprint, fingerprint2);
+        assertNotEquals(fingerprint2, fingerprint3);
+        assertNotEquals(fingerprint, fingerprint3);
+    }
+
+    @Test
+    void validate_doesNotComputeFingerprint() throws Exception {
+        ValidationResult result = QRBill.validate(SampleData.getExample1());
+        Field field = ValidationResult.class.getDeclaredField("fingerprint");
+        field.setAccessible(true);
+        assertNull(field.get(result));
+        assertNotNull(result.getFingerprint());
+        assertNotNull(field.get(result));
+    }
+
+    @Test
+    void fingerprint_followsCleanedBill() {
+        ValidationResult result = new ValidationResult();
+        assertNull(result.getFingerprint());
+        result.setCleanedBill(QRBill.validate(SampleData.getExample1()).getCleanedBill());
+        String fingerprint = result.getFingerprint();
+        result.setCleanedBill(QRBill.validate(SampleData.getExample2()).getCleanedBill());
+        assertNotEquals(fingerprint, result.getFingerprint());
+    }
 }